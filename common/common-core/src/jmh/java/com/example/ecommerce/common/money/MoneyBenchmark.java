@@ -0,0 +1,81 @@
+package com.example.ecommerce.common.money;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.math.BigDecimal;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 장바구니 합계 계산 비교 (단가 x 수량 → 할인율 적용 → 합산)
+ * - bigDecimal: 기존 BigDecimal 계산
+ * - money: Money 객체 연산
+ * - moneyPrimitive: Money long 연산 (CartSummary 누적 방식)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class MoneyBenchmark {
+
+    @Param({"10", "100"})
+    private int lineCount;
+
+    private BigDecimal[] unitPrices;
+    private long[] unitPriceWons;
+    private int[] quantities;
+    private int[] discountRates;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        unitPrices = new BigDecimal[lineCount];
+        unitPriceWons = new long[lineCount];
+        quantities = new int[lineCount];
+        discountRates = new int[lineCount];
+        for (int i = 0; i < lineCount; i++) {
+            long won = 1_000L + random.nextInt(200_000);
+            unitPriceWons[i] = won;
+            unitPrices[i] = BigDecimal.valueOf(won);
+            quantities[i] = 1 + random.nextInt(5);
+            discountRates[i] = random.nextInt(50);
+        }
+    }
+
+    @Benchmark
+    public BigDecimal bigDecimal() {
+        BigDecimal total = BigDecimal.ZERO;
+        for (int i = 0; i < lineCount; i++) {
+            BigDecimal listPrice = unitPrices[i].multiply(BigDecimal.valueOf(quantities[i]));
+            BigDecimal discount = listPrice.multiply(BigDecimal.valueOf(discountRates[i]))
+                    .divide(BigDecimal.valueOf(100));
+            total = total.add(listPrice.subtract(discount));
+        }
+        return total;
+    }
+
+    @Benchmark
+    public Money money() {
+        Money total = Money.ZERO;
+        for (int i = 0; i < lineCount; i++) {
+            total = total.plus(Money.won(unitPriceWons[i]).times(quantities[i]).discount(discountRates[i]));
+        }
+        return total;
+    }
+
+    @Benchmark
+    public long moneyPrimitive() {
+        long total = 0L;
+        for (int i = 0; i < lineCount; i++) {
+            long listPrice = Money.multiply(unitPriceWons[i], quantities[i]);
+            total = Money.add(total, Money.discount(listPrice, discountRates[i]));
+        }
+        return total;
+    }
+}
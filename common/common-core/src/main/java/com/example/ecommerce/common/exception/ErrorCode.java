@@ -90,6 +90,9 @@ public enum ErrorCode {
     PAYMENT_CANNOT_REFUND(HttpStatus.BAD_REQUEST, "PM007", "환불할 수 없는 결제입니다."),
     REFUND_AMOUNT_EXCEEDED(HttpStatus.BAD_REQUEST, "PM008", "환불 금액이 환불 가능 금액을 초과했습니다."),
     INVALID_PAYMENT_STATUS(HttpStatus.BAD_REQUEST, "PM009", "결제 상태가 올바르지 않습니다."),
+    PAYMENT_IN_PROGRESS(HttpStatus.CONFLICT, "PM010", "결제 처리가 진행 중입니다. 잠시 후 결과를 확인해주세요."),
+    INVALID_PAYMENT_TENDER(HttpStatus.BAD_REQUEST, "PM011", "복합결제 구성이 올바르지 않습니다."),
+    PG_UNAVAILABLE(HttpStatus.SERVICE_UNAVAILABLE, "PM012", "결제 대행사 응답을 확인할 수 없습니다. 잠시 후 결과를 확인해주세요."),
 
     // Delivery
     DELIVERY_NOT_FOUND(HttpStatus.NOT_FOUND, "D001", "배송 정보를 찾을 수 없습니다."),
@@ -0,0 +1,118 @@
+package com.example.ecommerce.common.money;
+
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.RequiredArgsConstructor;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * 원 단위 금액 (long)
+ * - 가격/장바구니/주문 합계 계산은 Money로 하고 BigDecimal은 JSON/DB 경계에서만 변환
+ * - 할인/적립률 계산 결과의 원 미만은 절사
+ * - 합계 루프처럼 객체 생성을 피해야 하는 곳은 long 기반 static 연산을 직접 사용
+ */
+@EqualsAndHashCode
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public final class Money implements Comparable<Money> {
+
+    public static final Money ZERO = new Money(0L);
+
+    private static final int PERCENT = 100;
+
+    private final long won;
+
+    public static Money won(long won) {
+        return won == 0L ? ZERO : new Money(won);
+    }
+
+    /**
+     * DB/요청의 BigDecimal 금액 변환 (null은 0원, 원 미만 절사)
+     */
+    public static Money of(BigDecimal amount) {
+        if (amount == null) {
+            return ZERO;
+        }
+        return won(amount.setScale(0, RoundingMode.DOWN).longValueExact());
+    }
+
+    // ========== long 연산 (객체 생성 없음) ==========
+
+    public static long add(long won, long other) {
+        return Math.addExact(won, other);
+    }
+
+    public static long multiply(long won, int quantity) {
+        return Math.multiplyExact(won, (long) quantity);
+    }
+
+    /**
+     * 할인율(%) 적용 후 금액 (원 미만 절사)
+     */
+    public static long discount(long won, int ratePercent) {
+        if (ratePercent == 0) {
+            return won;
+        }
+        return Math.multiplyExact(won, (long) (PERCENT - ratePercent)) / PERCENT;
+    }
+
+    /**
+     * 금액의 ratePercent% (원 미만 절사)
+     */
+    public static long percent(long won, int ratePercent) {
+        return Math.multiplyExact(won, (long) ratePercent) / PERCENT;
+    }
+
+    // ========== Money 연산 ==========
+
+    public Money plus(Money other) {
+        return won(add(won, other.won));
+    }
+
+    public Money minus(Money other) {
+        return won(Math.subtractExact(won, other.won));
+    }
+
+    public Money times(int quantity) {
+        return won(multiply(won, quantity));
+    }
+
+    public Money discount(int ratePercent) {
+        return won(discount(won, ratePercent));
+    }
+
+    public Money percent(int ratePercent) {
+        return won(percent(won, ratePercent));
+    }
+
+    public Money positiveOrZero() {
+        return won > 0 ? this : ZERO;
+    }
+
+    public boolean isZero() {
+        return won == 0L;
+    }
+
+    public boolean isGreaterThanOrEqual(Money other) {
+        return won >= other.won;
+    }
+
+    public long toWon() {
+        return won;
+    }
+
+    public BigDecimal toBigDecimal() {
+        return BigDecimal.valueOf(won);
+    }
+
+    @Override
+    public int compareTo(Money other) {
+        return Long.compare(won, other.won);
+    }
+
+    @Override
+    public String toString() {
+        return won + "원";
+    }
+}
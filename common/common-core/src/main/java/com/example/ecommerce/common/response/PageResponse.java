@@ -28,6 +28,7 @@ public class PageResponse<T> {
     private boolean hasPrevious;
     private boolean isFirst;
     private boolean isLast;
+    private String nextCursor;
 
     /**
      * 페이징 응답 생성
@@ -55,6 +56,28 @@ public class PageResponse<T> {
                 .build();
     }
 
+    /**
+     * 커서 페이징 응답 생성 (전체 건수는 세지 않음)
+     *
+     * @param content    컨텐츠 목록
+     * @param size       페이지 크기
+     * @param nextCursor 다음 페이지 커서 (마지막 페이지면 null)
+     * @param first      첫 페이지 여부 (요청 커서가 없었는지)
+     * @param <T>        컨텐츠 타입
+     * @return PageResponse
+     */
+    public static <T> PageResponse<T> ofCursor(List<T> content, int size, String nextCursor, boolean first) {
+        return PageResponse.<T>builder()
+                .content(content)
+                .size(size)
+                .hasNext(nextCursor != null)
+                .hasPrevious(!first)
+                .isFirst(first)
+                .isLast(nextCursor == null)
+                .nextCursor(nextCursor)
+                .build();
+    }
+
     /**
      * 빈 페이지 응답 생성
      */
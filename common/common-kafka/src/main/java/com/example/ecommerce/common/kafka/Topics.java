@@ -15,8 +15,10 @@ public final class Topics {
     // Product Service Topics
     public static final String PRODUCT_EVENTS = "product-events";
     public static final String INVENTORY_EVENTS = "inventory-events";
+    public static final String CATEGORY_EVENTS = "category-events";
 
     // Order Service Topics
     public static final String ORDER_EVENTS = "order-events";
     public static final String PAYMENT_EVENTS = "payment-events";
+    public static final String DELIVERY_EVENTS = "delivery-events";
 }
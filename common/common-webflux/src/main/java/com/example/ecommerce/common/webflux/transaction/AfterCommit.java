@@ -0,0 +1,43 @@
+package com.example.ecommerce.common.webflux.transaction;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.transaction.NoTransactionException;
+import org.springframework.transaction.reactive.TransactionSynchronization;
+import org.springframework.transaction.reactive.TransactionSynchronizationManager;
+import reactor.core.publisher.Mono;
+
+import java.util.function.Supplier;
+
+/**
+ * 현재 R2DBC 트랜잭션이 커밋된 뒤 실행 (트랜잭션 밖이면 바로 실행, 롤백되면 실행하지 않음)
+ * - 캐시 삭제, 실시간 발행처럼 커밋 전에 하면 다른 요청이 커밋 전 상태를 보게 되는 부수 효과용
+ * - 부수 효과 실패는 로그만 남기고 요청 결과에는 영향을 주지 않음
+ */
+@Slf4j
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class AfterCommit {
+
+    public static Mono<Void> run(String name, Supplier<Mono<Void>> action) {
+        return TransactionSynchronizationManager.forCurrentTransaction()
+                .filter(TransactionSynchronizationManager::isSynchronizationActive)
+                .doOnNext(manager -> manager.registerSynchronization(new TransactionSynchronization() {
+                    @Override
+                    public Mono<Void> afterCommit() {
+                        return execute(name, action);
+                    }
+                }))
+                .onErrorResume(NoTransactionException.class, e -> Mono.empty())
+                .hasElement()
+                .flatMap(registered -> registered ? Mono.<Void>empty() : execute(name, action));
+    }
+
+    private static Mono<Void> execute(String name, Supplier<Mono<Void>> action) {
+        return Mono.defer(action)
+                .onErrorResume(error -> {
+                    log.warn("커밋 후 작업 실패: {}", name, error);
+                    return Mono.empty();
+                });
+    }
+}
@@ -2,6 +2,8 @@ package com.example.ecommerce.events;
 
 import com.fasterxml.jackson.annotation.JsonSubTypes;
 import com.fasterxml.jackson.annotation.JsonTypeInfo;
+import com.example.ecommerce.events.category.CategoryChangedEvent;
+import com.example.ecommerce.events.delivery.DeliveryStatusChangedEvent;
 import com.example.ecommerce.events.member.MemberCreatedEvent;
 import com.example.ecommerce.events.member.MemberWithdrawnEvent;
 import com.example.ecommerce.events.inventory.StockReservedEvent;
@@ -9,6 +11,9 @@ import com.example.ecommerce.events.inventory.StockReleasedEvent;
 import com.example.ecommerce.events.order.OrderCreatedEvent;
 import com.example.ecommerce.events.order.OrderCancelledEvent;
 import com.example.ecommerce.events.order.OrderCompletedEvent;
+import com.example.ecommerce.events.payment.PaymentCompletedEvent;
+import com.example.ecommerce.events.product.ProductPriceChangedEvent;
+import com.example.ecommerce.events.product.ProductStatusChangedEvent;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
@@ -36,7 +41,16 @@ import java.util.UUID;
         // Order Events
         @JsonSubTypes.Type(value = OrderCreatedEvent.class, name = "ORDER_CREATED"),
         @JsonSubTypes.Type(value = OrderCancelledEvent.class, name = "ORDER_CANCELLED"),
-        @JsonSubTypes.Type(value = OrderCompletedEvent.class, name = "ORDER_COMPLETED")
+        @JsonSubTypes.Type(value = OrderCompletedEvent.class, name = "ORDER_COMPLETED"),
+        // Payment Events
+        @JsonSubTypes.Type(value = PaymentCompletedEvent.class, name = "PAYMENT_COMPLETED"),
+        // Delivery Events
+        @JsonSubTypes.Type(value = DeliveryStatusChangedEvent.class, name = "DELIVERY_STATUS_CHANGED"),
+        // Product Events
+        @JsonSubTypes.Type(value = ProductPriceChangedEvent.class, name = "PRODUCT_PRICE_CHANGED"),
+        @JsonSubTypes.Type(value = ProductStatusChangedEvent.class, name = "PRODUCT_STATUS_CHANGED"),
+        // Category Events
+        @JsonSubTypes.Type(value = CategoryChangedEvent.class, name = "CATEGORY_CHANGED")
 })
 public abstract class DomainEvent {
 
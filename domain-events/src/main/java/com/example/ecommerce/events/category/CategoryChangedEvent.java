@@ -0,0 +1,35 @@
+package com.example.ecommerce.events.category;
+
+import com.example.ecommerce.events.DomainEvent;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.experimental.SuperBuilder;
+
+/**
+ * 카테고리 변경 이벤트 (생성/수정/활성 상태 변경)
+ */
+@Getter
+@SuperBuilder
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class CategoryChangedEvent extends DomainEvent {
+
+    private Long categoryId;
+    private Long parentId;
+    private String changeType;
+
+    public static CategoryChangedEvent of(Long categoryId, Long parentId, String changeType) {
+        CategoryChangedEvent event = CategoryChangedEvent.builder()
+                .categoryId(categoryId)
+                .parentId(parentId)
+                .changeType(changeType)
+                .build();
+        event.init(String.valueOf(categoryId), "Category");
+        return event;
+    }
+
+    @Override
+    public String getEventType() {
+        return "CATEGORY_CHANGED";
+    }
+}
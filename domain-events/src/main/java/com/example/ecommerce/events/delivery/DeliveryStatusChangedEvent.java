@@ -0,0 +1,42 @@
+package com.example.ecommerce.events.delivery;
+
+import com.example.ecommerce.events.DomainEvent;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.experimental.SuperBuilder;
+
+import java.time.LocalDateTime;
+
+/**
+ * 배송 상태 변경 이벤트
+ */
+@Getter
+@SuperBuilder
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class DeliveryStatusChangedEvent extends DomainEvent {
+
+    private Long deliveryId;
+    private Long orderId;
+    private String trackingNumber;
+    private String status;
+    private LocalDateTime changedAt;
+
+    public static DeliveryStatusChangedEvent of(Long deliveryId, Long orderId, String trackingNumber,
+                                                String status, LocalDateTime changedAt) {
+        DeliveryStatusChangedEvent event = DeliveryStatusChangedEvent.builder()
+                .deliveryId(deliveryId)
+                .orderId(orderId)
+                .trackingNumber(trackingNumber)
+                .status(status)
+                .changedAt(changedAt)
+                .build();
+        event.init(String.valueOf(deliveryId), "Delivery");
+        return event;
+    }
+
+    @Override
+    public String getEventType() {
+        return "DELIVERY_STATUS_CHANGED";
+    }
+}
@@ -6,6 +6,7 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.experimental.SuperBuilder;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 /**
@@ -20,24 +21,28 @@ public class OrderCancelledEvent extends DomainEvent {
     private Long memberId;
     private String orderNumber;
     private String reason;
+    private LocalDateTime orderedAt;
     private List<CancelledItem> items;
 
     @Getter
     @SuperBuilder
     @NoArgsConstructor(access = AccessLevel.PROTECTED)
     public static class CancelledItem {
+        private Long productId;
         private Long productOptionId;
         private int quantity;
         private String reservationId;
     }
 
     public static OrderCancelledEvent of(Long orderId, Long memberId, String orderNumber,
-                                          String reason, List<CancelledItem> items) {
+                                          String reason, LocalDateTime orderedAt,
+                                          List<CancelledItem> items) {
         OrderCancelledEvent event = OrderCancelledEvent.builder()
                 .orderId(orderId)
                 .memberId(memberId)
                 .orderNumber(orderNumber)
                 .reason(reason)
+                .orderedAt(orderedAt)
                 .items(items)
                 .build();
         event.init(String.valueOf(orderId), "Order");
@@ -27,6 +27,7 @@ public class OrderCreatedEvent extends DomainEvent {
     @SuperBuilder
     @NoArgsConstructor(access = AccessLevel.PROTECTED)
     public static class OrderItem {
+        private Long productId;
         private Long productOptionId;
         private int quantity;
         private BigDecimal price;
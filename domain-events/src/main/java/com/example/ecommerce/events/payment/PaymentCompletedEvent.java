@@ -0,0 +1,45 @@
+package com.example.ecommerce.events.payment;
+
+import com.example.ecommerce.events.DomainEvent;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.experimental.SuperBuilder;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * 결제 완료 이벤트
+ */
+@Getter
+@SuperBuilder
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class PaymentCompletedEvent extends DomainEvent {
+
+    private Long paymentId;
+    private Long orderId;
+    private String paymentKey;
+    private String method;
+    private BigDecimal amount;
+    private LocalDateTime paidAt;
+
+    public static PaymentCompletedEvent of(Long paymentId, Long orderId, String paymentKey,
+                                           String method, BigDecimal amount, LocalDateTime paidAt) {
+        PaymentCompletedEvent event = PaymentCompletedEvent.builder()
+                .paymentId(paymentId)
+                .orderId(orderId)
+                .paymentKey(paymentKey)
+                .method(method)
+                .amount(amount)
+                .paidAt(paidAt)
+                .build();
+        event.init(String.valueOf(paymentId), "Payment");
+        return event;
+    }
+
+    @Override
+    public String getEventType() {
+        return "PAYMENT_COMPLETED";
+    }
+}
@@ -0,0 +1,41 @@
+package com.example.ecommerce.events.product;
+
+import com.example.ecommerce.events.DomainEvent;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.experimental.SuperBuilder;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * 상품 가격/할인율 변경 이벤트
+ */
+@Getter
+@SuperBuilder
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ProductPriceChangedEvent extends DomainEvent {
+
+    private Long productId;
+    private BigDecimal basePrice;
+    private Integer discountRate;
+    private List<Long> productOptionIds;
+
+    public static ProductPriceChangedEvent of(Long productId, BigDecimal basePrice, Integer discountRate,
+                                              List<Long> productOptionIds) {
+        ProductPriceChangedEvent event = ProductPriceChangedEvent.builder()
+                .productId(productId)
+                .basePrice(basePrice)
+                .discountRate(discountRate)
+                .productOptionIds(productOptionIds)
+                .build();
+        event.init(String.valueOf(productId), "Product");
+        return event;
+    }
+
+    @Override
+    public String getEventType() {
+        return "PRODUCT_PRICE_CHANGED";
+    }
+}
@@ -0,0 +1,42 @@
+package com.example.ecommerce.events.product;
+
+import com.example.ecommerce.events.DomainEvent;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.experimental.SuperBuilder;
+
+import java.util.List;
+
+/**
+ * 상품 판매 상태 변경 이벤트
+ */
+@Getter
+@SuperBuilder
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ProductStatusChangedEvent extends DomainEvent {
+
+    private Long productId;
+    private String previousStatus;
+    private String status;
+    private boolean sellable;
+    private List<Long> productOptionIds;
+
+    public static ProductStatusChangedEvent of(Long productId, String previousStatus, String status,
+                                               boolean sellable, List<Long> productOptionIds) {
+        ProductStatusChangedEvent event = ProductStatusChangedEvent.builder()
+                .productId(productId)
+                .previousStatus(previousStatus)
+                .status(status)
+                .sellable(sellable)
+                .productOptionIds(productOptionIds)
+                .build();
+        event.init(String.valueOf(productId), "Product");
+        return event;
+    }
+
+    @Override
+    public String getEventType() {
+        return "PRODUCT_STATUS_CHANGED";
+    }
+}
@@ -38,6 +38,7 @@ public class JwtAuthenticationFilter implements GlobalFilter, Ordered {
             "/api/v1/auth/**",
             "/api/v1/products/**",
             "/api/v1/categories/**",
+            "/api/v1/cart/guest/**",
             "/actuator/**",
             "/fallback/**"
     );
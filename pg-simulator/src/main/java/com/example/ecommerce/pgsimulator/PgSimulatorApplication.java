@@ -0,0 +1,12 @@
+package com.example.ecommerce.pgsimulator;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+
+@SpringBootApplication
+public class PgSimulatorApplication {
+
+    public static void main(String[] args) {
+        SpringApplication.run(PgSimulatorApplication.class, args);
+    }
+}
@@ -0,0 +1,14 @@
+package com.example.ecommerce.pgsimulator.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.reactive.function.client.WebClient;
+
+@Configuration
+public class WebClientConfig {
+
+    @Bean
+    public WebClient webhookClient(WebClient.Builder builder) {
+        return builder.build();
+    }
+}
@@ -0,0 +1,25 @@
+package com.example.ecommerce.pgsimulator.controller;
+
+import com.example.ecommerce.pgsimulator.dto.PgErrorResponse;
+import com.example.ecommerce.pgsimulator.service.PgException;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.bind.support.WebExchangeBindException;
+
+@RestControllerAdvice
+public class PgExceptionHandler {
+
+    @ExceptionHandler(PgException.class)
+    public ResponseEntity<PgErrorResponse> handlePgException(PgException e) {
+        return ResponseEntity.status(e.getStatus())
+                .body(new PgErrorResponse(e.getCode(), e.getMessage()));
+    }
+
+    @ExceptionHandler(WebExchangeBindException.class)
+    public ResponseEntity<PgErrorResponse> handleValidationException(WebExchangeBindException e) {
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                .body(new PgErrorResponse("INVALID_REQUEST", "요청 값이 올바르지 않습니다."));
+    }
+}
@@ -0,0 +1,50 @@
+package com.example.ecommerce.pgsimulator.controller;
+
+import com.example.ecommerce.pgsimulator.dto.CancelRequest;
+import com.example.ecommerce.pgsimulator.dto.ConfirmRequest;
+import com.example.ecommerce.pgsimulator.dto.PgPayment;
+import com.example.ecommerce.pgsimulator.dto.VirtualAccountRequest;
+import com.example.ecommerce.pgsimulator.service.PgPaymentService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
+
+@RestController
+@RequestMapping("/v1")
+@RequiredArgsConstructor
+public class PgPaymentController {
+
+    private final PgPaymentService pgPaymentService;
+
+    @GetMapping("/payments/{paymentKey}")
+    public Mono<PgPayment> getPayment(@PathVariable String paymentKey) {
+        return pgPaymentService.getPayment(paymentKey);
+    }
+
+    @PostMapping("/payments/confirm")
+    public Mono<PgPayment> confirm(@Valid @RequestBody ConfirmRequest request) {
+        return pgPaymentService.confirm(request);
+    }
+
+    @PostMapping("/payments/{paymentKey}/cancel")
+    public Mono<PgPayment> cancel(
+            @PathVariable String paymentKey,
+            @Valid @RequestBody CancelRequest request
+    ) {
+        return pgPaymentService.cancel(paymentKey, request);
+    }
+
+    @PostMapping("/payments/{paymentKey}/refund")
+    public Mono<PgPayment> refund(
+            @PathVariable String paymentKey,
+            @Valid @RequestBody CancelRequest request
+    ) {
+        return pgPaymentService.refund(paymentKey, request);
+    }
+
+    @PostMapping("/virtual-accounts")
+    public Mono<PgPayment> issueVirtualAccount(@Valid @RequestBody VirtualAccountRequest request) {
+        return pgPaymentService.issueVirtualAccount(request);
+    }
+}
@@ -0,0 +1,22 @@
+package com.example.ecommerce.pgsimulator.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Positive;
+import lombok.*;
+
+import java.math.BigDecimal;
+
+/**
+ * 취소/환불 요청 (cancelAmount가 없으면 잔액 전체)
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+public class CancelRequest {
+
+    @NotBlank
+    private String cancelReason;
+
+    @Positive
+    private BigDecimal cancelAmount;
+}
@@ -0,0 +1,24 @@
+package com.example.ecommerce.pgsimulator.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import lombok.*;
+
+import java.math.BigDecimal;
+
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+public class ConfirmRequest {
+
+    @NotBlank
+    private String paymentKey;
+
+    @NotBlank
+    private String orderId;
+
+    @NotNull
+    @Positive
+    private BigDecimal amount;
+}
@@ -0,0 +1,12 @@
+package com.example.ecommerce.pgsimulator.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class PgErrorResponse {
+
+    private final String code;
+    private final String message;
+}
@@ -0,0 +1,34 @@
+package com.example.ecommerce.pgsimulator.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * PG 거래 상태 (변경 시 toBuilder로 새 객체 생성)
+ */
+@Getter
+@Builder(toBuilder = true)
+public class PgPayment {
+
+    public static final String READY = "READY";
+    public static final String WAITING_FOR_DEPOSIT = "WAITING_FOR_DEPOSIT";
+    public static final String DONE = "DONE";
+    public static final String PARTIAL_CANCELED = "PARTIAL_CANCELED";
+    public static final String CANCELED = "CANCELED";
+
+    private final String paymentKey;
+    private final String orderId;
+    private final String method;
+    private final String status;
+    private final String transactionId;
+    private final BigDecimal totalAmount;
+    private final BigDecimal balanceAmount;
+    private final String bankCode;
+    private final String accountNumber;
+    private final LocalDateTime dueDate;
+    private final LocalDateTime approvedAt;
+    private final LocalDateTime canceledAt;
+}
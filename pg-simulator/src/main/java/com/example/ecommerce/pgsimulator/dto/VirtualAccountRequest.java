@@ -0,0 +1,28 @@
+package com.example.ecommerce.pgsimulator.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import lombok.*;
+
+import java.math.BigDecimal;
+
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+public class VirtualAccountRequest {
+
+    @NotBlank
+    private String orderId;
+
+    @NotNull
+    @Positive
+    private BigDecimal amount;
+
+    private String bankCode;
+
+    private Integer validHours;
+
+    // false면 입금 webhook을 보내지 않음 (만료 처리 검증용)
+    private Boolean autoDeposit;
+}
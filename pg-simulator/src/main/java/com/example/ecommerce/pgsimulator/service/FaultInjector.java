@@ -0,0 +1,80 @@
+package com.example.ecommerce.pgsimulator.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.env.Environment;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 응답 지연과 장애 주입
+ * - 지연은 설정한 median/p99를 맞추는 로그정규분포에서 추출
+ * - failure-rate 비율로 거절(4xx) 또는 PG 내부 오류(5xx) 응답
+ * - timeout-rate 비율로 hang-ms 동안 응답하지 않음
+ */
+@Slf4j
+@Component
+public class FaultInjector {
+
+    // 표준정규분포의 99 백분위수
+    private static final double Z_99 = 2.326;
+
+    private final Map<PgOperation, Profile> profiles = new EnumMap<>(PgOperation.class);
+    private final double timeoutRate;
+    private final long hangMs;
+
+    public FaultInjector(Environment environment) {
+        for (PgOperation operation : PgOperation.values()) {
+            String prefix = "pg.simulator." + operation.getPropertyKey() + ".";
+            profiles.put(operation, new Profile(
+                    environment.getProperty(prefix + "median-ms", Long.class, 200L),
+                    environment.getProperty(prefix + "p99-ms", Long.class, 1000L),
+                    environment.getProperty(prefix + "failure-rate", Double.class, 0.0)
+            ));
+        }
+        this.timeoutRate = environment.getProperty("pg.simulator.timeout-rate", Double.class, 0.0);
+        this.hangMs = environment.getProperty("pg.simulator.hang-ms", Long.class, 30000L);
+    }
+
+    public <T> Mono<T> apply(PgOperation operation, Mono<T> result) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        if (random.nextDouble() < timeoutRate) {
+            log.debug("응답 지연 주입: operation={}, hangMs={}", operation, hangMs);
+            return Mono.delay(Duration.ofMillis(hangMs))
+                    .then(Mono.error(new PgException(HttpStatus.GATEWAY_TIMEOUT, "PROVIDER_TIMEOUT", "카드사 응답 시간이 초과되었습니다.")));
+        }
+
+        Profile profile = profiles.get(operation);
+        Duration latency = Duration.ofMillis(profile.sampleLatencyMs(random));
+        if (random.nextDouble() < profile.failureRate) {
+            PgException failure = random.nextBoolean()
+                    ? new PgException(HttpStatus.BAD_REQUEST, "REJECT_CARD_PAYMENT", "카드사에서 결제를 거절했습니다.")
+                    : new PgException(HttpStatus.SERVICE_UNAVAILABLE, "PROVIDER_ERROR", "일시적인 PG 오류입니다.");
+            log.debug("장애 주입: operation={}, code={}", operation, failure.getCode());
+            return Mono.delay(latency).then(Mono.error(failure));
+        }
+        return Mono.delay(latency).then(result);
+    }
+
+    @RequiredArgsConstructor
+    private static class Profile {
+
+        private final long medianMs;
+        private final long p99Ms;
+        private final double failureRate;
+
+        long sampleLatencyMs(ThreadLocalRandom random) {
+            if (medianMs <= 0) {
+                return 0;
+            }
+            double sigma = Math.log((double) Math.max(p99Ms, medianMs) / medianMs) / Z_99;
+            return Math.round(medianMs * Math.exp(sigma * random.nextGaussian()));
+        }
+    }
+}
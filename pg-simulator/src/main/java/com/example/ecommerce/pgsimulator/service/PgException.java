@@ -0,0 +1,17 @@
+package com.example.ecommerce.pgsimulator.service;
+
+import lombok.Getter;
+import org.springframework.http.HttpStatus;
+
+@Getter
+public class PgException extends RuntimeException {
+
+    private final HttpStatus status;
+    private final String code;
+
+    public PgException(HttpStatus status, String code, String message) {
+        super(message);
+        this.status = status;
+        this.code = code;
+    }
+}
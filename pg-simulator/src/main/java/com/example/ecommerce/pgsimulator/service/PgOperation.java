@@ -0,0 +1,15 @@
+package com.example.ecommerce.pgsimulator.service;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum PgOperation {
+    APPROVE("approve"),
+    CANCEL("cancel"),
+    REFUND("refund"),
+    VIRTUAL_ACCOUNT("virtual-account");
+
+    private final String propertyKey;
+}
@@ -0,0 +1,171 @@
+package com.example.ecommerce.pgsimulator.service;
+
+import com.example.ecommerce.pgsimulator.dto.CancelRequest;
+import com.example.ecommerce.pgsimulator.dto.ConfirmRequest;
+import com.example.ecommerce.pgsimulator.dto.PgPayment;
+import com.example.ecommerce.pgsimulator.dto.VirtualAccountRequest;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 메모리 기반 PG 거래 처리 (승인/취소/환불/가상계좌 발급)
+ */
+@Slf4j
+@Service
+public class PgPaymentService {
+
+    private static final int DEFAULT_VALID_HOURS = 24;
+
+    private final Map<String, PgPayment> payments = new ConcurrentHashMap<>();
+    private final FaultInjector faultInjector;
+    private final WebhookSender webhookSender;
+    private final long webhookDelayMinMs;
+    private final long webhookDelayMaxMs;
+
+    public PgPaymentService(FaultInjector faultInjector,
+                            WebhookSender webhookSender,
+                            @Value("${pg.simulator.webhook.delay-min-ms:1000}") long webhookDelayMinMs,
+                            @Value("${pg.simulator.webhook.delay-max-ms:10000}") long webhookDelayMaxMs) {
+        this.faultInjector = faultInjector;
+        this.webhookSender = webhookSender;
+        this.webhookDelayMinMs = webhookDelayMinMs;
+        this.webhookDelayMaxMs = Math.max(webhookDelayMinMs, webhookDelayMaxMs);
+    }
+
+    public Mono<PgPayment> getPayment(String paymentKey) {
+        return Mono.justOrEmpty(payments.get(paymentKey))
+                .switchIfEmpty(Mono.error(notFound()));
+    }
+
+    /**
+     * 결제 승인 (같은 paymentKey/금액으로 재요청하면 기존 결과 반환)
+     */
+    public Mono<PgPayment> confirm(ConfirmRequest request) {
+        return faultInjector.apply(PgOperation.APPROVE, Mono.fromCallable(() ->
+                payments.compute(request.getPaymentKey(), (key, existing) -> {
+                    if (existing != null) {
+                        if (PgPayment.DONE.equals(existing.getStatus())
+                                && existing.getTotalAmount().compareTo(request.getAmount()) == 0) {
+                            return existing;
+                        }
+                        throw new PgException(HttpStatus.CONFLICT, "ALREADY_PROCESSED_PAYMENT", "이미 처리된 결제입니다.");
+                    }
+                    return PgPayment.builder()
+                            .paymentKey(key)
+                            .orderId(request.getOrderId())
+                            .method("CARD")
+                            .status(PgPayment.DONE)
+                            .transactionId(newTransactionId())
+                            .totalAmount(request.getAmount())
+                            .balanceAmount(request.getAmount())
+                            .approvedAt(LocalDateTime.now())
+                            .build();
+                })));
+    }
+
+    public Mono<PgPayment> cancel(String paymentKey, CancelRequest request) {
+        return faultInjector.apply(PgOperation.CANCEL,
+                Mono.fromCallable(() -> cancelAmount(paymentKey, null, request.getCancelReason())));
+    }
+
+    public Mono<PgPayment> refund(String paymentKey, CancelRequest request) {
+        return faultInjector.apply(PgOperation.REFUND,
+                Mono.fromCallable(() -> cancelAmount(paymentKey, request.getCancelAmount(), request.getCancelReason())));
+    }
+
+    public Mono<PgPayment> issueVirtualAccount(VirtualAccountRequest request) {
+        return faultInjector.apply(PgOperation.VIRTUAL_ACCOUNT, Mono.fromCallable(() -> {
+            int validHours = request.getValidHours() != null ? request.getValidHours() : DEFAULT_VALID_HOURS;
+            PgPayment payment = PgPayment.builder()
+                    .paymentKey(newPaymentKey())
+                    .orderId(request.getOrderId())
+                    .method("VIRTUAL_ACCOUNT")
+                    .status(PgPayment.WAITING_FOR_DEPOSIT)
+                    .totalAmount(request.getAmount())
+                    .balanceAmount(request.getAmount())
+                    .bankCode(request.getBankCode())
+                    .accountNumber(newAccountNumber())
+                    .dueDate(LocalDateTime.now().plusHours(validHours))
+                    .build();
+            payments.put(payment.getPaymentKey(), payment);
+
+            if (!Boolean.FALSE.equals(request.getAutoDeposit())) {
+                scheduleDeposit(payment.getPaymentKey());
+            }
+            return payment;
+        }));
+    }
+
+    private PgPayment cancelAmount(String paymentKey, BigDecimal amount, String reason) {
+        PgPayment canceled = payments.computeIfPresent(paymentKey, (key, payment) -> {
+            if (PgPayment.CANCELED.equals(payment.getStatus())) {
+                throw new PgException(HttpStatus.BAD_REQUEST, "ALREADY_CANCELED_PAYMENT", "이미 취소된 결제입니다.");
+            }
+            BigDecimal cancelAmount = amount != null ? amount : payment.getBalanceAmount();
+            if (cancelAmount.compareTo(payment.getBalanceAmount()) > 0) {
+                throw new PgException(HttpStatus.BAD_REQUEST, "NOT_CANCELABLE_AMOUNT", "취소 가능 금액을 초과했습니다.");
+            }
+            BigDecimal balance = payment.getBalanceAmount().subtract(cancelAmount);
+            return payment.toBuilder()
+                    .status(balance.signum() == 0 ? PgPayment.CANCELED : PgPayment.PARTIAL_CANCELED)
+                    .balanceAmount(balance)
+                    .canceledAt(LocalDateTime.now())
+                    .build();
+        });
+        if (canceled == null) {
+            throw notFound();
+        }
+        log.debug("결제 취소: paymentKey={}, status={}, reason={}", paymentKey, canceled.getStatus(), reason);
+        return canceled;
+    }
+
+    /**
+     * 지연 후 입금 처리하고 webhook 발송 (그 사이 취소된 계좌는 건너뜀)
+     */
+    private void scheduleDeposit(String paymentKey) {
+        long delayMs = ThreadLocalRandom.current().nextLong(webhookDelayMinMs, webhookDelayMaxMs + 1);
+        Mono.delay(Duration.ofMillis(delayMs))
+                .flatMap(tick -> Mono.justOrEmpty(deposit(paymentKey)))
+                .flatMap(webhookSender::sendDeposit)
+                .subscribe();
+    }
+
+    private PgPayment deposit(String paymentKey) {
+        PgPayment deposited = payments.computeIfPresent(paymentKey, (key, payment) ->
+                PgPayment.WAITING_FOR_DEPOSIT.equals(payment.getStatus())
+                        ? payment.toBuilder()
+                                .status(PgPayment.DONE)
+                                .transactionId(newTransactionId())
+                                .approvedAt(LocalDateTime.now())
+                                .build()
+                        : payment);
+        return deposited != null && deposited.getApprovedAt() != null ? deposited : null;
+    }
+
+    private PgException notFound() {
+        return new PgException(HttpStatus.NOT_FOUND, "NOT_FOUND_PAYMENT", "존재하지 않는 결제입니다.");
+    }
+
+    private String newPaymentKey() {
+        return "pk_" + UUID.randomUUID().toString().replace("-", "");
+    }
+
+    private String newTransactionId() {
+        return "tx_" + UUID.randomUUID().toString().replace("-", "");
+    }
+
+    private String newAccountNumber() {
+        return "9" + String.format("%013d", ThreadLocalRandom.current().nextLong(10_000_000_000_000L));
+    }
+}
@@ -0,0 +1,71 @@
+package com.example.ecommerce.pgsimulator.service;
+
+import com.example.ecommerce.pgsimulator.dto.PgPayment;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.util.UriComponentsBuilder;
+import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 가상계좌 입금 webhook 발송
+ * - 2xx가 아니면 PG처럼 backoff 재전송
+ * - duplicate-rate 비율로 같은 통지를 한 번 더 발송
+ */
+@Slf4j
+@Component
+public class WebhookSender {
+
+    private static final Duration RETRY_BACKOFF = Duration.ofSeconds(1);
+
+    private final WebClient webhookClient;
+    private final String webhookUrl;
+    private final double duplicateRate;
+    private final int maxRetries;
+
+    public WebhookSender(@Qualifier("webhookClient") WebClient webhookClient,
+                         @Value("${pg.simulator.webhook.url}") String webhookUrl,
+                         @Value("${pg.simulator.webhook.duplicate-rate:0.0}") double duplicateRate,
+                         @Value("${pg.simulator.webhook.max-retries:5}") int maxRetries) {
+        this.webhookClient = webhookClient;
+        this.webhookUrl = webhookUrl;
+        this.duplicateRate = duplicateRate;
+        this.maxRetries = maxRetries;
+    }
+
+    public Mono<Void> sendDeposit(PgPayment payment) {
+        Mono<Void> send = post(payment);
+        if (ThreadLocalRandom.current().nextDouble() < duplicateRate) {
+            return send.then(post(payment));
+        }
+        return send;
+    }
+
+    private Mono<Void> post(PgPayment payment) {
+        URI uri = UriComponentsBuilder.fromHttpUrl(webhookUrl)
+                .queryParam("paymentKey", payment.getPaymentKey())
+                .queryParam("amount", payment.getTotalAmount().toPlainString())
+                .queryParam("transactionId", payment.getTransactionId())
+                .build()
+                .toUri();
+
+        return webhookClient.post()
+                .uri(uri)
+                .retrieve()
+                .toBodilessEntity()
+                .retryWhen(Retry.backoff(maxRetries, RETRY_BACKOFF))
+                .doOnSuccess(response -> log.debug("입금 webhook 발송: paymentKey={}, transactionId={}",
+                        payment.getPaymentKey(), payment.getTransactionId()))
+                .doOnError(error -> log.error("입금 webhook 발송 실패: paymentKey={}",
+                        payment.getPaymentKey(), error))
+                .onErrorResume(error -> Mono.empty())
+                .then();
+    }
+}
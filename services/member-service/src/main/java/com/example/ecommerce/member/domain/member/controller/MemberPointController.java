@@ -0,0 +1,52 @@
+package com.example.ecommerce.member.domain.member.controller;
+
+import com.example.ecommerce.common.response.ApiResponse;
+import com.example.ecommerce.member.domain.member.service.MemberService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
+
+/**
+ * 적립금 내부 API Controller (주문 서비스 복합결제에서 호출)
+ */
+@Slf4j
+@RestController
+@RequestMapping("/internal/api/v1/members/{memberId}/points")
+@RequiredArgsConstructor
+public class MemberPointController {
+
+    private final MemberService memberService;
+
+    /**
+     * 적립금 사용
+     * POST /internal/api/v1/members/{memberId}/points/use?amount= (Idempotency-Key 헤더 필수)
+     */
+    @PostMapping("/use")
+    public Mono<ApiResponse<Void>> usePoint(
+        @PathVariable Long memberId,
+        @RequestParam int amount,
+        @RequestHeader("Idempotency-Key") String idempotencyKey
+    ) {
+        log.info("적립금 사용 요청: memberId={}, amount={}, key={}", memberId, amount, idempotencyKey);
+
+        return memberService.usePoint(memberId, amount, idempotencyKey)
+            .then(Mono.just(ApiResponse.<Void>success(null, "적립금이 사용되었습니다.")));
+    }
+
+    /**
+     * 적립금 사용 취소
+     * POST /internal/api/v1/members/{memberId}/points/restore?amount= (Idempotency-Key 헤더 필수)
+     */
+    @PostMapping("/restore")
+    public Mono<ApiResponse<Void>> restorePoint(
+        @PathVariable Long memberId,
+        @RequestParam int amount,
+        @RequestHeader("Idempotency-Key") String idempotencyKey
+    ) {
+        log.info("적립금 사용 취소 요청: memberId={}, amount={}, key={}", memberId, amount, idempotencyKey);
+
+        return memberService.restorePoint(memberId, amount, idempotencyKey)
+            .then(Mono.just(ApiResponse.<Void>success(null, "적립금 사용이 취소되었습니다.")));
+    }
+}
@@ -0,0 +1,33 @@
+package com.example.ecommerce.member.domain.member.entity;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.Column;
+import org.springframework.data.relational.core.mapping.Table;
+
+/**
+ * 멱등 키별 적립금 사용 내역 (복합결제 결제 수단 하나당 키 하나)
+ */
+@Table("member_point_usages")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class PointUsage {
+
+    public static final String USED = "USED";
+    public static final String RESTORED = "RESTORED";
+
+    @Id
+    @Column("idempotency_key")
+    private String idempotencyKey;
+
+    @Column("member_id")
+    private Long memberId;
+
+    @Column("amount")
+    private Integer amount;
+
+    @Column("status")
+    private String status;
+}
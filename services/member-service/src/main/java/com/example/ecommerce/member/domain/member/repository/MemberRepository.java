@@ -2,6 +2,7 @@ package com.example.ecommerce.member.domain.member.repository;
 
 import com.example.ecommerce.member.domain.member.entity.Member;
 import com.example.ecommerce.member.domain.member.entity.MemberStatus;
+import org.springframework.data.r2dbc.repository.Modifying;
 import org.springframework.data.r2dbc.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.data.repository.reactive.ReactiveCrudRepository;
@@ -77,4 +78,24 @@ public interface MemberRepository extends ReactiveCrudRepository<Member, Long> {
         GROUP BY grade
         """)
     Flux<Object[]> countMembersByGrade();
+
+    /**
+     * 잔액이 충분할 때만 적립금 차감 (부족하거나 회원이 없으면 0)
+     */
+    @Modifying
+    @Query("""
+        UPDATE members SET point = point - :amount
+        WHERE id = :id AND point >= :amount
+        """)
+    Mono<Integer> deductPointIfEnough(@Param("id") Long id, @Param("amount") int amount);
+
+    /**
+     * 적립금 가산 (회원이 없으면 0)
+     */
+    @Modifying
+    @Query("""
+        UPDATE members SET point = point + :amount
+        WHERE id = :id
+        """)
+    Mono<Integer> addPoint(@Param("id") Long id, @Param("amount") int amount);
 }
@@ -0,0 +1,41 @@
+package com.example.ecommerce.member.domain.member.repository;
+
+import com.example.ecommerce.member.domain.member.entity.PointUsage;
+import org.springframework.data.r2dbc.repository.Modifying;
+import org.springframework.data.r2dbc.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.data.repository.reactive.ReactiveCrudRepository;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Mono;
+
+@Repository
+public interface PointUsageRepository extends ReactiveCrudRepository<PointUsage, String> {
+
+    /**
+     * 키가 없을 때만 기록 (이미 사용/취소된 키면 0)
+     */
+    @Modifying
+    @Query("""
+        INSERT IGNORE INTO member_point_usages (idempotency_key, member_id, amount, status)
+        VALUES (:idempotencyKey, :memberId, :amount, :status)
+        """)
+    Mono<Integer> insertIfAbsent(
+        @Param("idempotencyKey") String idempotencyKey,
+        @Param("memberId") Long memberId,
+        @Param("amount") int amount,
+        @Param("status") String status
+    );
+
+    /**
+     * USED → RESTORED (사용이 반영된 키만)
+     */
+    @Modifying
+    @Query("""
+        UPDATE member_point_usages SET status = 'RESTORED'
+        WHERE idempotency_key = :idempotencyKey AND member_id = :memberId AND status = 'USED'
+        """)
+    Mono<Integer> markRestoredIfUsed(
+        @Param("idempotencyKey") String idempotencyKey,
+        @Param("memberId") Long memberId
+    );
+}
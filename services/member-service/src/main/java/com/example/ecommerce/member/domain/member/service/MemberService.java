@@ -10,7 +10,9 @@ import com.example.ecommerce.member.domain.member.dto.request.SignupRequest;
 import com.example.ecommerce.member.domain.member.dto.response.MemberResponse;
 import com.example.ecommerce.member.domain.member.entity.Member;
 import com.example.ecommerce.member.domain.member.entity.MemberGrade;
+import com.example.ecommerce.member.domain.member.entity.PointUsage;
 import com.example.ecommerce.member.domain.member.repository.MemberRepository;
+import com.example.ecommerce.member.domain.member.repository.PointUsageRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.crypto.password.PasswordEncoder;
@@ -25,6 +27,7 @@ import reactor.core.scheduler.Schedulers;
 public class MemberService {
 
     private final MemberRepository memberRepository;
+    private final PointUsageRepository pointUsageRepository;
     private final PasswordEncoder passwordEncoder;
     private final EventPublisher eventPublisher;
 
@@ -76,28 +79,71 @@ public class MemberService {
     }
 
     /**
-     * 적립금 사용
+     * 적립금 사용 (같은 멱등 키는 한 번만 반영, 이미 취소된 키면 사용하지 않음)
+     * - 잔액 확인과 차감을 조건부 UPDATE 한 번으로 처리해 동시 사용으로 초과 차감되지 않음
+     * - 잔액 부족이면 오류로 트랜잭션이 롤백되어 멱등 키 기록도 남지 않음
      */
     @Transactional
-    public Mono<Void> usePoint(Long memberId, int amount) {
-        return memberRepository.findById(memberId)
-            .switchIfEmpty(Mono.error(new BusinessException(ErrorCode.MEMBER_NOT_FOUND)))
-            .flatMap(member -> validateAndUsePoint(member, amount))
-            .flatMap(memberRepository::save)
+    public Mono<Void> usePoint(Long memberId, int amount, String idempotencyKey) {
+        if (amount < 1000) {
+            return Mono.error(new BusinessException(ErrorCode.INSUFFICIENT_POINT_MINIMUM));
+        }
+        return pointUsageRepository.insertIfAbsent(idempotencyKey, memberId, amount, PointUsage.USED)
+            .flatMap(inserted -> {
+                if (inserted == 0) {
+                    log.info("이미 처리된 적립금 사용 요청: memberId={}, key={}", memberId, idempotencyKey);
+                    return Mono.empty();
+                }
+                return memberRepository.deductPointIfEnough(memberId, amount)
+                    .flatMap(updated -> updated == 1
+                        ? Mono.<Void>empty()
+                        : memberRepository.existsById(memberId)
+                            .flatMap(exists -> Mono.<Void>error(new BusinessException(exists
+                                ? ErrorCode.INSUFFICIENT_POINT
+                                : ErrorCode.MEMBER_NOT_FOUND))));
+            })
             .then();
     }
 
     /**
-     * 적립금 적립
+     * 적립금 사용 취소 (복합결제 보상 처리 - 최소 사용 금액 제한 없음)
+     * - 사용이 반영된 키만 되돌리고, 사용 전이면 키를 취소 상태로 남겨 늦게 도착한 사용 요청을 막음
+     * - 잔액은 조건 없는 가산 UPDATE로 되돌려 동시 변경분을 덮어쓰지 않음
+     */
+    @Transactional
+    public Mono<Void> restorePoint(Long memberId, int amount, String idempotencyKey) {
+        return pointUsageRepository.markRestoredIfUsed(idempotencyKey, memberId)
+            .flatMap(restored -> {
+                if (restored == 0) {
+                    log.info("사용되지 않은 적립금 사용 취소 요청: memberId={}, key={}", memberId, idempotencyKey);
+                    return pointUsageRepository.insertIfAbsent(idempotencyKey, memberId, amount, PointUsage.RESTORED)
+                        .then();
+                }
+                return pointUsageRepository.findById(idempotencyKey)
+                    .flatMap(usage -> memberRepository.addPoint(memberId, usage.getAmount()))
+                    .flatMap(updated -> updated == 1
+                        ? Mono.<Void>empty()
+                        : Mono.<Void>error(new BusinessException(ErrorCode.MEMBER_NOT_FOUND)))
+                    .doOnSuccess(ignored -> log.info("적립금 사용 취소: memberId={}, key={}", memberId, idempotencyKey));
+            });
+    }
+
+    /**
+     * 적립금 적립 (가산 UPDATE로 동시 사용/취소와 섞여도 잔액을 덮어쓰지 않음)
      */
     @Transactional
     public Mono<Void> earnPoint(Long memberId, int amount) {
-        return memberRepository.findById(memberId)
-            .switchIfEmpty(Mono.error(new BusinessException(ErrorCode.MEMBER_NOT_FOUND)))
-            .map(member -> member.earnPoint(amount))
-            .flatMap(memberRepository::save)
-            .doOnSuccess(member -> log.info("적립금 적립 완료: memberId={}, amount={}", memberId, amount))
-            .then();
+        if (amount < 0) {
+            return Mono.error(new BusinessException(ErrorCode.INVALID_INPUT_VALUE));
+        }
+        if (amount == 0) {
+            return Mono.empty();
+        }
+        return memberRepository.addPoint(memberId, amount)
+            .flatMap(updated -> updated == 1
+                ? Mono.<Void>empty()
+                : Mono.<Void>error(new BusinessException(ErrorCode.MEMBER_NOT_FOUND)))
+            .doOnSuccess(ignored -> log.info("적립금 적립 완료: memberId={}, amount={}", memberId, amount));
     }
 
     /**
@@ -167,18 +213,6 @@ public class MemberService {
             .subscribeOn(Schedulers.boundedElastic());
     }
 
-    private Mono<Member> validateAndUsePoint(Member member, int amount) {
-        if (amount < 1000) {
-            return Mono.error(new BusinessException(ErrorCode.INSUFFICIENT_POINT_MINIMUM));
-        }
-
-        if (!member.canUsePoint(amount)) {
-            return Mono.error(new BusinessException(ErrorCode.INSUFFICIENT_POINT));
-        }
-
-        return Mono.just(member.usePoint(amount));
-    }
-
     private Mono<Member> upgradeGradeIfNeeded(Member member, int totalPurchaseAmount) {
         MemberGrade newGrade = MemberGrade.calculateGrade(totalPurchaseAmount);
 
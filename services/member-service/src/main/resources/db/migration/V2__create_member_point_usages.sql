@@ -0,0 +1,11 @@
+-- 적립금 사용/사용 취소 멱등 처리 (복합결제 결제 수단별 키)
+-- USED: 사용 반영됨, RESTORED: 사용 취소됨 (또는 사용 전에 취소돼 이후 사용 요청을 막음)
+CREATE TABLE member_point_usages (
+    idempotency_key VARCHAR(100) NOT NULL PRIMARY KEY,
+    member_id BIGINT NOT NULL,
+    amount INT NOT NULL,
+    status VARCHAR(20) NOT NULL,
+    created_at DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
+    INDEX idx_point_usage_member_id (member_id)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
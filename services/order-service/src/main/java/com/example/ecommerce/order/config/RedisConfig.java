@@ -0,0 +1,19 @@
+package com.example.ecommerce.order.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.ReactiveRedisConnectionFactory;
+import org.springframework.data.redis.listener.ReactiveRedisMessageListenerContainer;
+
+@Configuration
+public class RedisConfig {
+
+    /**
+     * Pub/Sub 구독은 하나의 연결을 공유 (채널마다 연결을 만들지 않음)
+     */
+    @Bean
+    public ReactiveRedisMessageListenerContainer redisMessageListenerContainer(
+            ReactiveRedisConnectionFactory connectionFactory) {
+        return new ReactiveRedisMessageListenerContainer(connectionFactory);
+    }
+}
@@ -14,6 +14,9 @@ public class WebClientConfig {
     @Value("${services.product-service.url}")
     private String productServiceUrl;
 
+    @Value("${services.pg.url}")
+    private String pgUrl;
+
     @Bean
     public WebClient memberServiceClient(WebClient.Builder builder) {
         return builder
@@ -27,4 +30,11 @@ public class WebClientConfig {
                 .baseUrl(productServiceUrl)
                 .build();
     }
+
+    @Bean
+    public WebClient pgClient(WebClient.Builder builder) {
+        return builder
+                .baseUrl(pgUrl)
+                .build();
+    }
 }
@@ -113,6 +113,16 @@ public class CartController {
                 .then(Mono.just(ApiResponse.success(null, "선택한 상품이 삭제되었습니다.")));
     }
 
+    @PostMapping("/merge")
+    public Mono<ApiResponse<CartResponse>> mergeGuestCart(
+            @RequestAttribute("memberId") Long memberId,
+            @RequestHeader("X-Device-Token") String deviceToken
+    ) {
+        log.info("비회원 장바구니 병합 요청: memberId={}", memberId);
+        return cartService.mergeGuestCart(memberId, deviceToken)
+                .map(response -> ApiResponse.success(response, "장바구니가 병합되었습니다."));
+    }
+
     @GetMapping("/selected")
     public Mono<ApiResponse<List<CartItemResponse>>> getSelectedItems(
             @RequestAttribute("memberId") Long memberId
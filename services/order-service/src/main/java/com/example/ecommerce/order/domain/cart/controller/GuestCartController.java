@@ -0,0 +1,65 @@
+package com.example.ecommerce.order.domain.cart.controller;
+
+import com.example.ecommerce.common.core.response.ApiResponse;
+import com.example.ecommerce.order.domain.cart.dto.request.CartItemAddRequest;
+import com.example.ecommerce.order.domain.cart.dto.request.CartItemUpdateRequest;
+import com.example.ecommerce.order.domain.cart.dto.response.CartResponse;
+import com.example.ecommerce.order.domain.cart.service.GuestCartService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
+
+@Slf4j
+@RestController
+@RequestMapping("/api/v1/cart/guest")
+@RequiredArgsConstructor
+public class GuestCartController {
+
+    private final GuestCartService guestCartService;
+
+    @GetMapping
+    public Mono<ApiResponse<CartResponse>> getCart(
+            @RequestHeader("X-Device-Token") String deviceToken
+    ) {
+        return guestCartService.getCart(deviceToken)
+                .map(ApiResponse::success);
+    }
+
+    @PostMapping("/items")
+    public Mono<ApiResponse<CartResponse>> addItem(
+            @RequestHeader("X-Device-Token") String deviceToken,
+            @Valid @RequestBody CartItemAddRequest request
+    ) {
+        return guestCartService.addItem(deviceToken, request)
+                .map(response -> ApiResponse.success(response, "상품이 장바구니에 추가되었습니다."));
+    }
+
+    @PutMapping("/items/{productOptionId}")
+    public Mono<ApiResponse<CartResponse>> updateItemQuantity(
+            @RequestHeader("X-Device-Token") String deviceToken,
+            @PathVariable Long productOptionId,
+            @Valid @RequestBody CartItemUpdateRequest request
+    ) {
+        return guestCartService.updateItemQuantity(deviceToken, productOptionId, request)
+                .map(response -> ApiResponse.success(response, "수량이 변경되었습니다."));
+    }
+
+    @DeleteMapping("/items/{productOptionId}")
+    public Mono<ApiResponse<CartResponse>> removeItem(
+            @RequestHeader("X-Device-Token") String deviceToken,
+            @PathVariable Long productOptionId
+    ) {
+        return guestCartService.removeItem(deviceToken, productOptionId)
+                .map(response -> ApiResponse.success(response, "상품이 삭제되었습니다."));
+    }
+
+    @DeleteMapping
+    public Mono<ApiResponse<Void>> clearCart(
+            @RequestHeader("X-Device-Token") String deviceToken
+    ) {
+        return guestCartService.clearCart(deviceToken)
+                .then(Mono.just(ApiResponse.success(null, "장바구니가 비워졌습니다.")));
+    }
+}
@@ -0,0 +1,43 @@
+package com.example.ecommerce.order.domain.cart.dto.response;
+
+import com.example.ecommerce.order.domain.cart.pricing.CartSummary;
+import com.example.ecommerce.order.domain.delivery.entity.DeliveryType;
+import lombok.*;
+
+import java.math.BigDecimal;
+
+@Getter
+@Builder
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+public class CartGroupResponse {
+
+    private DeliveryType deliveryType;
+    private String deliveryTypeName;
+    private Long sellerId;
+    private Integer itemCount;
+    private Integer selectedItemCount;
+    private BigDecimal totalPrice;
+    private BigDecimal selectedListPrice;
+    private BigDecimal selectedPrice;
+    private BigDecimal deliveryFee;
+    private BigDecimal freeDeliveryThreshold;
+    private BigDecimal freeDeliveryRemaining;
+
+    public static CartGroupResponse from(CartSummary.Group group) {
+        DeliveryType deliveryType = group.getKey().getDeliveryType();
+        return CartGroupResponse.builder()
+                .deliveryType(deliveryType)
+                .deliveryTypeName(deliveryType.getDescription())
+                .sellerId(group.getKey().getSellerId())
+                .itemCount(group.getItemCount())
+                .selectedItemCount(group.getSelectedItemCount())
+                .totalPrice(group.getTotalPrice().toBigDecimal())
+                .selectedListPrice(group.getSelectedListPrice().toBigDecimal())
+                .selectedPrice(group.getSelectedPrice().toBigDecimal())
+                .deliveryFee(group.getDeliveryFee().toBigDecimal())
+                .freeDeliveryThreshold(deliveryType.getFreeDeliveryThreshold().toBigDecimal())
+                .freeDeliveryRemaining(group.getFreeDeliveryRemaining().toBigDecimal())
+                .build();
+    }
+}
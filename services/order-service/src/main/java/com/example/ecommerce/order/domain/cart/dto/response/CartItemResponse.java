@@ -1,6 +1,8 @@
 package com.example.ecommerce.order.domain.cart.dto.response;
 
+import com.example.ecommerce.common.money.Money;
 import com.example.ecommerce.order.domain.cart.entity.CartItem;
+import com.example.ecommerce.order.domain.delivery.entity.DeliveryType;
 import lombok.*;
 
 import java.math.BigDecimal;
@@ -23,13 +25,12 @@ public class CartItemResponse {
     private BigDecimal discountAmount;
     private BigDecimal finalPrice;
     private Long sellerId;
+    private DeliveryType deliveryType;
     private Boolean isSelected;
 
     public static CartItemResponse from(CartItem cartItem) {
-        BigDecimal totalPrice = cartItem.getUnitPrice().multiply(BigDecimal.valueOf(cartItem.getQuantity()));
-        BigDecimal discountAmount = totalPrice.multiply(BigDecimal.valueOf(cartItem.getDiscountRate()))
-                .divide(BigDecimal.valueOf(100));
-        BigDecimal finalPrice = totalPrice.subtract(discountAmount);
+        Money listPrice = cartItem.calculateListPrice();
+        Money finalPrice = cartItem.calculatePrice();
 
         return CartItemResponse.builder()
                 .id(cartItem.getId())
@@ -41,9 +42,10 @@ public class CartItemResponse {
                 .quantity(cartItem.getQuantity())
                 .unitPrice(cartItem.getUnitPrice())
                 .discountRate(cartItem.getDiscountRate())
-                .discountAmount(discountAmount)
-                .finalPrice(finalPrice)
+                .discountAmount(listPrice.minus(finalPrice).toBigDecimal())
+                .finalPrice(finalPrice.toBigDecimal())
                 .sellerId(cartItem.getSellerId())
+                .deliveryType(cartItem.getDeliveryType())
                 .isSelected(cartItem.getIsSelected())
                 .build();
     }
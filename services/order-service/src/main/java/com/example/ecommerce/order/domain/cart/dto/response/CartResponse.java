@@ -1,8 +1,13 @@
 package com.example.ecommerce.order.domain.cart.dto.response;
 
+import com.example.ecommerce.common.money.Money;
+import com.example.ecommerce.order.domain.cart.entity.CartItem;
+import com.example.ecommerce.order.domain.cart.pricing.CartLine;
+import com.example.ecommerce.order.domain.cart.pricing.CartSummary;
 import lombok.*;
 
 import java.math.BigDecimal;
+import java.util.ArrayList;
 import java.util.List;
 
 @Getter
@@ -14,6 +19,7 @@ public class CartResponse {
     private Long id;
     private Long memberId;
     private List<CartItemResponse> items;
+    private List<CartGroupResponse> groups;
     private Integer totalItemCount;
     private Integer selectedItemCount;
     private BigDecimal totalPrice;
@@ -21,37 +27,69 @@ public class CartResponse {
     private BigDecimal deliveryFee;
     private BigDecimal finalPrice;
 
-    private static final BigDecimal FREE_DELIVERY_THRESHOLD = BigDecimal.valueOf(30000);
-    private static final BigDecimal DELIVERY_FEE = BigDecimal.valueOf(3000);
-
-    public static CartResponse of(Long cartId, Long memberId, List<CartItemResponse> items) {
-        int totalItemCount = items.size();
-        int selectedItemCount = (int) items.stream().filter(CartItemResponse::getIsSelected).count();
-
-        BigDecimal totalPrice = items.stream()
-                .map(CartItemResponse::getFinalPrice)
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
-
-        BigDecimal selectedPrice = items.stream()
-                .filter(CartItemResponse::getIsSelected)
-                .map(CartItemResponse::getFinalPrice)
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
-
-        BigDecimal deliveryFee = selectedPrice.compareTo(FREE_DELIVERY_THRESHOLD) >= 0
-                ? BigDecimal.ZERO : DELIVERY_FEE;
-
-        BigDecimal finalPrice = selectedPrice.add(deliveryFee);
+    public static CartResponse of(Long cartId, Long memberId, List<CartItem> cartItems) {
+        CartSummary summary = CartSummary.of(cartItems.stream().map(CartLine::from).toList());
+        List<CartItemResponse> items = cartItems.stream()
+                .map(CartItemResponse::from)
+                .toList();
+        return of(cartId, memberId, items, summary);
+    }
 
+    public static CartResponse of(Long cartId, Long memberId, List<CartItemResponse> items, CartSummary summary) {
         return CartResponse.builder()
                 .id(cartId)
                 .memberId(memberId)
                 .items(items)
-                .totalItemCount(totalItemCount)
-                .selectedItemCount(selectedItemCount)
-                .totalPrice(totalPrice)
-                .selectedPrice(selectedPrice)
-                .deliveryFee(deliveryFee)
-                .finalPrice(finalPrice)
+                .groups(summary.getGroupList().stream().map(CartGroupResponse::from).toList())
+                .totalItemCount(summary.getTotalItemCount())
+                .selectedItemCount(summary.getSelectedItemCount())
+                .totalPrice(summary.getTotalPrice().toBigDecimal())
+                .selectedPrice(summary.getSelectedPrice().toBigDecimal())
+                .deliveryFee(summary.getDeliveryFee().toBigDecimal())
+                .finalPrice(summary.getFinalPrice().toBigDecimal())
                 .build();
     }
+
+    /**
+     * 상품 한 줄 변경분만 반영한 새 응답 (before: 변경 전 상품, after: 변경 후 상품, 삭제 시 null)
+     * - 캐시가 변경 전 상태와 다르면(다른 요청이 먼저 반영했거나 누락된 경우) null을 반환해 전체 재계산하도록 함
+     */
+    public CartResponse withChange(CartLine before, CartItem after) {
+        Long changedId = before != null ? before.getItemId() : after.getId();
+        int index = -1;
+        for (int i = 0; i < items.size(); i++) {
+            if (items.get(i).getId().equals(changedId)) {
+                index = i;
+                break;
+            }
+        }
+        boolean consistent = before == null
+                ? index < 0
+                : index >= 0 && matches(items.get(index), before);
+        if (!consistent) {
+            return null;
+        }
+
+        CartSummary restored = CartSummary.restore(groups);
+        if (before != null && !restored.getGroups().containsKey(before.getGroupKey())) {
+            return null;
+        }
+        CartSummary summary = restored.replace(before, after != null ? CartLine.from(after) : null);
+
+        List<CartItemResponse> changedItems = new ArrayList<>(items);
+        if (after == null) {
+            changedItems.remove(index);
+        } else if (index >= 0) {
+            changedItems.set(index, CartItemResponse.from(after));
+        } else {
+            changedItems.add(CartItemResponse.from(after));
+        }
+        return of(id, memberId, changedItems, summary);
+    }
+
+    // 캐시된 상품이 변경 전 상품과 같은 금액/선택 상태인지
+    private static boolean matches(CartItemResponse cached, CartLine before) {
+        return Money.of(cached.getFinalPrice()).toWon() == before.getFinalPrice()
+                && Boolean.TRUE.equals(cached.getIsSelected()) == before.isSelected();
+    }
 }
@@ -1,6 +1,8 @@
 package com.example.ecommerce.order.domain.cart.entity;
 
 import com.example.ecommerce.common.core.entity.BaseEntity;
+import com.example.ecommerce.common.money.Money;
+import com.example.ecommerce.order.domain.delivery.entity.DeliveryType;
 import lombok.*;
 import org.springframework.data.annotation.Id;
 import org.springframework.data.relational.core.mapping.Column;
@@ -45,6 +47,9 @@ public class CartItem extends BaseEntity {
     @Column("seller_id")
     private Long sellerId;
 
+    @Column("delivery_type")
+    private DeliveryType deliveryType;
+
     @Column("is_selected")
     private Boolean isSelected;
 
@@ -66,16 +71,19 @@ public class CartItem extends BaseEntity {
         return this;
     }
 
-    public BigDecimal calculatePrice() {
-        BigDecimal totalPrice = unitPrice.multiply(BigDecimal.valueOf(quantity));
-        BigDecimal discount = totalPrice.multiply(BigDecimal.valueOf(discountRate))
-                .divide(BigDecimal.valueOf(100));
-        return totalPrice.subtract(discount);
+    public Money calculateListPrice() {
+        return Money.of(unitPrice).times(quantity);
+    }
+
+    // 할인 후 금액 (원 미만 절사)
+    public Money calculatePrice() {
+        return calculateListPrice().discount(discountRate);
     }
 
     public static CartItem create(Long cartId, Long productId, Long productOptionId,
                                   String productName, String optionName, Integer quantity,
-                                  BigDecimal unitPrice, Integer discountRate, Long sellerId) {
+                                  BigDecimal unitPrice, Integer discountRate, Long sellerId,
+                                  DeliveryType deliveryType) {
         return CartItem.builder()
                 .cartId(cartId)
                 .productId(productId)
@@ -86,6 +94,7 @@ public class CartItem extends BaseEntity {
                 .unitPrice(unitPrice)
                 .discountRate(discountRate)
                 .sellerId(sellerId)
+                .deliveryType(deliveryType)
                 .isSelected(true)
                 .build();
     }
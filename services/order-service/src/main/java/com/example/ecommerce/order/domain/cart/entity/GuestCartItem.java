@@ -0,0 +1,68 @@
+package com.example.ecommerce.order.domain.cart.entity;
+
+import com.example.ecommerce.order.domain.delivery.entity.DeliveryType;
+import lombok.*;
+
+import java.math.BigDecimal;
+
+/**
+ * 비회원 장바구니 상품 (Redis 저장, DB 미사용)
+ */
+@Getter
+@Builder
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+public class GuestCartItem {
+
+    private Long productId;
+    private Long productOptionId;
+    private String productName;
+    private String optionName;
+    private Integer quantity;
+    private BigDecimal unitPrice;
+    private Integer discountRate;
+    private Long sellerId;
+    private DeliveryType deliveryType;
+    private Boolean isSelected;
+
+    public GuestCartItem updateQuantity(Integer quantity) {
+        if (quantity < 1) {
+            throw new IllegalArgumentException("수량은 1 이상이어야 합니다.");
+        }
+        this.quantity = quantity;
+        return this;
+    }
+
+    public CartItem toCartItem(Long cartId) {
+        return CartItem.builder()
+                .cartId(cartId)
+                .productId(productId)
+                .productOptionId(productOptionId)
+                .productName(productName)
+                .optionName(optionName)
+                .quantity(quantity)
+                .unitPrice(unitPrice)
+                .discountRate(discountRate)
+                .sellerId(sellerId)
+                .deliveryType(deliveryType)
+                .isSelected(isSelected)
+                .build();
+    }
+
+    public static GuestCartItem create(Long productId, Long productOptionId, String productName,
+                                       String optionName, Integer quantity, BigDecimal unitPrice,
+                                       Integer discountRate, Long sellerId, DeliveryType deliveryType) {
+        return GuestCartItem.builder()
+                .productId(productId)
+                .productOptionId(productOptionId)
+                .productName(productName)
+                .optionName(optionName)
+                .quantity(quantity)
+                .unitPrice(unitPrice)
+                .discountRate(discountRate)
+                .sellerId(sellerId)
+                .deliveryType(deliveryType)
+                .isSelected(true)
+                .build();
+    }
+}
@@ -0,0 +1,23 @@
+package com.example.ecommerce.order.domain.cart.pricing;
+
+import com.example.ecommerce.order.domain.delivery.entity.DeliveryType;
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 배송비 부과 단위 (배송 유형 + 판매자)
+ */
+@Getter
+@EqualsAndHashCode
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class CartGroupKey {
+
+    private final DeliveryType deliveryType;
+    private final Long sellerId;
+
+    public static CartGroupKey of(DeliveryType deliveryType, Long sellerId) {
+        return new CartGroupKey(deliveryType, deliveryType.isGroupedBySeller() ? sellerId : null);
+    }
+}
@@ -0,0 +1,44 @@
+package com.example.ecommerce.order.domain.cart.pricing;
+
+import com.example.ecommerce.common.money.Money;
+import com.example.ecommerce.order.domain.cart.entity.CartItem;
+import com.example.ecommerce.order.domain.delivery.entity.DeliveryType;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 합계 계산 단위 (장바구니 상품 또는 주문 상품 한 줄)
+ * 금액은 원 단위 long으로 보관해 합계 갱신 시 객체를 만들지 않음
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class CartLine {
+
+    private final Long itemId;
+    private final Long sellerId;
+    private final DeliveryType deliveryType;
+    private final long listPrice;
+    private final long finalPrice;
+    private final boolean selected;
+
+    public CartGroupKey getGroupKey() {
+        return CartGroupKey.of(deliveryType, sellerId);
+    }
+
+    public static CartLine from(CartItem item) {
+        return new CartLine(
+                item.getId(),
+                item.getSellerId(),
+                item.getDeliveryType() != null ? item.getDeliveryType() : DeliveryType.SELLER,
+                item.calculateListPrice().toWon(),
+                item.calculatePrice().toWon(),
+                Boolean.TRUE.equals(item.getIsSelected())
+        );
+    }
+
+    public static CartLine of(Long itemId, Long sellerId, DeliveryType deliveryType,
+                              Money listPrice, Money finalPrice) {
+        return new CartLine(itemId, sellerId, deliveryType, listPrice.toWon(), finalPrice.toWon(), true);
+    }
+}
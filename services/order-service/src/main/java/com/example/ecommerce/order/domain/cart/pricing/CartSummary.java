@@ -0,0 +1,200 @@
+package com.example.ecommerce.order.domain.cart.pricing;
+
+import com.example.ecommerce.common.money.Money;
+import com.example.ecommerce.order.domain.cart.dto.response.CartGroupResponse;
+import com.example.ecommerce.order.domain.delivery.entity.DeliveryType;
+import lombok.AccessLevel;
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 장바구니/주문 합계 계산기
+ * 배송 그룹(배송 유형 + 판매자)별 소계와 배송비를 상품 단위 변경분만 반영해 갱신한다.
+ * 소계는 원 단위 long으로 누적하고 조회 시에만 Money로 감싼다.
+ */
+@Getter
+public class CartSummary {
+
+    private final Map<CartGroupKey, Group> groups = new LinkedHashMap<>();
+    private int totalItemCount;
+    private int selectedItemCount;
+    @Getter(AccessLevel.NONE)
+    private long totalPrice;
+    @Getter(AccessLevel.NONE)
+    private long selectedListPrice;
+    @Getter(AccessLevel.NONE)
+    private long selectedPrice;
+    @Getter(AccessLevel.NONE)
+    private long deliveryFee;
+
+    public static CartSummary of(Collection<CartLine> lines) {
+        CartSummary summary = new CartSummary();
+        lines.forEach(summary::add);
+        return summary;
+    }
+
+    /**
+     * 캐시된 그룹 소계로부터 계산 상태 복원
+     */
+    public static CartSummary restore(List<CartGroupResponse> groupResponses) {
+        CartSummary summary = new CartSummary();
+        for (CartGroupResponse response : groupResponses) {
+            Group group = new Group(CartGroupKey.of(response.getDeliveryType(), response.getSellerId()));
+            group.itemCount = response.getItemCount();
+            group.selectedItemCount = response.getSelectedItemCount();
+            group.totalPrice = Money.of(response.getTotalPrice()).toWon();
+            group.selectedListPrice = Money.of(response.getSelectedListPrice()).toWon();
+            group.selectedPrice = Money.of(response.getSelectedPrice()).toWon();
+            group.deliveryFee = Money.of(response.getDeliveryFee()).toWon();
+            summary.groups.put(group.key, group);
+            summary.totalItemCount += group.itemCount;
+            summary.selectedItemCount += group.selectedItemCount;
+            summary.totalPrice = Money.add(summary.totalPrice, group.totalPrice);
+            summary.selectedListPrice = Money.add(summary.selectedListPrice, group.selectedListPrice);
+            summary.selectedPrice = Money.add(summary.selectedPrice, group.selectedPrice);
+            summary.deliveryFee = Money.add(summary.deliveryFee, group.deliveryFee);
+        }
+        return summary;
+    }
+
+    public CartSummary add(CartLine line) {
+        Group group = groups.computeIfAbsent(line.getGroupKey(), Group::new);
+        apply(group, line, 1);
+        return this;
+    }
+
+    public CartSummary remove(CartLine line) {
+        Group group = groups.get(line.getGroupKey());
+        if (group == null) {
+            return this;
+        }
+        apply(group, line, -1);
+        if (group.itemCount <= 0) {
+            groups.remove(group.key);
+        }
+        return this;
+    }
+
+    /**
+     * 상품 한 줄 변경 (before/after 중 하나는 null 가능)
+     */
+    public CartSummary replace(CartLine before, CartLine after) {
+        if (before != null) {
+            remove(before);
+        }
+        if (after != null) {
+            add(after);
+        }
+        return this;
+    }
+
+    public Money getTotalPrice() {
+        return Money.won(totalPrice);
+    }
+
+    public Money getSelectedListPrice() {
+        return Money.won(selectedListPrice);
+    }
+
+    public Money getSelectedPrice() {
+        return Money.won(selectedPrice);
+    }
+
+    public Money getDeliveryFee() {
+        return Money.won(deliveryFee);
+    }
+
+    public Money getDiscountAmount() {
+        return Money.won(selectedListPrice - selectedPrice);
+    }
+
+    public Money getFinalPrice() {
+        return Money.won(Money.add(selectedPrice, deliveryFee));
+    }
+
+    public List<Group> getGroupList() {
+        return new ArrayList<>(groups.values());
+    }
+
+    private void apply(Group group, CartLine line, int sign) {
+        long previousFee = group.deliveryFee;
+        long finalPrice = sign * line.getFinalPrice();
+
+        group.itemCount += sign;
+        totalItemCount += sign;
+        group.totalPrice = Money.add(group.totalPrice, finalPrice);
+        totalPrice = Money.add(totalPrice, finalPrice);
+
+        if (line.isSelected()) {
+            long listPrice = sign * line.getListPrice();
+            group.selectedItemCount += sign;
+            selectedItemCount += sign;
+            group.selectedListPrice = Money.add(group.selectedListPrice, listPrice);
+            selectedListPrice = Money.add(selectedListPrice, listPrice);
+            group.selectedPrice = Money.add(group.selectedPrice, finalPrice);
+            selectedPrice = Money.add(selectedPrice, finalPrice);
+        }
+
+        group.recalculateDeliveryFee();
+        deliveryFee = Money.add(deliveryFee, group.deliveryFee - previousFee);
+    }
+
+    /**
+     * 배송 그룹 소계
+     */
+    @Getter
+    public static class Group {
+
+        private final CartGroupKey key;
+        private int itemCount;
+        private int selectedItemCount;
+        @Getter(AccessLevel.NONE)
+        private long totalPrice;
+        @Getter(AccessLevel.NONE)
+        private long selectedListPrice;
+        @Getter(AccessLevel.NONE)
+        private long selectedPrice;
+        @Getter(AccessLevel.NONE)
+        private long deliveryFee;
+
+        private Group(CartGroupKey key) {
+            this.key = key;
+        }
+
+        public Money getTotalPrice() {
+            return Money.won(totalPrice);
+        }
+
+        public Money getSelectedListPrice() {
+            return Money.won(selectedListPrice);
+        }
+
+        public Money getSelectedPrice() {
+            return Money.won(selectedPrice);
+        }
+
+        public Money getDeliveryFee() {
+            return Money.won(deliveryFee);
+        }
+
+        // 무료배송까지 남은 금액
+        public Money getFreeDeliveryRemaining() {
+            return key.getDeliveryType().getFreeDeliveryThreshold().minus(getSelectedPrice()).positiveOrZero();
+        }
+
+        private void recalculateDeliveryFee() {
+            DeliveryType deliveryType = key.getDeliveryType();
+            if (selectedItemCount == 0
+                    || selectedPrice >= deliveryType.getFreeDeliveryThreshold().toWon()) {
+                this.deliveryFee = 0L;
+            } else {
+                this.deliveryFee = deliveryType.getDeliveryFee().toWon();
+            }
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package com.example.ecommerce.order.domain.cart.repository;
+
+import com.example.ecommerce.order.domain.cart.dto.response.CartResponse;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.ReactiveRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.function.UnaryOperator;
+
+/**
+ * 회원 장바구니 합계 캐시 (Redis)
+ */
+@Slf4j
+@Repository
+@RequiredArgsConstructor
+public class CartCacheRepository {
+
+    private static final String CART_KEY_PREFIX = "cart:";
+    private static final Duration CART_CACHE_TTL = Duration.ofMinutes(30);
+
+    // 읽어 온 값이 그대로일 때만 덮어씀 (동시 변경 시 나중 요청이 먼저 요청의 변경분을 덮어쓰지 않도록)
+    private static final RedisScript<Long> COMPARE_AND_SET_SCRIPT = RedisScript.of(
+            "if redis.call('GET', KEYS[1]) == ARGV[1] then " +
+            "redis.call('SET', KEYS[1], ARGV[2], 'PX', ARGV[3]) " +
+            "return 1 end " +
+            "return 0",
+            Long.class
+    );
+
+    private final ReactiveRedisTemplate<String, String> reactiveRedisTemplate;
+    private final ObjectMapper objectMapper;
+
+    public Mono<CartResponse> find(Long memberId) {
+        return reactiveRedisTemplate.opsForValue()
+                .get(key(memberId))
+                .flatMap(json -> Mono.fromCallable(() -> objectMapper.readValue(json, CartResponse.class)))
+                .onErrorResume(error -> {
+                    log.warn("장바구니 캐시 조회 실패: memberId={}", memberId, error);
+                    return Mono.empty();
+                });
+    }
+
+    public Mono<CartResponse> save(Long memberId, CartResponse cart) {
+        String json;
+        try {
+            json = objectMapper.writeValueAsString(cart);
+        } catch (JsonProcessingException e) {
+            log.warn("장바구니 캐시 직렬화 실패: memberId={}", memberId, e);
+            return Mono.just(cart);
+        }
+        return reactiveRedisTemplate.opsForValue()
+                .set(key(memberId), json, CART_CACHE_TTL)
+                .onErrorResume(error -> Mono.just(false))
+                .thenReturn(cart);
+    }
+
+    /**
+     * 캐시된 장바구니에 변경 적용 (change가 null을 반환하거나 그 사이 다른 요청이 캐시를 바꿨으면 캐시를 비우고 empty)
+     */
+    public Mono<CartResponse> update(Long memberId, UnaryOperator<CartResponse> change) {
+        String key = key(memberId);
+        return reactiveRedisTemplate.opsForValue()
+                .get(key)
+                .flatMap(json -> Mono.fromCallable(() -> objectMapper.readValue(json, CartResponse.class))
+                        .mapNotNull(change)
+                        .flatMap(updated -> Mono.fromCallable(() -> objectMapper.writeValueAsString(updated))
+                                .flatMap(updatedJson -> reactiveRedisTemplate.execute(COMPARE_AND_SET_SCRIPT,
+                                                List.of(key),
+                                                List.of(json, updatedJson, String.valueOf(CART_CACHE_TTL.toMillis())))
+                                        .next())
+                                .filter(applied -> applied == 1L)
+                                .map(applied -> updated))
+                        .switchIfEmpty(Mono.defer(() -> evict(memberId).then(Mono.empty()))))
+                .onErrorResume(error -> {
+                    log.warn("장바구니 캐시 갱신 실패: memberId={}", memberId, error);
+                    return evict(memberId).onErrorResume(e -> Mono.empty()).then(Mono.empty());
+                });
+    }
+
+    public Mono<Void> evict(Long memberId) {
+        return reactiveRedisTemplate.delete(key(memberId)).then();
+    }
+
+    /**
+     * 여러 회원의 장바구니 캐시를 한 번에 삭제
+     */
+    public Mono<Long> evictAll(Flux<Long> memberIds) {
+        return reactiveRedisTemplate.delete(memberIds.map(this::key));
+    }
+
+    private String key(Long memberId) {
+        return CART_KEY_PREFIX + memberId;
+    }
+}
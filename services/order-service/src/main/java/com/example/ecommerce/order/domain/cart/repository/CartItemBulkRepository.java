@@ -0,0 +1,63 @@
+package com.example.ecommerce.order.domain.cart.repository;
+
+import com.example.ecommerce.order.domain.cart.entity.CartItem;
+import com.example.ecommerce.order.domain.delivery.entity.DeliveryType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.StringJoiner;
+
+/**
+ * 장바구니 상품 다건 저장 (multi-row INSERT)
+ */
+@Repository
+@RequiredArgsConstructor
+public class CartItemBulkRepository {
+
+    private final DatabaseClient databaseClient;
+
+    /**
+     * 한 번의 INSERT로 저장하고, 이미 담긴 옵션은 수량을 합산
+     */
+    public Mono<Long> upsertAll(List<CartItem> items) {
+        if (items.isEmpty()) {
+            return Mono.just(0L);
+        }
+
+        StringJoiner values = new StringJoiner(", ");
+        for (int i = 0; i < items.size(); i++) {
+            values.add("(:cartId" + i + ", :productId" + i + ", :productOptionId" + i + ", :productName" + i +
+                    ", :optionName" + i + ", :quantity" + i + ", :unitPrice" + i + ", :discountRate" + i +
+                    ", :sellerId" + i + ", :deliveryType" + i + ", :isSelected" + i + ")");
+        }
+        String sql = "INSERT INTO cart_items (cart_id, product_id, product_option_id, product_name, option_name, " +
+                "quantity, unit_price, discount_rate, seller_id, delivery_type, is_selected) VALUES " + values +
+                " ON DUPLICATE KEY UPDATE quantity = quantity + VALUES(quantity)";
+
+        DatabaseClient.GenericExecuteSpec spec = databaseClient.sql(sql);
+        for (int i = 0; i < items.size(); i++) {
+            CartItem item = items.get(i);
+            spec = spec.bind("cartId" + i, item.getCartId())
+                    .bind("productId" + i, item.getProductId())
+                    .bind("productOptionId" + i, item.getProductOptionId())
+                    .bind("productName" + i, item.getProductName())
+                    .bind("quantity" + i, item.getQuantity())
+                    .bind("unitPrice" + i, item.getUnitPrice() != null ? item.getUnitPrice() : BigDecimal.ZERO)
+                    .bind("discountRate" + i, item.getDiscountRate() != null ? item.getDiscountRate() : 0)
+                    .bind("deliveryType" + i, item.getDeliveryType() != null
+                            ? item.getDeliveryType().name() : DeliveryType.SELLER.name())
+                    .bind("isSelected" + i, item.getIsSelected() == null || item.getIsSelected());
+            spec = item.getOptionName() != null
+                    ? spec.bind("optionName" + i, item.getOptionName())
+                    : spec.bindNull("optionName" + i, String.class);
+            spec = item.getSellerId() != null
+                    ? spec.bind("sellerId" + i, item.getSellerId())
+                    : spec.bindNull("sellerId" + i, Long.class);
+        }
+        return spec.fetch().rowsUpdated();
+    }
+}
@@ -7,6 +7,8 @@ import org.springframework.data.repository.reactive.ReactiveCrudRepository;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.math.BigDecimal;
+
 public interface CartItemRepository extends ReactiveCrudRepository<CartItem, Long> {
 
     Flux<CartItem> findByCartId(Long cartId);
@@ -23,6 +25,16 @@ public interface CartItemRepository extends ReactiveCrudRepository<CartItem, Lon
     @Query("DELETE FROM cart_items WHERE cart_id = :cartId AND is_selected = true")
     Mono<Void> deleteSelectedByCartId(Long cartId);
 
+    @Modifying
+    @Query("UPDATE cart_items SET unit_price = :unitPrice, discount_rate = :discountRate " +
+            "WHERE product_option_id IN (:productOptionIds)")
+    Mono<Integer> updatePriceByProductOptionIdIn(Iterable<Long> productOptionIds, BigDecimal unitPrice,
+                                                 Integer discountRate);
+
+    @Modifying
+    @Query("UPDATE cart_items SET is_selected = false WHERE product_option_id IN (:productOptionIds)")
+    Mono<Integer> deselectByProductOptionIdIn(Iterable<Long> productOptionIds);
+
     @Query("SELECT COUNT(*) FROM cart_items WHERE cart_id = :cartId")
     Mono<Long> countByCartId(Long cartId);
 }
@@ -1,10 +1,16 @@
 package com.example.ecommerce.order.domain.cart.repository;
 
 import com.example.ecommerce.order.domain.cart.entity.Cart;
+import org.springframework.data.r2dbc.repository.Query;
 import org.springframework.data.repository.reactive.ReactiveCrudRepository;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 public interface CartRepository extends ReactiveCrudRepository<Cart, Long> {
 
     Mono<Cart> findByMemberId(Long memberId);
+
+    @Query("SELECT DISTINCT c.member_id FROM carts c JOIN cart_items ci ON ci.cart_id = c.id " +
+            "WHERE ci.product_option_id IN (:productOptionIds)")
+    Flux<Long> findMemberIdsByProductOptionIdIn(Iterable<Long> productOptionIds);
 }
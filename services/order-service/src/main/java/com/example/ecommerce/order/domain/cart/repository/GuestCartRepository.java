@@ -0,0 +1,127 @@
+package com.example.ecommerce.order.domain.cart.repository;
+
+import com.example.ecommerce.order.domain.cart.entity.GuestCartItem;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.ReactiveRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 비회원 장바구니 저장소 (Redis Hash: 옵션 ID -> 상품 JSON)
+ */
+@Slf4j
+@Repository
+@RequiredArgsConstructor
+public class GuestCartRepository {
+
+    private static final String GUEST_CART_KEY_PREFIX = "guest_cart:";
+    private static final Duration GUEST_CART_TTL = Duration.ofDays(7);
+
+    // 조회와 삭제를 한 번의 왕복으로 처리 (병합 중 추가된 상품 유실 방지)
+    private static final RedisScript<List> TAKE_ALL_SCRIPT = RedisScript.of(
+            "local items = redis.call('HVALS', KEYS[1]) " +
+            "redis.call('DEL', KEYS[1]) " +
+            "return items",
+            List.class
+    );
+
+    // 상품 저장과 TTL 갱신을 한 번에 실행 (중간 실패로 만료 없는 key가 남지 않도록)
+    // ARGV: TTL(ms), (옵션 ID, 상품 JSON) 쌍들
+    private static final RedisScript<Long> PUT_ALL_SCRIPT = RedisScript.of(
+            "for i = 2, #ARGV, 2 do redis.call('HSET', KEYS[1], ARGV[i], ARGV[i + 1]) end " +
+            "redis.call('PEXPIRE', KEYS[1], ARGV[1]) " +
+            "return 1",
+            Long.class
+    );
+
+    private final ReactiveRedisTemplate<String, String> reactiveRedisTemplate;
+    private final ObjectMapper objectMapper;
+
+    public Flux<GuestCartItem> findAll(String deviceToken) {
+        return reactiveRedisTemplate.<String, String>opsForHash()
+                .values(key(deviceToken))
+                .map(this::deserialize);
+    }
+
+    public Mono<GuestCartItem> find(String deviceToken, Long productOptionId) {
+        return reactiveRedisTemplate.<String, String>opsForHash()
+                .get(key(deviceToken), String.valueOf(productOptionId))
+                .map(this::deserialize);
+    }
+
+    public Mono<Long> count(String deviceToken) {
+        return reactiveRedisTemplate.opsForHash().size(key(deviceToken));
+    }
+
+    public Mono<GuestCartItem> save(String deviceToken, GuestCartItem item) {
+        return saveAll(deviceToken, List.of(item)).thenReturn(item);
+    }
+
+    public Mono<Void> saveAll(String deviceToken, List<GuestCartItem> items) {
+        if (items.isEmpty()) {
+            return Mono.empty();
+        }
+        List<String> args = new ArrayList<>();
+        args.add(String.valueOf(GUEST_CART_TTL.toMillis()));
+        for (GuestCartItem item : items) {
+            args.add(String.valueOf(item.getProductOptionId()));
+            args.add(serialize(item));
+        }
+        return reactiveRedisTemplate.execute(PUT_ALL_SCRIPT, List.of(key(deviceToken)), args)
+                .then();
+    }
+
+    public Mono<Boolean> remove(String deviceToken, Long productOptionId) {
+        return reactiveRedisTemplate.opsForHash()
+                .remove(key(deviceToken), String.valueOf(productOptionId))
+                .map(removed -> removed > 0);
+    }
+
+    public Mono<Void> delete(String deviceToken) {
+        return reactiveRedisTemplate.delete(key(deviceToken)).then();
+    }
+
+    /**
+     * 비회원 장바구니 전체를 꺼내고 삭제 (로그인 병합용)
+     */
+    @SuppressWarnings("unchecked")
+    public Mono<List<GuestCartItem>> takeAll(String deviceToken) {
+        return reactiveRedisTemplate.execute(TAKE_ALL_SCRIPT, List.of(key(deviceToken)))
+                .next()
+                .map(values -> ((List<Object>) values).stream()
+                        .map(String::valueOf)
+                        .map(this::deserialize)
+                        .toList())
+                .defaultIfEmpty(List.of());
+    }
+
+    private String key(String deviceToken) {
+        return GUEST_CART_KEY_PREFIX + deviceToken;
+    }
+
+    private String serialize(GuestCartItem item) {
+        try {
+            return objectMapper.writeValueAsString(item);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private GuestCartItem deserialize(String json) {
+        try {
+            return objectMapper.readValue(json, GuestCartItem.class);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package com.example.ecommerce.order.domain.cart.service;
+
+import com.example.ecommerce.common.webflux.transaction.AfterCommit;
+import com.example.ecommerce.order.domain.cart.repository.CartCacheRepository;
+import com.example.ecommerce.order.domain.cart.repository.CartItemRepository;
+import com.example.ecommerce.order.domain.cart.repository.CartRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * 상품 가격/상태 변경을 장바구니에 반영
+ * - 갱신은 한 트랜잭션으로 처리하고 캐시는 커밋 후 삭제
+ * - 커밋 직전에 옛 값을 읽어 다시 채운 캐시가 남지 않도록 잠시 뒤 한 번 더 삭제
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CartPriceSyncService {
+
+    private static final int OPTION_BATCH_SIZE = 500;
+
+    private final CartRepository cartRepository;
+    private final CartItemRepository cartItemRepository;
+    private final CartCacheRepository cartCacheRepository;
+    private final TransactionalOperator transactionalOperator;
+
+    @Value("${order.cart-sync.second-evict-delay-ms:500}")
+    private long secondEvictDelayMs;
+
+    /**
+     * 옵션 단위로 장바구니 단가/할인율 일괄 갱신
+     */
+    public Mono<Integer> syncPrice(List<Long> productOptionIds, BigDecimal unitPrice, Integer discountRate) {
+        int rate = discountRate != null ? discountRate : 0;
+        return updateAndEvict(productOptionIds,
+                optionIds -> cartItemRepository.updatePriceByProductOptionIdIn(optionIds, unitPrice, rate));
+    }
+
+    /**
+     * 판매 불가 상품은 장바구니에서 선택 해제
+     */
+    public Mono<Integer> deselectUnavailable(List<Long> productOptionIds) {
+        return updateAndEvict(productOptionIds, cartItemRepository::deselectByProductOptionIdIn);
+    }
+
+    private Mono<Integer> updateAndEvict(List<Long> productOptionIds, Function<List<Long>, Mono<Integer>> update) {
+        return Mono.defer(() -> {
+            Set<Long> memberIds = ConcurrentHashMap.newKeySet();
+            return Flux.fromIterable(productOptionIds)
+                    .buffer(OPTION_BATCH_SIZE)
+                    .concatMap(optionIds -> update.apply(optionIds)
+                            .flatMap(updated -> cartRepository.findMemberIdsByProductOptionIdIn(optionIds)
+                                    .doOnNext(memberIds::add)
+                                    .then(Mono.just(updated))))
+                    .reduce(0, Integer::sum)
+                    .flatMap(updated -> AfterCommit.run("장바구니 캐시 삭제", () -> evictCarts(memberIds))
+                            .thenReturn(updated))
+                    .as(transactionalOperator::transactional);
+        });
+    }
+
+    private Mono<Void> evictCarts(Set<Long> memberIds) {
+        if (memberIds.isEmpty()) {
+            return Mono.empty();
+        }
+        // 지연 재삭제는 리스너를 막지 않도록 따로 실행
+        return cartCacheRepository.evictAll(Flux.fromIterable(memberIds))
+                .doOnSuccess(evicted -> Mono.delay(Duration.ofMillis(secondEvictDelayMs))
+                        .then(cartCacheRepository.evictAll(Flux.fromIterable(memberIds)))
+                        .subscribe(
+                                null,
+                                error -> log.warn("장바구니 캐시 지연 재삭제 실패: members={}", memberIds.size(), error)))
+                .then();
+    }
+}
@@ -2,14 +2,20 @@ package com.example.ecommerce.order.domain.cart.service;
 
 import com.example.ecommerce.common.core.exception.BusinessException;
 import com.example.ecommerce.common.core.exception.ErrorCode;
+import com.example.ecommerce.common.webflux.transaction.AfterCommit;
 import com.example.ecommerce.order.domain.cart.dto.request.CartItemAddRequest;
 import com.example.ecommerce.order.domain.cart.dto.request.CartItemUpdateRequest;
 import com.example.ecommerce.order.domain.cart.dto.response.CartItemResponse;
 import com.example.ecommerce.order.domain.cart.dto.response.CartResponse;
 import com.example.ecommerce.order.domain.cart.entity.Cart;
 import com.example.ecommerce.order.domain.cart.entity.CartItem;
+import com.example.ecommerce.order.domain.cart.entity.GuestCartItem;
+import com.example.ecommerce.order.domain.cart.pricing.CartLine;
+import com.example.ecommerce.order.domain.cart.repository.CartCacheRepository;
+import com.example.ecommerce.order.domain.cart.repository.CartItemBulkRepository;
 import com.example.ecommerce.order.domain.cart.repository.CartItemRepository;
 import com.example.ecommerce.order.domain.cart.repository.CartRepository;
+import com.example.ecommerce.order.domain.cart.repository.GuestCartRepository;
 import com.example.ecommerce.order.external.ProductServiceClient;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -17,8 +23,11 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import reactor.core.publisher.Mono;
 
-import java.math.BigDecimal;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
+import java.util.function.UnaryOperator;
+import java.util.stream.Collectors;
 
 @Slf4j
 @Service
@@ -27,54 +36,52 @@ public class CartService {
 
     private final CartRepository cartRepository;
     private final CartItemRepository cartItemRepository;
+    private final CartItemBulkRepository cartItemBulkRepository;
+    private final CartCacheRepository cartCacheRepository;
+    private final GuestCartRepository guestCartRepository;
     private final ProductServiceClient productServiceClient;
 
-    private static final int MAX_CART_ITEMS = 100;
+    static final int MAX_CART_ITEMS = 100;
 
     public Mono<CartResponse> getCart(Long memberId) {
-        return getOrCreateCart(memberId)
-                .flatMap(cart -> cartItemRepository.findByCartId(cart.getId())
-                        .map(CartItemResponse::from)
-                        .collectList()
-                        .map(items -> CartResponse.of(cart.getId(), memberId, items)));
+        return cartCacheRepository.find(memberId)
+                .switchIfEmpty(Mono.defer(() -> loadCart(memberId)
+                        .flatMap(cart -> cartCacheRepository.save(memberId, cart))));
     }
 
     @Transactional
     public Mono<CartResponse> addItem(Long memberId, CartItemAddRequest request) {
         return getOrCreateCart(memberId)
                 .flatMap(cart -> cartItemRepository.countByCartId(cart.getId())
-                        .flatMap(count -> {
-                            if (count >= MAX_CART_ITEMS) {
-                                return Mono.error(new BusinessException(ErrorCode.CART_ITEM_LIMIT_EXCEEDED));
-                            }
-                            return cartItemRepository.findByCartIdAndProductOptionId(
-                                    cart.getId(), request.getProductOptionId()
-                            );
-                        })
-                        .flatMap(existingItem -> {
-                            CartItem updated = existingItem.updateQuantity(
-                                    existingItem.getQuantity() + request.getQuantity()
-                            );
-                            return cartItemRepository.save(updated);
-                        })
-                        .switchIfEmpty(
-                                productServiceClient.getProduct(request.getProductId())
-                                        .flatMap(productData -> {
-                                            CartItem newItem = CartItem.create(
+                        .flatMap(count -> cartItemRepository.findByCartIdAndProductOptionId(
+                                        cart.getId(), request.getProductOptionId())
+                                .flatMap(existingItem -> {
+                                    CartLine before = CartLine.from(existingItem);
+                                    CartItem updated = existingItem.updateQuantity(
+                                            existingItem.getQuantity() + request.getQuantity()
+                                    );
+                                    return cartItemRepository.save(updated)
+                                            .flatMap(saved -> applyChange(memberId, before, saved));
+                                })
+                                .switchIfEmpty(Mono.defer(() -> {
+                                    if (count >= MAX_CART_ITEMS) {
+                                        return Mono.error(new BusinessException(ErrorCode.CART_ITEM_LIMIT_EXCEEDED));
+                                    }
+                                    return productServiceClient.getProductInfo(request.getProductId())
+                                            .flatMap(product -> cartItemRepository.save(CartItem.create(
                                                     cart.getId(),
                                                     request.getProductId(),
                                                     request.getProductOptionId(),
-                                                    (String) productData.getOrDefault("name", "상품명"),
+                                                    product.getName(),
                                                     "옵션명",
                                                     request.getQuantity(),
-                                                    new BigDecimal(productData.getOrDefault("basePrice", "0").toString()),
-                                                    (Integer) productData.getOrDefault("discountRate", 0),
-                                                    (Long) productData.get("sellerId")
-                                            );
-                                            return cartItemRepository.save(newItem);
-                                        })
-                        )
-                        .then(getCart(memberId))
+                                                    product.getBasePrice(),
+                                                    product.getDiscountRate(),
+                                                    product.getSellerId(),
+                                                    product.getDeliveryType()
+                                            )))
+                                            .flatMap(saved -> applyChange(memberId, null, saved));
+                                })))
                 )
                 .doOnSuccess(response -> log.info("장바구니 상품 추가: memberId={}, productOptionId={}",
                         memberId, request.getProductOptionId()));
@@ -82,53 +89,28 @@ public class CartService {
 
     @Transactional
     public Mono<CartResponse> updateItemQuantity(Long memberId, Long cartItemId, CartItemUpdateRequest request) {
-        return getOrCreateCart(memberId)
-                .flatMap(cart -> cartItemRepository.findById(cartItemId)
-                        .filter(item -> item.getCartId().equals(cart.getId()))
-                        .switchIfEmpty(Mono.error(new BusinessException(ErrorCode.CART_ITEM_NOT_FOUND)))
-                        .map(item -> item.updateQuantity(request.getQuantity()))
-                        .flatMap(cartItemRepository::save)
-                )
-                .then(getCart(memberId))
+        return changeItem(memberId, cartItemId, item -> item.updateQuantity(request.getQuantity()))
                 .doOnSuccess(response -> log.info("장바구니 수량 변경: memberId={}, cartItemId={}, quantity={}",
                         memberId, cartItemId, request.getQuantity()));
     }
 
     @Transactional
     public Mono<CartResponse> removeItem(Long memberId, Long cartItemId) {
-        return getOrCreateCart(memberId)
-                .flatMap(cart -> cartItemRepository.findById(cartItemId)
-                        .filter(item -> item.getCartId().equals(cart.getId()))
-                        .switchIfEmpty(Mono.error(new BusinessException(ErrorCode.CART_ITEM_NOT_FOUND)))
-                        .flatMap(item -> cartItemRepository.delete(item).thenReturn(item))
-                )
-                .then(getCart(memberId))
+        return findCartItem(memberId, cartItemId)
+                .flatMap(item -> cartItemRepository.delete(item)
+                        .then(Mono.defer(() -> applyChange(memberId, CartLine.from(item), null))))
                 .doOnSuccess(response -> log.info("장바구니 상품 삭제: memberId={}, cartItemId={}",
                         memberId, cartItemId));
     }
 
     @Transactional
     public Mono<CartResponse> selectItem(Long memberId, Long cartItemId) {
-        return getOrCreateCart(memberId)
-                .flatMap(cart -> cartItemRepository.findById(cartItemId)
-                        .filter(item -> item.getCartId().equals(cart.getId()))
-                        .switchIfEmpty(Mono.error(new BusinessException(ErrorCode.CART_ITEM_NOT_FOUND)))
-                        .map(CartItem::select)
-                        .flatMap(cartItemRepository::save)
-                )
-                .then(getCart(memberId));
+        return changeItem(memberId, cartItemId, CartItem::select);
     }
 
     @Transactional
     public Mono<CartResponse> deselectItem(Long memberId, Long cartItemId) {
-        return getOrCreateCart(memberId)
-                .flatMap(cart -> cartItemRepository.findById(cartItemId)
-                        .filter(item -> item.getCartId().equals(cart.getId()))
-                        .switchIfEmpty(Mono.error(new BusinessException(ErrorCode.CART_ITEM_NOT_FOUND)))
-                        .map(CartItem::deselect)
-                        .flatMap(cartItemRepository::save)
-                )
-                .then(getCart(memberId));
+        return changeItem(memberId, cartItemId, CartItem::deselect);
     }
 
     @Transactional
@@ -139,7 +121,7 @@ public class CartService {
                         .flatMap(cartItemRepository::save)
                         .then()
                 )
-                .then(getCart(memberId));
+                .then(refreshCart(memberId));
     }
 
     @Transactional
@@ -150,13 +132,14 @@ public class CartService {
                         .flatMap(cartItemRepository::save)
                         .then()
                 )
-                .then(getCart(memberId));
+                .then(refreshCart(memberId));
     }
 
     @Transactional
     public Mono<Void> clearCart(Long memberId) {
         return getOrCreateCart(memberId)
                 .flatMap(cart -> cartItemRepository.deleteByCartId(cart.getId()))
+                .then(AfterCommit.run("장바구니 캐시 삭제", () -> cartCacheRepository.evict(memberId)))
                 .doOnSuccess(v -> log.info("장바구니 비우기: memberId={}", memberId));
     }
 
@@ -164,9 +147,34 @@ public class CartService {
     public Mono<Void> removeSelectedItems(Long memberId) {
         return getOrCreateCart(memberId)
                 .flatMap(cart -> cartItemRepository.deleteSelectedByCartId(cart.getId()))
+                .then(AfterCommit.run("장바구니 캐시 삭제", () -> cartCacheRepository.evict(memberId)))
                 .doOnSuccess(v -> log.info("선택 상품 삭제: memberId={}", memberId));
     }
 
+    /**
+     * 로그인 시 비회원 장바구니를 회원 장바구니로 병합
+     */
+    @Transactional
+    public Mono<CartResponse> mergeGuestCart(Long memberId, String deviceToken) {
+        return guestCartRepository.takeAll(deviceToken)
+                .flatMap(guestItems -> {
+                    if (guestItems.isEmpty()) {
+                        return getCart(memberId);
+                    }
+                    return getOrCreateCart(memberId)
+                            .flatMap(cart -> cartItemRepository.findByCartId(cart.getId())
+                                    .map(CartItem::getProductOptionId)
+                                    .collect(Collectors.toSet())
+                                    .map(existingOptionIds -> selectMergeItems(cart.getId(), existingOptionIds, guestItems)))
+                            .flatMap(cartItemBulkRepository::upsertAll)
+                            .onErrorResume(error -> guestCartRepository.saveAll(deviceToken, guestItems)
+                                    .then(Mono.error(error)))
+                            .then(refreshCart(memberId))
+                            .doOnSuccess(response -> log.info("비회원 장바구니 병합: memberId={}, guestItems={}",
+                                    memberId, guestItems.size()));
+                });
+    }
+
     public Mono<List<CartItemResponse>> getSelectedItems(Long memberId) {
         return getOrCreateCart(memberId)
                 .flatMap(cart -> cartItemRepository.findByCartIdAndIsSelectedTrue(cart.getId())
@@ -174,6 +182,66 @@ public class CartService {
                         .collectList());
     }
 
+    /**
+     * 이미 담긴 옵션은 수량 합산, 새 옵션은 MAX_CART_ITEMS 한도 내에서만 추가
+     */
+    private List<CartItem> selectMergeItems(Long cartId, Set<Long> existingOptionIds, List<GuestCartItem> guestItems) {
+        int remaining = MAX_CART_ITEMS - existingOptionIds.size();
+        List<CartItem> mergeItems = new ArrayList<>();
+        for (GuestCartItem guestItem : guestItems) {
+            if (existingOptionIds.contains(guestItem.getProductOptionId())) {
+                mergeItems.add(guestItem.toCartItem(cartId));
+            } else if (remaining > 0) {
+                mergeItems.add(guestItem.toCartItem(cartId));
+                remaining--;
+            }
+        }
+        return mergeItems;
+    }
+
+    private Mono<CartItem> findCartItem(Long memberId, Long cartItemId) {
+        return getOrCreateCart(memberId)
+                .flatMap(cart -> cartItemRepository.findById(cartItemId)
+                        .filter(item -> item.getCartId().equals(cart.getId())))
+                .switchIfEmpty(Mono.error(new BusinessException(ErrorCode.CART_ITEM_NOT_FOUND)));
+    }
+
+    private Mono<CartResponse> changeItem(Long memberId, Long cartItemId, UnaryOperator<CartItem> change) {
+        return findCartItem(memberId, cartItemId)
+                .flatMap(item -> {
+                    CartLine before = CartLine.from(item);
+                    return cartItemRepository.save(change.apply(item))
+                            .flatMap(saved -> applyChange(memberId, before, saved));
+                });
+    }
+
+    /**
+     * 응답은 트랜잭션 안에서 DB 기준으로 계산하고, 캐시에는 커밋 후 상품 한 줄의 변경분만 반영
+     * - 캐시가 없거나 변경 전 상태와 다르거나 동시 변경과 겹치면 캐시를 비움 (다음 조회 시 캐시 재생성)
+     */
+    private Mono<CartResponse> applyChange(Long memberId, CartLine before, CartItem after) {
+        return loadCart(memberId)
+                .flatMap(cart -> AfterCommit.run("장바구니 캐시 변경분 반영",
+                                () -> cartCacheRepository.update(memberId, cached -> cached.withChange(before, after))
+                                        .then())
+                        .thenReturn(cart));
+    }
+
+    private Mono<CartResponse> loadCart(Long memberId) {
+        return getOrCreateCart(memberId)
+                .flatMap(cart -> cartItemRepository.findByCartId(cart.getId())
+                        .collectList()
+                        .map(items -> CartResponse.of(cart.getId(), memberId, items)));
+    }
+
+    /**
+     * 장바구니 변경 후 DB에서 다시 조회하고 캐시는 커밋 후 비움 (커밋 전 상태로 캐시를 다시 채우지 않도록)
+     */
+    private Mono<CartResponse> refreshCart(Long memberId) {
+        return AfterCommit.run("장바구니 캐시 삭제", () -> cartCacheRepository.evict(memberId))
+                .then(Mono.defer(() -> loadCart(memberId)));
+    }
+
     private Mono<Cart> getOrCreateCart(Long memberId) {
         return cartRepository.findByMemberId(memberId)
                 .switchIfEmpty(
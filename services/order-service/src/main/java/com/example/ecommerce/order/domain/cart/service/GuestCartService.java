@@ -0,0 +1,80 @@
+package com.example.ecommerce.order.domain.cart.service;
+
+import com.example.ecommerce.common.core.exception.BusinessException;
+import com.example.ecommerce.common.core.exception.ErrorCode;
+import com.example.ecommerce.order.domain.cart.dto.request.CartItemAddRequest;
+import com.example.ecommerce.order.domain.cart.dto.request.CartItemUpdateRequest;
+import com.example.ecommerce.order.domain.cart.dto.response.CartResponse;
+import com.example.ecommerce.order.domain.cart.entity.GuestCartItem;
+import com.example.ecommerce.order.domain.cart.repository.GuestCartRepository;
+import com.example.ecommerce.order.external.ProductServiceClient;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+/**
+ * 비회원 장바구니 (디바이스 토큰 기준, Redis 전용)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class GuestCartService {
+
+    private final GuestCartRepository guestCartRepository;
+    private final ProductServiceClient productServiceClient;
+
+    public Mono<CartResponse> getCart(String deviceToken) {
+        return guestCartRepository.findAll(deviceToken)
+                .map(item -> item.toCartItem(null))
+                .collectList()
+                .map(items -> CartResponse.of(null, null, items));
+    }
+
+    public Mono<CartResponse> addItem(String deviceToken, CartItemAddRequest request) {
+        return guestCartRepository.find(deviceToken, request.getProductOptionId())
+                .flatMap(existingItem -> guestCartRepository.save(deviceToken,
+                        existingItem.updateQuantity(existingItem.getQuantity() + request.getQuantity())))
+                .switchIfEmpty(Mono.defer(() -> guestCartRepository.count(deviceToken)
+                        .flatMap(count -> {
+                            if (count >= CartService.MAX_CART_ITEMS) {
+                                return Mono.error(new BusinessException(ErrorCode.CART_ITEM_LIMIT_EXCEEDED));
+                            }
+                            return productServiceClient.getProductInfo(request.getProductId());
+                        })
+                        .map(product -> GuestCartItem.create(
+                                request.getProductId(),
+                                request.getProductOptionId(),
+                                product.getName(),
+                                "옵션명",
+                                request.getQuantity(),
+                                product.getBasePrice(),
+                                product.getDiscountRate(),
+                                product.getSellerId(),
+                                product.getDeliveryType()
+                        ))
+                        .flatMap(item -> guestCartRepository.save(deviceToken, item))))
+                .then(getCart(deviceToken))
+                .doOnSuccess(response -> log.info("비회원 장바구니 상품 추가: productOptionId={}",
+                        request.getProductOptionId()));
+    }
+
+    public Mono<CartResponse> updateItemQuantity(String deviceToken, Long productOptionId,
+                                                 CartItemUpdateRequest request) {
+        return guestCartRepository.find(deviceToken, productOptionId)
+                .switchIfEmpty(Mono.error(new BusinessException(ErrorCode.CART_ITEM_NOT_FOUND)))
+                .flatMap(item -> guestCartRepository.save(deviceToken, item.updateQuantity(request.getQuantity())))
+                .then(getCart(deviceToken));
+    }
+
+    public Mono<CartResponse> removeItem(String deviceToken, Long productOptionId) {
+        return guestCartRepository.remove(deviceToken, productOptionId)
+                .flatMap(removed -> removed
+                        ? getCart(deviceToken)
+                        : Mono.error(new BusinessException(ErrorCode.CART_ITEM_NOT_FOUND)));
+    }
+
+    public Mono<Void> clearCart(String deviceToken) {
+        return guestCartRepository.delete(deviceToken);
+    }
+}
@@ -3,14 +3,20 @@ package com.example.ecommerce.order.domain.delivery.controller;
 import com.example.ecommerce.common.core.response.ApiResponse;
 import com.example.ecommerce.order.domain.delivery.dto.request.DeliveryCreateRequest;
 import com.example.ecommerce.order.domain.delivery.dto.request.DeliveryShipRequest;
+import com.example.ecommerce.order.domain.delivery.dto.request.TrackingEventRequest;
 import com.example.ecommerce.order.domain.delivery.dto.response.DeliveryResponse;
+import com.example.ecommerce.order.domain.delivery.dto.response.TrackingImportResponse;
 import com.example.ecommerce.order.domain.delivery.entity.DeliveryStatus;
 import com.example.ecommerce.order.domain.delivery.service.DeliveryService;
+import com.example.ecommerce.order.domain.delivery.service.DeliveryTrackingService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.ServerSentEvent;
 import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 @Slf4j
@@ -20,6 +26,7 @@ import reactor.core.publisher.Mono;
 public class DeliveryController {
 
     private final DeliveryService deliveryService;
+    private final DeliveryTrackingService deliveryTrackingService;
 
     @PostMapping
     @ResponseStatus(HttpStatus.CREATED)
@@ -55,6 +62,13 @@ public class DeliveryController {
                 .map(ApiResponse::success);
     }
 
+    @GetMapping(value = "/track/{trackingNumber}/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public Flux<ServerSentEvent<Object>> streamTracking(
+            @PathVariable String trackingNumber
+    ) {
+        return deliveryTrackingService.streamTracking(trackingNumber);
+    }
+
     // Internal APIs for order fulfillment
 
     @PostMapping("/{deliveryId}/prepare")
@@ -88,6 +102,17 @@ public class DeliveryController {
                 .map(response -> ApiResponse.success(response, "배송 상태가 변경되었습니다."));
     }
 
+    /**
+     * 택배사 스캔 이벤트 일괄 반영 (application/x-ndjson 스트림)
+     */
+    @PostMapping(value = "/tracking/bulk", consumes = MediaType.APPLICATION_NDJSON_VALUE)
+    public Mono<ApiResponse<TrackingImportResponse>> importTrackingEvents(
+            @RequestBody Flux<TrackingEventRequest> events
+    ) {
+        return deliveryTrackingService.importEvents(events)
+                .map(response -> ApiResponse.success(response, "배송 추적 정보가 반영되었습니다."));
+    }
+
     @PostMapping("/{deliveryId}/return")
     public Mono<ApiResponse<DeliveryResponse>> requestReturn(
             @PathVariable Long deliveryId,
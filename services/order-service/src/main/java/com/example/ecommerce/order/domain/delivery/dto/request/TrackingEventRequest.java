@@ -0,0 +1,26 @@
+package com.example.ecommerce.order.domain.delivery.dto.request;
+
+import com.example.ecommerce.order.domain.delivery.entity.DeliveryStatus;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 택배사 스캔 이벤트 (NDJSON 한 줄)
+ */
+@Getter
+@Builder
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+public class TrackingEventRequest {
+
+    private String trackingNumber;
+    private DeliveryStatus status;
+    private String location;
+    private String description;
+    private LocalDateTime occurredAt;
+
+    public boolean isValid() {
+        return trackingNumber != null && !trackingNumber.isBlank() && status != null && occurredAt != null;
+    }
+}
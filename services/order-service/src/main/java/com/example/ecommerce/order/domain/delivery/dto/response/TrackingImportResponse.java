@@ -0,0 +1,32 @@
+package com.example.ecommerce.order.domain.delivery.dto.response;
+
+import lombok.*;
+
+@Getter
+@Builder
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+public class TrackingImportResponse {
+
+    private long received;
+    private long applied;
+    private long unknownTrackingNumbers;
+    private long rejected;
+    private long updatedDeliveries;
+    private long deliveredOrders;
+
+    public static TrackingImportResponse empty() {
+        return TrackingImportResponse.builder().build();
+    }
+
+    public TrackingImportResponse merge(TrackingImportResponse other) {
+        return TrackingImportResponse.builder()
+                .received(received + other.received)
+                .applied(applied + other.applied)
+                .unknownTrackingNumbers(unknownTrackingNumbers + other.unknownTrackingNumbers)
+                .rejected(rejected + other.rejected)
+                .updatedDeliveries(updatedDeliveries + other.updatedDeliveries)
+                .deliveredOrders(deliveredOrders + other.deliveredOrders)
+                .build();
+    }
+}
@@ -69,6 +69,9 @@ public class Delivery extends BaseEntity {
     @Column("return_reason")
     private String returnReason;
 
+    @Column("history_compacted_at")
+    private LocalDateTime historyCompactedAt;
+
     public Delivery markAsPreparing() {
         this.status = DeliveryStatus.PREPARING;
         return this;
@@ -97,6 +100,21 @@ public class Delivery extends BaseEntity {
         return this;
     }
 
+    /**
+     * 택배사 스캔 반영 (전이 가능 여부는 DeliveryStatus.canTransitionTo로 먼저 확인)
+     */
+    public Delivery applyScan(DeliveryStatus scannedStatus, LocalDateTime occurredAt) {
+        this.status = scannedStatus;
+        if (scannedStatus == DeliveryStatus.SHIPPED && this.shippedAt == null) {
+            this.shippedAt = occurredAt;
+        } else if (scannedStatus == DeliveryStatus.DELIVERED) {
+            this.deliveredAt = occurredAt;
+        } else if (scannedStatus == DeliveryStatus.RETURNED) {
+            this.returnedAt = occurredAt;
+        }
+        return this;
+    }
+
     public Delivery requestReturn(String reason) {
         if (this.status != DeliveryStatus.DELIVERED) {
             throw new IllegalStateException("배송 완료 후에만 반품 요청이 가능합니다.");
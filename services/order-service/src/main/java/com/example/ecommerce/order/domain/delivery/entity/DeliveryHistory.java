@@ -35,12 +35,18 @@ public class DeliveryHistory extends BaseEntity {
 
     public static DeliveryHistory create(Long deliveryId, DeliveryStatus status,
                                          String location, String description) {
+        return create(deliveryId, status, location, description, LocalDateTime.now());
+    }
+
+    public static DeliveryHistory create(Long deliveryId, DeliveryStatus status,
+                                         String location, String description,
+                                         LocalDateTime occurredAt) {
         return DeliveryHistory.builder()
                 .deliveryId(deliveryId)
                 .status(status)
                 .location(location)
                 .description(description)
-                .occurredAt(LocalDateTime.now())
+                .occurredAt(occurredAt)
                 .build();
     }
 }
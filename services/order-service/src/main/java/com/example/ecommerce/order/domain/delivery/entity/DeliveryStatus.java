@@ -19,4 +19,21 @@ public enum DeliveryStatus {
     public String getDescription() {
         return description;
     }
+
+    /**
+     * 택배사 스캔으로 허용되는 상태 전이 (같은 상태 재스캔은 이력만 추가)
+     */
+    public boolean canTransitionTo(DeliveryStatus next) {
+        if (this == next) {
+            return this != PENDING && this != DELIVERED && this != RETURNED;
+        }
+        return switch (this) {
+            case PREPARING -> next == SHIPPED;
+            case SHIPPED -> next == OUT_FOR_DELIVERY || next == DELIVERED;
+            case OUT_FOR_DELIVERY -> next == DELIVERED;
+            case RETURN_REQUESTED -> next == RETURNING;
+            case RETURNING -> next == RETURNED;
+            default -> false;
+        };
+    }
 }
@@ -1,18 +1,43 @@
 package com.example.ecommerce.order.domain.delivery.entity;
 
+import com.example.ecommerce.common.money.Money;
+
 public enum DeliveryType {
-    ROCKET("로켓배송"),
-    ROCKET_FRESH("로켓프레시"),
-    REGULAR("일반배송"),
-    SELLER("판매자배송");
+    ROCKET("로켓배송", 19800, 3000, false),
+    ROCKET_FRESH("로켓프레시", 15000, 3000, false),
+    REGULAR("일반배송", 30000, 3000, true),
+    SELLER("판매자배송", 30000, 3000, true);
 
     private final String description;
+    private final Money freeDeliveryThreshold;
+    private final Money deliveryFee;
+    private final boolean groupedBySeller;
 
-    DeliveryType(String description) {
+    DeliveryType(String description, long freeDeliveryThreshold, long deliveryFee, boolean groupedBySeller) {
         this.description = description;
+        this.freeDeliveryThreshold = Money.won(freeDeliveryThreshold);
+        this.deliveryFee = Money.won(deliveryFee);
+        this.groupedBySeller = groupedBySeller;
     }
 
     public String getDescription() {
         return description;
     }
+
+    public Money getFreeDeliveryThreshold() {
+        return freeDeliveryThreshold;
+    }
+
+    public Money getDeliveryFee() {
+        return deliveryFee;
+    }
+
+    // 일반/판매자 배송은 판매자별로 묶음 배송비 부과, 로켓 계열은 판매자와 무관하게 하나로 묶음
+    public boolean isGroupedBySeller() {
+        return groupedBySeller;
+    }
+
+    public static DeliveryType fromRocketDelivery(boolean isRocketDelivery) {
+        return isRocketDelivery ? ROCKET : SELLER;
+    }
 }
@@ -0,0 +1,65 @@
+package com.example.ecommerce.order.domain.delivery.repository;
+
+import com.example.ecommerce.order.domain.delivery.entity.Delivery;
+import lombok.RequiredArgsConstructor;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.StringJoiner;
+
+/**
+ * 배송 상태 다건 변경 (CASE 기반 단일 UPDATE)
+ */
+@Repository
+@RequiredArgsConstructor
+public class DeliveryBulkRepository {
+
+    private final DatabaseClient databaseClient;
+
+    /**
+     * 배송별 상태/시각을 한 번의 UPDATE로 반영 (호출 전 대상 행을 잠가야 함)
+     */
+    public Mono<Long> updateStatuses(List<Delivery> deliveries) {
+        if (deliveries.isEmpty()) {
+            return Mono.just(0L);
+        }
+
+        StringJoiner ids = new StringJoiner(", ");
+        StringBuilder status = new StringBuilder("CASE id");
+        StringBuilder shippedAt = new StringBuilder("CASE id");
+        StringBuilder deliveredAt = new StringBuilder("CASE id");
+        StringBuilder returnedAt = new StringBuilder("CASE id");
+        for (int i = 0; i < deliveries.size(); i++) {
+            ids.add(":id" + i);
+            status.append(" WHEN :id").append(i).append(" THEN :status").append(i);
+            shippedAt.append(" WHEN :id").append(i).append(" THEN :shippedAt").append(i);
+            deliveredAt.append(" WHEN :id").append(i).append(" THEN :deliveredAt").append(i);
+            returnedAt.append(" WHEN :id").append(i).append(" THEN :returnedAt").append(i);
+        }
+        String sql = "UPDATE deliveries SET " +
+                "status = " + status + " END, " +
+                "shipped_at = " + shippedAt + " END, " +
+                "delivered_at = " + deliveredAt + " END, " +
+                "returned_at = " + returnedAt + " END " +
+                "WHERE id IN (" + ids + ")";
+
+        DatabaseClient.GenericExecuteSpec spec = databaseClient.sql(sql);
+        for (int i = 0; i < deliveries.size(); i++) {
+            Delivery delivery = deliveries.get(i);
+            spec = spec.bind("id" + i, delivery.getId())
+                    .bind("status" + i, delivery.getStatus().name());
+            spec = bindNullable(spec, "shippedAt" + i, delivery.getShippedAt());
+            spec = bindNullable(spec, "deliveredAt" + i, delivery.getDeliveredAt());
+            spec = bindNullable(spec, "returnedAt" + i, delivery.getReturnedAt());
+        }
+        return spec.fetch().rowsUpdated();
+    }
+
+    private DatabaseClient.GenericExecuteSpec bindNullable(DatabaseClient.GenericExecuteSpec spec,
+                                                           String name, LocalDateTime value) {
+        return value != null ? spec.bind(name, value) : spec.bindNull(name, LocalDateTime.class);
+    }
+}
@@ -0,0 +1,72 @@
+package com.example.ecommerce.order.domain.delivery.repository;
+
+import com.example.ecommerce.order.domain.delivery.entity.DeliveryHistory;
+import com.example.ecommerce.order.domain.delivery.entity.DeliveryStatus;
+import lombok.RequiredArgsConstructor;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.StringJoiner;
+
+/**
+ * 배송 이력 다건 저장 (multi-row INSERT)
+ * - 같은 스캔(배송, 상태, 발생 시각)은 유니크 키로 건너뜀 (택배사 재전송, 묶음 재시도)
+ */
+@Repository
+@RequiredArgsConstructor
+public class DeliveryHistoryBulkRepository {
+
+    private final DatabaseClient databaseClient;
+
+    /**
+     * 배송들의 from 이후 저장된 스캔 (배송, 상태, 발생 시각만 채움)
+     */
+    public Flux<DeliveryHistory> findScans(Collection<Long> deliveryIds, LocalDateTime from) {
+        return databaseClient.sql("SELECT delivery_id, status, occurred_at FROM delivery_histories " +
+                        "WHERE delivery_id IN (:deliveryIds) AND occurred_at >= :from")
+                .bind("deliveryIds", deliveryIds)
+                .bind("from", from)
+                .map((row, metadata) -> DeliveryHistory.builder()
+                        .deliveryId(row.get("delivery_id", Long.class))
+                        .status(DeliveryStatus.valueOf(row.get("status", String.class)))
+                        .occurredAt(row.get("occurred_at", LocalDateTime.class))
+                        .build())
+                .all();
+    }
+
+    /**
+     * @return 실제로 추가된 이력 수 (이미 있는 스캔 제외)
+     */
+    public Mono<Long> insertAll(List<DeliveryHistory> histories) {
+        if (histories.isEmpty()) {
+            return Mono.just(0L);
+        }
+
+        StringJoiner values = new StringJoiner(", ");
+        for (int i = 0; i < histories.size(); i++) {
+            values.add("(:deliveryId" + i + ", :status" + i + ", :location" + i +
+                    ", :description" + i + ", :occurredAt" + i + ")");
+        }
+        String sql = "INSERT IGNORE INTO delivery_histories (delivery_id, status, location, description, occurred_at) VALUES " + values;
+
+        DatabaseClient.GenericExecuteSpec spec = databaseClient.sql(sql);
+        for (int i = 0; i < histories.size(); i++) {
+            DeliveryHistory history = histories.get(i);
+            spec = spec.bind("deliveryId" + i, history.getDeliveryId())
+                    .bind("status" + i, history.getStatus().name())
+                    .bind("occurredAt" + i, history.getOccurredAt());
+            spec = history.getLocation() != null
+                    ? spec.bind("location" + i, history.getLocation())
+                    : spec.bindNull("location" + i, String.class);
+            spec = history.getDescription() != null
+                    ? spec.bind("description" + i, history.getDescription())
+                    : spec.bindNull("description" + i, String.class);
+        }
+        return spec.fetch().rowsUpdated();
+    }
+}
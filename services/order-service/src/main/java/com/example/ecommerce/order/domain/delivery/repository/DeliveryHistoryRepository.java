@@ -1,10 +1,22 @@
 package com.example.ecommerce.order.domain.delivery.repository;
 
 import com.example.ecommerce.order.domain.delivery.entity.DeliveryHistory;
+import org.springframework.data.r2dbc.repository.Modifying;
+import org.springframework.data.r2dbc.repository.Query;
 import org.springframework.data.repository.reactive.ReactiveCrudRepository;
 import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Collection;
 
 public interface DeliveryHistoryRepository extends ReactiveCrudRepository<DeliveryHistory, Long> {
 
     Flux<DeliveryHistory> findByDeliveryIdOrderByOccurredAtDesc(Long deliveryId);
+
+    @Query("SELECT * FROM delivery_histories WHERE delivery_id IN (:deliveryIds) ORDER BY delivery_id, occurred_at, id")
+    Flux<DeliveryHistory> findByDeliveryIdIn(Collection<Long> deliveryIds);
+
+    @Modifying
+    @Query("DELETE FROM delivery_histories WHERE id IN (:ids)")
+    Mono<Integer> deleteByIdIn(Collection<Long> ids);
 }
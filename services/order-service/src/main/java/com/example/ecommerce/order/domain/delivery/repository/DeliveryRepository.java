@@ -2,10 +2,15 @@ package com.example.ecommerce.order.domain.delivery.repository;
 
 import com.example.ecommerce.order.domain.delivery.entity.Delivery;
 import com.example.ecommerce.order.domain.delivery.entity.DeliveryStatus;
+import org.springframework.data.r2dbc.repository.Modifying;
+import org.springframework.data.r2dbc.repository.Query;
 import org.springframework.data.repository.reactive.ReactiveCrudRepository;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+
 public interface DeliveryRepository extends ReactiveCrudRepository<Delivery, Long> {
 
     Mono<Delivery> findByOrderId(Long orderId);
@@ -13,4 +18,15 @@ public interface DeliveryRepository extends ReactiveCrudRepository<Delivery, Lon
     Mono<Delivery> findByTrackingNumber(String trackingNumber);
 
     Flux<Delivery> findByStatus(DeliveryStatus status);
+
+    @Query("SELECT * FROM deliveries WHERE status = 'DELIVERED' AND history_compacted_at IS NULL " +
+           "AND delivered_at < :deliveredBefore AND id > :lastId ORDER BY id LIMIT :limit")
+    Flux<Delivery> findHistoryCompactionTargets(LocalDateTime deliveredBefore, Long lastId, int limit);
+
+    @Modifying
+    @Query("UPDATE deliveries SET history_compacted_at = :compactedAt WHERE id IN (:ids)")
+    Mono<Integer> markHistoryCompacted(Collection<Long> ids, LocalDateTime compactedAt);
+
+    @Query("SELECT * FROM deliveries WHERE tracking_number IN (:trackingNumbers) FOR UPDATE")
+    Flux<Delivery> lockByTrackingNumberIn(Collection<String> trackingNumbers);
 }
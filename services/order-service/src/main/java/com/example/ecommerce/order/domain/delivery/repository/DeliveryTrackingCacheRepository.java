@@ -0,0 +1,89 @@
+package com.example.ecommerce.order.domain.delivery.repository;
+
+import com.example.ecommerce.order.domain.delivery.dto.response.DeliveryResponse;
+import com.example.ecommerce.order.domain.delivery.entity.DeliveryStatus;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.ReactiveRedisTemplate;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.Collection;
+
+/**
+ * 송장번호별 배송 조회 캐시 (Redis)
+ * - 이력이 추가되면 커밋 후 삭제하고 다음 조회 때 다시 채움 (커밋 전 상태로 다시 채워지지 않도록)
+ * - 배송 완료 건은 더 바뀌지 않으므로 길게 보관
+ */
+@Slf4j
+@Repository
+@RequiredArgsConstructor
+public class DeliveryTrackingCacheRepository {
+
+    private static final String TRACKING_KEY_PREFIX = "delivery_tracking_view:";
+    private static final Duration IN_TRANSIT_TTL = Duration.ofMinutes(5);
+    private static final Duration DELIVERED_TTL = Duration.ofDays(1);
+
+    private final ReactiveRedisTemplate<String, String> reactiveRedisTemplate;
+    private final ObjectMapper objectMapper;
+
+    public Mono<DeliveryResponse> find(String trackingNumber) {
+        return reactiveRedisTemplate.opsForValue()
+                .get(key(trackingNumber))
+                .flatMap(json -> Mono.fromCallable(() -> objectMapper.readValue(json, DeliveryResponse.class)))
+                .onErrorResume(error -> {
+                    log.warn("배송 조회 캐시 조회 실패: trackingNumber={}", trackingNumber, error);
+                    return Mono.empty();
+                });
+    }
+
+    public Mono<DeliveryResponse> save(String trackingNumber, DeliveryResponse delivery) {
+        String json;
+        try {
+            json = objectMapper.writeValueAsString(delivery);
+        } catch (JsonProcessingException e) {
+            log.warn("배송 조회 캐시 직렬화 실패: trackingNumber={}", trackingNumber, e);
+            return Mono.just(delivery);
+        }
+        Duration ttl = delivery.getStatus() == DeliveryStatus.DELIVERED ? DELIVERED_TTL : IN_TRANSIT_TTL;
+        return reactiveRedisTemplate.opsForValue()
+                .set(key(trackingNumber), json, ttl)
+                .onErrorResume(error -> Mono.just(false))
+                .thenReturn(delivery);
+    }
+
+    public Mono<Void> evict(String trackingNumber) {
+        if (trackingNumber == null) {
+            return Mono.empty();
+        }
+        return reactiveRedisTemplate.delete(key(trackingNumber))
+                .onErrorResume(error -> {
+                    log.warn("배송 조회 캐시 삭제 실패: trackingNumber={}", trackingNumber, error);
+                    return Mono.just(0L);
+                })
+                .then();
+    }
+
+    /**
+     * 여러 송장의 캐시를 한 번에 삭제
+     */
+    public Mono<Void> evictAll(Collection<String> trackingNumbers) {
+        if (trackingNumbers.isEmpty()) {
+            return Mono.empty();
+        }
+        return reactiveRedisTemplate.delete(Flux.fromIterable(trackingNumbers).map(this::key))
+                .onErrorResume(error -> {
+                    log.warn("배송 조회 캐시 일괄 삭제 실패: count={}", trackingNumbers.size(), error);
+                    return Mono.just(0L);
+                })
+                .then();
+    }
+
+    private String key(String trackingNumber) {
+        return TRACKING_KEY_PREFIX + trackingNumber;
+    }
+}
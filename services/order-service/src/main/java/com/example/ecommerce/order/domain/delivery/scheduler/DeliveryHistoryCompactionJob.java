@@ -0,0 +1,76 @@
+package com.example.ecommerce.order.domain.delivery.scheduler;
+
+import com.example.ecommerce.order.domain.delivery.entity.Delivery;
+import com.example.ecommerce.order.domain.delivery.repository.DeliveryRepository;
+import com.example.ecommerce.order.domain.delivery.service.DeliveryHistoryCompactionService;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 배송 완료 후 일정 기간이 지난 건의 이력 요약
+ * - id 기준 keyset 페이징으로 묶음 단위 처리
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DeliveryHistoryCompactionJob {
+
+    private final DeliveryRepository deliveryRepository;
+    private final DeliveryHistoryCompactionService compactionService;
+    private final MeterRegistry meterRegistry;
+
+    private final AtomicBoolean running = new AtomicBoolean(false);
+
+    @Value("${delivery.history-compaction.retention-days:7}")
+    private int retentionDays;
+
+    @Value("${delivery.history-compaction.batch-size:200}")
+    private int batchSize;
+
+    @Scheduled(cron = "${delivery.history-compaction.cron:0 0 4 * * *}")
+    public void run() {
+        if (!running.compareAndSet(false, true)) {
+            log.warn("배송 이력 요약이 이미 실행 중입니다");
+            return;
+        }
+        compact(LocalDateTime.now().minusDays(retentionDays))
+                .doFinally(signal -> running.set(false))
+                .subscribe(
+                        removed -> log.info("배송 이력 요약 완료: removedRows={}", removed),
+                        error -> log.error("배송 이력 요약 실패", error)
+                );
+    }
+
+    public Mono<Long> compact(LocalDateTime deliveredBefore) {
+        return fetchChunk(deliveredBefore, 0L)
+                .expand(chunk -> chunk.size() < batchSize
+                        ? Mono.empty()
+                        : fetchChunk(deliveredBefore, chunk.get(chunk.size() - 1).getId()))
+                .filter(chunk -> !chunk.isEmpty())
+                .concatMap(chunk -> compactionService.compact(chunk)
+                        .doOnNext(removed -> {
+                            meterRegistry.counter("delivery.history.compaction", "result", "deliveries").increment(chunk.size());
+                            meterRegistry.counter("delivery.history.compaction", "result", "removed_rows").increment(removed);
+                        })
+                        .onErrorResume(error -> {
+                            log.error("배송 이력 요약 묶음 실패: firstDeliveryId={}, size={}",
+                                    chunk.get(0).getId(), chunk.size(), error);
+                            return Mono.just(0);
+                        }))
+                .reduce(0L, Long::sum);
+    }
+
+    private Mono<List<Delivery>> fetchChunk(LocalDateTime deliveredBefore, Long lastId) {
+        return deliveryRepository.findHistoryCompactionTargets(deliveredBefore, lastId, batchSize)
+                .collectList();
+    }
+}
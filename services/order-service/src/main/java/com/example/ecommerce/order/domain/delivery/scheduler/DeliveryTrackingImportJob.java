@@ -0,0 +1,116 @@
+package com.example.ecommerce.order.domain.delivery.scheduler;
+
+import com.example.ecommerce.order.domain.delivery.dto.request.TrackingEventRequest;
+import com.example.ecommerce.order.domain.delivery.service.DeliveryTrackingService;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+/**
+ * 택배사 배송 추적 파일(*.ndjson) 일괄 반영
+ * - 파일을 한 줄씩 읽어 스트리밍으로 반영하고, 처리한 파일은 processed 디렉터리로 이동
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DeliveryTrackingImportJob {
+
+    private final DeliveryTrackingService deliveryTrackingService;
+    private final ObjectMapper objectMapper;
+
+    private final AtomicBoolean running = new AtomicBoolean(false);
+
+    @Value("${delivery.tracking-import.inbox-dir:./tracking/inbox}")
+    private String inboxDir;
+
+    @Value("${delivery.tracking-import.processed-dir:./tracking/processed}")
+    private String processedDir;
+
+    @Scheduled(fixedDelayString = "${delivery.tracking-import.fixed-delay-ms:60000}")
+    public void run() {
+        Path inbox = Path.of(inboxDir);
+        if (!Files.isDirectory(inbox)) {
+            return;
+        }
+        if (!running.compareAndSet(false, true)) {
+            log.warn("배송 추적 파일 반영이 이미 실행 중입니다");
+            return;
+        }
+
+        Mono.fromCallable(() -> listFiles(inbox))
+                .subscribeOn(Schedulers.boundedElastic())
+                .flatMapMany(Flux::fromIterable)
+                .concatMap(this::importFile)
+                .doFinally(signal -> running.set(false))
+                .subscribe(
+                        file -> log.info("배송 추적 파일 반영 완료: {}", file),
+                        error -> log.error("배송 추적 파일 반영 실패", error)
+                );
+    }
+
+    private Mono<Path> importFile(Path file) {
+        return deliveryTrackingService.importEvents(readEvents(file))
+                .then(Mono.fromCallable(() -> moveToProcessed(file))
+                        .subscribeOn(Schedulers.boundedElastic()));
+    }
+
+    private Flux<TrackingEventRequest> readEvents(Path file) {
+        return Flux.using(
+                        () -> Files.newBufferedReader(file),
+                        reader -> Flux.fromStream(reader.lines()),
+                        this::closeReader
+                )
+                .filter(line -> !line.isBlank())
+                .map(this::parse)
+                .subscribeOn(Schedulers.boundedElastic());
+    }
+
+    private TrackingEventRequest parse(String line) {
+        try {
+            return objectMapper.readValue(line, TrackingEventRequest.class);
+        } catch (JsonProcessingException e) {
+            // 파싱할 수 없는 줄은 검증 단계에서 거부되도록 빈 이벤트로 전달
+            log.warn("배송 추적 이벤트 파싱 실패: {}", line);
+            return TrackingEventRequest.builder().build();
+        }
+    }
+
+    private List<Path> listFiles(Path inbox) throws IOException {
+        try (Stream<Path> files = Files.list(inbox)) {
+            return files.filter(file -> file.getFileName().toString().endsWith(".ndjson"))
+                    .sorted()
+                    .toList();
+        }
+    }
+
+    private Path moveToProcessed(Path file) throws IOException {
+        Path target = Path.of(processedDir).resolve(file.getFileName());
+        Files.createDirectories(target.getParent());
+        return Files.move(file, target, StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    private void closeReader(BufferedReader reader) {
+        try {
+            reader.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package com.example.ecommerce.order.domain.delivery.service;
+
+import com.example.ecommerce.common.webflux.transaction.AfterCommit;
+import com.example.ecommerce.order.domain.delivery.entity.Delivery;
+import com.example.ecommerce.order.domain.delivery.entity.DeliveryHistory;
+import com.example.ecommerce.order.domain.delivery.entity.DeliveryStatus;
+import com.example.ecommerce.order.domain.delivery.repository.DeliveryHistoryBulkRepository;
+import com.example.ecommerce.order.domain.delivery.repository.DeliveryHistoryRepository;
+import com.example.ecommerce.order.domain.delivery.repository.DeliveryRepository;
+import com.example.ecommerce.order.domain.delivery.repository.DeliveryTrackingCacheRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * 배송 완료 건의 이력 요약
+ * - 같은 이동 상태(SHIPPED, OUT_FOR_DELIVERY)로 연속된 스캔을 한 줄로 합침
+ * - 기존 행은 한 번에 삭제하고 요약 행은 multi-row INSERT로 저장
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class DeliveryHistoryCompactionService {
+
+    private final DeliveryRepository deliveryRepository;
+    private final DeliveryHistoryRepository deliveryHistoryRepository;
+    private final DeliveryHistoryBulkRepository deliveryHistoryBulkRepository;
+    private final DeliveryTrackingCacheRepository deliveryTrackingCacheRepository;
+
+    @Value("${delivery.history-compaction.min-run:2}")
+    private int minRun;
+
+    /**
+     * @return 줄어든 이력 행 수
+     */
+    @Transactional
+    public Mono<Integer> compact(List<Delivery> deliveries) {
+        List<Long> deliveryIds = deliveries.stream().map(Delivery::getId).toList();
+        List<String> trackingNumbers = deliveries.stream()
+                .map(Delivery::getTrackingNumber)
+                .filter(Objects::nonNull)
+                .toList();
+
+        return deliveryHistoryRepository.findByDeliveryIdIn(deliveryIds)
+                .collectMultimap(DeliveryHistory::getDeliveryId)
+                .flatMap(historiesByDelivery -> {
+                    List<Long> removedIds = new ArrayList<>();
+                    List<DeliveryHistory> summaries = new ArrayList<>();
+                    for (Collection<DeliveryHistory> histories : historiesByDelivery.values()) {
+                        collapse(new ArrayList<>(histories), removedIds, summaries);
+                    }
+
+                    Mono<Integer> delete = removedIds.isEmpty()
+                            ? Mono.just(0)
+                            : deliveryHistoryRepository.deleteByIdIn(removedIds);
+                    return delete
+                            .then(deliveryHistoryBulkRepository.insertAll(summaries))
+                            .then(deliveryRepository.markHistoryCompacted(deliveryIds, LocalDateTime.now()))
+                            .then(AfterCommit.run("배송 조회 캐시 삭제",
+                                    () -> deliveryTrackingCacheRepository.evictAll(trackingNumbers)))
+                            .thenReturn(removedIds.size() - summaries.size());
+                });
+    }
+
+    /**
+     * 발생 시각 순 이력에서 min-run 이상 연속된 이동 스캔을 요약 행으로 대체
+     */
+    private void collapse(List<DeliveryHistory> histories, List<Long> removedIds, List<DeliveryHistory> summaries) {
+        int start = 0;
+        while (start < histories.size()) {
+            DeliveryStatus status = histories.get(start).getStatus();
+            int end = start;
+            while (end + 1 < histories.size() && histories.get(end + 1).getStatus() == status) {
+                end++;
+            }
+            if (isInTransit(status) && end - start + 1 >= minRun) {
+                List<DeliveryHistory> run = histories.subList(start, end + 1);
+                run.forEach(history -> removedIds.add(history.getId()));
+                summaries.add(summarize(run));
+            }
+            start = end + 1;
+        }
+    }
+
+    private DeliveryHistory summarize(List<DeliveryHistory> run) {
+        DeliveryHistory first = run.get(0);
+        DeliveryHistory last = run.get(run.size() - 1);
+        String description = String.format("%s 스캔 %d건 요약 (%s → %s)",
+                first.getStatus().getDescription(), run.size(),
+                Objects.requireNonNullElse(first.getLocation(), "-"),
+                Objects.requireNonNullElse(last.getLocation(), "-"));
+        return DeliveryHistory.create(
+                first.getDeliveryId(),
+                first.getStatus(),
+                last.getLocation(),
+                description,
+                first.getOccurredAt()
+        );
+    }
+
+    private boolean isInTransit(DeliveryStatus status) {
+        return status == DeliveryStatus.SHIPPED || status == DeliveryStatus.OUT_FOR_DELIVERY;
+    }
+}
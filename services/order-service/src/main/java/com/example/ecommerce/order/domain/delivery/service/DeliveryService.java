@@ -2,6 +2,7 @@ package com.example.ecommerce.order.domain.delivery.service;
 
 import com.example.ecommerce.common.core.exception.BusinessException;
 import com.example.ecommerce.common.core.exception.ErrorCode;
+import com.example.ecommerce.common.webflux.transaction.AfterCommit;
 import com.example.ecommerce.order.domain.delivery.dto.request.DeliveryCreateRequest;
 import com.example.ecommerce.order.domain.delivery.dto.request.DeliveryShipRequest;
 import com.example.ecommerce.order.domain.delivery.dto.response.DeliveryHistoryResponse;
@@ -11,14 +12,18 @@ import com.example.ecommerce.order.domain.delivery.entity.DeliveryHistory;
 import com.example.ecommerce.order.domain.delivery.entity.DeliveryStatus;
 import com.example.ecommerce.order.domain.delivery.repository.DeliveryHistoryRepository;
 import com.example.ecommerce.order.domain.delivery.repository.DeliveryRepository;
+import com.example.ecommerce.order.domain.delivery.repository.DeliveryTrackingCacheRepository;
+import com.example.ecommerce.order.domain.delivery.tracking.DeliveryTrackingBroadcaster;
 import com.example.ecommerce.order.domain.order.entity.OrderStatus;
 import com.example.ecommerce.order.domain.order.repository.OrderRepository;
+import com.example.ecommerce.order.event.FulfillmentEventPublisher;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import reactor.core.publisher.Mono;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Slf4j
@@ -28,7 +33,10 @@ public class DeliveryService {
 
     private final DeliveryRepository deliveryRepository;
     private final DeliveryHistoryRepository deliveryHistoryRepository;
+    private final DeliveryTrackingCacheRepository deliveryTrackingCacheRepository;
     private final OrderRepository orderRepository;
+    private final DeliveryTrackingBroadcaster deliveryTrackingBroadcaster;
+    private final FulfillmentEventPublisher fulfillmentEventPublisher;
 
     @Transactional
     public Mono<DeliveryResponse> createDelivery(DeliveryCreateRequest request) {
@@ -67,12 +75,7 @@ public class DeliveryService {
                 .switchIfEmpty(Mono.error(new BusinessException(ErrorCode.DELIVERY_NOT_FOUND)))
                 .map(Delivery::markAsPreparing)
                 .flatMap(deliveryRepository::save)
-                .flatMap(delivery -> orderRepository.findById(delivery.getOrderId())
-                        .flatMap(order -> {
-                            order.markAsShipped();
-                            return orderRepository.save(order);
-                        })
-                        .thenReturn(delivery))
+                .flatMap(this::publishStatusChanged)
                 .flatMap(delivery -> createHistory(delivery, "물류센터", "상품 출고 준비중")
                         .thenReturn(delivery))
                 .map(DeliveryResponse::from)
@@ -89,6 +92,7 @@ public class DeliveryService {
                         request.getTrackingNumber()
                 ))
                 .flatMap(deliveryRepository::save)
+                .flatMap(this::publishStatusChanged)
                 .flatMap(delivery -> createHistory(delivery, "물류센터", "배송 시작 - 송장번호: " + request.getTrackingNumber())
                         .thenReturn(delivery))
                 .map(DeliveryResponse::from)
@@ -109,17 +113,7 @@ public class DeliveryService {
                     return delivery;
                 })
                 .flatMap(deliveryRepository::save)
-                .flatMap(delivery -> {
-                    if (status == DeliveryStatus.DELIVERED) {
-                        return orderRepository.findById(delivery.getOrderId())
-                                .flatMap(order -> {
-                                    order.markAsDelivered();
-                                    return orderRepository.save(order);
-                                })
-                                .thenReturn(delivery);
-                    }
-                    return Mono.just(delivery);
-                })
+                .flatMap(this::publishStatusChanged)
                 .flatMap(delivery -> createHistory(delivery, location, description)
                         .thenReturn(delivery))
                 .map(DeliveryResponse::from)
@@ -157,9 +151,11 @@ public class DeliveryService {
     }
 
     public Mono<DeliveryResponse> trackDelivery(String trackingNumber) {
-        return deliveryRepository.findByTrackingNumber(trackingNumber)
-                .switchIfEmpty(Mono.error(new BusinessException(ErrorCode.DELIVERY_NOT_FOUND)))
-                .flatMap(this::enrichWithHistories);
+        return deliveryTrackingCacheRepository.find(trackingNumber)
+                .switchIfEmpty(Mono.defer(() -> deliveryRepository.findByTrackingNumber(trackingNumber)
+                        .switchIfEmpty(Mono.error(new BusinessException(ErrorCode.DELIVERY_NOT_FOUND)))
+                        .flatMap(this::enrichWithHistories)
+                        .flatMap(response -> deliveryTrackingCacheRepository.save(trackingNumber, response))));
     }
 
     private Mono<DeliveryResponse> enrichWithHistories(Delivery delivery) {
@@ -169,6 +165,14 @@ public class DeliveryService {
                 .map(histories -> DeliveryResponse.from(delivery, histories));
     }
 
+    /**
+     * 주문 상태는 이벤트로 반영 (배송 트랜잭션에서 주문 행을 잠그지 않음)
+     */
+    private Mono<Delivery> publishStatusChanged(Delivery delivery) {
+        return fulfillmentEventPublisher.publishDeliveryStatusChanged(delivery, LocalDateTime.now())
+                .thenReturn(delivery);
+    }
+
     private Mono<DeliveryHistory> createHistory(Delivery delivery, String location, String description) {
         DeliveryHistory history = DeliveryHistory.create(
                 delivery.getId(),
@@ -176,6 +180,10 @@ public class DeliveryService {
                 location,
                 description
         );
-        return deliveryHistoryRepository.save(history);
+        return deliveryHistoryRepository.save(history)
+                .flatMap(saved -> AfterCommit.run("배송 조회 캐시 삭제, 배송 이력 발행",
+                                () -> deliveryTrackingCacheRepository.evict(delivery.getTrackingNumber())
+                                        .then(deliveryTrackingBroadcaster.publish(delivery.getTrackingNumber(), saved)))
+                        .thenReturn(saved));
     }
 }
@@ -0,0 +1,188 @@
+package com.example.ecommerce.order.domain.delivery.service;
+
+import com.example.ecommerce.common.webflux.transaction.AfterCommit;
+import com.example.ecommerce.order.domain.delivery.dto.request.TrackingEventRequest;
+import com.example.ecommerce.order.domain.delivery.dto.response.TrackingImportResponse;
+import com.example.ecommerce.order.domain.delivery.entity.Delivery;
+import com.example.ecommerce.order.domain.delivery.entity.DeliveryHistory;
+import com.example.ecommerce.order.domain.delivery.entity.DeliveryStatus;
+import com.example.ecommerce.order.domain.delivery.repository.DeliveryBulkRepository;
+import com.example.ecommerce.order.domain.delivery.repository.DeliveryHistoryBulkRepository;
+import com.example.ecommerce.order.domain.delivery.repository.DeliveryRepository;
+import com.example.ecommerce.order.domain.delivery.repository.DeliveryTrackingCacheRepository;
+import com.example.ecommerce.order.domain.delivery.tracking.DeliveryTrackingBroadcaster;
+import com.example.ecommerce.order.event.FulfillmentEventPublisher;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 택배사 스캔 이벤트 묶음을 한 트랜잭션으로 반영
+ * - 송장번호 IN 조회 한 번으로 배송을 잠그고 상태 전이는 메모리에서 검증
+ * - 배송 상태는 단일 UPDATE, 배송 이력은 multi-row INSERT로 저장
+ * - 주문 상태는 배송 상태 이벤트로 반영하고, 저장한 이력은 커밋 후 실시간 추적 구독자에게 발행
+ * - 이미 저장된 스캔은 INSERT 전에 조회해 빼고 발행하지 않음 (배송을 잠근 상태라 그 사이 같은 스캔이 추가되지 않음)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class DeliveryTrackingBatchService {
+
+    private final DeliveryRepository deliveryRepository;
+    private final DeliveryBulkRepository deliveryBulkRepository;
+    private final DeliveryHistoryBulkRepository deliveryHistoryBulkRepository;
+    private final DeliveryTrackingCacheRepository deliveryTrackingCacheRepository;
+    private final FulfillmentEventPublisher fulfillmentEventPublisher;
+    private final DeliveryTrackingBroadcaster deliveryTrackingBroadcaster;
+
+    @Transactional
+    public Mono<TrackingImportResponse> applyChunk(List<TrackingEventRequest> events) {
+        Map<String, List<TrackingEventRequest>> byTrackingNumber = events.stream()
+                .filter(TrackingEventRequest::isValid)
+                .collect(Collectors.groupingBy(TrackingEventRequest::getTrackingNumber,
+                        LinkedHashMap::new, Collectors.toList()));
+        long invalid = events.size() - byTrackingNumber.values().stream().mapToLong(List::size).sum();
+        if (byTrackingNumber.isEmpty()) {
+            return Mono.just(TrackingImportResponse.builder()
+                    .received(events.size())
+                    .rejected(invalid)
+                    .build());
+        }
+
+        return deliveryRepository.lockByTrackingNumberIn(byTrackingNumber.keySet())
+                .collectMap(Delivery::getTrackingNumber)
+                .flatMap(deliveries -> {
+                    ChunkPlan plan = plan(byTrackingNumber, deliveries);
+                    return findSavedScans(plan.histories)
+                            .doOnNext(plan::dropSaved)
+                            .then(deliveryBulkRepository.updateStatuses(plan.changedDeliveries))
+                            .then(Mono.defer(() -> deliveryHistoryBulkRepository.insertAll(plan.histories)))
+                            .doOnNext(inserted -> plan.inserted = inserted)
+                            .then(AfterCommit.run("배송 조회 캐시 삭제", () -> deliveryTrackingCacheRepository.evictAll(
+                                    plan.published.stream()
+                                            .map(Map.Entry::getKey)
+                                            .collect(Collectors.toSet()))))
+                            .thenMany(Flux.fromIterable(plan.changedDeliveries))
+                            .concatMap(delivery -> fulfillmentEventPublisher.publishDeliveryStatusChanged(
+                                    delivery, plan.changedAt.get(delivery.getId())))
+                            .then(AfterCommit.run("배송 이력 발행", () -> Flux.fromIterable(plan.published)
+                                    .concatMap(entry -> deliveryTrackingBroadcaster.publish(entry.getKey(), entry.getValue()))
+                                    .then()))
+                            .then(Mono.fromSupplier(() -> TrackingImportResponse.builder()
+                                    .received(events.size())
+                                    .applied(plan.inserted)
+                                    .unknownTrackingNumbers(plan.unknown)
+                                    .rejected(invalid + plan.rejected + plan.histories.size() - plan.inserted)
+                                    .updatedDeliveries(plan.changedDeliveries.size())
+                                    .deliveredOrders(plan.deliveredOrderIds.size())
+                                    .build()));
+                });
+    }
+
+    private Mono<Set<String>> findSavedScans(List<DeliveryHistory> histories) {
+        if (histories.isEmpty()) {
+            return Mono.just(Set.of());
+        }
+        Set<Long> deliveryIds = histories.stream().map(DeliveryHistory::getDeliveryId).collect(Collectors.toSet());
+        LocalDateTime from = histories.stream()
+                .map(DeliveryHistory::getOccurredAt)
+                .min(Comparator.naturalOrder())
+                .orElseThrow();
+        return deliveryHistoryBulkRepository.findScans(deliveryIds, from)
+                .map(DeliveryTrackingBatchService::scanKey)
+                .collect(Collectors.toSet());
+    }
+
+    // 유니크 키(배송, 상태, 발생 시각)와 같은 기준의 스캔 식별값
+    private static String scanKey(DeliveryHistory history) {
+        return history.getDeliveryId() + "|" + history.getStatus() + "|" + history.getOccurredAt();
+    }
+
+    /**
+     * 송장번호별 스캔을 발생 시각 순으로 적용해 변경할 배송과 추가할 이력을 계산
+     */
+    private ChunkPlan plan(Map<String, List<TrackingEventRequest>> byTrackingNumber,
+                           Map<String, Delivery> deliveries) {
+        ChunkPlan plan = new ChunkPlan();
+        byTrackingNumber.forEach((trackingNumber, scans) -> {
+            Delivery delivery = deliveries.get(trackingNumber);
+            if (delivery == null) {
+                log.warn("등록되지 않은 송장번호: trackingNumber={}, events={}", trackingNumber, scans.size());
+                plan.unknown += scans.size();
+                return;
+            }
+
+            DeliveryStatus before = delivery.getStatus();
+            Set<String> seen = new HashSet<>();
+            scans.sort(Comparator.comparing(TrackingEventRequest::getOccurredAt));
+            for (TrackingEventRequest scan : scans) {
+                // occurred_at 컬럼(DATETIME)과 같은 초 단위로 맞춰 중복 판단과 저장 값을 일치시킴
+                LocalDateTime occurredAt = scan.getOccurredAt().truncatedTo(ChronoUnit.SECONDS);
+                boolean duplicate = !seen.add(scan.getStatus() + "|" + occurredAt);
+                if (duplicate || !delivery.getStatus().canTransitionTo(scan.getStatus())) {
+                    plan.rejected++;
+                    continue;
+                }
+                if (scan.getStatus() != delivery.getStatus()) {
+                    delivery.applyScan(scan.getStatus(), occurredAt);
+                    plan.changedAt.put(delivery.getId(), occurredAt);
+                }
+                DeliveryHistory history = DeliveryHistory.create(
+                        delivery.getId(),
+                        scan.getStatus(),
+                        scan.getLocation(),
+                        scan.getDescription() != null ? scan.getDescription() : scan.getStatus().getDescription(),
+                        occurredAt
+                );
+                plan.histories.add(history);
+                plan.published.add(Map.entry(trackingNumber, history));
+            }
+
+            if (delivery.getStatus() != before) {
+                plan.changedDeliveries.add(delivery);
+                if (delivery.getStatus() == DeliveryStatus.DELIVERED) {
+                    plan.deliveredOrderIds.add(delivery.getOrderId());
+                }
+            }
+        });
+        return plan;
+    }
+
+    private static final class ChunkPlan {
+        private final List<Delivery> changedDeliveries = new ArrayList<>();
+        private final List<DeliveryHistory> histories = new ArrayList<>();
+        private final List<Long> deliveredOrderIds = new ArrayList<>();
+        private final Map<Long, LocalDateTime> changedAt = new HashMap<>();
+        private final List<Map.Entry<String, DeliveryHistory>> published = new ArrayList<>();
+        private long unknown;
+        private long rejected;
+        // 이미 저장된 스캔을 뺀 실제 추가 이력 수 (빠진 스캔은 중복으로 거절 처리)
+        private long inserted;
+
+        // 이미 저장된 스캔은 추가/발행 대상에서 빼고 중복으로 거절 처리
+        private void dropSaved(Set<String> savedScans) {
+            if (savedScans.isEmpty()) {
+                return;
+            }
+            int before = histories.size();
+            histories.removeIf(history -> savedScans.contains(scanKey(history)));
+            published.removeIf(entry -> savedScans.contains(scanKey(entry.getValue())));
+            rejected += before - histories.size();
+        }
+    }
+}
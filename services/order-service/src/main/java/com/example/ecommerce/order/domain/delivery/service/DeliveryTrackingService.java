@@ -0,0 +1,69 @@
+package com.example.ecommerce.order.domain.delivery.service;
+
+import com.example.ecommerce.order.domain.delivery.dto.request.TrackingEventRequest;
+import com.example.ecommerce.order.domain.delivery.dto.response.TrackingImportResponse;
+import com.example.ecommerce.order.domain.delivery.tracking.DeliveryTrackingBroadcaster;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+
+/**
+ * 택배사 배송 추적 일괄 반영 및 실시간 추적 스트림
+ * - 스캔 이벤트 스트림을 chunk-size 단위로 묶어 순서대로 반영 (같은 송장의 스캔 순서 보장)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class DeliveryTrackingService {
+
+    private final DeliveryTrackingBatchService batchService;
+    private final DeliveryService deliveryService;
+    private final DeliveryTrackingBroadcaster broadcaster;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${delivery.tracking-import.chunk-size:1000}")
+    private int chunkSize;
+
+    @Value("${delivery.tracking-stream.heartbeat-seconds:15}")
+    private long heartbeatSeconds;
+
+    /**
+     * 배송 추적 SSE 스트림
+     * - 현재 배송 상태(snapshot)를 먼저 보내고 이후 기록되는 이력(history)을 전달
+     * - 같은 송장의 구독자들은 인스턴스당 하나의 Redis 구독을 공유
+     */
+    public Flux<ServerSentEvent<Object>> streamTracking(String trackingNumber) {
+        Flux<ServerSentEvent<Object>> snapshot = deliveryService.trackDelivery(trackingNumber)
+                .map(delivery -> ServerSentEvent.<Object>builder(delivery).event("snapshot").build())
+                .flux();
+        Flux<ServerSentEvent<Object>> histories = broadcaster.watch(trackingNumber)
+                .map(history -> ServerSentEvent.<Object>builder(history).event("history").build());
+        Flux<ServerSentEvent<Object>> heartbeat = Flux.interval(Duration.ofSeconds(heartbeatSeconds))
+                .map(tick -> ServerSentEvent.<Object>builder().comment("heartbeat").build());
+        return Flux.merge(snapshot, histories, heartbeat);
+    }
+
+    public Mono<TrackingImportResponse> importEvents(Flux<TrackingEventRequest> events) {
+        return events
+                .buffer(chunkSize)
+                .concatMap(batchService::applyChunk)
+                .doOnNext(this::record)
+                .reduce(TrackingImportResponse.empty(), TrackingImportResponse::merge)
+                .doOnSuccess(result -> log.info("배송 추적 일괄 반영: received={}, applied={}, unknown={}, rejected={}",
+                        result.getReceived(), result.getApplied(),
+                        result.getUnknownTrackingNumbers(), result.getRejected()));
+    }
+
+    private void record(TrackingImportResponse chunk) {
+        meterRegistry.counter("delivery.tracking.import", "result", "applied").increment(chunk.getApplied());
+        meterRegistry.counter("delivery.tracking.import", "result", "unknown").increment(chunk.getUnknownTrackingNumbers());
+        meterRegistry.counter("delivery.tracking.import", "result", "rejected").increment(chunk.getRejected());
+    }
+}
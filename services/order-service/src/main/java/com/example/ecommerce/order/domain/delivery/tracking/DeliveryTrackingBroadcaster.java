@@ -0,0 +1,75 @@
+package com.example.ecommerce.order.domain.delivery.tracking;
+
+import com.example.ecommerce.order.domain.delivery.dto.response.DeliveryHistoryResponse;
+import com.example.ecommerce.order.domain.delivery.entity.DeliveryHistory;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.ReactiveRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.ReactiveRedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 배송 이력 실시간 전파 (Redis Pub/Sub)
+ * - 이력이 기록된 인스턴스가 delivery_tracking:{송장번호} 채널로 발행
+ * - 인스턴스마다 송장번호별 구독은 하나만 열고 구독자들이 공유 (마지막 구독자가 끊기면 해제)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DeliveryTrackingBroadcaster {
+
+    private static final String CHANNEL_PREFIX = "delivery_tracking:";
+
+    private final ReactiveRedisTemplate<String, String> reactiveRedisTemplate;
+    private final ReactiveRedisMessageListenerContainer listenerContainer;
+    private final ObjectMapper objectMapper;
+
+    private final Map<String, Flux<DeliveryHistoryResponse>> streams = new ConcurrentHashMap<>();
+
+    public Mono<Void> publish(String trackingNumber, DeliveryHistory history) {
+        if (trackingNumber == null) {
+            return Mono.empty();
+        }
+        return Mono.fromCallable(() -> objectMapper.writeValueAsString(DeliveryHistoryResponse.from(history)))
+                .flatMap(json -> reactiveRedisTemplate.convertAndSend(CHANNEL_PREFIX + trackingNumber, json))
+                .onErrorResume(error -> {
+                    log.warn("배송 이력 발행 실패: trackingNumber={}", trackingNumber, error);
+                    return Mono.empty();
+                })
+                .then();
+    }
+
+    public Flux<DeliveryHistoryResponse> watch(String trackingNumber) {
+        return streams.computeIfAbsent(trackingNumber, this::openStream);
+    }
+
+    // 해제 시 자기 자신일 때만 맵에서 제거 (그 사이 새로 열린 구독을 지우지 않도록)
+    private Flux<DeliveryHistoryResponse> openStream(String trackingNumber) {
+        AtomicReference<Flux<DeliveryHistoryResponse>> self = new AtomicReference<>();
+        Flux<DeliveryHistoryResponse> stream = listenerContainer.receive(ChannelTopic.of(CHANNEL_PREFIX + trackingNumber))
+                .flatMap(message -> read(trackingNumber, message.getMessage()))
+                .doFinally(signal -> streams.remove(trackingNumber, self.get()))
+                .publish()
+                .refCount();
+        self.set(stream);
+        return stream;
+    }
+
+    private Mono<DeliveryHistoryResponse> read(String trackingNumber, String json) {
+        try {
+            return Mono.just(objectMapper.readValue(json, DeliveryHistoryResponse.class));
+        } catch (JsonProcessingException e) {
+            log.warn("배송 이력 메시지 파싱 실패: trackingNumber={}", trackingNumber, e);
+            return Mono.empty();
+        }
+    }
+}
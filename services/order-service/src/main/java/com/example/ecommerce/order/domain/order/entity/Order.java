@@ -1,6 +1,7 @@
 package com.example.ecommerce.order.domain.order.entity;
 
 import com.example.ecommerce.common.core.entity.BaseEntity;
+import com.example.ecommerce.common.money.Money;
 import lombok.*;
 import org.springframework.data.annotation.Id;
 import org.springframework.data.relational.core.mapping.Column;
@@ -16,6 +17,8 @@ import java.time.LocalDateTime;
 @AllArgsConstructor
 public class Order extends BaseEntity {
 
+    private static final int POINT_EARN_RATE = 1;
+
     @Id
     private Long id;
 
@@ -111,24 +114,25 @@ public class Order extends BaseEntity {
                this.status == OrderStatus.COMPLETED;
     }
 
-    public static Order create(Long memberId, Long addressId, BigDecimal totalAmount,
-                                BigDecimal discountAmount, BigDecimal deliveryFee,
+    public static Order create(Long memberId, Long addressId, Money totalAmount,
+                                Money discountAmount, Money deliveryFee,
                                 Integer pointUsed, String orderNumber) {
-        BigDecimal finalAmount = totalAmount
-                .subtract(discountAmount)
-                .add(deliveryFee)
-                .subtract(BigDecimal.valueOf(pointUsed));
+        Money finalAmount = totalAmount
+                .minus(discountAmount)
+                .plus(deliveryFee)
+                .minus(Money.won(pointUsed));
 
-        int pointEarned = finalAmount.multiply(BigDecimal.valueOf(0.01)).intValue();
+        // 결제 금액의 1% 적립 (원 미만 절사)
+        int pointEarned = Math.toIntExact(finalAmount.percent(POINT_EARN_RATE).toWon());
 
         return Order.builder()
                 .orderNumber(orderNumber)
                 .memberId(memberId)
                 .addressId(addressId)
-                .totalAmount(totalAmount)
-                .discountAmount(discountAmount)
-                .deliveryFee(deliveryFee)
-                .finalAmount(finalAmount)
+                .totalAmount(totalAmount.toBigDecimal())
+                .discountAmount(discountAmount.toBigDecimal())
+                .deliveryFee(deliveryFee.toBigDecimal())
+                .finalAmount(finalAmount.toBigDecimal())
                 .pointUsed(pointUsed)
                 .pointEarned(pointEarned)
                 .status(OrderStatus.PENDING)
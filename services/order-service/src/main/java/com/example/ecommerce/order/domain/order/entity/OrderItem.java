@@ -1,6 +1,9 @@
 package com.example.ecommerce.order.domain.order.entity;
 
 import com.example.ecommerce.common.core.entity.BaseEntity;
+import com.example.ecommerce.common.money.Money;
+import com.example.ecommerce.order.domain.cart.pricing.CartLine;
+import com.example.ecommerce.order.domain.delivery.entity.DeliveryType;
 import lombok.*;
 import org.springframework.data.annotation.Id;
 import org.springframework.data.relational.core.mapping.Column;
@@ -54,10 +57,26 @@ public class OrderItem extends BaseEntity {
     @Column("seller_id")
     private Long sellerId;
 
-    public BigDecimal calculateFinalPrice() {
-        BigDecimal totalPrice = unitPrice.multiply(BigDecimal.valueOf(quantity));
-        BigDecimal discount = totalPrice.multiply(BigDecimal.valueOf(discountRate)).divide(BigDecimal.valueOf(100));
-        return totalPrice.subtract(discount);
+    @Column("delivery_type")
+    private DeliveryType deliveryType;
+
+    public Money calculateListPrice() {
+        return Money.of(unitPrice).times(quantity);
+    }
+
+    // 할인 후 금액 (원 미만 절사)
+    public Money calculateFinalPrice() {
+        return calculateListPrice().discount(discountRate);
+    }
+
+    public OrderItem assignOrder(Long orderId) {
+        this.orderId = orderId;
+        return this;
+    }
+
+    // 장바구니와 동일한 합계 계산기로 주문 금액을 계산하기 위한 변환
+    public CartLine toPricingLine() {
+        return CartLine.of(id, sellerId, deliveryType, calculateListPrice(), Money.of(finalPrice));
     }
 
     public OrderItem cancel() {
@@ -67,11 +86,10 @@ public class OrderItem extends BaseEntity {
 
     public static OrderItem create(Long orderId, Long productId, Long productOptionId,
                                    String productName, String optionName, Integer quantity,
-                                   BigDecimal unitPrice, Integer discountRate, Long sellerId) {
-        BigDecimal totalPrice = unitPrice.multiply(BigDecimal.valueOf(quantity));
-        BigDecimal discountAmount = totalPrice.multiply(BigDecimal.valueOf(discountRate))
-                .divide(BigDecimal.valueOf(100));
-        BigDecimal finalPrice = totalPrice.subtract(discountAmount);
+                                   BigDecimal unitPrice, Integer discountRate, Long sellerId,
+                                   DeliveryType deliveryType) {
+        Money listPrice = Money.of(unitPrice).times(quantity);
+        Money finalPrice = listPrice.discount(discountRate);
 
         return OrderItem.builder()
                 .orderId(orderId)
@@ -82,10 +100,11 @@ public class OrderItem extends BaseEntity {
                 .quantity(quantity)
                 .unitPrice(unitPrice)
                 .discountRate(discountRate)
-                .discountAmount(discountAmount)
-                .finalPrice(finalPrice)
+                .discountAmount(listPrice.minus(finalPrice).toBigDecimal())
+                .finalPrice(finalPrice.toBigDecimal())
                 .status(OrderItemStatus.ORDERED)
                 .sellerId(sellerId)
+                .deliveryType(deliveryType)
                 .build();
     }
 }
@@ -0,0 +1,15 @@
+package com.example.ecommerce.order.domain.order.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 재고 예약 해제를 아직 확인받지 못한 취소 주문
+ */
+@Getter
+@AllArgsConstructor
+public class PendingStockRelease {
+
+    private final Long orderId;
+    private final String reason;
+}
@@ -4,9 +4,13 @@ import com.example.ecommerce.order.domain.order.entity.OrderItem;
 import org.springframework.data.repository.reactive.ReactiveCrudRepository;
 import reactor.core.publisher.Flux;
 
+import java.util.Collection;
+
 public interface OrderItemRepository extends ReactiveCrudRepository<OrderItem, Long> {
 
     Flux<OrderItem> findByOrderId(Long orderId);
 
     Flux<OrderItem> findBySellerId(Long sellerId);
+
+    Flux<OrderItem> findByOrderIdIn(Collection<Long> orderIds);
 }
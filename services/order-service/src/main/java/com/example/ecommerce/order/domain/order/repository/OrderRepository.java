@@ -2,11 +2,15 @@ package com.example.ecommerce.order.domain.order.repository;
 
 import com.example.ecommerce.order.domain.order.entity.Order;
 import com.example.ecommerce.order.domain.order.entity.OrderStatus;
+import org.springframework.data.r2dbc.repository.Modifying;
 import org.springframework.data.r2dbc.repository.Query;
 import org.springframework.data.repository.reactive.ReactiveCrudRepository;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+
 public interface OrderRepository extends ReactiveCrudRepository<Order, Long> {
 
     Mono<Order> findByOrderNumber(String orderNumber);
@@ -22,5 +26,34 @@ public interface OrderRepository extends ReactiveCrudRepository<Order, Long> {
     Mono<Long> countByMemberId(Long memberId);
 
     @Query("SELECT * FROM orders WHERE status = :status AND created_at < :deadline")
-    Flux<Order> findPendingOrdersBeforeDeadline(OrderStatus status, java.time.LocalDateTime deadline);
+    Flux<Order> findPendingOrdersBeforeDeadline(OrderStatus status, LocalDateTime deadline);
+
+    @Modifying
+    @Query("UPDATE orders SET status = 'PAID', paid_at = :paidAt WHERE id IN (:ids) AND status = 'PENDING'")
+    Mono<Integer> markAsPaidByIdIn(Collection<Long> ids, LocalDateTime paidAt);
+
+    @Modifying
+    @Query("UPDATE orders SET status = 'PREPARING' WHERE id IN (:ids) AND status = 'PAID'")
+    Mono<Integer> markAsPreparingByIdIn(Collection<Long> ids);
+
+    @Modifying
+    @Query("UPDATE orders SET status = 'SHIPPED', shipped_at = :shippedAt " +
+           "WHERE id IN (:ids) AND status IN ('PAID', 'PREPARING')")
+    Mono<Integer> markAsShippedByIdIn(Collection<Long> ids, LocalDateTime shippedAt);
+
+    @Modifying
+    @Query("UPDATE orders SET status = 'DELIVERED', delivered_at = :deliveredAt " +
+           "WHERE id IN (:ids) AND status IN ('PAID', 'PREPARING', 'SHIPPED')")
+    Mono<Integer> markAsDeliveredByIdIn(Collection<Long> ids, LocalDateTime deliveredAt);
+
+    @Query("SELECT id FROM orders WHERE id IN (:ids) AND status = 'PENDING'")
+    Flux<Long> findPendingIds(Collection<Long> ids);
+
+    @Query("SELECT id FROM orders WHERE id IN (:ids) AND status = 'PENDING' FOR UPDATE")
+    Flux<Long> lockPendingIds(Collection<Long> ids);
+
+    @Modifying
+    @Query("UPDATE orders SET status = 'CANCELLED', cancelled_at = :cancelledAt, cancel_reason = :reason " +
+            "WHERE id IN (:ids)")
+    Mono<Integer> cancelByIdIn(Collection<Long> ids, LocalDateTime cancelledAt, String reason);
 }
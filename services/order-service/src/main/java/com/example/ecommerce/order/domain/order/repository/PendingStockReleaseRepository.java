@@ -0,0 +1,71 @@
+package com.example.ecommerce.order.domain.order.repository;
+
+import com.example.ecommerce.order.domain.order.entity.PendingStockRelease;
+import lombok.RequiredArgsConstructor;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.StringJoiner;
+
+/**
+ * 재고 해제 대기 주문 (pending_stock_releases)
+ */
+@Repository
+@RequiredArgsConstructor
+public class PendingStockReleaseRepository {
+
+    private final DatabaseClient databaseClient;
+
+    /**
+     * 주문 취소와 같은 트랜잭션에서 호출
+     */
+    public Mono<Long> saveAll(List<Long> orderIds, String reason) {
+        if (orderIds.isEmpty()) {
+            return Mono.just(0L);
+        }
+        StringJoiner values = new StringJoiner(", ");
+        for (int i = 0; i < orderIds.size(); i++) {
+            values.add("(:orderId" + i + ", :reason)");
+        }
+        DatabaseClient.GenericExecuteSpec spec = databaseClient.sql(
+                        "INSERT IGNORE INTO pending_stock_releases (order_id, reason) VALUES " + values)
+                .bind("reason", reason);
+        for (int i = 0; i < orderIds.size(); i++) {
+            spec = spec.bind("orderId" + i, orderIds.get(i));
+        }
+        return spec.fetch().rowsUpdated();
+    }
+
+    /**
+     * createdBefore 이전에 기록된 해제 대기 주문 (오래된 순)
+     */
+    public Flux<PendingStockRelease> findPending(LocalDateTime createdBefore, int limit) {
+        return databaseClient.sql("SELECT order_id, reason FROM pending_stock_releases " +
+                        "WHERE created_at < :createdBefore ORDER BY created_at LIMIT :limit")
+                .bind("createdBefore", createdBefore)
+                .bind("limit", limit)
+                .map(row -> new PendingStockRelease(row.get("order_id", Long.class), row.get("reason", String.class)))
+                .all();
+    }
+
+    public Mono<Long> markAttempted(Collection<Long> orderIds, LocalDateTime attemptedAt) {
+        return databaseClient.sql("UPDATE pending_stock_releases SET attempts = attempts + 1, " +
+                        "last_attempted_at = :attemptedAt WHERE order_id IN (:orderIds)")
+                .bind("attemptedAt", attemptedAt)
+                .bind("orderIds", orderIds)
+                .fetch()
+                .rowsUpdated();
+    }
+
+    public Mono<Long> deleteByOrderIdIn(Collection<Long> orderIds) {
+        return databaseClient.sql("DELETE FROM pending_stock_releases WHERE order_id IN (:orderIds)")
+                .bind("orderIds", orderIds)
+                .fetch()
+                .rowsUpdated();
+    }
+}
@@ -0,0 +1,52 @@
+package com.example.ecommerce.order.domain.order.scheduler;
+
+import com.example.ecommerce.order.domain.order.service.StockReleaseService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 재고 해제를 확인받지 못한 취소 주문 재시도
+ * - 취소 직후 해제 요청과 겹치지 않도록 기록 후 retry-after-seconds가 지난 주문만 대상
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PendingStockReleaseJob {
+
+    private final StockReleaseService stockReleaseService;
+
+    private final AtomicBoolean running = new AtomicBoolean(false);
+
+    @Value("${order.stock-release.retry-after-seconds:60}")
+    private long retryAfterSeconds;
+
+    @Value("${order.stock-release.retry-limit:5000}")
+    private int retryLimit;
+
+    @Value("${order.stock-release.orders-per-request:200}")
+    private int ordersPerRequest;
+
+    @Scheduled(fixedDelayString = "${order.stock-release.retry-delay-ms:60000}")
+    public void run() {
+        if (!running.compareAndSet(false, true)) {
+            log.warn("재고 해제 재시도가 이미 실행 중입니다");
+            return;
+        }
+        stockReleaseService.retryPending(LocalDateTime.now().minusSeconds(retryAfterSeconds), retryLimit, ordersPerRequest)
+                .doFinally(signal -> running.set(false))
+                .subscribe(
+                        released -> {
+                            if (released > 0) {
+                                log.info("재고 해제 재시도 완료: orders={}", released);
+                            }
+                        },
+                        error -> log.error("재고 해제 재시도 실패", error)
+                );
+    }
+}
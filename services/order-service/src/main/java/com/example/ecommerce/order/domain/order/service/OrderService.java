@@ -6,6 +6,7 @@ import com.example.ecommerce.common.kafka.Topics;
 import com.example.ecommerce.common.kafka.publisher.EventPublisher;
 import com.example.ecommerce.events.order.OrderCancelledEvent;
 import com.example.ecommerce.events.order.OrderCreatedEvent;
+import com.example.ecommerce.order.domain.cart.pricing.CartSummary;
 import com.example.ecommerce.order.domain.order.dto.request.OrderCancelRequest;
 import com.example.ecommerce.order.domain.order.dto.request.OrderCreateRequest;
 import com.example.ecommerce.order.domain.order.dto.response.OrderItemResponse;
@@ -23,12 +24,9 @@ import org.springframework.transaction.annotation.Transactional;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
-import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
-import java.util.List;
 import java.util.UUID;
-import java.util.stream.Collectors;
 
 @Slf4j
 @Service
@@ -40,68 +38,69 @@ public class OrderService {
     private final ProductServiceClient productServiceClient;
     private final EventPublisher eventPublisher;
 
-    private static final BigDecimal FREE_DELIVERY_THRESHOLD = BigDecimal.valueOf(30000);
-    private static final BigDecimal DELIVERY_FEE = BigDecimal.valueOf(3000);
-
     @Transactional
     public Mono<OrderResponse> createOrder(Long memberId, OrderCreateRequest request) {
         String orderNumber = generateOrderNumber();
+        Integer pointToUse = request.getPointToUse() != null ? request.getPointToUse() : 0;
 
         return Flux.fromIterable(request.getItems())
-                .flatMap(item -> productServiceClient.reserveStock(
-                        item.getProductOptionId(),
-                        item.getQuantity(),
-                        null
-                ).map(inventory -> item))
+                .flatMapSequential(item -> productServiceClient.reserveStock(
+                                item.getProductOptionId(),
+                                item.getQuantity(),
+                                null
+                        )
+                        .then(productServiceClient.getProductInfo(item.getProductId()))
+                        .map(product -> OrderItem.create(
+                                null,
+                                item.getProductId(),
+                                item.getProductOptionId(),
+                                product.getName(),
+                                "옵션명",
+                                item.getQuantity(),
+                                product.getBasePrice(),
+                                product.getDiscountRate(),
+                                product.getSellerId(),
+                                product.getDeliveryType()
+                        )))
                 .collectList()
-                .flatMap(items -> {
-                    BigDecimal totalAmount = BigDecimal.ZERO;
-                    BigDecimal deliveryFee = totalAmount.compareTo(FREE_DELIVERY_THRESHOLD) >= 0
-                            ? BigDecimal.ZERO : DELIVERY_FEE;
-                    Integer pointToUse = request.getPointToUse() != null ? request.getPointToUse() : 0;
+                .flatMap(orderItems -> {
+                    // 장바구니와 같은 계산기로 배송 그룹별 배송비를 계산
+                    CartSummary summary = CartSummary.of(orderItems.stream()
+                            .map(OrderItem::toPricingLine)
+                            .toList());
 
                     Order order = Order.create(
                             memberId,
                             request.getAddressId(),
-                            totalAmount,
-                            BigDecimal.ZERO,
-                            deliveryFee,
+                            summary.getSelectedListPrice(),
+                            summary.getDiscountAmount(),
+                            summary.getDeliveryFee(),
                             pointToUse,
                             orderNumber
                     );
 
-                    return orderRepository.save(order);
-                })
-                .flatMap(savedOrder -> {
-                    List<OrderItem> orderItems = request.getItems().stream()
-                            .map(item -> OrderItem.create(
-                                    savedOrder.getId(),
-                                    item.getProductId(),
-                                    item.getProductOptionId(),
-                                    "상품명",
-                                    "옵션명",
-                                    item.getQuantity(),
-                                    BigDecimal.ZERO,
-                                    0,
-                                    null
-                            ))
-                            .collect(Collectors.toList());
-
-                    return orderItemRepository.saveAll(orderItems)
-                            .collectList()
-                            .map(savedItems -> {
-                                List<OrderItemResponse> itemResponses = savedItems.stream()
-                                        .map(OrderItemResponse::from)
-                                        .collect(Collectors.toList());
-                                return OrderResponse.from(savedOrder, itemResponses);
-                            });
+                    return orderRepository.save(order)
+                            .flatMap(savedOrder -> orderItemRepository.saveAll(orderItems.stream()
+                                            .map(item -> item.assignOrder(savedOrder.getId()))
+                                            .toList())
+                                    .map(OrderItemResponse::from)
+                                    .collectList()
+                                    .map(itemResponses -> OrderResponse.from(savedOrder, itemResponses)));
                 })
                 .flatMap(response -> {
                     OrderCreatedEvent event = OrderCreatedEvent.of(
                             response.getId(),
-                            response.getOrderNumber(),
                             response.getMemberId(),
-                            response.getFinalAmount()
+                            response.getOrderNumber(),
+                            response.getFinalAmount(),
+                            response.getItems().stream()
+                                    .map(item -> OrderCreatedEvent.OrderItem.builder()
+                                            .productId(item.getProductId())
+                                            .productOptionId(item.getProductOptionId())
+                                            .quantity(item.getQuantity())
+                                            .price(item.getFinalPrice())
+                                            .build())
+                                    .toList()
                     );
                     return eventPublisher.publish(Topics.ORDER_EVENTS, event)
                             .thenReturn(response);
@@ -157,17 +156,24 @@ public class OrderService {
                                 "주문 취소"
                         ).thenReturn(item))
                         .collectList()
-                        .map(items -> order))
-                .flatMap(order -> {
-                    OrderCancelledEvent event = OrderCancelledEvent.of(
-                            order.getId(),
-                            order.getOrderNumber(),
-                            order.getMemberId(),
-                            request.getReason()
-                    );
-                    return eventPublisher.publish(Topics.ORDER_EVENTS, event)
-                            .thenReturn(order);
-                })
+                        .flatMap(items -> {
+                            OrderCancelledEvent event = OrderCancelledEvent.of(
+                                    order.getId(),
+                                    order.getMemberId(),
+                                    order.getOrderNumber(),
+                                    request.getReason(),
+                                    order.getOrderedAt(),
+                                    items.stream()
+                                            .map(item -> OrderCancelledEvent.CancelledItem.builder()
+                                                    .productId(item.getProductId())
+                                                    .productOptionId(item.getProductOptionId())
+                                                    .quantity(item.getQuantity())
+                                                    .build())
+                                            .toList()
+                            );
+                            return eventPublisher.publish(Topics.ORDER_EVENTS, event)
+                                    .thenReturn(order);
+                        }))
                 .flatMap(this::enrichOrderWithItems)
                 .doOnSuccess(response -> log.info("주문 취소 완료: orderId={}", orderId));
     }
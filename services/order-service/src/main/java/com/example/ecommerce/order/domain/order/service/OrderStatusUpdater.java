@@ -0,0 +1,130 @@
+package com.example.ecommerce.order.domain.order.service;
+
+import com.example.ecommerce.events.DomainEvent;
+import com.example.ecommerce.events.delivery.DeliveryStatusChangedEvent;
+import com.example.ecommerce.events.payment.PaymentCompletedEvent;
+import com.example.ecommerce.order.domain.order.entity.OrderStatus;
+import com.example.ecommerce.order.domain.order.repository.OrderRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * 결제/배송 이벤트 묶음을 주문 상태에 반영
+ * - 목표 상태별로 주문 id를 모아 조건부 일괄 UPDATE (PAID → PREPARING → SHIPPED → DELIVERED 순서)
+ * - 이미 반영됐거나 더 진행된 주문은 조건에 걸려 변경되지 않으므로 재처리해도 안전
+ * - 결제 이벤트보다 먼저 도착한 배송 이벤트(주문이 아직 PENDING)는 반영하지 않고 LaggingOrdersException으로 알림
+ *   (컨슈머가 해당 이벤트를 보관함에 넣고 결제 반영 후 재반영)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class OrderStatusUpdater {
+
+    private final OrderRepository orderRepository;
+    private final MeterRegistry meterRegistry;
+
+    @Transactional
+    public Mono<Integer> apply(List<DomainEvent> events) {
+        Map<OrderStatus, Set<Long>> targets = new EnumMap<>(OrderStatus.class);
+        for (DomainEvent event : events) {
+            if (event instanceof PaymentCompletedEvent payment) {
+                add(targets, OrderStatus.PAID, payment.getOrderId());
+            } else if (event instanceof DeliveryStatusChangedEvent delivery) {
+                OrderStatus target = toOrderStatus(delivery.getStatus());
+                if (target != null) {
+                    add(targets, target, delivery.getOrderId());
+                }
+            }
+        }
+        if (targets.isEmpty()) {
+            return Mono.just(0);
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        return update(targets, OrderStatus.PAID, ids -> orderRepository.markAsPaidByIdIn(ids, now))
+                .flatMap(paid -> update(targets, OrderStatus.PREPARING, orderRepository::markAsPreparingByIdIn)
+                        .map(preparing -> paid + preparing))
+                .flatMap(count -> update(targets, OrderStatus.SHIPPED, ids -> orderRepository.markAsShippedByIdIn(ids, now))
+                        .map(shipped -> count + shipped))
+                .flatMap(count -> update(targets, OrderStatus.DELIVERED, ids -> orderRepository.markAsDeliveredByIdIn(ids, now))
+                        .map(delivered -> count + delivered))
+                .flatMap(updated -> checkLagging(targets).thenReturn(updated))
+                .doOnSuccess(updated -> log.debug("주문 상태 일괄 반영: events={}, updated={}", events.size(), updated));
+    }
+
+    private Mono<Integer> update(Map<OrderStatus, Set<Long>> targets, OrderStatus status,
+                                 Function<Set<Long>, Mono<Integer>> query) {
+        Set<Long> ids = targets.get(status);
+        if (ids == null) {
+            return Mono.just(0);
+        }
+        // 조건에 걸려 변경되지 않은 주문 (이미 반영됨, 더 진행됨, 취소됨, 또는 아직 결제 전)
+        return query.apply(ids)
+                .doOnNext(updated -> meterRegistry.counter("order.status.updates", "target", status.name(), "result", "skipped")
+                        .increment(ids.size() - updated));
+    }
+
+    // 배송 이벤트 대상 중 아직 PENDING인 주문이 있으면 실패 (트랜잭션이 롤백되어 묶음 전체가 반영되지 않음)
+    private Mono<Void> checkLagging(Map<OrderStatus, Set<Long>> targets) {
+        Set<Long> deliveryTargets = new LinkedHashSet<>();
+        targets.forEach((status, ids) -> {
+            if (status != OrderStatus.PAID) {
+                deliveryTargets.addAll(ids);
+            }
+        });
+        if (deliveryTargets.isEmpty()) {
+            return Mono.empty();
+        }
+        return orderRepository.findPendingIds(deliveryTargets)
+                .collectList()
+                .flatMap(pending -> {
+                    if (pending.isEmpty()) {
+                        return Mono.empty();
+                    }
+                    meterRegistry.counter("order.status.updates", "result", "lagging").increment(pending.size());
+                    return Mono.error(new LaggingOrdersException(pending));
+                });
+    }
+
+    private void add(Map<OrderStatus, Set<Long>> targets, OrderStatus status, Long orderId) {
+        targets.computeIfAbsent(status, key -> new LinkedHashSet<>()).add(orderId);
+    }
+
+    private OrderStatus toOrderStatus(String deliveryStatus) {
+        return switch (deliveryStatus) {
+            case "PREPARING" -> OrderStatus.PREPARING;
+            case "SHIPPED", "OUT_FOR_DELIVERY" -> OrderStatus.SHIPPED;
+            case "DELIVERED" -> OrderStatus.DELIVERED;
+            default -> null;
+        };
+    }
+
+    /**
+     * 결제 이벤트가 아직 반영되지 않아 배송 이벤트를 적용할 수 없는 주문이 있음 (보관 후 재반영 대상)
+     */
+    @Getter
+    public static class LaggingOrdersException extends RuntimeException {
+
+        private final Set<Long> orderIds;
+
+        public LaggingOrdersException(Collection<Long> orderIds) {
+            super("결제 반영 전 주문의 배송 이벤트: orderIds=" + orderIds);
+            this.orderIds = new HashSet<>(orderIds);
+        }
+    }
+}
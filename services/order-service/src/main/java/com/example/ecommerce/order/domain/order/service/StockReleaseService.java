@@ -0,0 +1,89 @@
+package com.example.ecommerce.order.domain.order.service;
+
+import com.example.ecommerce.order.domain.order.entity.OrderItem;
+import com.example.ecommerce.order.domain.order.entity.PendingStockRelease;
+import com.example.ecommerce.order.domain.order.repository.OrderItemRepository;
+import com.example.ecommerce.order.domain.order.repository.PendingStockReleaseRepository;
+import com.example.ecommerce.order.external.ProductServiceClient;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 취소 주문의 재고 예약 해제
+ * - 취소 트랜잭션에서 pending_stock_releases에 기록한 주문을 상품 서비스에 일괄 해제 요청
+ * - 상품 서비스가 해제를 확인한 주문만 대기 목록에서 삭제 (실패분은 PendingStockReleaseJob이 재시도)
+ * - 상품 서비스는 주문/옵션별 해제 기록으로 중복 해제를 막으므로 재시도해도 안전
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class StockReleaseService {
+
+    private static final int MAX_RELEASE_ITEMS = 1000;
+    private static final Duration RETRY_BACKOFF = Duration.ofMillis(500);
+
+    private final OrderItemRepository orderItemRepository;
+    private final PendingStockReleaseRepository pendingStockReleaseRepository;
+    private final ProductServiceClient productServiceClient;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${order.stock-release.max-retries:3}")
+    private int maxRetries;
+
+    /**
+     * 주문 상품의 재고 예약 해제 후 대기 목록에서 삭제
+     *
+     * @return 해제를 확인했으면 true
+     */
+    public Mono<Boolean> release(List<OrderItem> items, String reason) {
+        List<Long> orderIds = items.stream().map(OrderItem::getOrderId).distinct().toList();
+        if (orderIds.isEmpty()) {
+            return Mono.just(true);
+        }
+        return Flux.fromIterable(items)
+                .buffer(MAX_RELEASE_ITEMS)
+                .concatMap(batch -> productServiceClient.releaseStockBulk(batch, reason)
+                        .retryWhen(Retry.backoff(maxRetries, RETRY_BACKOFF)))
+                .then(pendingStockReleaseRepository.deleteByOrderIdIn(orderIds))
+                .doOnSuccess(deleted -> meterRegistry.counter("order.stock_release", "result", "released")
+                        .increment(orderIds.size()))
+                .thenReturn(true)
+                .onErrorResume(error -> {
+                    meterRegistry.counter("order.stock_release", "result", "failed").increment(orderIds.size());
+                    log.error("재고 해제 실패, 재시도 대상으로 남김: orderIds={}", orderIds, error);
+                    return pendingStockReleaseRepository.markAttempted(orderIds, LocalDateTime.now())
+                            .onErrorResume(markError -> Mono.empty())
+                            .thenReturn(false);
+                });
+    }
+
+    /**
+     * 해제 대기 주문 재시도
+     *
+     * @return 해제를 확인한 주문 수
+     */
+    public Mono<Long> retryPending(LocalDateTime createdBefore, int limit, int ordersPerRequest) {
+        return pendingStockReleaseRepository.findPending(createdBefore, limit)
+                .collectMultimap(PendingStockRelease::getReason, PendingStockRelease::getOrderId)
+                .flatMapMany(orderIdsByReason -> Flux.fromIterable(orderIdsByReason.entrySet()))
+                .concatMap(byReason -> Flux.fromIterable(byReason.getValue())
+                        .buffer(ordersPerRequest)
+                        .concatMap(orderIds -> orderItemRepository.findByOrderIdIn(orderIds)
+                                .collectList()
+                                .flatMap(items -> items.isEmpty()
+                                        ? pendingStockReleaseRepository.deleteByOrderIdIn(orderIds).thenReturn(true)
+                                        : release(items, byReason.getKey()))
+                                .map(released -> released ? (long) orderIds.size() : 0L)))
+                .reduce(0L, Long::sum);
+    }
+}
@@ -4,8 +4,12 @@ import com.example.ecommerce.common.core.response.ApiResponse;
 import com.example.ecommerce.order.domain.payment.dto.request.PaymentConfirmRequest;
 import com.example.ecommerce.order.domain.payment.dto.request.PaymentRequest;
 import com.example.ecommerce.order.domain.payment.dto.request.RefundRequest;
+import com.example.ecommerce.order.domain.payment.dto.request.SplitPaymentRequest;
 import com.example.ecommerce.order.domain.payment.dto.response.PaymentResponse;
 import com.example.ecommerce.order.domain.payment.service.PaymentService;
+import com.example.ecommerce.order.domain.payment.service.SplitPaymentService;
+import com.example.ecommerce.order.domain.payment.webhook.DepositNotification;
+import com.example.ecommerce.order.domain.payment.webhook.VirtualAccountDepositIngestor;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -22,6 +26,8 @@ import java.math.BigDecimal;
 public class PaymentController {
 
     private final PaymentService paymentService;
+    private final SplitPaymentService splitPaymentService;
+    private final VirtualAccountDepositIngestor depositIngestor;
 
     @PostMapping
     @ResponseStatus(HttpStatus.CREATED)
@@ -33,6 +39,17 @@ public class PaymentController {
                 .map(response -> ApiResponse.success(response, "결제가 시작되었습니다."));
     }
 
+    @PostMapping("/split")
+    @ResponseStatus(HttpStatus.CREATED)
+    public Mono<ApiResponse<PaymentResponse>> paySplit(
+            @RequestAttribute("memberId") Long memberId,
+            @Valid @RequestBody SplitPaymentRequest request
+    ) {
+        log.info("복합결제 요청: orderId={}, tenders={}", request.getOrderId(), request.getTenders().size());
+        return splitPaymentService.pay(memberId, request)
+                .map(response -> ApiResponse.success(response, "결제가 완료되었습니다."));
+    }
+
     @PostMapping("/confirm")
     public Mono<ApiResponse<PaymentResponse>> confirmPayment(
             @Valid @RequestBody PaymentConfirmRequest request
@@ -79,13 +96,17 @@ public class PaymentController {
     }
 
     // Webhook endpoint for PG callback
+    // 접수만 하고 즉시 응답, 실제 반영은 VirtualAccountDepositIngestor에서 묶음 처리
     @PostMapping("/webhook/virtual-account")
-    public Mono<ApiResponse<PaymentResponse>> handleVirtualAccountDeposit(
+    @ResponseStatus(HttpStatus.ACCEPTED)
+    public Mono<ApiResponse<Void>> handleVirtualAccountDeposit(
             @RequestParam String paymentKey,
-            @RequestParam BigDecimal amount
+            @RequestParam BigDecimal amount,
+            @RequestParam(required = false) String transactionId
     ) {
-        log.info("가상계좌 입금 webhook: paymentKey={}, amount={}", paymentKey, amount);
-        return paymentService.handleVirtualAccountDeposit(paymentKey, amount)
-                .map(response -> ApiResponse.success(response, "입금이 확인되었습니다."));
+        log.info("가상계좌 입금 webhook: paymentKey={}, amount={}, transactionId={}",
+                paymentKey, amount, transactionId);
+        return depositIngestor.accept(DepositNotification.of(transactionId, paymentKey, amount))
+                .then(Mono.just(ApiResponse.<Void>success(null, "입금 통지가 접수되었습니다.")));
     }
 }
@@ -0,0 +1,44 @@
+package com.example.ecommerce.order.domain.payment.dto.request;
+
+import com.example.ecommerce.order.domain.payment.entity.PaymentMethod;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.*;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+@Getter
+@Builder
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+public class SplitPaymentRequest {
+
+    @NotNull(message = "주문 ID는 필수입니다")
+    private Long orderId;
+
+    @NotEmpty(message = "결제 수단은 필수입니다")
+    @Size(max = 5, message = "결제 수단은 최대 5개까지 조합할 수 있습니다")
+    @Valid
+    private List<Tender> tenders;
+
+    @Getter
+    @Builder
+    @NoArgsConstructor(access = AccessLevel.PROTECTED)
+    @AllArgsConstructor
+    public static class Tender {
+
+        @NotNull(message = "결제 수단은 필수입니다")
+        private PaymentMethod method;
+
+        @NotNull(message = "결제 금액은 필수입니다")
+        @DecimalMin(value = "1", message = "결제 금액은 1원 이상이어야 합니다")
+        private BigDecimal amount;
+
+        // PG 결제는 paymentKey, 쿠폰은 쿠폰 ID
+        private String approvalKey;
+    }
+}
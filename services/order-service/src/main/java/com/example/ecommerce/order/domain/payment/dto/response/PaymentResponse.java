@@ -3,10 +3,12 @@ package com.example.ecommerce.order.domain.payment.dto.response;
 import com.example.ecommerce.order.domain.payment.entity.Payment;
 import com.example.ecommerce.order.domain.payment.entity.PaymentMethod;
 import com.example.ecommerce.order.domain.payment.entity.PaymentStatus;
+import com.example.ecommerce.order.domain.payment.entity.PaymentTender;
 import lombok.*;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.List;
 
 @Getter
 @Builder
@@ -36,6 +38,7 @@ public class PaymentResponse {
     private LocalDateTime cancelledAt;
     private LocalDateTime refundedAt;
     private String failureReason;
+    private List<PaymentTenderResponse> tenders;
 
     public static PaymentResponse from(Payment payment) {
         return PaymentResponse.builder()
@@ -64,6 +67,14 @@ public class PaymentResponse {
                 .build();
     }
 
+    public static PaymentResponse from(Payment payment, List<PaymentTender> tenders) {
+        PaymentResponse response = from(payment);
+        response.tenders = tenders.stream()
+                .map(PaymentTenderResponse::from)
+                .toList();
+        return response;
+    }
+
     private static String maskCardNumber(String cardNumber) {
         if (cardNumber == null || cardNumber.length() < 4) {
             return cardNumber;
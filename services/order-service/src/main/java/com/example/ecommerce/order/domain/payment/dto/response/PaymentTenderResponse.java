@@ -0,0 +1,35 @@
+package com.example.ecommerce.order.domain.payment.dto.response;
+
+import com.example.ecommerce.order.domain.payment.entity.PaymentMethod;
+import com.example.ecommerce.order.domain.payment.entity.PaymentTender;
+import com.example.ecommerce.order.domain.payment.entity.TenderStatus;
+import lombok.*;
+
+import java.math.BigDecimal;
+
+@Getter
+@Builder
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+public class PaymentTenderResponse {
+
+    private Long id;
+    private PaymentMethod method;
+    private String methodDescription;
+    private BigDecimal amount;
+    private TenderStatus status;
+    private String statusDescription;
+    private String failureReason;
+
+    public static PaymentTenderResponse from(PaymentTender tender) {
+        return PaymentTenderResponse.builder()
+                .id(tender.getId())
+                .method(tender.getMethod())
+                .methodDescription(tender.getMethod().getDescription())
+                .amount(tender.getAmount())
+                .status(tender.getStatus())
+                .statusDescription(tender.getStatus().getDescription())
+                .failureReason(tender.getFailureReason())
+                .build();
+    }
+}
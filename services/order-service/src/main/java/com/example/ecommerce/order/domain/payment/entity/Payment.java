@@ -40,6 +40,10 @@ public class Payment extends BaseEntity {
     @Column("refunded_amount")
     private BigDecimal refundedAmount;
 
+    // 환불 진행 중(REFUNDING)인 금액
+    @Column("refunding_amount")
+    private BigDecimal refundingAmount;
+
     @Column("card_company")
     private String cardCompany;
 
@@ -73,6 +77,19 @@ public class Payment extends BaseEntity {
     @Column("failure_reason")
     private String failureReason;
 
+    public Payment markAsConfirming(String paymentKey) {
+        this.paymentKey = paymentKey;
+        this.status = PaymentStatus.CONFIRMING;
+        return this;
+    }
+
+    public Payment markAsSplitConfirming(String paymentKey, BigDecimal amount) {
+        this.method = PaymentMethod.SPLIT;
+        this.amount = amount;
+        this.failureReason = null;
+        return markAsConfirming(paymentKey);
+    }
+
     public Payment markAsPaid(String paymentKey, BigDecimal paidAmount) {
         this.paymentKey = paymentKey;
         this.status = PaymentStatus.PAID;
@@ -88,17 +105,9 @@ public class Payment extends BaseEntity {
         return this;
     }
 
-    public Payment markAsRefunded(BigDecimal refundAmount) {
-        this.refundedAmount = this.refundedAmount != null
-                ? this.refundedAmount.add(refundAmount)
-                : refundAmount;
-
-        if (this.refundedAmount.compareTo(this.paidAmount) >= 0) {
-            this.status = PaymentStatus.REFUNDED;
-        } else {
-            this.status = PaymentStatus.PARTIAL_REFUNDED;
-        }
-        this.refundedAt = LocalDateTime.now();
+    public Payment markAsRefunding(BigDecimal refundAmount) {
+        this.status = PaymentStatus.REFUNDING;
+        this.refundingAmount = refundAmount;
         return this;
     }
 
@@ -132,11 +141,23 @@ public class Payment extends BaseEntity {
                 .build();
     }
 
-    public static Payment createVirtualAccount(Long orderId, BigDecimal amount,
+    public static Payment createSplit(Long orderId, BigDecimal amount) {
+        return Payment.builder()
+                .orderId(orderId)
+                .method(PaymentMethod.SPLIT)
+                .status(PaymentStatus.PENDING)
+                .amount(amount)
+                .paidAmount(BigDecimal.ZERO)
+                .refundedAmount(BigDecimal.ZERO)
+                .build();
+    }
+
+    public static Payment createVirtualAccount(Long orderId, String paymentKey, BigDecimal amount,
                                                String bankName, String accountNumber,
                                                String holder, LocalDateTime dueDate) {
         return Payment.builder()
                 .orderId(orderId)
+                .paymentKey(paymentKey)
                 .method(PaymentMethod.VIRTUAL_ACCOUNT)
                 .status(PaymentStatus.WAITING_FOR_DEPOSIT)
                 .amount(amount)
@@ -8,7 +8,9 @@ public enum PaymentMethod {
     KAKAO_PAY("카카오페이"),
     NAVER_PAY("네이버페이"),
     TOSS("토스"),
-    POINT("포인트");
+    POINT("포인트"),
+    COUPON("쿠폰"),
+    SPLIT("복합결제");
 
     private final String description;
 
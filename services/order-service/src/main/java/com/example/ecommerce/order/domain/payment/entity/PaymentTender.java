@@ -0,0 +1,83 @@
+package com.example.ecommerce.order.domain.payment.entity;
+
+import com.example.ecommerce.common.core.entity.BaseEntity;
+import lombok.*;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.Column;
+import org.springframework.data.relational.core.mapping.Table;
+
+import java.math.BigDecimal;
+
+/**
+ * 복합결제의 결제 수단별 내역 (카드/적립금/쿠폰)
+ */
+@Table("payment_tenders")
+@Getter
+@Builder
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+public class PaymentTender extends BaseEntity {
+
+    @Id
+    private Long id;
+
+    @Column("payment_id")
+    private Long paymentId;
+
+    @Column("method")
+    private PaymentMethod method;
+
+    @Column("amount")
+    private BigDecimal amount;
+
+    @Column("status")
+    private TenderStatus status;
+
+    // PG paymentKey
+    @Column("approval_key")
+    private String approvalKey;
+
+    @Column("failure_reason")
+    private String failureReason;
+
+    public PaymentTender authorize() {
+        this.status = TenderStatus.AUTHORIZED;
+        return this;
+    }
+
+    public PaymentTender decline(String reason) {
+        this.status = TenderStatus.DECLINED;
+        this.failureReason = reason;
+        return this;
+    }
+
+    public PaymentTender compensate() {
+        this.status = TenderStatus.COMPENSATED;
+        return this;
+    }
+
+    public PaymentTender failCompensation(String reason) {
+        this.status = TenderStatus.COMPENSATION_FAILED;
+        this.failureReason = reason;
+        return this;
+    }
+
+    // 외부 승인 멱등 키 (결제 수단 내역마다 하나, 재시도해도 같은 키)
+    public String idempotencyKey() {
+        return "split_tender_" + id;
+    }
+
+    public boolean isPgTender() {
+        return method != PaymentMethod.POINT && method != PaymentMethod.COUPON;
+    }
+
+    public static PaymentTender create(Long paymentId, PaymentMethod method, BigDecimal amount, String approvalKey) {
+        return PaymentTender.builder()
+                .paymentId(paymentId)
+                .method(method)
+                .amount(amount)
+                .status(TenderStatus.PENDING)
+                .approvalKey(approvalKey)
+                .build();
+    }
+}
@@ -0,0 +1,19 @@
+package com.example.ecommerce.order.domain.payment.entity;
+
+public enum TenderStatus {
+    PENDING("승인 대기"),
+    AUTHORIZED("승인 완료"),
+    DECLINED("승인 거절"),
+    COMPENSATED("승인 취소"),
+    COMPENSATION_FAILED("승인 취소 실패");
+
+    private final String description;
+
+    TenderStatus(String description) {
+        this.description = description;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+}
@@ -0,0 +1,8 @@
+package com.example.ecommerce.order.domain.payment.reconciliation;
+
+public enum MismatchType {
+    MISSING_IN_PG,        // 결제 완료 이력이 있으나 정산 파일에 없음
+    MISSING_IN_PAYMENTS,  // 정산 파일에는 있으나 결제 정보 없음
+    STATUS_MISMATCH,
+    AMOUNT_MISMATCH
+}
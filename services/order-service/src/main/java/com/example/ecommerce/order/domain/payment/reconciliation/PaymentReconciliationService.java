@@ -0,0 +1,177 @@
+package com.example.ecommerce.order.domain.payment.reconciliation;
+
+import com.example.ecommerce.order.domain.payment.entity.Payment;
+import com.example.ecommerce.order.domain.payment.repository.PaymentRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * PG 정산 파일 ↔ payments 대사
+ * - 양쪽 모두 paymentKey 오름차순으로 스트리밍하며 merge-join
+ * - payments는 keyset 페이지 단위로만 메모리에 올라옴
+ * - 불일치는 리포트 파일에 바로 기록하고 건수만 집계
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PaymentReconciliationService {
+
+    private final PaymentRepository paymentRepository;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${payment.reconciliation.page-size:1000}")
+    private int pageSize;
+
+    public Mono<ReconciliationSummary> reconcile(Path settlementFile, SettlementFormat format,
+                                                 LocalDate settlementDate, Path reportFile) {
+        return Mono.fromCallable(() -> merge(settlementFile, format, settlementDate, reportFile))
+                .subscribeOn(Schedulers.boundedElastic())
+                .doOnSuccess(this::recordMetrics)
+                .doOnSuccess(summary -> log.info("결제 대사 완료: date={}, settlementRows={}, paymentRows={}, matched={}, mismatches={}",
+                        settlementDate, summary.getSettlementRows(), summary.getPaymentRows(),
+                        summary.getMatched(), summary.getMismatches()));
+    }
+
+    private ReconciliationSummary merge(Path settlementFile, SettlementFormat format,
+                                        LocalDate settlementDate, Path reportFile) throws IOException {
+        ReconciliationSummary summary = new ReconciliationSummary(settlementDate);
+        LocalDateTime from = settlementDate.atStartOfDay();
+        LocalDateTime to = from.plusDays(1);
+
+        try (Stream<Payment> paymentStream = streamPayments(from, to).toStream(pageSize);
+             SettlementFileReader records = new SettlementFileReader(settlementFile, format);
+             ReconciliationReportWriter report = new ReconciliationReportWriter(reportFile)) {
+
+            // DB 정렬(collation)과 Java 문자열 비교가 어긋나면 merge 결과를 믿을 수 없으므로 중단
+            Iterator<Payment> payments = paymentStream
+                    .peek(new AscendingKeyCheck())
+                    .iterator();
+            Payment payment = nextOrNull(payments);
+            SettlementRecord record = nextOrNull(records);
+
+            while (payment != null || record != null) {
+                int compared = payment == null ? 1
+                        : record == null ? -1
+                        : payment.getPaymentKey().compareTo(record.getPaymentKey());
+
+                if (compared < 0) {
+                    summary.countPaymentRow();
+                    // 입금 전 만료/취소된 가상계좌처럼 결제된 적 없는 건은 정산 대상이 아님
+                    if (payment.getPaidAt() != null) {
+                        mismatch(summary, report, MismatchType.MISSING_IN_PG, payment, null);
+                    }
+                    payment = nextOrNull(payments);
+                } else if (compared > 0) {
+                    summary.countSettlementRow();
+                    mismatch(summary, report, MismatchType.MISSING_IN_PAYMENTS, null, record);
+                    record = nextOrNull(records);
+                } else {
+                    summary.countPaymentRow();
+                    summary.countSettlementRow();
+                    compare(summary, report, payment, record);
+                    payment = nextOrNull(payments);
+                    record = nextOrNull(records);
+                }
+            }
+        }
+        return summary;
+    }
+
+    private void compare(ReconciliationSummary summary, ReconciliationReportWriter report,
+                         Payment payment, SettlementRecord record) {
+        if (!expectedStatus(payment).equals(record.getStatus())) {
+            mismatch(summary, report, MismatchType.STATUS_MISMATCH, payment, record);
+        } else if (expectedAmount(payment).compareTo(record.getAmount()) != 0) {
+            mismatch(summary, report, MismatchType.AMOUNT_MISMATCH, payment, record);
+        } else {
+            summary.countMatched();
+        }
+    }
+
+    private void mismatch(ReconciliationSummary summary, ReconciliationReportWriter report,
+                          MismatchType type, Payment payment, SettlementRecord record) {
+        summary.countMismatch(type);
+        report.write(type,
+                payment != null ? payment.getPaymentKey() : record.getPaymentKey(),
+                payment != null ? payment.getStatus().name() : null,
+                record != null ? record.getStatus() : null,
+                payment != null ? expectedAmount(payment) : null,
+                record != null ? record.getAmount() : null,
+                record != null ? record.getLineNumber() : null);
+    }
+
+    /**
+     * 결제 상태 → PG 정산 상태
+     */
+    private String expectedStatus(Payment payment) {
+        return switch (payment.getStatus()) {
+            case PAID -> "DONE";
+            case PARTIAL_REFUNDED -> "PARTIAL_CANCELED";
+            case CANCELLED, REFUNDED -> "CANCELED";
+            default -> payment.getStatus().name();
+        };
+    }
+
+    /**
+     * 정산 순액 = 결제 금액 - 환불 금액
+     */
+    private BigDecimal expectedAmount(Payment payment) {
+        BigDecimal paid = payment.getPaidAmount() != null ? payment.getPaidAmount() : BigDecimal.ZERO;
+        BigDecimal refunded = payment.getRefundedAmount() != null ? payment.getRefundedAmount() : BigDecimal.ZERO;
+        return paid.subtract(refunded);
+    }
+
+    private Flux<Payment> streamPayments(LocalDateTime from, LocalDateTime to) {
+        return fetchPage("", from, to)
+                .expand(page -> page.size() < pageSize
+                        ? Mono.empty()
+                        : fetchPage(page.get(page.size() - 1).getPaymentKey(), from, to))
+                .flatMapIterable(page -> page);
+    }
+
+    private Mono<List<Payment>> fetchPage(String lastPaymentKey, LocalDateTime from, LocalDateTime to) {
+        return paymentRepository.findSettlementTargets(lastPaymentKey, from, to, pageSize)
+                .collectList();
+    }
+
+    private static class AscendingKeyCheck implements Consumer<Payment> {
+
+        private String lastKey;
+
+        @Override
+        public void accept(Payment payment) {
+            if (lastKey != null && payment.getPaymentKey().compareTo(lastKey) <= 0) {
+                throw new IllegalStateException("payments 정렬 순서가 paymentKey 문자열 순서와 다릅니다: " + payment.getPaymentKey());
+            }
+            lastKey = payment.getPaymentKey();
+        }
+    }
+
+    private <T> T nextOrNull(Iterator<T> iterator) {
+        return iterator.hasNext() ? iterator.next() : null;
+    }
+
+    private void recordMetrics(ReconciliationSummary summary) {
+        meterRegistry.counter("payment.reconciliation.rows", "source", "settlement").increment(summary.getSettlementRows());
+        meterRegistry.counter("payment.reconciliation.rows", "source", "payments").increment(summary.getPaymentRows());
+        meterRegistry.counter("payment.reconciliation.matched").increment(summary.getMatched());
+        summary.getMismatches().forEach((type, count) ->
+                meterRegistry.counter("payment.reconciliation.mismatch", "type", type.name()).increment(count));
+    }
+}
@@ -0,0 +1,57 @@
+package com.example.ecommerce.order.domain.payment.reconciliation;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * 불일치 내역을 CSV로 바로 기록 (메모리에 모으지 않음)
+ */
+class ReconciliationReportWriter implements AutoCloseable {
+
+    private static final String HEADER =
+            "type,paymentKey,paymentStatus,settlementStatus,paymentAmount,settlementAmount,settlementLine";
+
+    private final BufferedWriter writer;
+
+    ReconciliationReportWriter(Path path) throws IOException {
+        Files.createDirectories(path.toAbsolutePath().getParent());
+        this.writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8);
+        writeLine(HEADER);
+    }
+
+    void write(MismatchType type, String paymentKey,
+               String paymentStatus, String settlementStatus,
+               BigDecimal paymentAmount, BigDecimal settlementAmount, Long settlementLine) {
+        writeLine(String.join(",",
+                type.name(),
+                paymentKey,
+                valueOf(paymentStatus),
+                valueOf(settlementStatus),
+                paymentAmount != null ? paymentAmount.toPlainString() : "",
+                settlementAmount != null ? settlementAmount.toPlainString() : "",
+                valueOf(settlementLine)));
+    }
+
+    @Override
+    public void close() throws IOException {
+        writer.close();
+    }
+
+    private void writeLine(String line) {
+        try {
+            writer.write(line);
+            writer.newLine();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private String valueOf(Object value) {
+        return value != null ? value.toString() : "";
+    }
+}
@@ -0,0 +1,44 @@
+package com.example.ecommerce.order.domain.payment.reconciliation;
+
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * 대사 결과 집계 (행 단위 내용은 리포트 파일에만 기록)
+ */
+@Getter
+public class ReconciliationSummary {
+
+    private final LocalDate settlementDate;
+    private long settlementRows;
+    private long paymentRows;
+    private long matched;
+    private final Map<MismatchType, Long> mismatches = new EnumMap<>(MismatchType.class);
+
+    public ReconciliationSummary(LocalDate settlementDate) {
+        this.settlementDate = settlementDate;
+    }
+
+    void countSettlementRow() {
+        settlementRows++;
+    }
+
+    void countPaymentRow() {
+        paymentRows++;
+    }
+
+    void countMatched() {
+        matched++;
+    }
+
+    void countMismatch(MismatchType type) {
+        mismatches.merge(type, 1L, Long::sum);
+    }
+
+    public long getMismatchCount() {
+        return mismatches.values().stream().mapToLong(Long::longValue).sum();
+    }
+}
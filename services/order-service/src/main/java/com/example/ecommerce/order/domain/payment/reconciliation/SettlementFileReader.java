@@ -0,0 +1,80 @@
+package com.example.ecommerce.order.domain.payment.reconciliation;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * 정산 파일을 한 줄씩 읽는 iterator (파일 전체를 메모리에 올리지 않음)
+ * - paymentKey 오름차순 정렬을 전제로 하며, 순서가 어긋나면 중단
+ */
+class SettlementFileReader implements Iterator<SettlementRecord>, AutoCloseable {
+
+    private final BufferedReader reader;
+    private final SettlementFormat format;
+    private long lineNumber;
+    private SettlementRecord next;
+    private String lastKey;
+
+    SettlementFileReader(Path path, SettlementFormat format) throws IOException {
+        this.reader = Files.newBufferedReader(path, StandardCharsets.UTF_8);
+        this.format = format;
+        if (format.hasHeader()) {
+            readLine();
+        }
+        this.next = readRecord();
+    }
+
+    @Override
+    public boolean hasNext() {
+        return next != null;
+    }
+
+    @Override
+    public SettlementRecord next() {
+        if (next == null) {
+            throw new NoSuchElementException();
+        }
+        SettlementRecord current = next;
+        next = readRecord();
+        return current;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    private SettlementRecord readRecord() {
+        String line;
+        while ((line = readLine()) != null) {
+            if (line.isBlank()) {
+                continue;
+            }
+            SettlementRecord record = format.parse(line, lineNumber);
+            if (lastKey != null && record.getPaymentKey().compareTo(lastKey) <= 0) {
+                throw new IllegalStateException("정산 파일이 paymentKey 순으로 정렬되어 있지 않습니다: line=" + lineNumber);
+            }
+            lastKey = record.getPaymentKey();
+            return record;
+        }
+        return null;
+    }
+
+    private String readLine() {
+        try {
+            String line = reader.readLine();
+            if (line != null) {
+                lineNumber++;
+            }
+            return line;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
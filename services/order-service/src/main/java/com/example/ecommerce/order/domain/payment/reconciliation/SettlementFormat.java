@@ -0,0 +1,51 @@
+package com.example.ecommerce.order.domain.payment.reconciliation;
+
+/**
+ * PG 정산 파일 형식
+ * - CSV: 헤더 한 줄 + paymentKey,status,amount
+ * - FIXED_WIDTH: paymentKey(64) status(20) amount(18), 헤더 없음
+ */
+public enum SettlementFormat {
+
+    CSV(true) {
+        @Override
+        SettlementRecord parse(String line, long lineNumber) {
+            String[] columns = line.split(",", -1);
+            if (columns.length < 3) {
+                throw new IllegalArgumentException("정산 파일 형식 오류: line=" + lineNumber);
+            }
+            return SettlementRecord.of(columns[0], columns[1], columns[2], lineNumber);
+        }
+    },
+
+    FIXED_WIDTH(false) {
+        @Override
+        SettlementRecord parse(String line, long lineNumber) {
+            if (line.length() < STATUS_END) {
+                throw new IllegalArgumentException("정산 파일 형식 오류: line=" + lineNumber);
+            }
+            return SettlementRecord.of(
+                    line.substring(0, KEY_END),
+                    line.substring(KEY_END, STATUS_END),
+                    line.substring(STATUS_END, Math.min(line.length(), AMOUNT_END)),
+                    lineNumber
+            );
+        }
+    };
+
+    private static final int KEY_END = 64;
+    private static final int STATUS_END = 84;
+    private static final int AMOUNT_END = 102;
+
+    private final boolean hasHeader;
+
+    SettlementFormat(boolean hasHeader) {
+        this.hasHeader = hasHeader;
+    }
+
+    boolean hasHeader() {
+        return hasHeader;
+    }
+
+    abstract SettlementRecord parse(String line, long lineNumber);
+}
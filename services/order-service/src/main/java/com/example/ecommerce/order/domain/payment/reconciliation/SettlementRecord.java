@@ -0,0 +1,24 @@
+package com.example.ecommerce.order.domain.payment.reconciliation;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+
+/**
+ * PG 정산 파일 한 줄 (status: DONE / PARTIAL_CANCELED / CANCELED, amount: 정산 순액)
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class SettlementRecord {
+
+    private final String paymentKey;
+    private final String status;
+    private final BigDecimal amount;
+    private final long lineNumber;
+
+    public static SettlementRecord of(String paymentKey, String status, String amount, long lineNumber) {
+        return new SettlementRecord(paymentKey.trim(), status.trim(), new BigDecimal(amount.trim()), lineNumber);
+    }
+}
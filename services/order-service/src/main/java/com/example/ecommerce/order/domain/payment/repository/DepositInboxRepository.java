@@ -0,0 +1,96 @@
+package com.example.ecommerce.order.domain.payment.repository;
+
+import com.example.ecommerce.order.domain.payment.webhook.DepositNotification;
+import lombok.RequiredArgsConstructor;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Collection;
+
+/**
+ * 가상계좌 입금 통지 수신함 (payment_deposit_inbox)
+ * - RECEIVED: 접수, APPLIED: 결제 반영, MISMATCHED: 반영 불가 (대사 대상)
+ */
+@Repository
+@RequiredArgsConstructor
+public class DepositInboxRepository {
+
+    private final DatabaseClient databaseClient;
+
+    /**
+     * 처음 받은 거래면 기록하고 true (거래 ID unique 키로 중복 판별)
+     */
+    public Mono<Boolean> insertIfAbsent(DepositNotification notification) {
+        return databaseClient.sql("INSERT IGNORE INTO payment_deposit_inbox (transaction_id, payment_key, amount) " +
+                        "VALUES (:transactionId, :paymentKey, :amount)")
+                .bind("transactionId", notification.getTransactionId())
+                .bind("paymentKey", notification.getPaymentKey())
+                .bind("amount", notification.getAmount())
+                .fetch()
+                .rowsUpdated()
+                .map(inserted -> inserted > 0);
+    }
+
+    /**
+     * 아직 반영되지 않은 거래를 잠금 (동시에 같은 거래를 반영하지 않도록 트랜잭션 안에서 호출)
+     */
+    public Flux<String> lockReceived(Collection<String> transactionIds) {
+        return databaseClient.sql("SELECT transaction_id FROM payment_deposit_inbox " +
+                        "WHERE transaction_id IN (:transactionIds) AND status = 'RECEIVED' FOR UPDATE")
+                .bind("transactionIds", transactionIds)
+                .map(row -> row.get("transaction_id", String.class))
+                .all();
+    }
+
+    /**
+     * receivedBefore 이전에 접수됐지만 아직 반영되지 않은 통지 (재처리 대상)
+     */
+    public Flux<DepositNotification> findReceived(LocalDateTime receivedBefore, int limit) {
+        return databaseClient.sql("SELECT transaction_id, payment_key, amount FROM payment_deposit_inbox " +
+                        "WHERE status = 'RECEIVED' AND received_at < :receivedBefore ORDER BY received_at LIMIT :limit")
+                .bind("receivedBefore", receivedBefore)
+                .bind("limit", limit)
+                .map(row -> DepositNotification.of(
+                        row.get("transaction_id", String.class),
+                        row.get("payment_key", String.class),
+                        row.get("amount", BigDecimal.class)))
+                .all();
+    }
+
+    public Mono<Long> markApplied(Collection<String> transactionIds, LocalDateTime processedAt) {
+        if (transactionIds.isEmpty()) {
+            return Mono.just(0L);
+        }
+        return databaseClient.sql("UPDATE payment_deposit_inbox SET status = 'APPLIED', processed_at = :processedAt " +
+                        "WHERE transaction_id IN (:transactionIds)")
+                .bind("processedAt", processedAt)
+                .bind("transactionIds", transactionIds)
+                .fetch()
+                .rowsUpdated();
+    }
+
+    public Mono<Long> markMismatched(String transactionId, String reason, LocalDateTime processedAt) {
+        return databaseClient.sql("UPDATE payment_deposit_inbox SET status = 'MISMATCHED', mismatch_reason = :reason, " +
+                        "processed_at = :processedAt WHERE transaction_id = :transactionId")
+                .bind("reason", reason)
+                .bind("processedAt", processedAt)
+                .bind("transactionId", transactionId)
+                .fetch()
+                .rowsUpdated();
+    }
+
+    /**
+     * 결제가 입금 대기로 되돌아갔을 때 그 사이 반영하지 못한 통지를 다시 재처리 대상으로
+     */
+    public Mono<Long> reopenMismatched(String paymentKey) {
+        return databaseClient.sql("UPDATE payment_deposit_inbox SET status = 'RECEIVED', mismatch_reason = NULL, " +
+                        "processed_at = NULL WHERE payment_key = :paymentKey AND status = 'MISMATCHED'")
+                .bind("paymentKey", paymentKey)
+                .fetch()
+                .rowsUpdated();
+    }
+}
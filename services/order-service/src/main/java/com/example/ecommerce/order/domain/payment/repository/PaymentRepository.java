@@ -2,12 +2,15 @@ package com.example.ecommerce.order.domain.payment.repository;
 
 import com.example.ecommerce.order.domain.payment.entity.Payment;
 import com.example.ecommerce.order.domain.payment.entity.PaymentStatus;
+import org.springframework.data.r2dbc.repository.Modifying;
 import org.springframework.data.r2dbc.repository.Query;
 import org.springframework.data.repository.reactive.ReactiveCrudRepository;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.Collection;
 
 public interface PaymentRepository extends ReactiveCrudRepository<Payment, Long> {
 
@@ -17,6 +20,120 @@ public interface PaymentRepository extends ReactiveCrudRepository<Payment, Long>
 
     Flux<Payment> findByStatus(PaymentStatus status);
 
-    @Query("SELECT * FROM payments WHERE status = 'WAITING_FOR_DEPOSIT' AND virtual_account_due_date < :deadline")
-    Flux<Payment> findExpiredVirtualAccountPayments(LocalDateTime deadline);
+    @Query("SELECT * FROM payments WHERE status = 'WAITING_FOR_DEPOSIT' AND virtual_account_due_date < :deadline " +
+            "AND id > :lastId ORDER BY id LIMIT :limit")
+    Flux<Payment> findExpiredVirtualAccountPayments(LocalDateTime deadline, Long lastId, int limit);
+
+    @Query("SELECT id FROM payments WHERE id IN (:ids) AND status = 'WAITING_FOR_DEPOSIT' FOR UPDATE")
+    Flux<Long> lockWaitingForDepositIds(Collection<Long> ids);
+
+    @Modifying
+    @Query("UPDATE payments SET status = 'CANCELLED', cancelled_at = :cancelledAt, failure_reason = :reason " +
+            "WHERE id IN (:ids)")
+    Mono<Integer> cancelByIdIn(Collection<Long> ids, LocalDateTime cancelledAt, String reason);
+
+    Flux<Payment> findByPaymentKeyIn(Collection<String> paymentKeys);
+
+    @Modifying
+    @Query("UPDATE payments SET status = 'PAID', paid_amount = amount, paid_at = :paidAt " +
+            "WHERE id IN (:ids) AND status = 'WAITING_FOR_DEPOSIT'")
+    Mono<Integer> markDepositsAsPaid(Collection<Long> ids, LocalDateTime paidAt);
+
+    /**
+     * 결제/취소/환불 일시가 [from, to)인 결제를 paymentKey 순으로 한 페이지
+     * - 일시 컬럼마다 (일시, payment_key) 인덱스 범위 스캔 후 UNION으로 중복 제거하고 페이지 행만 조인
+     */
+    @Query("SELECT p.* FROM payments p JOIN (" +
+            "SELECT id, payment_key FROM payments WHERE paid_at >= :from AND paid_at < :to AND payment_key > :lastPaymentKey " +
+            "UNION " +
+            "SELECT id, payment_key FROM payments WHERE cancelled_at >= :from AND cancelled_at < :to AND payment_key > :lastPaymentKey " +
+            "UNION " +
+            "SELECT id, payment_key FROM payments WHERE refunded_at >= :from AND refunded_at < :to AND payment_key > :lastPaymentKey " +
+            "ORDER BY payment_key LIMIT :limit" +
+            ") targets ON p.id = targets.id ORDER BY p.payment_key")
+    Flux<Payment> findSettlementTargets(String lastPaymentKey, LocalDateTime from, LocalDateTime to, int limit);
+
+    /**
+     * PG 승인 요청 전 선점 (PENDING → CONFIRMING)
+     */
+    @Modifying
+    @Query("UPDATE payments SET status = 'CONFIRMING', payment_key = :paymentKey WHERE id = :id AND status = 'PENDING'")
+    Mono<Integer> markAsConfirmingIfPending(Long id, String paymentKey);
+
+    @Modifying
+    @Query("UPDATE payments SET status = 'PAID', paid_amount = :paidAmount, paid_at = :paidAt " +
+            "WHERE id = :id AND status = 'CONFIRMING' AND payment_key = :paymentKey")
+    Mono<Integer> markAsPaidIfConfirming(Long id, String paymentKey, BigDecimal paidAmount, LocalDateTime paidAt);
+
+    /**
+     * 복합결제 승인 요청 전 선점 (실패한 이전 결제는 다시 사용, PENDING은 복합결제일 때만)
+     */
+    @Modifying
+    @Query("UPDATE payments SET method = 'SPLIT', status = 'CONFIRMING', amount = :amount, payment_key = :paymentKey, " +
+            "failure_reason = NULL WHERE id = :id AND (status = 'FAILED' OR (status = 'PENDING' AND method = 'SPLIT'))")
+    Mono<Integer> markSplitAsConfirming(Long id, String paymentKey, BigDecimal amount);
+
+    /**
+     * 복합결제 승인 실패 (CONFIRMING → FAILED, 결제 수단 보상 후)
+     */
+    @Modifying
+    @Query("UPDATE payments SET status = 'FAILED', failure_reason = :reason " +
+            "WHERE id = :id AND status = 'CONFIRMING' AND payment_key = :paymentKey")
+    Mono<Integer> markAsFailedIfConfirming(Long id, String paymentKey, String reason);
+
+    /**
+     * PG가 승인하지 않은 선점 해제 (CONFIRMING → PENDING, PG가 승인하지 않은 paymentKey는 지움)
+     */
+    @Modifying
+    @Query("UPDATE payments SET status = 'PENDING', payment_key = NULL, failure_reason = :reason " +
+            "WHERE id = :id AND status = 'CONFIRMING' AND payment_key = :paymentKey")
+    Mono<Integer> releaseConfirming(Long id, String paymentKey, String reason);
+
+    /**
+     * PG 결과를 확인하지 못하고 중간 상태에 남은 결제
+     */
+    @Query("SELECT * FROM payments WHERE status = :status AND updated_at < :updatedBefore ORDER BY id LIMIT :limit")
+    Flux<Payment> findStaleByStatus(String status, LocalDateTime updatedBefore, int limit);
+
+    @Modifying
+    @Query("UPDATE payments SET status = 'CANCELLED', cancelled_at = :cancelledAt, failure_reason = :reason " +
+            "WHERE id = :id AND status IN ('PENDING', 'WAITING_FOR_DEPOSIT')")
+    Mono<Integer> markAsCancelledIfCancellable(Long id, String reason, LocalDateTime cancelledAt);
+
+    /**
+     * PG가 거절한 가상계좌 취소 되돌림 (CANCELLED → WAITING_FOR_DEPOSIT)
+     */
+    @Modifying
+    @Query("UPDATE payments SET status = 'WAITING_FOR_DEPOSIT', cancelled_at = NULL, failure_reason = NULL " +
+            "WHERE id = :id AND status = 'CANCELLED'")
+    Mono<Integer> restoreWaitingForDeposit(Long id);
+
+    /**
+     * PG 환불 요청 전 선점 (PAID / PARTIAL_REFUNDED → REFUNDING, 환불 가능 금액 안에서만)
+     */
+    @Modifying
+    @Query("UPDATE payments SET status = 'REFUNDING', refunding_amount = :amount " +
+            "WHERE id = :id AND status IN ('PAID', 'PARTIAL_REFUNDED') " +
+            "AND COALESCE(refunded_amount, 0) + :amount <= paid_amount")
+    Mono<Integer> markAsRefundingIfRefundable(Long id, BigDecimal amount);
+
+    /**
+     * PG 환불 확인 후 진행 중 금액을 환불 금액에 합산 (REFUNDING → PARTIAL_REFUNDED / REFUNDED)
+     * - MySQL은 SET 절을 왼쪽부터 적용하므로 status 계산이 refunded_amount 갱신보다 먼저 와야 함
+     */
+    @Modifying
+    @Query("UPDATE payments SET " +
+            "status = CASE WHEN COALESCE(refunded_amount, 0) + refunding_amount >= paid_amount THEN 'REFUNDED' ELSE 'PARTIAL_REFUNDED' END, " +
+            "refunded_amount = COALESCE(refunded_amount, 0) + refunding_amount, refunding_amount = NULL, refunded_at = :refundedAt " +
+            "WHERE id = :id AND status = 'REFUNDING'")
+    Mono<Integer> completeRefunding(Long id, LocalDateTime refundedAt);
+
+    /**
+     * PG가 환불하지 않은 선점 해제 (REFUNDING → 이전 상태)
+     */
+    @Modifying
+    @Query("UPDATE payments SET " +
+            "status = CASE WHEN COALESCE(refunded_amount, 0) > 0 THEN 'PARTIAL_REFUNDED' ELSE 'PAID' END, " +
+            "refunding_amount = NULL WHERE id = :id AND status = 'REFUNDING'")
+    Mono<Integer> releaseRefunding(Long id);
 }
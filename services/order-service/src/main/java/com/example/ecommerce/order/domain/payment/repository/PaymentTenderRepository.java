@@ -0,0 +1,10 @@
+package com.example.ecommerce.order.domain.payment.repository;
+
+import com.example.ecommerce.order.domain.payment.entity.PaymentTender;
+import org.springframework.data.repository.reactive.ReactiveCrudRepository;
+import reactor.core.publisher.Flux;
+
+public interface PaymentTenderRepository extends ReactiveCrudRepository<PaymentTender, Long> {
+
+    Flux<PaymentTender> findByPaymentId(Long paymentId);
+}
@@ -0,0 +1,62 @@
+package com.example.ecommerce.order.domain.payment.scheduler;
+
+import com.example.ecommerce.order.domain.payment.repository.DepositInboxRepository;
+import com.example.ecommerce.order.domain.payment.service.PaymentService;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 수신함에 남은 가상계좌 입금 통지 재반영
+ * - 큐가 가득 차 적재하지 못했거나 반영에 실패했거나 반영 전에 인스턴스가 종료된 통지
+ * - webhook 큐에서 처리 중인 통지와 겹치지 않도록 접수 후 retry-after-seconds가 지난 것만 대상
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DepositInboxRetryJob {
+
+    private final DepositInboxRepository depositInboxRepository;
+    private final PaymentService paymentService;
+    private final MeterRegistry meterRegistry;
+
+    private final AtomicBoolean running = new AtomicBoolean(false);
+
+    @Value("${payment.webhook.batch-size:200}")
+    private int batchSize;
+
+    @Value("${payment.webhook.retry-after-seconds:30}")
+    private long retryAfterSeconds;
+
+    @Value("${payment.webhook.retry-limit:2000}")
+    private int retryLimit;
+
+    @Scheduled(fixedDelayString = "${payment.webhook.retry-delay-ms:60000}")
+    public void run() {
+        if (!running.compareAndSet(false, true)) {
+            log.warn("입금 통지 재반영이 이미 실행 중입니다");
+            return;
+        }
+        depositInboxRepository.findReceived(LocalDateTime.now().minusSeconds(retryAfterSeconds), retryLimit)
+                .buffer(batchSize)
+                .concatMap(batch -> paymentService.applyVirtualAccountDeposits(batch)
+                        .doOnNext(applied -> meterRegistry.counter("payment.webhook.deposit", "result", "retried")
+                                .increment(batch.size())))
+                .reduce(0, Integer::sum)
+                .doFinally(signal -> running.set(false))
+                .subscribe(
+                        applied -> {
+                            if (applied > 0) {
+                                log.info("입금 통지 재반영 완료: applied={}", applied);
+                            }
+                        },
+                        error -> log.error("입금 통지 재반영 실패", error)
+                );
+    }
+}
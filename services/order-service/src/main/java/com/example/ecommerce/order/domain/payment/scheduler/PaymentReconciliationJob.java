@@ -0,0 +1,62 @@
+package com.example.ecommerce.order.domain.payment.scheduler;
+
+import com.example.ecommerce.order.domain.payment.reconciliation.PaymentReconciliationService;
+import com.example.ecommerce.order.domain.payment.reconciliation.SettlementFormat;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 전날 PG 정산 파일 대사 (settlement-{yyyyMMdd}.csv|.dat → reconciliation-{yyyyMMdd}.csv)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PaymentReconciliationJob {
+
+    private static final DateTimeFormatter FILE_DATE = DateTimeFormatter.BASIC_ISO_DATE;
+
+    private final PaymentReconciliationService reconciliationService;
+
+    private final AtomicBoolean running = new AtomicBoolean(false);
+
+    @Value("${payment.reconciliation.settlement-dir:./settlement}")
+    private String settlementDir;
+
+    @Value("${payment.reconciliation.report-dir:./settlement/reports}")
+    private String reportDir;
+
+    @Value("${payment.reconciliation.format:CSV}")
+    private SettlementFormat format;
+
+    @Scheduled(cron = "${payment.reconciliation.cron:0 0 6 * * *}")
+    public void run() {
+        LocalDate settlementDate = LocalDate.now().minusDays(1);
+        String extension = format == SettlementFormat.CSV ? ".csv" : ".dat";
+        Path settlementFile = Path.of(settlementDir, "settlement-" + FILE_DATE.format(settlementDate) + extension);
+        if (!Files.exists(settlementFile)) {
+            log.warn("정산 파일 없음: {}", settlementFile);
+            return;
+        }
+        if (!running.compareAndSet(false, true)) {
+            log.warn("결제 대사가 이미 실행 중입니다");
+            return;
+        }
+
+        Path reportFile = Path.of(reportDir, "reconciliation-" + FILE_DATE.format(settlementDate) + ".csv");
+        reconciliationService.reconcile(settlementFile, format, settlementDate, reportFile)
+                .doFinally(signal -> running.set(false))
+                .subscribe(
+                        summary -> log.info("결제 대사 리포트: {}", reportFile),
+                        error -> log.error("결제 대사 실패: date={}", settlementDate, error)
+                );
+    }
+}
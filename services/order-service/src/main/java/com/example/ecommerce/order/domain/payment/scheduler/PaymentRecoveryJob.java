@@ -0,0 +1,85 @@
+package com.example.ecommerce.order.domain.payment.scheduler;
+
+import com.example.ecommerce.order.domain.payment.entity.Payment;
+import com.example.ecommerce.order.domain.payment.entity.PaymentMethod;
+import com.example.ecommerce.order.domain.payment.entity.PaymentStatus;
+import com.example.ecommerce.order.domain.payment.repository.PaymentRepository;
+import com.example.ecommerce.order.domain.payment.service.PaymentService;
+import com.example.ecommerce.order.domain.payment.service.SplitPaymentService;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+
+/**
+ * PG 결과를 확인하지 못해 중간 상태(CONFIRMING / REFUNDING)에 남은 결제 복구
+ * - PG 응답 시간보다 충분히 오래 머문 결제만 PG 거래 조회로 마무리하거나 선점 해제
+ * - 복합결제는 결과를 알 수 없는 결제 수단을 확인해 취소하고 결제 실패 처리
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PaymentRecoveryJob {
+
+    private final PaymentRepository paymentRepository;
+    private final PaymentService paymentService;
+    private final SplitPaymentService splitPaymentService;
+    private final MeterRegistry meterRegistry;
+
+    private final AtomicBoolean running = new AtomicBoolean(false);
+
+    @Value("${payment.recovery.stale-minutes:5}")
+    private long staleMinutes;
+
+    @Value("${payment.recovery.batch-size:100}")
+    private int batchSize;
+
+    @Scheduled(fixedDelayString = "${payment.recovery.fixed-delay-ms:60000}")
+    public void run() {
+        if (!running.compareAndSet(false, true)) {
+            log.warn("결제 복구가 이미 실행 중입니다");
+            return;
+        }
+        LocalDateTime updatedBefore = LocalDateTime.now().minusMinutes(staleMinutes);
+        Flux.concat(
+                        recover(PaymentStatus.CONFIRMING, updatedBefore, this::recoverConfirming),
+                        recover(PaymentStatus.REFUNDING, updatedBefore, paymentService::recoverRefunding))
+                .count()
+                .doFinally(signal -> running.set(false))
+                .subscribe(
+                        recovered -> {
+                            if (recovered > 0) {
+                                log.info("결제 복구 완료: count={}", recovered);
+                            }
+                        },
+                        error -> log.error("결제 복구 실패", error)
+                );
+    }
+
+    private Mono<PaymentStatus> recoverConfirming(Payment payment) {
+        return payment.getMethod() == PaymentMethod.SPLIT
+                ? splitPaymentService.recover(payment)
+                : paymentService.recoverConfirming(payment);
+    }
+
+    private Flux<PaymentStatus> recover(PaymentStatus stuck, LocalDateTime updatedBefore,
+                                        Function<Payment, Mono<PaymentStatus>> recovery) {
+        return paymentRepository.findStaleByStatus(stuck.name(), updatedBefore, batchSize)
+                .concatMap(payment -> recovery.apply(payment)
+                        .doOnNext(status -> meterRegistry.counter("payment.recovery",
+                                "from", stuck.name(), "result", status.name()).increment())
+                        .onErrorResume(error -> {
+                            meterRegistry.counter("payment.recovery", "from", stuck.name(), "result", "failed").increment();
+                            log.error("결제 복구 실패: paymentId={}, status={}", payment.getId(), stuck, error);
+                            return Mono.empty();
+                        }));
+    }
+}
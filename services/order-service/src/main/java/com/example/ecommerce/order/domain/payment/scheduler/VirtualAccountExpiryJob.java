@@ -0,0 +1,107 @@
+package com.example.ecommerce.order.domain.payment.scheduler;
+
+import com.example.ecommerce.order.domain.order.entity.OrderItem;
+import com.example.ecommerce.order.domain.order.service.StockReleaseService;
+import com.example.ecommerce.order.domain.payment.entity.Payment;
+import com.example.ecommerce.order.domain.payment.repository.PaymentRepository;
+import com.example.ecommerce.order.domain.payment.service.VirtualAccountExpiryService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 입금 기한이 지난 가상계좌 결제 만료 처리
+ * - id 기준 keyset 페이징으로 묶음 단위 조회
+ * - 묶음마다 결제/주문 일괄 취소 후 재고 예약 일괄 해제 (실패분은 PendingStockReleaseJob이 재시도)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class VirtualAccountExpiryJob {
+
+    private static final String EXPIRY_REASON = "가상계좌 입금 기한 만료";
+    private static final Duration RETRY_BACKOFF = Duration.ofMillis(500);
+
+    private final PaymentRepository paymentRepository;
+    private final VirtualAccountExpiryService expiryService;
+    private final StockReleaseService stockReleaseService;
+    private final MeterRegistry meterRegistry;
+
+    private final AtomicBoolean running = new AtomicBoolean(false);
+
+    @Value("${payment.expiry.batch-size:500}")
+    private int batchSize;
+
+    @Value("${payment.expiry.concurrency:4}")
+    private int concurrency;
+
+    @Value("${payment.expiry.max-retries:3}")
+    private int maxRetries;
+
+    @Scheduled(cron = "${payment.expiry.cron:0 */5 * * * *}")
+    public void run() {
+        if (!running.compareAndSet(false, true)) {
+            log.warn("가상계좌 만료 처리가 이미 실행 중입니다");
+            return;
+        }
+        Timer.Sample sample = Timer.start(meterRegistry);
+        expire(LocalDateTime.now())
+                .doFinally(signal -> {
+                    sample.stop(meterRegistry.timer("payment.virtual_account.expiry.run"));
+                    running.set(false);
+                })
+                .subscribe(
+                        cancelled -> log.info("가상계좌 만료 처리 완료: cancelledOrders={}", cancelled),
+                        error -> log.error("가상계좌 만료 처리 실패", error)
+                );
+    }
+
+    public Mono<Long> expire(LocalDateTime deadline) {
+        return fetchChunk(deadline, 0L)
+                .expand(chunk -> chunk.size() < batchSize
+                        ? Mono.empty()
+                        : fetchChunk(deadline, chunk.get(chunk.size() - 1).getId()))
+                .filter(chunk -> !chunk.isEmpty())
+                .flatMap(this::expireChunk, concurrency)
+                .reduce(0L, Long::sum);
+    }
+
+    private Mono<List<Payment>> fetchChunk(LocalDateTime deadline, Long lastId) {
+        return paymentRepository.findExpiredVirtualAccountPayments(deadline, lastId, batchSize)
+                .collectList();
+    }
+
+    private Mono<Long> expireChunk(List<Payment> chunk) {
+        return expiryService.expire(chunk, EXPIRY_REASON)
+                .retryWhen(Retry.backoff(maxRetries, RETRY_BACKOFF))
+                .flatMap(items -> {
+                    long cancelledOrders = items.stream().map(OrderItem::getOrderId).distinct().count();
+                    count("cancelled", cancelledOrders);
+                    count("skipped", chunk.size() - cancelledOrders);
+                    return stockReleaseService.release(items, EXPIRY_REASON).thenReturn(cancelledOrders);
+                })
+                .onErrorResume(error -> {
+                    count("failed", chunk.size());
+                    log.error("가상계좌 만료 묶음 처리 실패: firstPaymentId={}, size={}",
+                            chunk.get(0).getId(), chunk.size(), error);
+                    return Mono.just(0L);
+                });
+    }
+
+    private void count(String result, long amount) {
+        if (amount > 0) {
+            meterRegistry.counter("payment.virtual_account.expiry", "result", result).increment(amount);
+        }
+    }
+}
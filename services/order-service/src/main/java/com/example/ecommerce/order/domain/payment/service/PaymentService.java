@@ -11,26 +11,50 @@ import com.example.ecommerce.order.domain.payment.dto.response.PaymentResponse;
 import com.example.ecommerce.order.domain.payment.entity.Payment;
 import com.example.ecommerce.order.domain.payment.entity.PaymentMethod;
 import com.example.ecommerce.order.domain.payment.entity.PaymentStatus;
+import com.example.ecommerce.order.domain.payment.repository.DepositInboxRepository;
 import com.example.ecommerce.order.domain.payment.repository.PaymentRepository;
+import com.example.ecommerce.order.domain.payment.webhook.DepositNotification;
+import com.example.ecommerce.order.event.FulfillmentEventPublisher;
+import com.example.ecommerce.order.external.PgClient;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DuplicateKeyException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class PaymentService {
 
+    private static final String PG_STATUS_DONE = "DONE";
+
     private final PaymentRepository paymentRepository;
     private final OrderRepository orderRepository;
+    private final PaymentStateMachine paymentStateMachine;
+    private final PgClient pgClient;
+    private final FulfillmentEventPublisher fulfillmentEventPublisher;
+    private final DepositInboxRepository depositInboxRepository;
+    private final TransactionalOperator transactionalOperator;
 
-    @Transactional
+    /**
+     * 결제 생성 (가상계좌 발급 PG 호출이 있어 트랜잭션으로 묶지 않고, 동시 생성은 order_id unique 키로 막음)
+     */
     public Mono<PaymentResponse> initiatePayment(PaymentRequest request) {
         return orderRepository.findById(request.getOrderId())
                 .switchIfEmpty(Mono.error(new BusinessException(ErrorCode.ORDER_NOT_FOUND)))
@@ -45,95 +69,175 @@ public class PaymentService {
                                 }
                                 return Mono.just(existingPayment);
                             })
-                            .switchIfEmpty(Mono.defer(() -> {
-                                Payment payment;
-                                if (request.getMethod() == PaymentMethod.VIRTUAL_ACCOUNT) {
-                                    payment = Payment.createVirtualAccount(
-                                            order.getId(),
-                                            request.getAmount(),
-                                            getBankName(request.getBankCode()),
-                                            generateVirtualAccountNumber(),
-                                            "쿠팡",
-                                            LocalDateTime.now().plusDays(1)
-                                    );
-                                } else {
-                                    payment = Payment.create(
-                                            order.getId(),
-                                            request.getMethod(),
-                                            request.getAmount()
-                                    );
-                                }
-                                return paymentRepository.save(payment);
-                            }));
+                            .switchIfEmpty(Mono.defer(() -> createPayment(order.getId(), request)
+                                    .flatMap(paymentRepository::save)
+                                    .onErrorResume(DuplicateKeyException.class,
+                                            e -> paymentRepository.findByOrderId(order.getId()))));
                 })
                 .map(PaymentResponse::from)
                 .doOnSuccess(response -> log.info("결제 초기화: orderId={}, method={}",
                         request.getOrderId(), request.getMethod()));
     }
 
-    @Transactional
+    /**
+     * PG 결제 승인
+     * - 선점(CONFIRMING) → PG 승인 → 결제 완료 순서로 처리해 PG 호출 동안 DB 트랜잭션을 잡지 않음
+     * - PG가 거절하면 선점을 해제하고, 결과를 알 수 없으면 CONFIRMING으로 남겨 PaymentRecoveryJob이 마무리
+     */
     public Mono<PaymentResponse> confirmPayment(PaymentConfirmRequest request) {
         return paymentRepository.findByOrderId(request.getOrderId())
                 .switchIfEmpty(Mono.error(new BusinessException(ErrorCode.PAYMENT_NOT_FOUND)))
                 .flatMap(payment -> {
                     if (payment.getStatus() == PaymentStatus.PAID) {
+                        if (request.getPaymentKey().equals(payment.getPaymentKey())) {
+                            return Mono.just(payment);
+                        }
                         return Mono.error(new BusinessException(ErrorCode.PAYMENT_ALREADY_COMPLETED));
                     }
                     if (payment.getAmount().compareTo(request.getAmount()) != 0) {
                         return Mono.error(new BusinessException(ErrorCode.PAYMENT_AMOUNT_MISMATCH));
                     }
 
-                    Payment updated = payment.markAsPaid(request.getPaymentKey(), request.getAmount());
-                    return paymentRepository.save(updated);
+                    String paymentKey = request.getPaymentKey();
+                    return paymentStateMachine.claimConfirm(payment, paymentKey)
+                            .flatMap(claim -> claim.isApplied()
+                                    ? pgClient.confirm(paymentKey, payment.getOrderId(), request.getAmount())
+                                            .onErrorResume(error -> releaseIfDeclined(claim.getPayment(), paymentKey, error))
+                                            .then(Mono.defer(() -> completeConfirm(claim.getPayment(), paymentKey, request.getAmount())))
+                                    : Mono.just(claim.getPayment()));
                 })
-                .flatMap(payment -> orderRepository.findById(payment.getOrderId())
-                        .flatMap(order -> {
-                            order.markAsPaid();
-                            return orderRepository.save(order);
-                        })
-                        .thenReturn(payment))
                 .map(PaymentResponse::from)
                 .doOnSuccess(response -> log.info("결제 완료: orderId={}, paymentKey={}",
                         request.getOrderId(), request.getPaymentKey()));
     }
 
-    @Transactional
+    /**
+     * CONFIRMING에 남은 결제를 PG 거래 상태로 마무리
+     * - PG에서 승인됐으면 결제 완료, PG에 없거나 승인되지 않았으면 선점 해제
+     */
+    public Mono<PaymentStatus> recoverConfirming(Payment payment) {
+        String paymentKey = payment.getPaymentKey();
+        return pgClient.getPayment(paymentKey)
+                .filter(result -> PG_STATUS_DONE.equals(result.getStatus()))
+                .flatMap(result -> completeConfirm(payment, paymentKey, payment.getAmount()).map(Payment::getStatus))
+                .switchIfEmpty(Mono.defer(() -> paymentStateMachine.releaseConfirm(payment, paymentKey, "PG 승인 내역 없음")
+                        .thenReturn(PaymentStatus.PENDING)))
+                .doOnSuccess(status -> log.info("승인 진행 중 결제 복구: paymentId={}, status={}", payment.getId(), status));
+    }
+
+    // 결제 완료와 결제 완료 이벤트 발행을 한 트랜잭션으로
+    private Mono<Payment> completeConfirm(Payment payment, String paymentKey, BigDecimal amount) {
+        return paymentStateMachine.completeConfirm(payment, paymentKey, amount)
+                .flatMap(transition -> transition.isApplied()
+                        ? fulfillmentEventPublisher.publishPaymentCompleted(transition.getPayment())
+                                .thenReturn(transition.getPayment())
+                        : Mono.just(transition.getPayment()))
+                .as(transactionalOperator::transactional);
+    }
+
+    // PG가 거절했으면 선점 해제, 결과를 알 수 없으면 복구 작업에 맡김
+    private <T> Mono<T> releaseIfDeclined(Payment payment, String paymentKey, Throwable error) {
+        if (PgClient.isOutcomeUnknown(error)) {
+            log.warn("PG 승인 결과 확인 불가, 복구 대상으로 남김: paymentId={}", payment.getId());
+            return Mono.error(error);
+        }
+        return paymentStateMachine.releaseConfirm(payment, paymentKey, error.getMessage())
+                .then(Mono.error(error));
+    }
+
+    /**
+     * 결제 취소
+     * - 조건부 UPDATE로 먼저 취소를 선점한 뒤 PG를 호출 (PG 취소와 입금 반영이 엇갈려 PG만 취소되고 로컬은 PAID가 되지 않도록)
+     * - PG 취소는 발급된 가상계좌(WAITING_FOR_DEPOSIT)만, 카드 결제 대기(PENDING)는 PG 승인 전이므로 불필요
+     * - PG가 취소하지 못하면(결과를 알 수 없는 경우 포함) 입금 대기로 되돌리고 그 사이 반영하지 못한 입금 통지를 재처리 대상으로 되돌림
+     */
     public Mono<PaymentResponse> cancelPayment(Long orderId, String reason) {
         return paymentRepository.findByOrderId(orderId)
                 .switchIfEmpty(Mono.error(new BusinessException(ErrorCode.PAYMENT_NOT_FOUND)))
                 .flatMap(payment -> {
+                    if (payment.getStatus() == PaymentStatus.CANCELLED) {
+                        return Mono.just(payment);
+                    }
                     if (payment.getStatus() != PaymentStatus.PENDING &&
                         payment.getStatus() != PaymentStatus.WAITING_FOR_DEPOSIT) {
                         return Mono.error(new BusinessException(ErrorCode.PAYMENT_CANNOT_CANCEL));
                     }
-
-                    Payment updated = payment.markAsCancelled(reason);
-                    return paymentRepository.save(updated);
+                    return paymentStateMachine.cancel(payment, reason)
+                            .flatMap(transition -> transition.isApplied()
+                                    && payment.getStatus() == PaymentStatus.WAITING_FOR_DEPOSIT
+                                    && payment.getPaymentKey() != null
+                                    ? cancelVirtualAccount(payment, reason).thenReturn(transition.getPayment())
+                                    : Mono.just(transition.getPayment()));
                 })
                 .map(PaymentResponse::from)
                 .doOnSuccess(response -> log.info("결제 취소: orderId={}", orderId));
     }
 
-    @Transactional
+    private Mono<Void> cancelVirtualAccount(Payment payment, String reason) {
+        return pgClient.cancel(payment.getPaymentKey(), reason)
+                .then()
+                .onErrorResume(error -> {
+                    log.warn("PG 가상계좌 취소 실패, 입금 대기로 되돌림: paymentId={}", payment.getId(), error);
+                    return paymentStateMachine.restoreWaitingForDeposit(payment)
+                            .flatMap(restored -> restored
+                                    ? depositInboxRepository.reopenMismatched(payment.getPaymentKey()).then()
+                                    : Mono.empty())
+                            .then(Mono.error(error));
+                });
+    }
+
+    /**
+     * 환불
+     * - 선점(REFUNDING) → PG 환불 → 환불 반영 순서로, 선점한 요청만 PG를 호출
+     * - PG가 거절하면 선점을 해제하고, 결과를 알 수 없으면 REFUNDING으로 남겨 PaymentRecoveryJob이 마무리
+     */
     public Mono<PaymentResponse> refundPayment(Long orderId, RefundRequest request) {
         return paymentRepository.findByOrderId(orderId)
                 .switchIfEmpty(Mono.error(new BusinessException(ErrorCode.PAYMENT_NOT_FOUND)))
-                .flatMap(payment -> {
-                    if (!payment.canRefund()) {
-                        return Mono.error(new BusinessException(ErrorCode.PAYMENT_CANNOT_REFUND));
-                    }
-                    if (request.getAmount().compareTo(payment.getRefundableAmount()) > 0) {
-                        return Mono.error(new BusinessException(ErrorCode.REFUND_AMOUNT_EXCEEDED));
-                    }
-
-                    Payment updated = payment.markAsRefunded(request.getAmount());
-                    return paymentRepository.save(updated);
+                .flatMap(payment -> paymentStateMachine.claimRefund(payment, request.getAmount()))
+                .flatMap(claim -> {
+                    Payment payment = claim.getPayment();
+                    return pgClient.refund(payment.getPaymentKey(), request.getAmount(), request.getReason())
+                            .onErrorResume(error -> {
+                                if (PgClient.isOutcomeUnknown(error)) {
+                                    log.warn("PG 환불 결과 확인 불가, 복구 대상으로 남김: paymentId={}", payment.getId());
+                                    return Mono.error(error);
+                                }
+                                return paymentStateMachine.releaseRefund(payment).then(Mono.error(error));
+                            })
+                            .then(Mono.defer(() -> paymentStateMachine.completeRefund(payment)))
+                            .map(PaymentStateMachine.Transition::getPayment);
                 })
                 .map(PaymentResponse::from)
                 .doOnSuccess(response -> log.info("환불 처리: orderId={}, amount={}",
                         orderId, request.getAmount()));
     }
 
+    /**
+     * REFUNDING에 남은 결제를 PG 잔액으로 마무리
+     * - PG 잔액이 진행 중 금액까지 빠진 금액이면 환불 반영, 진행 중 금액 전이면 선점 해제
+     */
+    public Mono<PaymentStatus> recoverRefunding(Payment payment) {
+        BigDecimal refunded = payment.getRefundedAmount() != null ? payment.getRefundedAmount() : BigDecimal.ZERO;
+        BigDecimal balanceBefore = payment.getPaidAmount().subtract(refunded);
+        BigDecimal balanceAfter = balanceBefore.subtract(payment.getRefundingAmount());
+        return pgClient.getPayment(payment.getPaymentKey())
+                .switchIfEmpty(Mono.error(new BusinessException(ErrorCode.PAYMENT_NOT_FOUND)))
+                .flatMap(result -> {
+                    if (result.getBalanceAmount().compareTo(balanceAfter) == 0) {
+                        return paymentStateMachine.completeRefund(payment)
+                                .map(transition -> transition.getPayment().getStatus());
+                    }
+                    if (result.getBalanceAmount().compareTo(balanceBefore) == 0) {
+                        return paymentStateMachine.releaseRefund(payment)
+                                .map(released -> refunded.signum() > 0 ? PaymentStatus.PARTIAL_REFUNDED : PaymentStatus.PAID);
+                    }
+                    return Mono.error(new IllegalStateException("PG 잔액이 환불 전후 어느 쪽과도 맞지 않습니다: paymentId="
+                            + payment.getId() + ", balance=" + result.getBalanceAmount()));
+                })
+                .doOnSuccess(status -> log.info("환불 진행 중 결제 복구: paymentId={}, status={}", payment.getId(), status));
+    }
+
     public Mono<PaymentResponse> getPayment(Long orderId) {
         return paymentRepository.findByOrderId(orderId)
                 .switchIfEmpty(Mono.error(new BusinessException(ErrorCode.PAYMENT_NOT_FOUND)))
@@ -146,31 +250,116 @@ public class PaymentService {
                 .map(PaymentResponse::from);
     }
 
-    // Webhook callback from PG
+    /**
+     * 가상계좌 입금 통지 묶음을 한 트랜잭션으로 반영
+     * - 수신함에서 아직 반영되지 않은 거래만 잠가 처리 (webhook 큐와 재처리 작업이 겹쳐도 한 번만 반영)
+     * - 결제 상태는 조건부 일괄 UPDATE로 변경하고 주문 상태는 결제 완료 이벤트로 반영
+     * - 상태나 금액이 맞지 않는 통지는 불일치 사유와 함께 수신함에 남겨 대사 대상으로 둠
+     */
     @Transactional
-    public Mono<PaymentResponse> handleVirtualAccountDeposit(String paymentKey, BigDecimal amount) {
-        return paymentRepository.findByPaymentKey(paymentKey)
-                .switchIfEmpty(Mono.error(new BusinessException(ErrorCode.PAYMENT_NOT_FOUND)))
-                .flatMap(payment -> {
-                    if (payment.getStatus() != PaymentStatus.WAITING_FOR_DEPOSIT) {
-                        return Mono.error(new BusinessException(ErrorCode.INVALID_PAYMENT_STATUS));
-                    }
-                    if (payment.getAmount().compareTo(amount) != 0) {
-                        return Mono.error(new BusinessException(ErrorCode.PAYMENT_AMOUNT_MISMATCH));
+    public Mono<Integer> applyVirtualAccountDeposits(List<DepositNotification> notifications) {
+        Map<String, DepositNotification> byTransactionId = notifications.stream()
+                .collect(Collectors.toMap(DepositNotification::getTransactionId, n -> n,
+                        (first, duplicate) -> first, LinkedHashMap::new));
+
+        return depositInboxRepository.lockReceived(byTransactionId.keySet())
+                .map(byTransactionId::get)
+                .collectList()
+                .flatMap(received -> {
+                    if (received.isEmpty()) {
+                        return Mono.just(0);
                     }
+                    Set<String> paymentKeys = received.stream()
+                            .map(DepositNotification::getPaymentKey)
+                            .collect(Collectors.toSet());
+                    return paymentRepository.findByPaymentKeyIn(paymentKeys)
+                            .collectMap(Payment::getPaymentKey)
+                            .flatMap(payments -> lockDepositable(payments.values())
+                                    .flatMap(lockedIds -> applyDeposits(received, payments, lockedIds)));
+                });
+    }
 
-                    Payment updated = payment.markAsPaid(paymentKey, amount);
-                    return paymentRepository.save(updated);
-                })
-                .flatMap(payment -> orderRepository.findById(payment.getOrderId())
-                        .flatMap(order -> {
-                            order.markAsPaid();
-                            return orderRepository.save(order);
-                        })
-                        .thenReturn(payment))
-                .map(PaymentResponse::from)
-                .doOnSuccess(response -> log.info("가상계좌 입금 확인: paymentKey={}, amount={}",
-                        paymentKey, amount));
+    private Mono<Set<Long>> lockDepositable(Collection<Payment> payments) {
+        List<Long> ids = payments.stream()
+                .filter(payment -> payment.getStatus() == PaymentStatus.WAITING_FOR_DEPOSIT)
+                .map(Payment::getId)
+                .toList();
+        if (ids.isEmpty()) {
+            return Mono.just(Set.of());
+        }
+        return paymentRepository.lockWaitingForDepositIds(ids).collect(Collectors.toSet());
+    }
+
+    private Mono<Integer> applyDeposits(List<DepositNotification> received, Map<String, Payment> payments,
+                                        Set<Long> lockedIds) {
+        LocalDateTime processedAt = LocalDateTime.now();
+        List<Payment> depositable = new ArrayList<>();
+        List<String> appliedTransactionIds = new ArrayList<>();
+        Map<String, String> mismatches = new LinkedHashMap<>();
+        Set<String> paidKeys = new HashSet<>();
+        for (DepositNotification notification : received) {
+            Payment payment = payments.get(notification.getPaymentKey());
+            String reason = mismatchReason(payment, notification, lockedIds, paidKeys);
+            if (reason != null) {
+                mismatches.put(notification.getTransactionId(), reason);
+                continue;
+            }
+            paidKeys.add(payment.getPaymentKey());
+            depositable.add(payment);
+            appliedTransactionIds.add(notification.getTransactionId());
+        }
+        if (!mismatches.isEmpty()) {
+            log.warn("반영 불가 입금 통지: {}", mismatches);
+        }
+
+        Mono<Integer> markPaid = depositable.isEmpty()
+                ? Mono.just(0)
+                : paymentRepository.markDepositsAsPaid(depositable.stream().map(Payment::getId).toList(), processedAt);
+        return markPaid
+                .flatMap(updated -> Flux.fromIterable(depositable)
+                        .concatMap(fulfillmentEventPublisher::publishPaymentCompleted)
+                        .then(depositInboxRepository.markApplied(appliedTransactionIds, processedAt))
+                        .thenMany(Flux.fromIterable(mismatches.entrySet()))
+                        .concatMap(mismatch -> depositInboxRepository.markMismatched(
+                                mismatch.getKey(), mismatch.getValue(), processedAt))
+                        .then(Mono.just(updated)));
+    }
+
+    // 반영할 수 있으면 null, 아니면 불일치 사유
+    private String mismatchReason(Payment payment, DepositNotification notification,
+                                  Set<Long> lockedIds, Set<String> paidKeys) {
+        if (payment == null) {
+            return "결제 없음";
+        }
+        if (paidKeys.contains(payment.getPaymentKey())) {
+            return "같은 결제의 중복 입금";
+        }
+        if (!lockedIds.contains(payment.getId())) {
+            return "입금 대기 상태가 아님: status=" + payment.getStatus();
+        }
+        if (payment.getAmount().compareTo(notification.getAmount()) != 0) {
+            return "입금 금액 불일치: expected=" + payment.getAmount() + ", actual=" + notification.getAmount();
+        }
+        return null;
+    }
+
+    /**
+     * 가상계좌는 PG에서 계좌를 발급받아 paymentKey와 함께 저장 (입금 webhook은 paymentKey로 매칭)
+     */
+    private Mono<Payment> createPayment(Long orderId, PaymentRequest request) {
+        if (request.getMethod() != PaymentMethod.VIRTUAL_ACCOUNT) {
+            return Mono.just(Payment.create(orderId, request.getMethod(), request.getAmount()));
+        }
+        return pgClient.issueVirtualAccount(orderId, request.getAmount(), request.getBankCode())
+                .map(issued -> Payment.createVirtualAccount(
+                        orderId,
+                        issued.getPaymentKey(),
+                        request.getAmount(),
+                        getBankName(request.getBankCode()),
+                        issued.getAccountNumber(),
+                        "쿠팡",
+                        issued.getDueDate()
+                ));
     }
 
     private String getBankName(String bankCode) {
@@ -183,8 +372,4 @@ public class PaymentService {
             default -> "기타은행";
         };
     }
-
-    private String generateVirtualAccountNumber() {
-        return "9" + String.format("%012d", System.currentTimeMillis() % 1000000000000L);
-    }
 }
@@ -0,0 +1,176 @@
+package com.example.ecommerce.order.domain.payment.service;
+
+import com.example.ecommerce.common.core.exception.BusinessException;
+import com.example.ecommerce.common.core.exception.ErrorCode;
+import com.example.ecommerce.order.domain.payment.entity.Payment;
+import com.example.ecommerce.order.domain.payment.entity.PaymentStatus;
+import com.example.ecommerce.order.domain.payment.repository.PaymentRepository;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * 결제 상태 전이
+ * - 전이마다 허용된 이전 상태를 WHERE 조건에 둔 UPDATE 한 번으로 처리 (읽고-검사하고-저장 없음)
+ * - 영향 행이 0이면 현재 상태를 다시 읽어 이미 반영된 요청인지, 허용되지 않는 전이인지 판단
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PaymentStateMachine {
+
+    private final PaymentRepository paymentRepository;
+
+    /**
+     * PENDING → CONFIRMING (PG 승인 요청 전 선점)
+     * - 같은 paymentKey로 이미 결제됐으면 alreadyApplied, 다른 요청이 승인 진행 중이면 PAYMENT_IN_PROGRESS
+     */
+    public Mono<Transition> claimConfirm(Payment payment, String paymentKey) {
+        return paymentRepository.markAsConfirmingIfPending(payment.getId(), paymentKey)
+                .flatMap(updated -> updated > 0
+                        ? Mono.just(Transition.applied(payment.markAsConfirming(paymentKey)))
+                        : reload(payment.getId()).flatMap(current -> {
+                            if (current.getStatus() == PaymentStatus.PAID && paymentKey.equals(current.getPaymentKey())) {
+                                return Mono.just(Transition.alreadyApplied(current));
+                            }
+                            return Mono.error(new BusinessException(switch (current.getStatus()) {
+                                case CONFIRMING -> ErrorCode.PAYMENT_IN_PROGRESS;
+                                case PAID -> ErrorCode.PAYMENT_ALREADY_COMPLETED;
+                                default -> ErrorCode.INVALID_PAYMENT_STATUS;
+                            }));
+                        }));
+    }
+
+    /**
+     * CONFIRMING → PAID (PG 승인 확인 후, 선점한 paymentKey와 같을 때만)
+     */
+    public Mono<Transition> completeConfirm(Payment payment, String paymentKey, BigDecimal amount) {
+        Payment paid = payment.markAsPaid(paymentKey, amount);
+        return paymentRepository.markAsPaidIfConfirming(payment.getId(), paymentKey, amount, paid.getPaidAt())
+                .flatMap(updated -> updated > 0
+                        ? Mono.just(Transition.applied(paid))
+                        : reload(payment.getId()).flatMap(current ->
+                                current.getStatus() == PaymentStatus.PAID && paymentKey.equals(current.getPaymentKey())
+                                        ? Mono.just(Transition.alreadyApplied(current))
+                                        : Mono.error(new BusinessException(ErrorCode.INVALID_PAYMENT_STATUS))));
+    }
+
+    /**
+     * CONFIRMING → PENDING (PG가 승인하지 않았을 때 선점 해제)
+     */
+    public Mono<Boolean> releaseConfirm(Payment payment, String paymentKey, String reason) {
+        return paymentRepository.releaseConfirming(payment.getId(), paymentKey, reason)
+                .map(updated -> updated > 0);
+    }
+
+    /**
+     * FAILED / 복합결제 PENDING → CONFIRMING (복합결제 수단 승인 요청 전 선점)
+     * - 다른 요청이 승인 진행 중이면 PAYMENT_IN_PROGRESS
+     */
+    public Mono<Transition> claimSplit(Payment payment, String paymentKey, BigDecimal amount) {
+        return paymentRepository.markSplitAsConfirming(payment.getId(), paymentKey, amount)
+                .flatMap(updated -> updated > 0
+                        ? Mono.just(Transition.applied(payment.markAsSplitConfirming(paymentKey, amount)))
+                        : reload(payment.getId()).flatMap(current -> Mono.error(new BusinessException(switch (current.getStatus()) {
+                            case CONFIRMING -> ErrorCode.PAYMENT_IN_PROGRESS;
+                            case PAID, PARTIAL_REFUNDED, REFUNDING, REFUNDED -> ErrorCode.PAYMENT_ALREADY_COMPLETED;
+                            default -> ErrorCode.INVALID_PAYMENT_STATUS;
+                        }))));
+    }
+
+    /**
+     * CONFIRMING → FAILED (복합결제 수단 보상 후, 선점한 paymentKey와 같을 때만)
+     */
+    public Mono<Boolean> failConfirm(Payment payment, String paymentKey, String reason) {
+        return paymentRepository.markAsFailedIfConfirming(payment.getId(), paymentKey, reason)
+                .map(updated -> updated > 0);
+    }
+
+    /**
+     * PENDING / WAITING_FOR_DEPOSIT → CANCELLED (이미 취소된 경우 현재 상태 반환)
+     */
+    public Mono<Transition> cancel(Payment payment, String reason) {
+        Payment cancelled = payment.markAsCancelled(reason);
+        return paymentRepository.markAsCancelledIfCancellable(payment.getId(), reason, cancelled.getCancelledAt())
+                .flatMap(updated -> updated > 0
+                        ? Mono.just(Transition.applied(cancelled))
+                        : reload(payment.getId()).flatMap(current -> current.getStatus() == PaymentStatus.CANCELLED
+                                ? Mono.just(Transition.alreadyApplied(current))
+                                : Mono.error(new BusinessException(ErrorCode.PAYMENT_CANNOT_CANCEL))));
+    }
+
+    /**
+     * CANCELLED → WAITING_FOR_DEPOSIT (PG가 가상계좌 취소를 거절했을 때 선취소 되돌림)
+     */
+    public Mono<Boolean> restoreWaitingForDeposit(Payment payment) {
+        return paymentRepository.restoreWaitingForDeposit(payment.getId())
+                .map(updated -> updated > 0);
+    }
+
+    /**
+     * PAID / PARTIAL_REFUNDED → REFUNDING (PG 환불 요청 전 선점, 환불 가능 금액 안에서만)
+     * - 선점한 요청만 PG 환불을 호출하므로 동시 환불 요청이 PG에 중복으로 가지 않음
+     */
+    public Mono<Transition> claimRefund(Payment payment, BigDecimal amount) {
+        return paymentRepository.markAsRefundingIfRefundable(payment.getId(), amount)
+                .flatMap(updated -> updated > 0
+                        ? Mono.just(Transition.applied(payment.markAsRefunding(amount)))
+                        : reload(payment.getId()).flatMap(current -> Mono.error(new BusinessException(
+                                current.getStatus() == PaymentStatus.REFUNDING ? ErrorCode.PAYMENT_IN_PROGRESS
+                                        : current.canRefund() ? ErrorCode.REFUND_AMOUNT_EXCEEDED
+                                        : ErrorCode.PAYMENT_CANNOT_REFUND))));
+    }
+
+    /**
+     * REFUNDING → PARTIAL_REFUNDED / REFUNDED (PG 환불 확인 후, 반영된 행을 다시 읽어 반환)
+     */
+    public Mono<Transition> completeRefund(Payment payment) {
+        return paymentRepository.completeRefunding(payment.getId(), LocalDateTime.now())
+                .flatMap(updated -> reload(payment.getId()).flatMap(current -> {
+                    if (updated > 0) {
+                        return Mono.just(Transition.applied(current));
+                    }
+                    return current.getStatus() == PaymentStatus.REFUNDED || current.getStatus() == PaymentStatus.PARTIAL_REFUNDED
+                            ? Mono.just(Transition.alreadyApplied(current))
+                            : Mono.error(new BusinessException(ErrorCode.INVALID_PAYMENT_STATUS));
+                }));
+    }
+
+    /**
+     * REFUNDING → 이전 상태 (PG가 환불하지 않았을 때 선점 해제)
+     */
+    public Mono<Boolean> releaseRefund(Payment payment) {
+        return paymentRepository.releaseRefunding(payment.getId())
+                .map(updated -> updated > 0);
+    }
+
+    private Mono<Payment> reload(Long paymentId) {
+        return paymentRepository.findById(paymentId)
+                .switchIfEmpty(Mono.error(new BusinessException(ErrorCode.PAYMENT_NOT_FOUND)));
+    }
+
+    @Getter
+    @AllArgsConstructor(access = AccessLevel.PRIVATE)
+    public static class Transition {
+
+        private final Payment payment;
+
+        // false면 이미 반영된 요청 (이번 요청으로 상태가 바뀌지 않음)
+        private final boolean applied;
+
+        static Transition applied(Payment payment) {
+            return new Transition(payment, true);
+        }
+
+        static Transition alreadyApplied(Payment payment) {
+            return new Transition(payment, false);
+        }
+    }
+}
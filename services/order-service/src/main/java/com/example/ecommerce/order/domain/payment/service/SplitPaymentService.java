@@ -0,0 +1,286 @@
+package com.example.ecommerce.order.domain.payment.service;
+
+import com.example.ecommerce.common.core.exception.BusinessException;
+import com.example.ecommerce.common.core.exception.ErrorCode;
+import com.example.ecommerce.order.domain.order.entity.Order;
+import com.example.ecommerce.order.domain.order.entity.OrderStatus;
+import com.example.ecommerce.order.domain.order.repository.OrderRepository;
+import com.example.ecommerce.order.domain.payment.dto.request.SplitPaymentRequest;
+import com.example.ecommerce.order.domain.payment.dto.response.PaymentResponse;
+import com.example.ecommerce.order.domain.payment.entity.Payment;
+import com.example.ecommerce.order.domain.payment.entity.PaymentMethod;
+import com.example.ecommerce.order.domain.payment.entity.PaymentStatus;
+import com.example.ecommerce.order.domain.payment.entity.PaymentTender;
+import com.example.ecommerce.order.domain.payment.entity.TenderStatus;
+import com.example.ecommerce.order.domain.payment.repository.PaymentRepository;
+import com.example.ecommerce.order.domain.payment.repository.PaymentTenderRepository;
+import com.example.ecommerce.order.event.FulfillmentEventPublisher;
+import com.example.ecommerce.order.external.MemberServiceClient;
+import com.example.ecommerce.order.external.PgClient;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 복합결제 (카드 + 적립금)
+ * - 결제를 CONFIRMING으로 선점하고 결제 수단 내역과 함께 한 트랜잭션으로 기록한 뒤 외부 승인 요청
+ * - 결제 수단별 승인을 병렬로 요청하고 각각 타임아웃 적용 → 전체 지연은 가장 느린 수단 기준
+ * - 하나라도 실패하면 승인이 확인된 수단만 병렬로 취소하고 결제 실패 처리 (실패한 결제는 재시도 때 다시 선점)
+ * - 적립금은 결제 수단별 멱등 키로 사용/사용 취소해 재요청돼도 한 번만 반영
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SplitPaymentService {
+
+    private static final String COMPENSATION_REASON = "복합결제 승인 실패";
+    private static final String RECOVERY_REASON = "복합결제 승인 결과 확인 불가";
+    private static final String PG_STATUS_DONE = "DONE";
+
+    private final PaymentRepository paymentRepository;
+    private final PaymentTenderRepository paymentTenderRepository;
+    private final OrderRepository orderRepository;
+    private final PaymentStateMachine paymentStateMachine;
+    private final PgClient pgClient;
+    private final FulfillmentEventPublisher fulfillmentEventPublisher;
+    private final MemberServiceClient memberServiceClient;
+    private final TransactionalOperator transactionalOperator;
+
+    @Value("${payment.split.tender-timeout-ms:3000}")
+    private long tenderTimeoutMs;
+
+    public Mono<PaymentResponse> pay(Long memberId, SplitPaymentRequest request) {
+        return orderRepository.findById(request.getOrderId())
+                .switchIfEmpty(Mono.error(new BusinessException(ErrorCode.ORDER_NOT_FOUND)))
+                .flatMap(order -> validate(order, memberId, request))
+                .flatMap(order -> claim(order, request)
+                        .flatMap(attempt -> authorizeAll(order, attempt.getTenders())
+                                .flatMap(results -> results.stream().allMatch(TenderResult::isAuthorized)
+                                        ? complete(attempt.getPayment(), order.getMemberId(), results)
+                                        : fail(attempt.getPayment(), order.getMemberId(), results)
+                                                .then(Mono.<PaymentResponse>error(new BusinessException(ErrorCode.PAYMENT_FAILED))))));
+    }
+
+    /**
+     * 승인 진행 중에 멈춘 복합결제 복구 (결과를 알 수 없는 결제 수단을 확인해 취소하고 결제 실패 처리)
+     */
+    public Mono<PaymentStatus> recover(Payment payment) {
+        return orderRepository.findById(payment.getOrderId())
+                .switchIfEmpty(Mono.error(new BusinessException(ErrorCode.ORDER_NOT_FOUND)))
+                .flatMap(order -> paymentTenderRepository.findByPaymentId(payment.getId())
+                        .filter(tender -> tender.getStatus() == TenderStatus.PENDING)
+                        .map(tender -> TenderResult.unknown(tender, RECOVERY_REASON))
+                        .collectList()
+                        .flatMap(results -> fail(payment, order.getMemberId(), results)))
+                .thenReturn(PaymentStatus.FAILED)
+                .doOnSuccess(status -> log.info("승인 진행 중 복합결제 복구: paymentId={}", payment.getId()));
+    }
+
+    private Mono<Order> validate(Order order, Long memberId, SplitPaymentRequest request) {
+        if (!order.getMemberId().equals(memberId)) {
+            return Mono.error(new BusinessException(ErrorCode.ORDER_NOT_FOUND));
+        }
+        if (order.getStatus() != OrderStatus.PENDING) {
+            return Mono.error(new BusinessException(ErrorCode.INVALID_ORDER_STATUS));
+        }
+
+        BigDecimal total = request.getTenders().stream()
+                .map(SplitPaymentRequest.Tender::getAmount)
+                .reduce(BigDecimal.ZERO, BigDecimal::add);
+        if (total.compareTo(order.getFinalAmount()) != 0) {
+            return Mono.error(new BusinessException(ErrorCode.PAYMENT_AMOUNT_MISMATCH));
+        }
+
+        // PG 결제는 한 건만, 적립금은 원 단위, PG는 승인 키 필수
+        // 쿠폰은 검증하고 사용 처리할 쿠폰 서비스가 없어 결제 수단으로 받지 않음
+        long pgTenders = 0;
+        for (SplitPaymentRequest.Tender tender : request.getTenders()) {
+            PaymentMethod method = tender.getMethod();
+            if (method == PaymentMethod.SPLIT || method == PaymentMethod.VIRTUAL_ACCOUNT || method == PaymentMethod.COUPON) {
+                return Mono.error(new BusinessException(ErrorCode.INVALID_PAYMENT_TENDER));
+            }
+            if (method == PaymentMethod.POINT) {
+                if (tender.getAmount().stripTrailingZeros().scale() > 0) {
+                    return Mono.error(new BusinessException(ErrorCode.INVALID_PAYMENT_TENDER));
+                }
+                continue;
+            }
+            if (tender.getApprovalKey() == null || tender.getApprovalKey().isBlank()) {
+                return Mono.error(new BusinessException(ErrorCode.INVALID_PAYMENT_TENDER));
+            }
+            pgTenders++;
+        }
+        if (pgTenders > 1) {
+            return Mono.error(new BusinessException(ErrorCode.INVALID_PAYMENT_TENDER));
+        }
+        return Mono.just(order);
+    }
+
+    /**
+     * 결제 선점(없으면 생성, 실패한 결제면 다시 사용)과 결제 수단 내역 기록을 한 트랜잭션으로
+     * - 동시에 처음 결제하는 요청은 주문당 결제 UNIQUE 키에서 한 건만 남음
+     */
+    private Mono<Attempt> claim(Order order, SplitPaymentRequest request) {
+        String paymentKey = request.getTenders().stream()
+                .filter(tender -> tender.getMethod() != PaymentMethod.POINT)
+                .map(SplitPaymentRequest.Tender::getApprovalKey)
+                .findFirst()
+                .orElse("split_" + order.getId());
+
+        return paymentRepository.findByOrderId(order.getId())
+                .switchIfEmpty(Mono.defer(() -> paymentRepository.save(
+                        Payment.createSplit(order.getId(), order.getFinalAmount()))))
+                .flatMap(payment -> paymentStateMachine.claimSplit(payment, paymentKey, order.getFinalAmount()))
+                .flatMap(transition -> paymentTenderRepository.saveAll(request.getTenders().stream()
+                                .map(tender -> PaymentTender.create(transition.getPayment().getId(),
+                                        tender.getMethod(), tender.getAmount(), tender.getApprovalKey()))
+                                .toList())
+                        .collectList()
+                        .map(tenders -> new Attempt(transition.getPayment(), tenders)))
+                .as(transactionalOperator::transactional)
+                .onErrorMap(DuplicateKeyException.class, e -> new BusinessException(ErrorCode.PAYMENT_IN_PROGRESS));
+    }
+
+    private Mono<List<TenderResult>> authorizeAll(Order order, List<PaymentTender> tenders) {
+        return Flux.fromIterable(tenders)
+                .flatMap(tender -> authorize(order, tender)
+                        .timeout(Duration.ofMillis(tenderTimeoutMs))
+                        .thenReturn(TenderResult.authorized(tender))
+                        .onErrorResume(error -> {
+                            log.warn("복합결제 수단 승인 실패: orderId={}, method={}, error={}",
+                                    order.getId(), tender.getMethod(), error.toString());
+                            return Mono.just(TenderResult.failed(tender, error));
+                        }), tenders.size())
+                .collectList();
+    }
+
+    private Mono<Void> authorize(Order order, PaymentTender tender) {
+        return tender.getMethod() == PaymentMethod.POINT
+                ? memberServiceClient.usePoint(order.getMemberId(), tender.getAmount().intValueExact(), tender.idempotencyKey())
+                : pgClient.confirm(tender.getApprovalKey(), order.getId(), tender.getAmount()).then();
+    }
+
+    private Mono<Void> cancelAuthorization(Long memberId, PaymentTender tender) {
+        return tender.getMethod() == PaymentMethod.POINT
+                ? memberServiceClient.restorePoint(memberId, tender.getAmount().intValueExact(), tender.idempotencyKey())
+                : pgClient.cancel(tender.getApprovalKey(), COMPENSATION_REASON).then();
+    }
+
+    /**
+     * 결제 수단 승인 내역과 결제 완료(CONFIRMING → PAID), 결제 완료 이벤트를 한 트랜잭션으로
+     * - 이번 요청으로 결제가 완료되지 않았으면 승인한 수단을 모두 취소
+     */
+    private Mono<PaymentResponse> complete(Payment payment, Long memberId, List<TenderResult> results) {
+        List<PaymentTender> tenders = results.stream().map(result -> result.getTender().authorize()).toList();
+
+        return paymentTenderRepository.saveAll(tenders)
+                .then(Mono.defer(() -> paymentStateMachine.completeConfirm(payment, payment.getPaymentKey(), payment.getAmount())))
+                .flatMap(transition -> transition.isApplied()
+                        ? fulfillmentEventPublisher.publishPaymentCompleted(transition.getPayment())
+                                .thenReturn(PaymentResponse.from(transition.getPayment(), tenders))
+                        : Mono.<PaymentResponse>error(new BusinessException(ErrorCode.INVALID_PAYMENT_STATUS)))
+                .as(transactionalOperator::transactional)
+                .doOnSuccess(response -> log.info("복합결제 완료: orderId={}, tenders={}",
+                        payment.getOrderId(), tenders.size()))
+                .onErrorResume(error -> {
+                    log.error("복합결제 완료 처리 실패, 승인한 수단 취소: paymentId={}", payment.getId(), error);
+                    return fail(payment, memberId, results)
+                            .then(Mono.<PaymentResponse>error(new BusinessException(ErrorCode.PAYMENT_FAILED)));
+                });
+    }
+
+    /**
+     * 승인이 확인된 수단을 병렬로 취소하고, 결제 수단 내역과 결제 실패(CONFIRMING → FAILED)를 한 트랜잭션으로 기록
+     */
+    private Mono<Void> fail(Payment payment, Long memberId, List<TenderResult> results) {
+        return Flux.fromIterable(results)
+                .flatMap(result -> compensate(payment, memberId, result), Math.max(results.size(), 1))
+                .collectList()
+                .flatMap(tenders -> paymentTenderRepository.saveAll(tenders)
+                        .then(paymentStateMachine.failConfirm(payment, payment.getPaymentKey(), COMPENSATION_REASON))
+                        .as(transactionalOperator::transactional))
+                .doOnNext(failed -> {
+                    if (!failed) {
+                        log.warn("복합결제 실패 처리 대상이 아님 (상태 변경됨): paymentId={}", payment.getId());
+                    }
+                })
+                .then();
+    }
+
+    private Mono<PaymentTender> compensate(Payment payment, Long memberId, TenderResult result) {
+        PaymentTender tender = result.getTender();
+        if (!result.isAuthorized() && !result.isOutcomeUnknown()) {
+            return Mono.just(tender.decline(result.getFailureReason()));
+        }
+        return isApplied(tender, result.isAuthorized())
+                .flatMap(applied -> applied
+                        ? cancelAuthorization(memberId, tender)
+                                .timeout(Duration.ofMillis(tenderTimeoutMs))
+                                .then(Mono.fromSupplier(tender::compensate))
+                        : Mono.just(tender.decline(result.getFailureReason())))
+                .onErrorResume(error -> {
+                    log.error("복합결제 승인 취소 실패: paymentId={}, method={}",
+                            payment.getId(), tender.getMethod(), error);
+                    return Mono.just(tender.failCompensation(error.toString()));
+                });
+    }
+
+    /**
+     * 취소할 승인이 있는지
+     * - 결과를 알 수 없던 PG 승인은 PG 거래 조회로 확인
+     * - 적립금은 회원 서비스가 사용이 반영된 멱등 키만 되돌리므로 그대로 사용 취소 요청
+     */
+    private Mono<Boolean> isApplied(PaymentTender tender, boolean authorized) {
+        if (authorized || !tender.isPgTender()) {
+            return Mono.just(true);
+        }
+        return pgClient.getPayment(tender.getApprovalKey())
+                .map(result -> PG_STATUS_DONE.equals(result.getStatus()))
+                .defaultIfEmpty(false);
+    }
+
+    @Getter
+    @AllArgsConstructor
+    private static class Attempt {
+
+        private final Payment payment;
+        private final List<PaymentTender> tenders;
+    }
+
+    @Getter
+    @AllArgsConstructor(access = AccessLevel.PRIVATE)
+    private static class TenderResult {
+
+        private final PaymentTender tender;
+        private final boolean authorized;
+        // 타임아웃/연결 오류로 승인 여부를 알 수 없음
+        private final boolean outcomeUnknown;
+        private final String failureReason;
+
+        static TenderResult authorized(PaymentTender tender) {
+            return new TenderResult(tender, true, false, null);
+        }
+
+        static TenderResult failed(PaymentTender tender, Throwable error) {
+            boolean outcomeUnknown = error instanceof TimeoutException || PgClient.isOutcomeUnknown(error);
+            return new TenderResult(tender, false, outcomeUnknown, error.getMessage());
+        }
+
+        static TenderResult unknown(PaymentTender tender, String reason) {
+            return new TenderResult(tender, false, true, reason);
+        }
+    }
+}
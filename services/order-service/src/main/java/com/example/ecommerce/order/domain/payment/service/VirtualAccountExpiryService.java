@@ -0,0 +1,100 @@
+package com.example.ecommerce.order.domain.payment.service;
+
+import com.example.ecommerce.common.kafka.Topics;
+import com.example.ecommerce.common.kafka.publisher.EventPublisher;
+import com.example.ecommerce.common.webflux.transaction.AfterCommit;
+import com.example.ecommerce.events.order.OrderCancelledEvent;
+import com.example.ecommerce.order.domain.order.entity.Order;
+import com.example.ecommerce.order.domain.order.entity.OrderItem;
+import com.example.ecommerce.order.domain.order.repository.OrderItemRepository;
+import com.example.ecommerce.order.domain.order.repository.OrderRepository;
+import com.example.ecommerce.order.domain.order.repository.PendingStockReleaseRepository;
+import com.example.ecommerce.order.domain.payment.entity.Payment;
+import com.example.ecommerce.order.domain.payment.repository.PaymentRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class VirtualAccountExpiryService {
+
+    private final PaymentRepository paymentRepository;
+    private final OrderRepository orderRepository;
+    private final OrderItemRepository orderItemRepository;
+    private final PendingStockReleaseRepository pendingStockReleaseRepository;
+    private final EventPublisher eventPublisher;
+
+    /**
+     * 만료된 가상계좌 결제와 연결된 주문을 한 트랜잭션으로 일괄 취소
+     * - 아직 입금 대기/결제 대기인 행만 잠근 뒤 변경 (입금 반영과 같은 결제 → 주문 순서로 잠금)
+     * - 취소된 주문은 재고 해제 대기 목록에 함께 기록하고 상품 목록을 반환 (재고 해제는 커밋 후)
+     * - 고객 취소와 같이 주문 취소 이벤트를 발행 (인기 순위 차감 등, 커밋 후)
+     */
+    @Transactional
+    public Mono<List<OrderItem>> expire(List<Payment> payments, String reason) {
+        Map<Long, Long> orderIdByPaymentId = payments.stream()
+                .collect(Collectors.toMap(Payment::getId, Payment::getOrderId));
+        LocalDateTime cancelledAt = LocalDateTime.now();
+
+        return paymentRepository.lockWaitingForDepositIds(orderIdByPaymentId.keySet())
+                .collectList()
+                .flatMap(paymentIds -> {
+                    if (paymentIds.isEmpty()) {
+                        return Mono.just(List.<OrderItem>of());
+                    }
+                    List<Long> orderIds = paymentIds.stream().map(orderIdByPaymentId::get).toList();
+                    return paymentRepository.cancelByIdIn(paymentIds, cancelledAt, reason)
+                            .then(orderRepository.lockPendingIds(orderIds).collectList())
+                            .flatMap(pendingOrderIds -> {
+                                if (pendingOrderIds.isEmpty()) {
+                                    return Mono.just(List.<OrderItem>of());
+                                }
+                                return orderRepository.cancelByIdIn(pendingOrderIds, cancelledAt, reason)
+                                        .then(pendingStockReleaseRepository.saveAll(pendingOrderIds, reason))
+                                        .thenMany(orderItemRepository.findByOrderIdIn(pendingOrderIds))
+                                        .collectList()
+                                        .flatMap(items -> publishCancelled(pendingOrderIds, items, reason)
+                                                .thenReturn(items));
+                            });
+                });
+    }
+
+    private Mono<Void> publishCancelled(List<Long> orderIds, List<OrderItem> items, String reason) {
+        Map<Long, List<OrderItem>> itemsByOrderId = items.stream()
+                .collect(Collectors.groupingBy(OrderItem::getOrderId));
+        return orderRepository.findAllById(orderIds)
+                .map(order -> toCancelledEvent(order, itemsByOrderId.getOrDefault(order.getId(), List.of()), reason))
+                .collectList()
+                .flatMap(events -> AfterCommit.run("가상계좌 만료 주문 취소 발행",
+                        () -> Flux.fromIterable(events)
+                                .concatMap(event -> eventPublisher.publish(Topics.ORDER_EVENTS, event))
+                                .then()));
+    }
+
+    private OrderCancelledEvent toCancelledEvent(Order order, List<OrderItem> items, String reason) {
+        return OrderCancelledEvent.of(
+                order.getId(),
+                order.getMemberId(),
+                order.getOrderNumber(),
+                reason,
+                order.getOrderedAt(),
+                items.stream()
+                        .map(item -> OrderCancelledEvent.CancelledItem.builder()
+                                .productId(item.getProductId())
+                                .productOptionId(item.getProductOptionId())
+                                .quantity(item.getQuantity())
+                                .build())
+                        .toList()
+        );
+    }
+}
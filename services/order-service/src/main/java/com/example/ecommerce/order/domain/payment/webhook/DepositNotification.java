@@ -0,0 +1,29 @@
+package com.example.ecommerce.order.domain.payment.webhook;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+
+/**
+ * PG 가상계좌 입금 통지
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class DepositNotification {
+
+    private final String transactionId;
+    private final String paymentKey;
+    private final BigDecimal amount;
+
+    /**
+     * PG 거래 ID가 없으면 paymentKey + 금액으로 중복 판별
+     */
+    public static DepositNotification of(String transactionId, String paymentKey, BigDecimal amount) {
+        String dedupId = (transactionId == null || transactionId.isBlank())
+                ? paymentKey + ":" + amount.stripTrailingZeros().toPlainString()
+                : transactionId;
+        return new DepositNotification(dedupId, paymentKey, amount);
+    }
+}
@@ -0,0 +1,151 @@
+package com.example.ecommerce.order.domain.payment.webhook;
+
+import com.example.ecommerce.common.core.exception.BusinessException;
+import com.example.ecommerce.order.domain.payment.repository.DepositInboxRepository;
+import com.example.ecommerce.order.domain.payment.service.PaymentService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.util.retry.Retry;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ArrayBlockingQueue;
+
+/**
+ * 가상계좌 입금 webhook 수집기
+ * - 응답 전에 수신함(DB)에 기록하고 PG 거래 ID unique 키로 중복 제거
+ * - 고정 크기 큐에 적재하고 묶음 단위로 한 트랜잭션에 반영
+ * - 큐가 가득 찼거나 반영에 실패한 통지는 수신함에 남아 DepositInboxRetryJob이 다시 반영
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class VirtualAccountDepositIngestor {
+
+    private static final Duration RETRY_BACKOFF = Duration.ofMillis(200);
+    private static final Duration SHUTDOWN_TIMEOUT = Duration.ofSeconds(10);
+
+    private final PaymentService paymentService;
+    private final DepositInboxRepository depositInboxRepository;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${payment.webhook.queue-capacity:10000}")
+    private int queueCapacity;
+
+    @Value("${payment.webhook.batch-size:200}")
+    private int batchSize;
+
+    @Value("${payment.webhook.batch-max-wait-ms:200}")
+    private long batchMaxWaitMs;
+
+    @Value("${payment.webhook.max-retries:3}")
+    private int maxRetries;
+
+    private Sinks.Many<DepositNotification> sink;
+    private final Sinks.Empty<Void> drained = Sinks.empty();
+    private Disposable subscription;
+
+    private Counter acceptedCounter;
+    private Counter duplicateCounter;
+    private Counter deferredCounter;
+    private Counter appliedCounter;
+    private Counter ignoredCounter;
+    private Counter failedCounter;
+    private Timer batchTimer;
+
+    @PostConstruct
+    void start() {
+        Queue<DepositNotification> queue = new ArrayBlockingQueue<>(queueCapacity);
+        sink = Sinks.many().unicast().onBackpressureBuffer(queue);
+
+        acceptedCounter = meterRegistry.counter("payment.webhook.deposit", "result", "accepted");
+        duplicateCounter = meterRegistry.counter("payment.webhook.deposit", "result", "duplicate");
+        deferredCounter = meterRegistry.counter("payment.webhook.deposit", "result", "deferred");
+        appliedCounter = meterRegistry.counter("payment.webhook.deposit", "result", "applied");
+        ignoredCounter = meterRegistry.counter("payment.webhook.deposit", "result", "ignored");
+        failedCounter = meterRegistry.counter("payment.webhook.deposit", "result", "failed");
+        batchTimer = meterRegistry.timer("payment.webhook.deposit.batch");
+        Gauge.builder("payment.webhook.deposit.queue.size", queue, Queue::size).register(meterRegistry);
+
+        subscription = sink.asFlux()
+                .bufferTimeout(batchSize, Duration.ofMillis(batchMaxWaitMs), true)
+                .concatMap(this::applyBatch)
+                .doFinally(signal -> drained.tryEmitEmpty())
+                .subscribe();
+    }
+
+    @PreDestroy
+    void stop() {
+        sink.tryEmitComplete();
+        drained.asMono()
+                .timeout(SHUTDOWN_TIMEOUT)
+                .onErrorResume(error -> {
+                    log.warn("입금 통지 큐 종료 대기 시간 초과");
+                    return Mono.empty();
+                })
+                .block();
+        subscription.dispose();
+    }
+
+    /**
+     * 입금 통지 접수 (수신함에 처음 기록된 거래만 큐에 적재)
+     * - 기록에 실패하면 오류로 응답해 PG가 재전송하도록 함
+     */
+    public Mono<Void> accept(DepositNotification notification) {
+        return depositInboxRepository.insertIfAbsent(notification)
+                .flatMap(inserted -> {
+                    if (!inserted) {
+                        duplicateCounter.increment();
+                        log.debug("중복 입금 통지 무시: transactionId={}", notification.getTransactionId());
+                        return Mono.empty();
+                    }
+                    if (!enqueue(notification)) {
+                        deferredCounter.increment();
+                        log.debug("입금 통지 큐가 가득 차 재처리 대상으로 남김: transactionId={}",
+                                notification.getTransactionId());
+                        return Mono.empty();
+                    }
+                    acceptedCounter.increment();
+                    return Mono.empty();
+                });
+    }
+
+    private boolean enqueue(DepositNotification notification) {
+        Sinks.EmitResult result;
+        do {
+            result = sink.tryEmitNext(notification);
+        } while (result == Sinks.EmitResult.FAIL_NON_SERIALIZED);
+        return result.isSuccess();
+    }
+
+    private Mono<Void> applyBatch(List<DepositNotification> batch) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        return paymentService.applyVirtualAccountDeposits(batch)
+                .retryWhen(Retry.backoff(maxRetries, RETRY_BACKOFF)
+                        .filter(error -> !(error instanceof BusinessException)))
+                .doOnNext(applied -> {
+                    appliedCounter.increment(applied);
+                    ignoredCounter.increment(batch.size() - applied);
+                    log.info("가상계좌 입금 반영: batch={}, applied={}", batch.size(), applied);
+                })
+                .onErrorResume(error -> {
+                    failedCounter.increment(batch.size());
+                    log.error("가상계좌 입금 반영 실패, 재처리 대상으로 남김: batch={}", batch.size(), error);
+                    return Mono.empty();
+                })
+                .doFinally(signal -> sample.stop(batchTimer))
+                .then();
+    }
+}
@@ -0,0 +1,63 @@
+package com.example.ecommerce.order.event;
+
+import com.example.ecommerce.common.kafka.Topics;
+import com.example.ecommerce.common.webflux.transaction.AfterCommit;
+import com.example.ecommerce.events.DomainEvent;
+import com.example.ecommerce.events.delivery.DeliveryStatusChangedEvent;
+import com.example.ecommerce.events.payment.PaymentCompletedEvent;
+import com.example.ecommerce.order.domain.delivery.entity.Delivery;
+import com.example.ecommerce.order.domain.payment.entity.Payment;
+import com.example.ecommerce.order.event.outbox.FulfillmentOutboxRelay;
+import com.example.ecommerce.order.event.outbox.FulfillmentOutboxRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+
+/**
+ * 결제/배송 상태 변경 이벤트 발행
+ * - 주문 상태는 OrderStatusEventConsumer가 반영하므로 orderId를 키로 발행 (주문별 순서 보장)
+ * - 결제/배송 상태 변경과 같은 트랜잭션에 발신함으로 기록하고 커밋 후 릴레이가 발행 (기록 실패는 상태 변경도 롤백)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FulfillmentEventPublisher {
+
+    private final FulfillmentOutboxRepository outboxRepository;
+    private final FulfillmentOutboxRelay outboxRelay;
+    private final ObjectMapper objectMapper;
+
+    public Mono<Void> publishPaymentCompleted(Payment payment) {
+        PaymentCompletedEvent event = PaymentCompletedEvent.of(
+                payment.getId(),
+                payment.getOrderId(),
+                payment.getPaymentKey(),
+                payment.getMethod().name(),
+                payment.getAmount(),
+                payment.getPaidAt() != null ? payment.getPaidAt() : LocalDateTime.now()
+        );
+        return enqueue(Topics.PAYMENT_EVENTS, String.valueOf(payment.getOrderId()), event);
+    }
+
+    public Mono<Void> publishDeliveryStatusChanged(Delivery delivery, LocalDateTime changedAt) {
+        DeliveryStatusChangedEvent event = DeliveryStatusChangedEvent.of(
+                delivery.getId(),
+                delivery.getOrderId(),
+                delivery.getTrackingNumber(),
+                delivery.getStatus().name(),
+                changedAt
+        );
+        return enqueue(Topics.DELIVERY_EVENTS, String.valueOf(delivery.getOrderId()), event);
+    }
+
+    private Mono<Void> enqueue(String topic, String key, DomainEvent event) {
+        return Mono.fromCallable(() -> objectMapper.writeValueAsString(event))
+                .flatMap(payload -> outboxRepository.insert(topic, key, event.getEventType(), payload))
+                .doOnError(error -> log.error("이벤트 발신함 기록 실패: topic={}, key={}", topic, key, error))
+                .then(AfterCommit.run("발신함 이벤트 발행", () -> Mono.fromRunnable(outboxRelay::request)));
+    }
+}
@@ -0,0 +1,183 @@
+package com.example.ecommerce.order.event;
+
+import com.example.ecommerce.common.kafka.Topics;
+import com.example.ecommerce.events.DomainEvent;
+import com.example.ecommerce.events.delivery.DeliveryStatusChangedEvent;
+import com.example.ecommerce.events.payment.PaymentCompletedEvent;
+import com.example.ecommerce.order.domain.order.service.OrderStatusUpdater;
+import com.example.ecommerce.order.domain.order.service.OrderStatusUpdater.LaggingOrdersException;
+import com.example.ecommerce.order.event.parked.ParkedStatusEventRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.kafka.receiver.KafkaReceiver;
+import reactor.kafka.receiver.ReceiverOptions;
+import reactor.kafka.receiver.ReceiverRecord;
+import reactor.util.retry.Retry;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 결제/배송 이벤트로 주문 상태 변경
+ * - 이벤트는 orderId 키로 발행되어 같은 주문은 같은 파티션에서 순서대로 소비
+ * - 묶음 단위로 한 트랜잭션에 반영한 뒤 오프셋 커밋
+ * - 결제 반영 전에 도착한 배송 이벤트와 그 주문의 이후 배송 이벤트는 보관함에 넣어 결제 반영 후 재반영 (ParkedStatusEventReplayJob)
+ * - 재시도 후에도 반영하지 못하거나 보관에 실패하면 커밋하지 않고 소비를 재시작 (버리는 이벤트 없음)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OrderStatusEventConsumer {
+
+    private static final Duration RETRY_BACKOFF = Duration.ofMillis(500);
+    private static final Duration RESTART_BACKOFF = Duration.ofSeconds(1);
+    private static final Duration RESTART_MAX_BACKOFF = Duration.ofMinutes(1);
+
+    private final ReceiverOptions<String, DomainEvent> receiverOptions;
+    private final OrderStatusUpdater orderStatusUpdater;
+    private final ParkedStatusEventRepository parkedRepository;
+    private final ObjectMapper objectMapper;
+    private final TransactionalOperator transactionalOperator;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${order.status-events.group-id:order-status-group}")
+    private String groupId;
+
+    @Value("${order.status-events.batch-size:500}")
+    private int batchSize;
+
+    @Value("${order.status-events.batch-max-wait-ms:100}")
+    private long batchMaxWaitMs;
+
+    @Value("${order.status-events.max-retries:5}")
+    private int maxRetries;
+
+    private Disposable subscription;
+
+    @PostConstruct
+    void start() {
+        ReceiverOptions<String, DomainEvent> options = receiverOptions
+                .consumerProperty(ConsumerConfig.GROUP_ID_CONFIG, groupId)
+                .subscription(List.of(Topics.PAYMENT_EVENTS, Topics.DELIVERY_EVENTS));
+
+        // 실패한 묶음은 커밋하지 않고 새 컨슈머로 마지막 커밋 오프셋부터 다시 소비
+        subscription = Flux.defer(() -> KafkaReceiver.create(options).receive())
+                .bufferTimeout(batchSize, Duration.ofMillis(batchMaxWaitMs))
+                .concatMap(this::applyBatch)
+                .retryWhen(Retry.backoff(Long.MAX_VALUE, RESTART_BACKOFF)
+                        .maxBackoff(RESTART_MAX_BACKOFF)
+                        .doBeforeRetry(signal -> log.error("주문 상태 이벤트 소비 재시작: attempt={}",
+                                signal.totalRetries() + 1, signal.failure())))
+                .subscribe(
+                        null,
+                        error -> log.error("주문 상태 이벤트 소비 중단", error)
+                );
+    }
+
+    @PreDestroy
+    void stop() {
+        if (subscription != null) {
+            subscription.dispose();
+        }
+    }
+
+    private Mono<Void> applyBatch(List<ReceiverRecord<String, DomainEvent>> records) {
+        List<DomainEvent> events = records.stream()
+                .map(ConsumerRecord::value)
+                .filter(Objects::nonNull)
+                .toList();
+        Timer.Sample sample = Timer.start(meterRegistry);
+
+        return splitBehindParked(events)
+                .flatMap(split -> park(split.get(true)).then(applyOrPark(split.get(false))))
+                .doFinally(signal -> sample.stop(meterRegistry.timer("order.status.events.batch")))
+                .then(Mono.fromRunnable(() -> records.forEach(record -> record.receiverOffset().acknowledge())));
+    }
+
+    /**
+     * 보관 중인 이벤트가 있는 주문의 배송 이벤트(true)와 나머지(false)로 분리 (보관된 이벤트보다 먼저 반영되지 않도록)
+     */
+    private Mono<Map<Boolean, List<DomainEvent>>> splitBehindParked(List<DomainEvent> events) {
+        Set<Long> deliveryOrderIds = events.stream()
+                .filter(DeliveryStatusChangedEvent.class::isInstance)
+                .map(this::orderIdOf)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        Mono<Set<Long>> parkedOrderIds = deliveryOrderIds.isEmpty()
+                ? Mono.just(Set.of())
+                : parkedRepository.findParkedOrderIds(deliveryOrderIds).collect(Collectors.toSet());
+        return parkedOrderIds.map(parked -> events.stream()
+                .collect(Collectors.partitioningBy(event -> event instanceof DeliveryStatusChangedEvent
+                        && parked.contains(orderIdOf(event)))));
+    }
+
+    /**
+     * 반영하고, 결제 반영 전 주문의 배송 이벤트만 보관한 뒤 나머지를 다시 반영
+     * - 그 밖의 실패는 그대로 전달해 오프셋을 커밋하지 않고 마지막 커밋 위치부터 다시 소비
+     */
+    private Mono<Void> applyOrPark(List<DomainEvent> events) {
+        return apply(events)
+                .onErrorResume(LaggingOrdersException.class, lagging -> {
+                    Map<Boolean, List<DomainEvent>> split = events.stream()
+                            .collect(Collectors.partitioningBy(event -> event instanceof DeliveryStatusChangedEvent
+                                    && lagging.getOrderIds().contains(orderIdOf(event))));
+                    return park(split.get(true)).then(apply(split.get(false)));
+                });
+    }
+
+    // 보관이 실패하면 오류를 그대로 전달해 오프셋을 커밋하지 않음
+    private Mono<Void> park(List<DomainEvent> events) {
+        if (events.isEmpty()) {
+            return Mono.empty();
+        }
+        return Flux.fromIterable(events)
+                .concatMap(event -> Mono.fromCallable(() -> objectMapper.writeValueAsString(event))
+                        .flatMap(payload -> parkedRepository.insert(orderIdOf(event), event.getEventType(), payload)))
+                .then()
+                .as(transactionalOperator::transactional)
+                .doOnSuccess(ignored -> {
+                    meterRegistry.counter("order.status.events", "result", "parked").increment(events.size());
+                    log.info("결제 반영 전 배송 이벤트 보관: events={}", events.size());
+                });
+    }
+
+    private Mono<Void> apply(List<DomainEvent> events) {
+        if (events.isEmpty()) {
+            return Mono.empty();
+        }
+        return Mono.defer(() -> orderStatusUpdater.apply(events))
+                .retryWhen(Retry.backoff(maxRetries, RETRY_BACKOFF)
+                        .filter(error -> !(error instanceof LaggingOrdersException))
+                        .onRetryExhaustedThrow((spec, signal) -> signal.failure()))
+                .doOnNext(updated -> meterRegistry.counter("order.status.events", "result", "applied")
+                        .increment(events.size()))
+                .then();
+    }
+
+    private Long orderIdOf(DomainEvent event) {
+        if (event instanceof PaymentCompletedEvent payment) {
+            return payment.getOrderId();
+        }
+        if (event instanceof DeliveryStatusChangedEvent delivery) {
+            return delivery.getOrderId();
+        }
+        return null;
+    }
+}
@@ -0,0 +1,53 @@
+package com.example.ecommerce.order.event;
+
+import com.example.ecommerce.events.product.ProductPriceChangedEvent;
+import com.example.ecommerce.events.product.ProductStatusChangedEvent;
+import com.example.ecommerce.order.domain.cart.service.CartPriceSyncService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * 상품 가격/상태 변경을 장바구니에 반영
+ * - 반영이 끝날 때까지 기다려 실패하면 예외를 던지고 컨테이너가 재시도하도록 함
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProductEventConsumer {
+
+    private final CartPriceSyncService cartPriceSyncService;
+
+    @KafkaListener(topics = "product-events", groupId = "order-service-group")
+    public void handleProductEvent(ConsumerRecord<String, Object> record) {
+        Object event = record.value();
+
+        if (event instanceof ProductPriceChangedEvent priceChanged) {
+            handlePriceChanged(priceChanged);
+        } else if (event instanceof ProductStatusChangedEvent statusChanged) {
+            handleStatusChanged(statusChanged);
+        }
+    }
+
+    private void handlePriceChanged(ProductPriceChangedEvent event) {
+        log.info("상품 가격 변경 이벤트 수신: productId={}, basePrice={}, discountRate={}",
+                event.getProductId(), event.getBasePrice(), event.getDiscountRate());
+
+        Integer updated = cartPriceSyncService
+                .syncPrice(event.getProductOptionIds(), event.getBasePrice(), event.getDiscountRate())
+                .block();
+        log.info("장바구니 가격 동기화 완료: productId={}, updated={}", event.getProductId(), updated);
+    }
+
+    private void handleStatusChanged(ProductStatusChangedEvent event) {
+        log.info("상품 상태 변경 이벤트 수신: productId={}, status={}", event.getProductId(), event.getStatus());
+
+        if (event.isSellable()) {
+            return;
+        }
+        Integer updated = cartPriceSyncService.deselectUnavailable(event.getProductOptionIds()).block();
+        log.info("판매 불가 상품 장바구니 선택 해제: productId={}, updated={}", event.getProductId(), updated);
+    }
+}
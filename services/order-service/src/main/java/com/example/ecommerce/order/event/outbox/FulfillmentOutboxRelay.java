@@ -0,0 +1,101 @@
+package com.example.ecommerce.order.event.outbox;
+
+import com.example.ecommerce.common.kafka.publisher.EventPublisher;
+import com.example.ecommerce.events.DomainEvent;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 발신함 이벤트를 Kafka로 발행
+ * - 이벤트를 기록한 트랜잭션이 커밋되면 바로 요청하고, 놓친 이벤트는 주기적으로 다시 확인
+ * - 기록 순으로 잠가 발행하므로 같은 주문의 이벤트 순서 유지, 발행 도중 실패하면 묶음 전체를 다음에 다시 발행
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FulfillmentOutboxRelay {
+
+    private final FulfillmentOutboxRepository outboxRepository;
+    private final EventPublisher eventPublisher;
+    private final ObjectMapper objectMapper;
+    private final TransactionalOperator transactionalOperator;
+    private final MeterRegistry meterRegistry;
+
+    private final AtomicBoolean running = new AtomicBoolean(false);
+    private final AtomicBoolean requested = new AtomicBoolean(false);
+
+    @Value("${order.outbox.batch-size:100}")
+    private int batchSize;
+
+    @Value("${order.outbox.retention-days:3}")
+    private long retentionDays;
+
+    @Value("${order.outbox.cleanup-batch-size:5000}")
+    private int cleanupBatchSize;
+
+    @Scheduled(fixedDelayString = "${order.outbox.relay-delay-ms:1000}")
+    public void poll() {
+        request();
+    }
+
+    /**
+     * 발행 요청 (이미 발행 중이면 현재 발행이 끝난 뒤 한 번 더 확인)
+     */
+    public void request() {
+        requested.set(true);
+        if (!running.compareAndSet(false, true)) {
+            return;
+        }
+        requested.set(false);
+        relayBatch()
+                .expand(published -> published == batchSize || requested.getAndSet(false) ? relayBatch() : Mono.empty())
+                .reduce(0, Integer::sum)
+                .doFinally(signal -> {
+                    running.set(false);
+                    if (requested.get()) {
+                        request();
+                    }
+                })
+                .subscribe(
+                        published -> {
+                            if (published > 0) {
+                                log.debug("발신함 이벤트 발행: count={}", published);
+                            }
+                        },
+                        error -> log.error("발신함 이벤트 발행 실패", error)
+                );
+    }
+
+    @Scheduled(cron = "${order.outbox.cleanup-cron:0 30 4 * * *}")
+    public void cleanup() {
+        outboxRepository.deletePublishedBefore(LocalDateTime.now().minusDays(retentionDays), cleanupBatchSize)
+                .subscribe(
+                        deleted -> log.info("발행된 발신함 이벤트 정리: count={}", deleted),
+                        error -> log.error("발신함 이벤트 정리 실패", error)
+                );
+    }
+
+    private Mono<Integer> relayBatch() {
+        return outboxRepository.lockUnpublished(batchSize)
+                .concatMap(event -> Mono.fromCallable(() -> objectMapper.readValue(event.getPayload(), DomainEvent.class))
+                        .flatMap(domainEvent -> eventPublisher.publish(event.getTopic(), event.getKey(), domainEvent))
+                        .thenReturn(event.getId()))
+                .collectList()
+                .flatMap(ids -> ids.isEmpty()
+                        ? Mono.just(0)
+                        : outboxRepository.markPublished(ids, LocalDateTime.now())
+                                .doOnNext(marked -> meterRegistry.counter("order.outbox.published").increment(ids.size()))
+                                .thenReturn(ids.size()))
+                .as(transactionalOperator::transactional);
+    }
+}
@@ -0,0 +1,65 @@
+package com.example.ecommerce.order.event.outbox;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+
+/**
+ * 결제/배송 이벤트 발신함 (fulfillment_event_outbox)
+ */
+@Repository
+@RequiredArgsConstructor
+public class FulfillmentOutboxRepository {
+
+    private final DatabaseClient databaseClient;
+
+    /**
+     * 호출한 쪽 트랜잭션 안에서 기록 (상태 변경이 롤백되면 이벤트도 남지 않음)
+     */
+    public Mono<Void> insert(String topic, String key, String eventType, String payload) {
+        return databaseClient.sql("INSERT INTO fulfillment_event_outbox (topic, event_key, event_type, payload) " +
+                        "VALUES (:topic, :key, :eventType, :payload)")
+                .bind("topic", topic)
+                .bind("key", key)
+                .bind("eventType", eventType)
+                .bind("payload", payload)
+                .then();
+    }
+
+    /**
+     * 발행 전 이벤트를 기록 순으로 잠금 (릴레이끼리 같은 이벤트를 동시에 발행하지 않도록 트랜잭션 안에서 호출)
+     */
+    public Flux<OutboxEvent> lockUnpublished(int limit) {
+        return databaseClient.sql("SELECT id, topic, event_key, event_type, payload FROM fulfillment_event_outbox " +
+                        "WHERE published_at IS NULL ORDER BY id LIMIT :limit FOR UPDATE")
+                .bind("limit", limit)
+                .map(row -> new OutboxEvent(
+                        row.get("id", Long.class),
+                        row.get("topic", String.class),
+                        row.get("event_key", String.class),
+                        row.get("event_type", String.class),
+                        row.get("payload", String.class)))
+                .all();
+    }
+
+    public Mono<Long> markPublished(Collection<Long> ids, LocalDateTime publishedAt) {
+        return databaseClient.sql("UPDATE fulfillment_event_outbox SET published_at = :publishedAt WHERE id IN (:ids)")
+                .bind("publishedAt", publishedAt)
+                .bind("ids", ids)
+                .fetch()
+                .rowsUpdated();
+    }
+
+    public Mono<Long> deletePublishedBefore(LocalDateTime publishedBefore, int limit) {
+        return databaseClient.sql("DELETE FROM fulfillment_event_outbox WHERE published_at < :publishedBefore LIMIT :limit")
+                .bind("publishedBefore", publishedBefore)
+                .bind("limit", limit)
+                .fetch()
+                .rowsUpdated();
+    }
+}
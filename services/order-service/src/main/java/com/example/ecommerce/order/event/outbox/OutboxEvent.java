@@ -0,0 +1,19 @@
+package com.example.ecommerce.order.event.outbox;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 발신함에 기록된 발행 전 이벤트 (payload는 이벤트 JSON)
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PACKAGE)
+public class OutboxEvent {
+
+    private final Long id;
+    private final String topic;
+    private final String key;
+    private final String eventType;
+    private final String payload;
+}
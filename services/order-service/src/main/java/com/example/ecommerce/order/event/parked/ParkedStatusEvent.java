@@ -0,0 +1,18 @@
+package com.example.ecommerce.order.event.parked;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 결제 반영을 기다리는 배송 이벤트 (payload는 이벤트 JSON)
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PACKAGE)
+public class ParkedStatusEvent {
+
+    private final Long id;
+    private final Long orderId;
+    private final String payload;
+    private final int attempts;
+}
@@ -0,0 +1,108 @@
+package com.example.ecommerce.order.event.parked;
+
+import com.example.ecommerce.events.DomainEvent;
+import com.example.ecommerce.order.domain.order.repository.OrderRepository;
+import com.example.ecommerce.order.domain.order.service.OrderStatusUpdater;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+
+/**
+ * 결제 반영 전에 보관한 배송 이벤트 재반영
+ * - 보관 순으로 잠가 결제가 반영된(PENDING이 아닌) 주문의 이벤트만 반영하고 삭제
+ * - 아직 PENDING인 주문의 이벤트는 시도 횟수만 올리고 다음 주기에 다시 확인 (결제 이벤트가 올 때까지 버리지 않음)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ParkedStatusEventReplayJob {
+
+    private final ParkedStatusEventRepository parkedRepository;
+    private final OrderRepository orderRepository;
+    private final OrderStatusUpdater orderStatusUpdater;
+    private final ObjectMapper objectMapper;
+    private final TransactionalOperator transactionalOperator;
+    private final MeterRegistry meterRegistry;
+
+    private final AtomicBoolean running = new AtomicBoolean(false);
+
+    @Value("${order.status-events.replay-batch-size:500}")
+    private int batchSize;
+
+    @Value("${order.status-events.replay-warn-attempts:720}")
+    private int warnAttempts;
+
+    @Scheduled(fixedDelayString = "${order.status-events.replay-delay-ms:5000}")
+    public void replay() {
+        if (!running.compareAndSet(false, true)) {
+            log.warn("보관된 주문 상태 이벤트 재반영이 이미 실행 중입니다");
+            return;
+        }
+        replayBatch()
+                .doFinally(signal -> running.set(false))
+                .subscribe(
+                        replayed -> {
+                            if (replayed > 0) {
+                                log.info("보관된 주문 상태 이벤트 재반영: count={}", replayed);
+                            }
+                        },
+                        error -> log.error("보관된 주문 상태 이벤트 재반영 실패", error)
+                );
+    }
+
+    private Mono<Integer> replayBatch() {
+        return parkedRepository.lockOldest(batchSize)
+                .collectList()
+                .flatMap(parked -> {
+                    if (parked.isEmpty()) {
+                        return Mono.just(0);
+                    }
+                    Set<Long> orderIds = parked.stream().map(ParkedStatusEvent::getOrderId).collect(Collectors.toSet());
+                    return orderRepository.findPendingIds(orderIds)
+                            .collect(Collectors.toSet())
+                            .flatMap(pending -> {
+                                List<ParkedStatusEvent> ready = parked.stream()
+                                        .filter(event -> !pending.contains(event.getOrderId()))
+                                        .toList();
+                                List<ParkedStatusEvent> waiting = parked.stream()
+                                        .filter(event -> pending.contains(event.getOrderId()))
+                                        .toList();
+                                warnIfStuck(waiting);
+                                return Flux.fromIterable(ready)
+                                        .concatMap(event -> Mono.fromCallable(() ->
+                                                objectMapper.readValue(event.getPayload(), DomainEvent.class)))
+                                        .collectList()
+                                        .flatMap(events -> events.isEmpty() ? Mono.just(0) : orderStatusUpdater.apply(events))
+                                        .then(parkedRepository.deleteByIdIn(ids(ready)))
+                                        .then(parkedRepository.incrementAttempts(ids(waiting)))
+                                        .doOnSuccess(ignored -> meterRegistry.counter("order.status.events", "result", "replayed")
+                                                .increment(ready.size()))
+                                        .thenReturn(ready.size());
+                            });
+                })
+                .as(transactionalOperator::transactional);
+    }
+
+    private void warnIfStuck(List<ParkedStatusEvent> waiting) {
+        waiting.stream()
+                .filter(event -> event.getAttempts() > 0 && event.getAttempts() % warnAttempts == 0)
+                .forEach(event -> log.warn("결제 반영을 오래 기다리는 배송 이벤트: orderId={}, attempts={}",
+                        event.getOrderId(), event.getAttempts()));
+    }
+
+    private List<Long> ids(List<ParkedStatusEvent> events) {
+        return events.stream().map(ParkedStatusEvent::getId).toList();
+    }
+}
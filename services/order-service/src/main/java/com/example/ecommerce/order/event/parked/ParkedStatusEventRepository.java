@@ -0,0 +1,73 @@
+package com.example.ecommerce.order.event.parked;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Collection;
+
+/**
+ * 결제 반영 전 배송 이벤트 보관함 (order_status_parked_events)
+ */
+@Repository
+@RequiredArgsConstructor
+public class ParkedStatusEventRepository {
+
+    private final DatabaseClient databaseClient;
+
+    public Mono<Void> insert(Long orderId, String eventType, String payload) {
+        return databaseClient.sql("INSERT INTO order_status_parked_events (order_id, event_type, payload) " +
+                        "VALUES (:orderId, :eventType, :payload)")
+                .bind("orderId", orderId)
+                .bind("eventType", eventType)
+                .bind("payload", payload)
+                .then();
+    }
+
+    /**
+     * 보관 중인 이벤트가 있는 주문 (이후 이벤트도 순서를 지키도록 보관 대상)
+     */
+    public Flux<Long> findParkedOrderIds(Collection<Long> orderIds) {
+        return databaseClient.sql("SELECT DISTINCT order_id FROM order_status_parked_events WHERE order_id IN (:orderIds)")
+                .bind("orderIds", orderIds)
+                .map(row -> row.get("order_id", Long.class))
+                .all();
+    }
+
+    /**
+     * 보관 순으로 잠금 (재반영 작업끼리 같은 이벤트를 동시에 반영하지 않도록 트랜잭션 안에서 호출)
+     */
+    public Flux<ParkedStatusEvent> lockOldest(int limit) {
+        return databaseClient.sql("SELECT id, order_id, payload, attempts FROM order_status_parked_events " +
+                        "ORDER BY id LIMIT :limit FOR UPDATE")
+                .bind("limit", limit)
+                .map(row -> new ParkedStatusEvent(
+                        row.get("id", Long.class),
+                        row.get("order_id", Long.class),
+                        row.get("payload", String.class),
+                        row.get("attempts", Integer.class)))
+                .all();
+    }
+
+    public Mono<Long> deleteByIdIn(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return Mono.just(0L);
+        }
+        return databaseClient.sql("DELETE FROM order_status_parked_events WHERE id IN (:ids)")
+                .bind("ids", ids)
+                .fetch()
+                .rowsUpdated();
+    }
+
+    public Mono<Long> incrementAttempts(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return Mono.just(0L);
+        }
+        return databaseClient.sql("UPDATE order_status_parked_events SET attempts = attempts + 1 WHERE id IN (:ids)")
+                .bind("ids", ids)
+                .fetch()
+                .rowsUpdated();
+    }
+}
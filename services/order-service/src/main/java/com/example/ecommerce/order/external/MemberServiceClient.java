@@ -0,0 +1,67 @@
+package com.example.ecommerce.order.external;
+
+import com.example.ecommerce.common.core.exception.BusinessException;
+import com.example.ecommerce.common.core.exception.ErrorCode;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MemberServiceClient {
+
+    @Qualifier("memberServiceClient")
+    private final WebClient memberServiceClient;
+
+    /**
+     * @param idempotencyKey 결제 수단별 키 (같은 키는 회원 서비스에서 한 번만 반영)
+     */
+    public Mono<Void> usePoint(Long memberId, int amount, String idempotencyKey) {
+        log.info("적립금 사용 요청: memberId={}, amount={}", memberId, amount);
+
+        return memberServiceClient.post()
+                .uri(uriBuilder -> uriBuilder
+                        .path("/internal/api/v1/members/{memberId}/points/use")
+                        .queryParam("amount", amount)
+                        .build(memberId))
+                .header("Idempotency-Key", idempotencyKey)
+                .retrieve()
+                .toBodilessEntity()
+                .doOnSuccess(response -> log.info("적립금 사용 성공: memberId={}", memberId))
+                .onErrorMap(WebClientResponseException.class, e -> {
+                    log.error("적립금 사용 실패: memberId={}, status={}", memberId, e.getStatusCode());
+                    if (e.getStatusCode().value() == 400) {
+                        return new BusinessException(ErrorCode.INSUFFICIENT_POINT);
+                    }
+                    return new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR);
+                })
+                .then();
+    }
+
+    /**
+     * @param idempotencyKey 결제 수단별 키 (같은 키는 회원 서비스에서 한 번만 반영)
+     */
+    public Mono<Void> restorePoint(Long memberId, int amount, String idempotencyKey) {
+        log.info("적립금 사용 취소 요청: memberId={}, amount={}", memberId, amount);
+
+        return memberServiceClient.post()
+                .uri(uriBuilder -> uriBuilder
+                        .path("/internal/api/v1/members/{memberId}/points/restore")
+                        .queryParam("amount", amount)
+                        .build(memberId))
+                .header("Idempotency-Key", idempotencyKey)
+                .retrieve()
+                .toBodilessEntity()
+                .doOnSuccess(response -> log.info("적립금 사용 취소 성공: memberId={}", memberId))
+                .onErrorMap(WebClientResponseException.class, e -> {
+                    log.error("적립금 사용 취소 실패: memberId={}, status={}", memberId, e.getStatusCode());
+                    return new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR);
+                })
+                .then();
+    }
+}
@@ -0,0 +1,114 @@
+package com.example.ecommerce.order.external;
+
+import com.example.ecommerce.common.core.exception.BusinessException;
+import com.example.ecommerce.common.core.exception.ErrorCode;
+import com.example.ecommerce.order.external.dto.PgPaymentResult;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeoutException;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PgClient {
+
+    @Qualifier("pgClient")
+    private final WebClient pgClient;
+
+    @Value("${services.pg.timeout-ms:5000}")
+    private long timeoutMs;
+
+    public Mono<PgPaymentResult> confirm(String paymentKey, Long orderId, BigDecimal amount) {
+        log.info("PG 결제 승인 요청: paymentKey={}, orderId={}", paymentKey, orderId);
+
+        return post("/v1/payments/confirm", Map.of(
+                "paymentKey", paymentKey,
+                "orderId", String.valueOf(orderId),
+                "amount", amount
+        ), ErrorCode.PAYMENT_FAILED);
+    }
+
+    public Mono<PgPaymentResult> cancel(String paymentKey, String reason) {
+        log.info("PG 결제 취소 요청: paymentKey={}", paymentKey);
+
+        return post("/v1/payments/" + paymentKey + "/cancel", Map.of(
+                "cancelReason", reason
+        ), ErrorCode.PAYMENT_CANNOT_CANCEL);
+    }
+
+    public Mono<PgPaymentResult> refund(String paymentKey, BigDecimal amount, String reason) {
+        log.info("PG 환불 요청: paymentKey={}, amount={}", paymentKey, amount);
+
+        return post("/v1/payments/" + paymentKey + "/refund", Map.of(
+                "cancelReason", reason,
+                "cancelAmount", amount
+        ), ErrorCode.REFUND_FAILED);
+    }
+
+    /**
+     * PG 거래 조회 (PG에 없는 거래면 empty)
+     */
+    public Mono<PgPaymentResult> getPayment(String paymentKey) {
+        return pgClient.get()
+                .uri("/v1/payments/{paymentKey}", paymentKey)
+                .retrieve()
+                .bodyToMono(PgPaymentResult.class)
+                .timeout(Duration.ofMillis(timeoutMs))
+                .onErrorResume(WebClientResponseException.NotFound.class, e -> Mono.empty())
+                .onErrorMap(error -> !(error instanceof BusinessException), error -> {
+                    log.error("PG 거래 조회 실패: paymentKey={}, error={}", paymentKey, error.toString());
+                    return new BusinessException(ErrorCode.PG_UNAVAILABLE);
+                });
+    }
+
+    /**
+     * PG가 요청을 처리했는지 알 수 없는 오류인지 (응답 시간 초과, 연결 오류, PG 5xx)
+     */
+    public static boolean isOutcomeUnknown(Throwable error) {
+        return error instanceof BusinessException be && be.getErrorCode() == ErrorCode.PG_UNAVAILABLE;
+    }
+
+    public Mono<PgPaymentResult> issueVirtualAccount(Long orderId, BigDecimal amount, String bankCode) {
+        log.info("PG 가상계좌 발급 요청: orderId={}, amount={}", orderId, amount);
+
+        Map<String, Object> body = new HashMap<>();
+        body.put("orderId", String.valueOf(orderId));
+        body.put("amount", amount);
+        body.put("bankCode", bankCode);
+        return post("/v1/virtual-accounts", body, ErrorCode.PAYMENT_FAILED);
+    }
+
+    private Mono<PgPaymentResult> post(String uri, Map<String, Object> body, ErrorCode errorCode) {
+        return pgClient.post()
+                .uri(uri)
+                .bodyValue(body)
+                .retrieve()
+                .bodyToMono(PgPaymentResult.class)
+                .timeout(Duration.ofMillis(timeoutMs))
+                .doOnSuccess(result -> log.info("PG 응답: uri={}, status={}", uri, result.getStatus()))
+                .onErrorMap(WebClientResponseException.class, e -> {
+                    log.error("PG 요청 실패: uri={}, status={}, body={}", uri, e.getStatusCode(), e.getResponseBodyAsString());
+                    return new BusinessException(e.getStatusCode().is5xxServerError() ? ErrorCode.PG_UNAVAILABLE : errorCode);
+                })
+                .onErrorMap(TimeoutException.class, e -> {
+                    log.error("PG 응답 시간 초과: uri={}, timeoutMs={}", uri, timeoutMs);
+                    return new BusinessException(ErrorCode.PG_UNAVAILABLE);
+                })
+                .onErrorMap(WebClientRequestException.class, e -> {
+                    log.error("PG 연결 실패: uri={}, error={}", uri, e.getMessage());
+                    return new BusinessException(ErrorCode.PG_UNAVAILABLE);
+                });
+    }
+}
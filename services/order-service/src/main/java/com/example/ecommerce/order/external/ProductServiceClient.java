@@ -2,6 +2,8 @@ package com.example.ecommerce.order.external;
 
 import com.example.ecommerce.common.core.exception.BusinessException;
 import com.example.ecommerce.common.core.exception.ErrorCode;
+import com.example.ecommerce.order.domain.order.entity.OrderItem;
+import com.example.ecommerce.order.external.dto.ProductInfo;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Qualifier;
@@ -10,6 +12,7 @@ import org.springframework.web.reactive.function.client.WebClient;
 import org.springframework.web.reactive.function.client.WebClientResponseException;
 import reactor.core.publisher.Mono;
 
+import java.util.List;
 import java.util.Map;
 
 @Slf4j
@@ -63,6 +66,33 @@ public class ProductServiceClient {
                 });
     }
 
+    /**
+     * 여러 주문 상품의 재고 예약을 한 번에 해제
+     */
+    public Mono<Integer> releaseStockBulk(List<OrderItem> items, String reason) {
+        log.info("재고 일괄 해제 요청: items={}", items.size());
+
+        List<Map<String, Object>> body = items.stream()
+                .map(item -> Map.<String, Object>of(
+                        "productOptionId", item.getProductOptionId(),
+                        "quantity", item.getQuantity(),
+                        "orderId", item.getOrderId()
+                ))
+                .toList();
+
+        return productServiceClient.post()
+                .uri("/internal/api/v1/inventory/release/bulk")
+                .bodyValue(Map.of("items", body, "reason", reason))
+                .retrieve()
+                .bodyToMono(Map.class)
+                .map(response -> ((Number) response.get("data")).intValue())
+                .doOnSuccess(released -> log.info("재고 일괄 해제 성공: items={}, options={}", items.size(), released))
+                .onErrorMap(WebClientResponseException.class, e -> {
+                    log.error("재고 일괄 해제 실패: items={}, status={}", items.size(), e.getStatusCode());
+                    return new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR);
+                });
+    }
+
     public Mono<Map<String, Object>> getProduct(Long productId) {
         return productServiceClient.get()
                 .uri("/internal/api/v1/products/{productId}", productId)
@@ -72,4 +102,9 @@ public class ProductServiceClient {
                 .onErrorMap(WebClientResponseException.NotFound.class, e ->
                         new BusinessException(ErrorCode.PRODUCT_NOT_FOUND));
     }
+
+    public Mono<ProductInfo> getProductInfo(Long productId) {
+        return getProduct(productId)
+                .map(ProductInfo::from);
+    }
 }
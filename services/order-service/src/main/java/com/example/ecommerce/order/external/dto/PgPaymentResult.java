@@ -0,0 +1,26 @@
+package com.example.ecommerce.order.external.dto;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * PG 승인/취소/가상계좌 발급 응답
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class PgPaymentResult {
+
+    private String paymentKey;
+    private String orderId;
+    private String status;
+    private String transactionId;
+    private BigDecimal totalAmount;
+    private BigDecimal balanceAmount;
+    private String accountNumber;
+    private LocalDateTime dueDate;
+    private LocalDateTime approvedAt;
+}
@@ -0,0 +1,42 @@
+package com.example.ecommerce.order.external.dto;
+
+import com.example.ecommerce.order.domain.delivery.entity.DeliveryType;
+import lombok.*;
+
+import java.math.BigDecimal;
+import java.util.Map;
+
+/**
+ * 상품 서비스 조회 결과 중 장바구니/주문 가격 계산에 필요한 항목
+ */
+@Getter
+@Builder
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+public class ProductInfo {
+
+    private Long id;
+    private String name;
+    private BigDecimal basePrice;
+    private Integer discountRate;
+    private Long sellerId;
+    private Boolean isRocketDelivery;
+
+    public DeliveryType getDeliveryType() {
+        return DeliveryType.fromRocketDelivery(Boolean.TRUE.equals(isRocketDelivery));
+    }
+
+    public static ProductInfo from(Map<String, Object> productData) {
+        Object id = productData.get("id");
+        Object sellerId = productData.get("sellerId");
+        Object discountRate = productData.get("discountRate");
+        return ProductInfo.builder()
+                .id(id != null ? ((Number) id).longValue() : null)
+                .name((String) productData.getOrDefault("name", "상품명"))
+                .basePrice(new BigDecimal(productData.getOrDefault("basePrice", "0").toString()))
+                .discountRate(discountRate != null ? ((Number) discountRate).intValue() : 0)
+                .sellerId(sellerId != null ? ((Number) sellerId).longValue() : null)
+                .isRocketDelivery(Boolean.TRUE.equals(productData.get("isRocketDelivery")))
+                .build();
+    }
+}
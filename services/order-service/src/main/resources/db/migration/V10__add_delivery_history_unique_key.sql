@@ -0,0 +1,11 @@
+-- 같은 스캔(배송, 상태, 발생 시각)이 다시 들어와도 이력이 한 번만 남도록 유니크 키 추가
+-- 기존 중복 행은 가장 먼저 저장된 행만 남기고 삭제
+DELETE duplicate FROM delivery_histories duplicate
+JOIN delivery_histories original
+  ON original.delivery_id = duplicate.delivery_id
+ AND original.status = duplicate.status
+ AND original.occurred_at = duplicate.occurred_at
+ AND original.id < duplicate.id;
+
+ALTER TABLE delivery_histories
+    ADD UNIQUE INDEX uk_delivery_history_scan (delivery_id, status, occurred_at);
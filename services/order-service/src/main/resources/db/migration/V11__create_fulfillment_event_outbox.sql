@@ -0,0 +1,12 @@
+-- 결제/배송 이벤트 발신함
+-- 결제/배송 상태 변경과 같은 트랜잭션에 기록하고, 커밋 후 릴레이가 Kafka로 발행한 뒤 published_at 기록
+CREATE TABLE fulfillment_event_outbox (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    topic VARCHAR(100) NOT NULL,
+    event_key VARCHAR(100) NOT NULL,
+    event_type VARCHAR(255) NOT NULL,
+    payload TEXT NOT NULL,
+    created_at DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    published_at DATETIME,
+    INDEX idx_outbox_published (published_at, id)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
@@ -0,0 +1,11 @@
+-- 결제 반영 전에 도착한 배송 이벤트 보관
+-- 주문이 결제 완료되면 재반영 작업이 기록 순으로 반영한 뒤 삭제
+CREATE TABLE order_status_parked_events (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    order_id BIGINT NOT NULL,
+    event_type VARCHAR(255) NOT NULL,
+    payload TEXT NOT NULL,
+    attempts INT NOT NULL DEFAULT 0,
+    created_at DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    INDEX idx_parked_order (order_id, id)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
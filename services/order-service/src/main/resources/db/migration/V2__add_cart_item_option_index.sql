@@ -0,0 +1,2 @@
+-- 상품 가격/상태 변경 시 옵션 단위로 장바구니 상품을 일괄 갱신하기 위한 인덱스
+CREATE INDEX idx_cart_item_option ON cart_items (product_option_id);
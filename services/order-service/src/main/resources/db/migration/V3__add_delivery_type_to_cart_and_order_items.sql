@@ -0,0 +1,3 @@
+-- 배송 유형별 묶음 배송비 계산을 위한 배송 유형 컬럼
+ALTER TABLE cart_items ADD COLUMN delivery_type VARCHAR(30) NOT NULL DEFAULT 'SELLER' AFTER seller_id;
+ALTER TABLE order_items ADD COLUMN delivery_type VARCHAR(30) NOT NULL DEFAULT 'SELLER' AFTER seller_id;
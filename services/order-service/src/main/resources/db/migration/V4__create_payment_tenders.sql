@@ -0,0 +1,14 @@
+-- 복합결제(카드 + 적립금 + 쿠폰) 결제 수단별 내역
+CREATE TABLE payment_tenders (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    payment_id BIGINT NOT NULL,
+    method VARCHAR(30) NOT NULL,
+    amount DECIMAL(15, 2) NOT NULL,
+    status VARCHAR(30) NOT NULL DEFAULT 'PENDING',
+    approval_key VARCHAR(100),
+    failure_reason VARCHAR(500),
+    created_at DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
+    FOREIGN KEY (payment_id) REFERENCES payments(id) ON DELETE CASCADE,
+    INDEX idx_payment_tender_payment (payment_id)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
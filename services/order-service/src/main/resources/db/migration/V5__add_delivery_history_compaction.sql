@@ -0,0 +1,3 @@
+-- 배송 완료 건의 반복 이동 스캔 이력 요약 여부와 대상 조회용 인덱스
+ALTER TABLE deliveries ADD COLUMN history_compacted_at DATETIME AFTER returned_at;
+CREATE INDEX idx_delivery_compaction ON deliveries (status, history_compacted_at, delivered_at);
@@ -0,0 +1,14 @@
+-- 가상계좌 입금 통지 수신함
+-- webhook 응답 전에 기록해 반영 전 장애에도 유실되지 않도록 하고, 반영 결과와 불일치 사유를 대사용으로 보관
+CREATE TABLE payment_deposit_inbox (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    transaction_id VARCHAR(150) NOT NULL,
+    payment_key VARCHAR(100) NOT NULL,
+    amount DECIMAL(15, 2) NOT NULL,
+    status VARCHAR(20) NOT NULL DEFAULT 'RECEIVED',
+    mismatch_reason VARCHAR(500),
+    received_at DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    processed_at DATETIME,
+    UNIQUE KEY uk_deposit_inbox_transaction (transaction_id),
+    INDEX idx_deposit_inbox_status (status, received_at)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
@@ -0,0 +1,10 @@
+-- 재고 예약 해제 대기 주문
+-- 주문 취소와 같은 트랜잭션에 기록하고 상품 서비스가 해제를 확인하면 삭제 (실패분은 주기적으로 재시도)
+CREATE TABLE pending_stock_releases (
+    order_id BIGINT PRIMARY KEY,
+    reason VARCHAR(500) NOT NULL,
+    attempts INT NOT NULL DEFAULT 0,
+    created_at DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    last_attempted_at DATETIME,
+    INDEX idx_pending_stock_release_created (created_at)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
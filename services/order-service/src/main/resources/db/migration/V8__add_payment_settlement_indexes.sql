@@ -0,0 +1,4 @@
+-- 정산 대사 대상 조회 (결제/취소/환불 일시 범위마다 paymentKey 순 keyset, 인덱스만으로 처리)
+CREATE INDEX idx_payment_paid_at_key ON payments (paid_at, payment_key);
+CREATE INDEX idx_payment_cancelled_at_key ON payments (cancelled_at, payment_key);
+CREATE INDEX idx_payment_refunded_at_key ON payments (refunded_at, payment_key);
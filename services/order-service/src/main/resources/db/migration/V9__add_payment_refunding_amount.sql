@@ -0,0 +1,2 @@
+-- 환불 진행 중(REFUNDING) 금액: PG 환불 요청 전에 선점하고 PG 결과 확인 후 refunded_amount에 합산
+ALTER TABLE payments ADD COLUMN refunding_amount DECIMAL(15, 2) AFTER refunded_amount;
@@ -0,0 +1,136 @@
+package com.example.ecommerce.product.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.util.DigestUtils;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * 공개 조회 API 응답 본문 캐시
+ * - 직렬화가 끝난 UTF-8 JSON bytes와 ETag를 키별로 보관해 요청마다 Jackson 직렬화를 하지 않음
+ * - 캐시된 bytes는 복사 없이 응답 버퍼로 감싸서 씀
+ * - If-None-Match가 ETag와 같으면 본문 없이 304
+ * - 상품/카테고리 변경 이벤트를 받은 모든 인스턴스가 해당 키를 비움
+ */
+@Component
+@RequiredArgsConstructor
+public class ResponseBodyCache {
+
+    private static final String PRODUCT_PREFIX = "product:";
+    private static final String PRODUCT_PAGE_PREFIX = "product-page:";
+    private static final String CATEGORY_PREFIX = "category:";
+
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${product.response-cache.max-bytes:67108864}")
+    private long maxBytes;
+
+    @Value("${product.response-cache.ttl-seconds:60}")
+    private long ttlSeconds;
+
+    private AsyncCache<String, CachedBody> local;
+
+    @PostConstruct
+    void init() {
+        local = Caffeine.newBuilder()
+                .maximumWeight(maxBytes)
+                .weigher((String key, CachedBody body) -> body.getBytes().length)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .buildAsync();
+        CaffeineCacheMetrics.monitor(meterRegistry, local.synchronous(), "response_body");
+    }
+
+    public static String productKey(Long productId) {
+        return PRODUCT_PREFIX + productId;
+    }
+
+    public static String productPageKey(Object... parts) {
+        return PRODUCT_PAGE_PREFIX + join(parts);
+    }
+
+    public static String categoryKey(Object... parts) {
+        return CATEGORY_PREFIX + join(parts);
+    }
+
+    /**
+     * 캐시된 본문을 응답으로 씀 (없으면 loader 결과를 직렬화해 캐시, 같은 키의 동시 미스는 하나의 로딩으로 합침)
+     */
+    public Mono<Void> write(ServerWebExchange exchange, String key, Supplier<Mono<?>> loader) {
+        return Mono.fromFuture(
+                        local.get(key, (k, executor) -> loader.get()
+                                .flatMap(this::serialize)
+                                .toFuture()),
+                        true)
+                .flatMap(body -> writeBody(exchange, body));
+    }
+
+    public void evictProduct(Long productId) {
+        local.synchronous().invalidate(productKey(productId));
+        evictByPrefix(PRODUCT_PAGE_PREFIX);
+    }
+
+    /**
+     * 카테고리 구조가 바뀌면 하위 카테고리 포함 상품 목록도 달라지므로 함께 비움
+     */
+    public void evictCategories() {
+        evictByPrefix(CATEGORY_PREFIX);
+        evictByPrefix(PRODUCT_PAGE_PREFIX);
+    }
+
+    private void evictByPrefix(String prefix) {
+        local.synchronous().asMap().keySet().removeIf(key -> key.startsWith(prefix));
+    }
+
+    private Mono<CachedBody> serialize(Object value) {
+        return Mono.fromCallable(() -> {
+            byte[] bytes = objectMapper.writeValueAsBytes(value);
+            return new CachedBody(bytes, "\"" + DigestUtils.md5DigestAsHex(bytes) + "\"");
+        });
+    }
+
+    private Mono<Void> writeBody(ServerWebExchange exchange, CachedBody body) {
+        ServerHttpResponse response = exchange.getResponse();
+        response.getHeaders().setCacheControl(CacheControl.noCache());
+        if (exchange.checkNotModified(body.getEtag())) {
+            return response.setComplete();
+        }
+        HttpHeaders headers = response.getHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        headers.setContentLength(body.getBytes().length);
+        return response.writeWith(Mono.just(response.bufferFactory().wrap(body.getBytes())));
+    }
+
+    private static String join(Object... parts) {
+        return Arrays.stream(parts)
+                .map(String::valueOf)
+                .collect(Collectors.joining(":"));
+    }
+
+    @Getter
+    @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+    private static class CachedBody {
+        private final byte[] bytes;
+        private final String etag;
+    }
+}
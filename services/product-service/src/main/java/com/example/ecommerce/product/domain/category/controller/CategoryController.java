@@ -1,44 +1,98 @@
 package com.example.ecommerce.product.domain.category.controller;
 
 import com.example.ecommerce.common.response.ApiResponse;
+import com.example.ecommerce.product.cache.ResponseBodyCache;
+import com.example.ecommerce.product.domain.category.dto.request.CategoryCreateRequest;
+import com.example.ecommerce.product.domain.category.dto.request.CategoryUpdateRequest;
 import com.example.ecommerce.product.domain.category.dto.response.CategoryResponse;
 import com.example.ecommerce.product.domain.category.service.CategoryService;
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ServerWebExchange;
 import reactor.core.publisher.Mono;
 
-import java.util.List;
-
 @RestController
 @RequestMapping("/api/v1/categories")
 @RequiredArgsConstructor
 public class CategoryController {
 
     private final CategoryService categoryService;
+    private final ResponseBodyCache responseBodyCache;
 
+    /**
+     * 조회 API는 직렬화된 응답 캐시로 응답 (카테고리 변경 이벤트로 무효화)
+     */
     @GetMapping
-    public Mono<ApiResponse<List<CategoryResponse>>> getRootCategories() {
-        return categoryService.getRootCategories()
-                .collectList()
-                .map(ApiResponse::success);
+    public Mono<Void> getRootCategories(ServerWebExchange exchange) {
+        return responseBodyCache.write(exchange, ResponseBodyCache.categoryKey("roots"),
+                () -> categoryService.getRootCategories()
+                        .collectList()
+                        .map(ApiResponse::success));
+    }
+
+    @GetMapping("/tree")
+    public Mono<Void> getCategoryTree(ServerWebExchange exchange) {
+        return responseBodyCache.write(exchange, ResponseBodyCache.categoryKey("tree"),
+                () -> categoryService.getCategoryTree()
+                        .map(ApiResponse::success));
     }
 
     @GetMapping("/{categoryId}")
-    public Mono<ApiResponse<CategoryResponse>> getCategory(@PathVariable Long categoryId) {
-        return categoryService.getCategory(categoryId)
-                .map(ApiResponse::success);
+    public Mono<Void> getCategory(@PathVariable Long categoryId, ServerWebExchange exchange) {
+        return responseBodyCache.write(exchange, ResponseBodyCache.categoryKey(categoryId),
+                () -> categoryService.getCategory(categoryId)
+                        .map(ApiResponse::success));
     }
 
     @GetMapping("/{categoryId}/children")
-    public Mono<ApiResponse<List<CategoryResponse>>> getSubCategories(@PathVariable Long categoryId) {
-        return categoryService.getSubCategories(categoryId)
-                .collectList()
-                .map(ApiResponse::success);
+    public Mono<Void> getSubCategories(@PathVariable Long categoryId, ServerWebExchange exchange) {
+        return responseBodyCache.write(exchange, ResponseBodyCache.categoryKey(categoryId, "children"),
+                () -> categoryService.getSubCategories(categoryId)
+                        .collectList()
+                        .map(ApiResponse::success));
     }
 
     @GetMapping("/{categoryId}/tree")
-    public Mono<ApiResponse<CategoryResponse>> getCategoryWithChildren(@PathVariable Long categoryId) {
-        return categoryService.getCategoryWithChildren(categoryId)
+    public Mono<Void> getCategoryWithChildren(@PathVariable Long categoryId, ServerWebExchange exchange) {
+        return responseBodyCache.write(exchange, ResponseBodyCache.categoryKey(categoryId, "tree"),
+                () -> categoryService.getCategoryWithChildren(categoryId)
+                        .map(ApiResponse::success));
+    }
+
+    @GetMapping("/{categoryId}/breadcrumb")
+    public Mono<Void> getBreadcrumb(@PathVariable Long categoryId, ServerWebExchange exchange) {
+        return responseBodyCache.write(exchange, ResponseBodyCache.categoryKey(categoryId, "breadcrumb"),
+                () -> categoryService.getBreadcrumb(categoryId)
+                        .map(ApiResponse::success));
+    }
+
+    @PostMapping
+    @ResponseStatus(HttpStatus.CREATED)
+    public Mono<ApiResponse<CategoryResponse>> createCategory(@Valid @RequestBody CategoryCreateRequest request) {
+        return categoryService.createCategory(request)
+                .map(response -> ApiResponse.success(response, "카테고리가 등록되었습니다."));
+    }
+
+    @PutMapping("/{categoryId}")
+    public Mono<ApiResponse<CategoryResponse>> updateCategory(
+            @PathVariable Long categoryId,
+            @Valid @RequestBody CategoryUpdateRequest request
+    ) {
+        return categoryService.updateCategory(categoryId, request)
+                .map(response -> ApiResponse.success(response, "카테고리가 수정되었습니다."));
+    }
+
+    @PutMapping("/{categoryId}/activate")
+    public Mono<ApiResponse<CategoryResponse>> activateCategory(@PathVariable Long categoryId) {
+        return categoryService.activateCategory(categoryId)
+                .map(ApiResponse::success);
+    }
+
+    @PutMapping("/{categoryId}/deactivate")
+    public Mono<ApiResponse<CategoryResponse>> deactivateCategory(@PathVariable Long categoryId) {
+        return categoryService.deactivateCategory(categoryId)
                 .map(ApiResponse::success);
     }
 }
@@ -0,0 +1,22 @@
+package com.example.ecommerce.product.domain.category.dto.request;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+import lombok.*;
+
+@Getter
+@Builder
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+public class CategoryCreateRequest {
+
+    @NotBlank(message = "카테고리명은 필수입니다")
+    @Size(max = 100, message = "카테고리명은 100자 이하여야 합니다")
+    private String name;
+
+    private Long parentId;
+
+    @Min(value = 0, message = "노출 순서는 0 이상이어야 합니다")
+    private Integer displayOrder;
+}
@@ -41,6 +41,12 @@ public class Category extends BaseEntity {
         this.isActive = true;
     }
 
+    public Category update(String name, Integer displayOrder) {
+        this.name = name;
+        this.displayOrder = displayOrder != null ? displayOrder : this.displayOrder;
+        return this;
+    }
+
     public Category activate() {
         this.isActive = true;
         return this;
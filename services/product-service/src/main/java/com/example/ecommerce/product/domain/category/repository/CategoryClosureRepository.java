@@ -0,0 +1,37 @@
+package com.example.ecommerce.product.domain.category.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Mono;
+
+/**
+ * 카테고리 클로저 테이블 유지
+ * - 카테고리는 부모를 바꾸지 않으므로 생성 시 한 번만 경로를 추가
+ */
+@Repository
+@RequiredArgsConstructor
+public class CategoryClosureRepository {
+
+    private final DatabaseClient databaseClient;
+
+    /**
+     * 새 카테고리의 자기 자신 행과 부모의 모든 조상(부모 포함) 행을 추가
+     */
+    public Mono<Long> insertPaths(Long categoryId, Long parentId) {
+        if (parentId == null) {
+            return databaseClient.sql("INSERT INTO category_closure (ancestor_id, descendant_id, depth) " +
+                            "VALUES (:categoryId, :categoryId, 0)")
+                    .bind("categoryId", categoryId)
+                    .fetch()
+                    .rowsUpdated();
+        }
+        return databaseClient.sql("INSERT INTO category_closure (ancestor_id, descendant_id, depth) " +
+                        "SELECT ancestor_id, :categoryId, depth + 1 FROM category_closure WHERE descendant_id = :parentId " +
+                        "UNION ALL SELECT :categoryId, :categoryId, 0")
+                .bind("categoryId", categoryId)
+                .bind("parentId", parentId)
+                .fetch()
+                .rowsUpdated();
+    }
+}
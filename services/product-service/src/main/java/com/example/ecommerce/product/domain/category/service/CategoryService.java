@@ -2,64 +2,142 @@ package com.example.ecommerce.product.domain.category.service;
 
 import com.example.ecommerce.common.exception.BusinessException;
 import com.example.ecommerce.common.exception.ErrorCode;
+import com.example.ecommerce.common.kafka.Topics;
+import com.example.ecommerce.common.kafka.publisher.EventPublisher;
+import com.example.ecommerce.common.webflux.transaction.AfterCommit;
+import com.example.ecommerce.events.category.CategoryChangedEvent;
+import com.example.ecommerce.product.domain.category.dto.request.CategoryCreateRequest;
+import com.example.ecommerce.product.domain.category.dto.request.CategoryUpdateRequest;
 import com.example.ecommerce.product.domain.category.dto.response.CategoryResponse;
+import com.example.ecommerce.product.domain.category.entity.Category;
+import com.example.ecommerce.product.domain.category.repository.CategoryClosureRepository;
 import com.example.ecommerce.product.domain.category.repository.CategoryRepository;
+import com.example.ecommerce.product.domain.category.snapshot.CategorySnapshot;
+import com.example.ecommerce.product.domain.category.snapshot.CategorySnapshotService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import java.util.List;
 
+/**
+ * 카테고리 조회는 메모리 스냅샷에서, 변경은 DB 반영 후 이벤트로 모든 인스턴스의 스냅샷을 교체
+ */
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class CategoryService {
 
     private final CategoryRepository categoryRepository;
+    private final CategoryClosureRepository categoryClosureRepository;
+    private final CategorySnapshotService categorySnapshotService;
+    private final EventPublisher eventPublisher;
 
     public Flux<CategoryResponse> getRootCategories() {
-        return categoryRepository.findByParentIdIsNullAndIsActiveTrueOrderByDisplayOrderAsc()
-                .map(CategoryResponse::from);
+        return categorySnapshotService.current()
+                .flatMapIterable(CategorySnapshot::getRoots);
     }
 
     public Mono<CategoryResponse> getCategory(Long categoryId) {
-        return categoryRepository.findById(categoryId)
-                .switchIfEmpty(Mono.error(new BusinessException(ErrorCode.CATEGORY_NOT_FOUND)))
-                .map(CategoryResponse::from);
+        return categorySnapshotService.current()
+                .mapNotNull(snapshot -> snapshot.getCategory(categoryId))
+                .switchIfEmpty(Mono.error(new BusinessException(ErrorCode.CATEGORY_NOT_FOUND)));
     }
 
     public Flux<CategoryResponse> getSubCategories(Long parentId) {
-        return categoryRepository.findByParentIdAndIsActiveTrueOrderByDisplayOrderAsc(parentId)
-                .map(CategoryResponse::from);
+        return categorySnapshotService.current()
+                .flatMapIterable(snapshot -> snapshot.getChildren(parentId));
     }
 
     public Mono<CategoryResponse> getCategoryWithChildren(Long categoryId) {
+        return categorySnapshotService.current()
+                .mapNotNull(snapshot -> snapshot.getTree(categoryId))
+                .switchIfEmpty(Mono.error(new BusinessException(ErrorCode.CATEGORY_NOT_FOUND)));
+    }
+
+    public Mono<List<CategoryResponse>> getCategoryTree() {
+        return categorySnapshotService.current()
+                .map(CategorySnapshot::getTree);
+    }
+
+    /**
+     * 최상위 카테고리부터 해당 카테고리까지의 경로
+     */
+    public Mono<List<CategoryResponse>> getBreadcrumb(Long categoryId) {
+        return categorySnapshotService.current()
+                .filter(snapshot -> snapshot.contains(categoryId))
+                .map(snapshot -> snapshot.getBreadcrumb(categoryId))
+                .switchIfEmpty(Mono.error(new BusinessException(ErrorCode.CATEGORY_NOT_FOUND)));
+    }
+
+    @Transactional
+    public Mono<CategoryResponse> createCategory(CategoryCreateRequest request) {
+        Mono<Integer> depthMono = request.getParentId() == null
+                ? Mono.just(0)
+                : categoryRepository.findById(request.getParentId())
+                        .filter(Category::getIsActive)
+                        .switchIfEmpty(Mono.error(new BusinessException(ErrorCode.CATEGORY_NOT_FOUND)))
+                        .map(parent -> parent.getDepth() + 1);
+
+        return depthMono
+                .map(depth -> Category.builder()
+                        .name(request.getName())
+                        .parentId(request.getParentId())
+                        .depth(depth)
+                        .displayOrder(request.getDisplayOrder())
+                        .build())
+                .flatMap(categoryRepository::save)
+                .flatMap(saved -> categoryClosureRepository.insertPaths(saved.getId(), saved.getParentId())
+                        .thenReturn(saved))
+                .flatMap(saved -> publishChanged(saved, "CREATED"))
+                .map(CategoryResponse::from)
+                .doOnSuccess(response -> log.info("카테고리 생성 완료: categoryId={}", response.getId()));
+    }
+
+    @Transactional
+    public Mono<CategoryResponse> updateCategory(Long categoryId, CategoryUpdateRequest request) {
         return categoryRepository.findById(categoryId)
                 .switchIfEmpty(Mono.error(new BusinessException(ErrorCode.CATEGORY_NOT_FOUND)))
-                .flatMap(category ->
-                    getSubCategories(category.getId())
-                            .collectList()
-                            .map(children -> CategoryResponse.from(category, children))
-                );
+                .map(category -> category.update(request.getName(), request.getDisplayOrder()))
+                .flatMap(categoryRepository::save)
+                .flatMap(saved -> publishChanged(saved, "UPDATED"))
+                .map(CategoryResponse::from)
+                .doOnSuccess(response -> log.info("카테고리 수정 완료: categoryId={}", categoryId));
     }
 
-    public Mono<List<CategoryResponse>> getCategoryTree() {
-        return categoryRepository.findByParentIdIsNullAndIsActiveTrueOrderByDisplayOrderAsc()
-                .flatMap(rootCategory ->
-                    getSubCategories(rootCategory.getId())
-                            .flatMap(child ->
-                                getSubCategories(child.getId())
-                                        .collectList()
-                                        .map(grandChildren -> CategoryResponse.from(
-                                                categoryRepository.findById(child.getId()).block(),
-                                                grandChildren
-                                        ))
-                            )
-                            .collectList()
-                            .map(children -> CategoryResponse.from(rootCategory, children))
-                )
-                .collectList();
+    @Transactional
+    public Mono<CategoryResponse> activateCategory(Long categoryId) {
+        return categoryRepository.findById(categoryId)
+                .switchIfEmpty(Mono.error(new BusinessException(ErrorCode.CATEGORY_NOT_FOUND)))
+                .map(Category::activate)
+                .flatMap(categoryRepository::save)
+                .flatMap(saved -> publishChanged(saved, "ACTIVATED"))
+                .map(CategoryResponse::from)
+                .doOnSuccess(response -> log.info("카테고리 활성화: categoryId={}", categoryId));
+    }
+
+    @Transactional
+    public Mono<CategoryResponse> deactivateCategory(Long categoryId) {
+        return categoryRepository.findById(categoryId)
+                .switchIfEmpty(Mono.error(new BusinessException(ErrorCode.CATEGORY_NOT_FOUND)))
+                .map(Category::deactivate)
+                .flatMap(categoryRepository::save)
+                .flatMap(saved -> publishChanged(saved, "DEACTIVATED"))
+                .map(CategoryResponse::from)
+                .doOnSuccess(response -> log.info("카테고리 비활성화: categoryId={}", categoryId));
+    }
+
+    /**
+     * 커밋 후 변경 이벤트 발행 (이 인스턴스를 포함한 모든 인스턴스가 이벤트를 받아 스냅샷을 교체)
+     * - 커밋 전에 발행하면 다른 인스턴스가 변경 전 DB를 다시 읽을 수 있음
+     * - 발행에 실패해도 스냅샷은 주기적으로 다시 읽어 맞춰짐
+     */
+    private Mono<Category> publishChanged(Category category, String changeType) {
+        CategoryChangedEvent event = CategoryChangedEvent.of(category.getId(), category.getParentId(), changeType);
+        return AfterCommit.run("카테고리 변경 발행", () -> eventPublisher.publish(Topics.CATEGORY_EVENTS, event))
+                .thenReturn(category);
     }
 }
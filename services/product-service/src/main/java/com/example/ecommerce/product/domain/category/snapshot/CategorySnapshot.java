@@ -0,0 +1,131 @@
+package com.example.ecommerce.product.domain.category.snapshot;
+
+import com.example.ecommerce.product.domain.category.dto.response.CategoryResponse;
+import com.example.ecommerce.product.domain.category.entity.Category;
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 활성 카테고리 전체의 불변 스냅샷
+ * - 한 번 조회한 목록으로 부모/자식/조상 인덱스와 하위 트리 응답을 미리 만들어 둠
+ * - 부모가 비활성이라 스냅샷에 없는 카테고리는 트리에서 제외
+ */
+public final class CategorySnapshot {
+
+    @Getter
+    private final long version;
+    private final Map<Long, CategoryResponse> categories;
+    private final List<CategoryResponse> roots;
+    private final Map<Long, List<CategoryResponse>> children;
+    private final Map<Long, CategoryResponse> trees;
+    private final List<CategoryResponse> rootTrees;
+    private final Map<Long, List<CategoryResponse>> breadcrumbs;
+
+    private CategorySnapshot(long version, Map<Long, CategoryResponse> categories, List<CategoryResponse> roots,
+                             Map<Long, List<CategoryResponse>> children, Map<Long, CategoryResponse> trees,
+                             List<CategoryResponse> rootTrees, Map<Long, List<CategoryResponse>> breadcrumbs) {
+        this.version = version;
+        this.categories = categories;
+        this.roots = roots;
+        this.children = children;
+        this.trees = trees;
+        this.rootTrees = rootTrees;
+        this.breadcrumbs = breadcrumbs;
+    }
+
+    /**
+     * depth, display_order 순으로 정렬된 활성 카테고리 목록으로 생성
+     */
+    public static CategorySnapshot of(long version, List<Category> sortedCategories) {
+        Map<Long, Category> byId = new LinkedHashMap<>();
+        Map<Long, List<Category>> childrenById = new HashMap<>();
+        List<Category> rootCategories = new ArrayList<>();
+        for (Category category : sortedCategories) {
+            if (category.isRootCategory()) {
+                rootCategories.add(category);
+            } else if (byId.containsKey(category.getParentId())) {
+                childrenById.computeIfAbsent(category.getParentId(), id -> new ArrayList<>()).add(category);
+            } else {
+                continue;
+            }
+            byId.put(category.getId(), category);
+        }
+
+        Map<Long, CategoryResponse> categories = new HashMap<>();
+        Map<Long, List<CategoryResponse>> children = new HashMap<>();
+        Map<Long, CategoryResponse> trees = new HashMap<>();
+        Map<Long, List<CategoryResponse>> breadcrumbs = new HashMap<>();
+        byId.values().forEach(category -> categories.put(category.getId(), CategoryResponse.from(category)));
+        childrenById.forEach((parentId, list) -> children.put(parentId,
+                list.stream().map(child -> categories.get(child.getId())).toList()));
+        for (Category category : byId.values()) {
+            List<CategoryResponse> path = new ArrayList<>();
+            if (!category.isRootCategory()) {
+                path.addAll(breadcrumbs.get(category.getParentId()));
+            }
+            path.add(categories.get(category.getId()));
+            breadcrumbs.put(category.getId(), List.copyOf(path));
+        }
+        List<CategoryResponse> rootTrees = rootCategories.stream()
+                .map(root -> buildTree(root, childrenById, trees))
+                .toList();
+
+        return new CategorySnapshot(
+                version,
+                Map.copyOf(categories),
+                rootCategories.stream().map(root -> categories.get(root.getId())).toList(),
+                Map.copyOf(children),
+                Map.copyOf(trees),
+                rootTrees,
+                Map.copyOf(breadcrumbs));
+    }
+
+    private static CategoryResponse buildTree(Category category, Map<Long, List<Category>> childrenById,
+                                              Map<Long, CategoryResponse> trees) {
+        List<CategoryResponse> childTrees = childrenById.getOrDefault(category.getId(), List.of()).stream()
+                .map(child -> buildTree(child, childrenById, trees))
+                .toList();
+        CategoryResponse tree = CategoryResponse.from(category, childTrees);
+        trees.put(category.getId(), tree);
+        return tree;
+    }
+
+    public boolean contains(Long categoryId) {
+        return categories.containsKey(categoryId);
+    }
+
+    public CategoryResponse getCategory(Long categoryId) {
+        return categories.get(categoryId);
+    }
+
+    public List<CategoryResponse> getRoots() {
+        return roots;
+    }
+
+    public List<CategoryResponse> getChildren(Long parentId) {
+        return children.getOrDefault(parentId, List.of());
+    }
+
+    /**
+     * 하위 카테고리 전체를 포함한 트리 (없으면 null)
+     */
+    public CategoryResponse getTree(Long categoryId) {
+        return trees.get(categoryId);
+    }
+
+    public List<CategoryResponse> getTree() {
+        return rootTrees;
+    }
+
+    /**
+     * 최상위부터 자기 자신까지의 경로 (없으면 빈 목록)
+     */
+    public List<CategoryResponse> getBreadcrumb(Long categoryId) {
+        return breadcrumbs.getOrDefault(categoryId, List.of());
+    }
+}
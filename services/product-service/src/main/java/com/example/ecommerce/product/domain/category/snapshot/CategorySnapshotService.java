@@ -0,0 +1,66 @@
+package com.example.ecommerce.product.domain.category.snapshot;
+
+import com.example.ecommerce.product.domain.category.repository.CategoryRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 카테고리 스냅샷 보관
+ * - 기동 시와 카테고리 변경 이벤트마다 전체를 다시 읽어 새 스냅샷으로 통째로 교체
+ * - 이벤트 유실(발행 실패, 구독 시작 전 발행)에 대비해 주기적으로도 다시 읽음
+ * - 조회는 현재 스냅샷만 읽으므로 DB 조회 없음
+ * - 동시에 여러 번 다시 읽어도 늦게 시작한 로딩 결과가 남도록 버전으로 비교해 교체
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CategorySnapshotService {
+
+    private final CategoryRepository categoryRepository;
+
+    private final AtomicReference<CategorySnapshot> snapshot = new AtomicReference<>();
+    private final AtomicLong versions = new AtomicLong();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+        refresh().subscribe(
+                loaded -> log.info("카테고리 스냅샷 적재 완료: version={}", loaded.getVersion()),
+                error -> log.error("카테고리 스냅샷 적재 실패", error)
+        );
+    }
+
+    @Scheduled(
+            initialDelayString = "${product.category.snapshot-refresh-delay-ms:300000}",
+            fixedDelayString = "${product.category.snapshot-refresh-delay-ms:300000}"
+    )
+    public void refreshPeriodically() {
+        refresh().subscribe(
+                loaded -> log.debug("카테고리 스냅샷 주기 갱신: version={}", loaded.getVersion()),
+                error -> log.error("카테고리 스냅샷 주기 갱신 실패", error)
+        );
+    }
+
+    public Mono<CategorySnapshot> current() {
+        CategorySnapshot current = snapshot.get();
+        return current != null ? Mono.just(current) : refresh();
+    }
+
+    public Mono<CategorySnapshot> refresh() {
+        return Mono.defer(() -> {
+            long version = versions.incrementAndGet();
+            return categoryRepository.findByIsActiveTrueOrderByDepthAscDisplayOrderAsc()
+                    .collectList()
+                    .map(categories -> CategorySnapshot.of(version, categories))
+                    .map(loaded -> snapshot.accumulateAndGet(loaded, (current, next) ->
+                            current == null || next.getVersion() > current.getVersion() ? next : current));
+        });
+    }
+}
@@ -2,6 +2,7 @@ package com.example.ecommerce.product.domain.inventory.controller;
 
 import com.example.ecommerce.common.response.ApiResponse;
 import com.example.ecommerce.product.domain.inventory.dto.request.InventoryAdjustRequest;
+import com.example.ecommerce.product.domain.inventory.dto.request.InventoryBulkReleaseRequest;
 import com.example.ecommerce.product.domain.inventory.dto.request.InventoryReserveRequest;
 import com.example.ecommerce.product.domain.inventory.dto.response.InventoryResponse;
 import com.example.ecommerce.product.domain.inventory.service.InventoryService;
@@ -56,6 +57,15 @@ public class InventoryController {
                 .map(response -> ApiResponse.success(response, "재고 예약이 해제되었습니다."));
     }
 
+    @PostMapping("/release/bulk")
+    public Mono<ApiResponse<Integer>> releaseStockBulk(
+            @Valid @RequestBody InventoryBulkReleaseRequest request
+    ) {
+        log.info("재고 일괄 해제 요청: items={}", request.getItems().size());
+        return inventoryService.releaseStockBulk(request)
+                .map(released -> ApiResponse.success(released, "재고 예약이 일괄 해제되었습니다."));
+    }
+
     @PostMapping("/option/{productOptionId}/increase")
     public Mono<ApiResponse<InventoryResponse>> increaseStock(
             @PathVariable Long productOptionId,
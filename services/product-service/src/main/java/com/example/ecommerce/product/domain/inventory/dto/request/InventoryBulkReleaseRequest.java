@@ -0,0 +1,40 @@
+package com.example.ecommerce.product.domain.inventory.dto.request;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.*;
+
+import java.util.List;
+
+@Getter
+@Builder
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+public class InventoryBulkReleaseRequest {
+
+    @NotEmpty(message = "해제할 재고 목록은 필수입니다")
+    @Size(max = 1000, message = "한 번에 최대 1000건까지 해제할 수 있습니다")
+    @Valid
+    private List<Item> items;
+
+    private String reason;
+
+    @Getter
+    @Builder
+    @NoArgsConstructor(access = AccessLevel.PROTECTED)
+    @AllArgsConstructor
+    public static class Item {
+
+        @NotNull(message = "상품 옵션 ID는 필수입니다")
+        private Long productOptionId;
+
+        @NotNull(message = "수량은 필수입니다")
+        @Min(value = 1, message = "수량은 1 이상이어야 합니다")
+        private Integer quantity;
+
+        private Long orderId;
+    }
+}
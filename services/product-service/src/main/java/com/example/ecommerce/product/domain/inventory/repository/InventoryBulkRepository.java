@@ -0,0 +1,96 @@
+package com.example.ecommerce.product.domain.inventory.repository;
+
+import com.example.ecommerce.product.domain.inventory.dto.request.InventoryBulkReleaseRequest;
+import lombok.RequiredArgsConstructor;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.StringJoiner;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+/**
+ * 재고 예약 일괄 해제
+ * - 옵션별 해제 수량을 CASE로 묶어 UPDATE 한 문장으로 실행
+ * - 주문/옵션별 해제 기록으로 같은 예약의 중복 해제를 막음
+ */
+@Repository
+@RequiredArgsConstructor
+public class InventoryBulkRepository {
+
+    private final DatabaseClient databaseClient;
+
+    /**
+     * 옵션별 예약 수량 차감 (옵션 id 순으로 바인딩)
+     */
+    public Mono<Long> releaseReservations(Map<Long, Integer> quantityByOption) {
+        if (quantityByOption.isEmpty()) {
+            return Mono.just(0L);
+        }
+        List<Map.Entry<Long, Integer>> entries = new ArrayList<>(new TreeMap<>(quantityByOption).entrySet());
+
+        StringBuilder cases = new StringBuilder("CASE product_option_id");
+        StringJoiner optionIds = new StringJoiner(", ");
+        for (int i = 0; i < entries.size(); i++) {
+            cases.append(" WHEN :optionId").append(i).append(" THEN :quantity").append(i);
+            optionIds.add(":optionId" + i);
+        }
+        cases.append(" ELSE 0 END");
+        String sql = "UPDATE inventory SET reserved_quantity = GREATEST(reserved_quantity - " + cases + ", 0), " +
+                "version = version + 1 WHERE product_option_id IN (" + optionIds + ")";
+
+        DatabaseClient.GenericExecuteSpec spec = databaseClient.sql(sql);
+        for (int i = 0; i < entries.size(); i++) {
+            spec = spec.bind("optionId" + i, entries.get(i).getKey())
+                    .bind("quantity" + i, entries.get(i).getValue());
+        }
+        return spec.fetch().rowsUpdated();
+    }
+
+    /**
+     * 이미 해제한 주문/옵션 ("orderId:productOptionId"), 트랜잭션 안에서 잠금
+     */
+    public Mono<Set<String>> lockReleased(Collection<Long> orderIds) {
+        if (orderIds.isEmpty()) {
+            return Mono.just(Set.of());
+        }
+        return databaseClient.sql("SELECT order_id, product_option_id FROM inventory_releases " +
+                        "WHERE order_id IN (:orderIds) FOR UPDATE")
+                .bind("orderIds", orderIds)
+                .map(row -> releaseKey(row.get("order_id", Long.class), row.get("product_option_id", Long.class)))
+                .all()
+                .collect(Collectors.toSet());
+    }
+
+    /**
+     * 해제 기록 저장 (같은 주문/옵션은 한 항목으로 합친 뒤 호출)
+     */
+    public Mono<Long> insertReleases(List<InventoryBulkReleaseRequest.Item> items) {
+        if (items.isEmpty()) {
+            return Mono.just(0L);
+        }
+        StringJoiner values = new StringJoiner(", ");
+        for (int i = 0; i < items.size(); i++) {
+            values.add("(:orderId" + i + ", :optionId" + i + ", :quantity" + i + ")");
+        }
+        DatabaseClient.GenericExecuteSpec spec = databaseClient.sql(
+                "INSERT INTO inventory_releases (order_id, product_option_id, quantity) VALUES " + values);
+        for (int i = 0; i < items.size(); i++) {
+            InventoryBulkReleaseRequest.Item item = items.get(i);
+            spec = spec.bind("orderId" + i, item.getOrderId())
+                    .bind("optionId" + i, item.getProductOptionId())
+                    .bind("quantity" + i, item.getQuantity());
+        }
+        return spec.fetch().rowsUpdated();
+    }
+
+    public static String releaseKey(Long orderId, Long productOptionId) {
+        return orderId + ":" + productOptionId;
+    }
+}
@@ -7,9 +7,11 @@ import com.example.ecommerce.common.kafka.publisher.EventPublisher;
 import com.example.ecommerce.events.inventory.StockReleasedEvent;
 import com.example.ecommerce.events.inventory.StockReservedEvent;
 import com.example.ecommerce.product.domain.inventory.dto.request.InventoryAdjustRequest;
+import com.example.ecommerce.product.domain.inventory.dto.request.InventoryBulkReleaseRequest;
 import com.example.ecommerce.product.domain.inventory.dto.request.InventoryReserveRequest;
 import com.example.ecommerce.product.domain.inventory.dto.response.InventoryResponse;
 import com.example.ecommerce.product.domain.inventory.entity.Inventory;
+import com.example.ecommerce.product.domain.inventory.repository.InventoryBulkRepository;
 import com.example.ecommerce.product.domain.inventory.repository.InventoryRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -18,7 +20,15 @@ import org.springframework.transaction.annotation.Transactional;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
 @Slf4j
 @Service
@@ -26,6 +36,7 @@ import java.util.UUID;
 public class InventoryService {
 
     private final InventoryRepository inventoryRepository;
+    private final InventoryBulkRepository inventoryBulkRepository;
     private final EventPublisher eventPublisher;
 
     public Mono<InventoryResponse> getInventory(Long productOptionId) {
@@ -90,6 +101,73 @@ public class InventoryService {
                         productOptionId, quantity));
     }
 
+    /**
+     * 여러 주문의 재고 예약을 한 트랜잭션으로 해제 (옵션별 수량 합산 후 UPDATE 한 문장)
+     * - 주문/옵션별 해제 기록을 남겨 주문 서비스가 재시도해도 이미 해제한 예약은 건너뜀
+     */
+    @Transactional
+    public Mono<Integer> releaseStockBulk(InventoryBulkReleaseRequest request) {
+        Set<Long> orderIds = request.getItems().stream()
+                .map(InventoryBulkReleaseRequest.Item::getOrderId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+
+        return inventoryBulkRepository.lockReleased(orderIds)
+                .flatMap(released -> {
+                    List<InventoryBulkReleaseRequest.Item> pending = mergeByOrderAndOption(request.getItems()).stream()
+                            .filter(item -> item.getOrderId() == null || !released.contains(
+                                    InventoryBulkRepository.releaseKey(item.getOrderId(), item.getProductOptionId())))
+                            .toList();
+                    if (pending.size() < request.getItems().size()) {
+                        log.info("이미 해제된 재고 예약 제외: requested={}, pending={}",
+                                request.getItems().size(), pending.size());
+                    }
+                    if (pending.isEmpty()) {
+                        return Mono.just(0);
+                    }
+                    Map<Long, Integer> quantityByOption = pending.stream()
+                            .collect(Collectors.groupingBy(InventoryBulkReleaseRequest.Item::getProductOptionId,
+                                    TreeMap::new, Collectors.summingInt(InventoryBulkReleaseRequest.Item::getQuantity)));
+
+                    return inventoryBulkRepository.insertReleases(pending.stream()
+                                    .filter(item -> item.getOrderId() != null)
+                                    .toList())
+                            .then(inventoryBulkRepository.releaseReservations(quantityByOption))
+                            .flatMap(updated -> Flux.fromIterable(pending)
+                                    .concatMap(item -> eventPublisher.publish(Topics.INVENTORY_EVENTS, StockReleasedEvent.of(
+                                            item.getProductOptionId(),
+                                            item.getOrderId(),
+                                            item.getQuantity(),
+                                            UUID.randomUUID().toString(),
+                                            request.getReason()
+                                    )))
+                                    .then(Mono.just(updated.intValue())));
+                })
+                .doOnSuccess(released -> log.info("재고 일괄 해제 완료: items={}, options={}",
+                        request.getItems().size(), released));
+    }
+
+    // 같은 주문/옵션 항목은 수량을 합쳐 하나로 (주문 id가 없는 항목은 그대로)
+    private List<InventoryBulkReleaseRequest.Item> mergeByOrderAndOption(List<InventoryBulkReleaseRequest.Item> items) {
+        Map<String, InventoryBulkReleaseRequest.Item> merged = new LinkedHashMap<>();
+        List<InventoryBulkReleaseRequest.Item> withoutOrder = new ArrayList<>();
+        for (InventoryBulkReleaseRequest.Item item : items) {
+            if (item.getOrderId() == null) {
+                withoutOrder.add(item);
+                continue;
+            }
+            merged.merge(InventoryBulkRepository.releaseKey(item.getOrderId(), item.getProductOptionId()), item,
+                    (first, second) -> InventoryBulkReleaseRequest.Item.builder()
+                            .orderId(first.getOrderId())
+                            .productOptionId(first.getProductOptionId())
+                            .quantity(first.getQuantity() + second.getQuantity())
+                            .build());
+        }
+        List<InventoryBulkReleaseRequest.Item> result = new ArrayList<>(merged.values());
+        result.addAll(withoutOrder);
+        return result;
+    }
+
     @Transactional
     public Mono<InventoryResponse> increaseStock(Long productOptionId, InventoryAdjustRequest request) {
         return inventoryRepository.findByProductOptionId(productOptionId)
@@ -0,0 +1,11 @@
+package com.example.ecommerce.product.domain.product.bulk;
+
+/**
+ * 대량 등록 파일 형식
+ * - CSV: 헤더 행 필수, 한 행에 상품 하나 (options = "옵션명:추가금:재고|...", images = "URL|URL", 첫 이미지가 대표)
+ * - NDJSON: 한 줄에 ProductCreateRequest JSON 하나
+ */
+public enum ProductImportFormat {
+    CSV,
+    NDJSON
+}
@@ -0,0 +1,200 @@
+package com.example.ecommerce.product.domain.product.bulk;
+
+import com.example.ecommerce.common.exception.BusinessException;
+import com.example.ecommerce.common.exception.ErrorCode;
+import com.example.ecommerce.product.domain.category.snapshot.CategorySnapshot;
+import com.example.ecommerce.product.domain.product.dto.request.ProductCreateRequest;
+import com.example.ecommerce.product.domain.product.dto.request.ProductCreateRequest.ProductImageRequest;
+import com.example.ecommerce.product.domain.product.dto.request.ProductCreateRequest.ProductOptionRequest;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 대량 등록 행 파싱/검증 (상태가 없어 여러 스레드에서 동시에 호출 가능)
+ */
+@Component
+@RequiredArgsConstructor
+public class ProductImportParser {
+
+    // ProductCreateRequest.options의 @Size와 같은 값 (넘으면 옵션별 검증은 생략)
+    private static final int MAX_OPTIONS = 100;
+    private static final List<String> REQUIRED_COLUMNS = List.of("sellerProductCode", "categoryId", "name", "basePrice", "options");
+
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+
+    public ProductImportRow parseJson(long lineNumber, String line, CategorySnapshot categories) {
+        try {
+            return validate(lineNumber, objectMapper.readValue(line, ProductCreateRequest.class), categories);
+        } catch (JsonProcessingException e) {
+            return ProductImportRow.invalid(lineNumber, null, "JSON 형식 오류: " + e.getOriginalMessage());
+        }
+    }
+
+    /**
+     * CSV 헤더 행으로 컬럼명 → 위치 매핑 생성
+     */
+    public Map<String, Integer> parseCsvHeader(String line) {
+        List<String> columns = splitCsv(line.startsWith("\uFEFF") ? line.substring(1) : line);
+        Map<String, Integer> header = new HashMap<>();
+        for (int i = 0; i < columns.size(); i++) {
+            header.put(columns.get(i).trim(), i);
+        }
+        List<String> missing = REQUIRED_COLUMNS.stream().filter(column -> !header.containsKey(column)).toList();
+        if (!missing.isEmpty()) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE, "CSV 필수 컬럼 누락: " + missing);
+        }
+        return header;
+    }
+
+    public ProductImportRow parseCsv(Map<String, Integer> header, long lineNumber, String line, CategorySnapshot categories) {
+        ProductCreateRequest request;
+        try {
+            List<String> values = splitCsv(line);
+            request = ProductCreateRequest.builder()
+                    .sellerProductCode(column(header, values, "sellerProductCode"))
+                    .categoryId(toLong(column(header, values, "categoryId")))
+                    .name(column(header, values, "name"))
+                    .description(column(header, values, "description"))
+                    .basePrice(toDecimal(column(header, values, "basePrice")))
+                    .discountRate(toInteger(column(header, values, "discountRate")))
+                    .isRocketDelivery(Boolean.valueOf(column(header, values, "isRocketDelivery")))
+                    .isRocketWow(Boolean.valueOf(column(header, values, "isRocketWow")))
+                    .options(parseOptions(column(header, values, "options")))
+                    .images(parseImages(column(header, values, "images")))
+                    .build();
+        } catch (IllegalArgumentException e) {
+            return ProductImportRow.invalid(lineNumber, null, "CSV 형식 오류: " + e.getMessage());
+        }
+        return validate(lineNumber, request, categories);
+    }
+
+    private ProductImportRow validate(long lineNumber, ProductCreateRequest request, CategorySnapshot categories) {
+        List<String> errors = new ArrayList<>();
+        if (request.getSellerProductCode() == null || request.getSellerProductCode().isBlank()) {
+            errors.add("판매자 상품 코드는 필수입니다");
+        }
+        errors.addAll(messages(validator.validate(request)));
+        if (request.getOptions() != null && request.getOptions().size() <= MAX_OPTIONS) {
+            request.getOptions().forEach(option -> errors.addAll(messages(validator.validate(option))));
+        }
+        if (request.getImages() != null) {
+            request.getImages().forEach(image -> errors.addAll(messages(validator.validate(image))));
+        }
+        if (request.getCategoryId() != null && !categories.contains(request.getCategoryId())) {
+            errors.add("존재하지 않거나 비활성인 카테고리입니다");
+        }
+        return errors.isEmpty()
+                ? ProductImportRow.valid(lineNumber, request)
+                : ProductImportRow.invalid(lineNumber, request, String.join(", ", errors));
+    }
+
+    private <T> List<String> messages(Set<ConstraintViolation<T>> violations) {
+        return violations.stream()
+                .map(ConstraintViolation::getMessage)
+                .sorted()
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * "옵션명:추가금:재고|옵션명:추가금:재고" (추가금/재고는 생략 가능)
+     */
+    private List<ProductOptionRequest> parseOptions(String value) {
+        if (value == null) {
+            return List.of();
+        }
+        List<ProductOptionRequest> options = new ArrayList<>();
+        for (String token : value.split("\\|")) {
+            String[] parts = token.split(":", -1);
+            options.add(ProductOptionRequest.builder()
+                    .name(parts[0].trim())
+                    .additionalPrice(parts.length > 1 ? toDecimal(parts[1]) : null)
+                    .initialStock(parts.length > 2 ? toInteger(parts[2]) : null)
+                    .build());
+        }
+        return options;
+    }
+
+    private List<ProductImageRequest> parseImages(String value) {
+        if (value == null) {
+            return List.of();
+        }
+        String[] urls = value.split("\\|");
+        List<ProductImageRequest> images = new ArrayList<>();
+        for (int i = 0; i < urls.length; i++) {
+            images.add(ProductImageRequest.builder()
+                    .imageUrl(urls[i].trim())
+                    .displayOrder(i)
+                    .isMain(i == 0)
+                    .build());
+        }
+        return images;
+    }
+
+    private String column(Map<String, Integer> header, List<String> values, String name) {
+        Integer index = header.get(name);
+        if (index == null || index >= values.size()) {
+            return null;
+        }
+        String value = values.get(index).trim();
+        return value.isEmpty() ? null : value;
+    }
+
+    private Long toLong(String value) {
+        return value != null ? Long.valueOf(value.trim()) : null;
+    }
+
+    private Integer toInteger(String value) {
+        return value != null && !value.isBlank() ? Integer.valueOf(value.trim()) : null;
+    }
+
+    private BigDecimal toDecimal(String value) {
+        return value != null && !value.isBlank() ? new BigDecimal(value.trim()) : null;
+    }
+
+    /**
+     * 한 줄 CSV 분리 (큰따옴표 감싸기와 "" 이스케이프 지원, 줄바꿈이 든 필드는 지원하지 않음)
+     */
+    static List<String> splitCsv(String line) {
+        List<String> values = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    current.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    current.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                values.add(current.toString());
+                current.setLength(0);
+            } else {
+                current.append(c);
+            }
+        }
+        if (quoted) {
+            throw new IllegalArgumentException("닫히지 않은 큰따옴표");
+        }
+        values.add(current.toString());
+        return values;
+    }
+}
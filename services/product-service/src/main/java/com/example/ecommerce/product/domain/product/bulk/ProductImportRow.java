@@ -0,0 +1,43 @@
+package com.example.ecommerce.product.domain.product.bulk;
+
+import com.example.ecommerce.product.domain.product.dto.request.ProductCreateRequest;
+import com.example.ecommerce.product.domain.product.dto.response.ProductImportError;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 파싱/검증을 마친 대량 등록 행 (실패하면 request 대신 error)
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class ProductImportRow {
+
+    private final long lineNumber;
+    private final ProductCreateRequest request;
+    private final String error;
+
+    public static ProductImportRow valid(long lineNumber, ProductCreateRequest request) {
+        return new ProductImportRow(lineNumber, request, null);
+    }
+
+    public static ProductImportRow invalid(long lineNumber, ProductCreateRequest request, String error) {
+        return new ProductImportRow(lineNumber, request, error);
+    }
+
+    public boolean isValid() {
+        return error == null;
+    }
+
+    public String getSellerProductCode() {
+        return request != null ? request.getSellerProductCode() : null;
+    }
+
+    public ProductImportError toError(String message) {
+        return ProductImportError.builder()
+                .lineNumber(lineNumber)
+                .sellerProductCode(getSellerProductCode())
+                .message(message)
+                .build();
+    }
+}
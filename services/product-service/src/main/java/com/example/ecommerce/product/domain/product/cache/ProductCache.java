@@ -0,0 +1,108 @@
+package com.example.ecommerce.product.domain.product.cache;
+
+import com.example.ecommerce.product.domain.product.dto.response.ProductResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.ReactiveRedisTemplate;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.function.Function;
+
+/**
+ * 상품 상세 2단계 캐시
+ * - L1: 인스턴스 로컬 Caffeine (크기/TTL 제한), 같은 키의 동시 미스는 하나의 로딩으로 합침
+ * - L2: Redis에 직렬화된 ProductResponse bytes 저장
+ * - 상품 변경 이벤트를 모든 인스턴스가 받아 L1/L2를 비움 (ProductCacheInvalidationConsumer)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProductCache {
+
+    private static final String KEY_PREFIX = "product_detail:";
+
+    private final ReactiveRedisTemplate<String, byte[]> byteArrayRedisTemplate;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${product.cache.l1-max-size:10000}")
+    private long l1MaxSize;
+
+    @Value("${product.cache.l1-ttl-seconds:30}")
+    private long l1TtlSeconds;
+
+    @Value("${product.cache.l2-ttl-minutes:10}")
+    private long l2TtlMinutes;
+
+    private AsyncCache<Long, ProductResponse> local;
+
+    @PostConstruct
+    void init() {
+        local = Caffeine.newBuilder()
+                .maximumSize(l1MaxSize)
+                .expireAfterWrite(Duration.ofSeconds(l1TtlSeconds))
+                .recordStats()
+                .buildAsync();
+        CaffeineCacheMetrics.monitor(meterRegistry, local.synchronous(), "product_detail");
+    }
+
+    /**
+     * L1 → L2 → loader 순으로 조회 (loader 결과가 비어 있으면 캐시하지 않음)
+     */
+    public Mono<ProductResponse> get(Long productId, Function<Long, Mono<ProductResponse>> loader) {
+        return Mono.fromFuture(
+                local.get(productId, (id, executor) -> findInRedis(id)
+                        .switchIfEmpty(Mono.defer(() -> loader.apply(id)
+                                .flatMap(loaded -> saveToRedis(id, loaded))))
+                        .toFuture()),
+                true);
+    }
+
+    public Mono<Void> evict(Long productId) {
+        evictLocal(productId);
+        return byteArrayRedisTemplate.delete(key(productId))
+                .onErrorResume(error -> {
+                    log.warn("상품 캐시 삭제 실패: productId={}", productId, error);
+                    return Mono.just(0L);
+                })
+                .then();
+    }
+
+    public void evictLocal(Long productId) {
+        local.synchronous().invalidate(productId);
+    }
+
+    private Mono<ProductResponse> findInRedis(Long productId) {
+        return byteArrayRedisTemplate.opsForValue()
+                .get(key(productId))
+                .flatMap(bytes -> Mono.fromCallable(() -> objectMapper.readValue(bytes, ProductResponse.class)))
+                .onErrorResume(error -> {
+                    log.warn("상품 캐시 조회 실패: productId={}", productId, error);
+                    return Mono.empty();
+                });
+    }
+
+    private Mono<ProductResponse> saveToRedis(Long productId, ProductResponse product) {
+        return Mono.fromCallable(() -> objectMapper.writeValueAsBytes(product))
+                .flatMap(bytes -> byteArrayRedisTemplate.opsForValue()
+                        .set(key(productId), bytes, Duration.ofMinutes(l2TtlMinutes)))
+                .onErrorResume(error -> {
+                    log.warn("상품 캐시 저장 실패: productId={}", productId, error);
+                    return Mono.just(false);
+                })
+                .thenReturn(product);
+    }
+
+    private String key(Long productId) {
+        return KEY_PREFIX + productId;
+    }
+}
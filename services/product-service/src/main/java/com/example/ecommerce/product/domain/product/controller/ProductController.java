@@ -1,16 +1,34 @@
 package com.example.ecommerce.product.domain.product.controller;
 
 import com.example.ecommerce.common.response.ApiResponse;
+import com.example.ecommerce.common.response.PageResponse;
+import com.example.ecommerce.product.cache.ResponseBodyCache;
+import com.example.ecommerce.product.domain.product.bulk.ProductImportFormat;
 import com.example.ecommerce.product.domain.product.dto.request.ProductCreateRequest;
+import com.example.ecommerce.product.domain.product.dto.request.ProductPriceUpdateRequest;
+import com.example.ecommerce.product.domain.product.dto.response.ProductFacetResponse;
+import com.example.ecommerce.product.domain.product.dto.response.ProductImportProgress;
+import com.example.ecommerce.product.domain.product.dto.response.ProductRankingResponse;
 import com.example.ecommerce.product.domain.product.dto.response.ProductResponse;
+import com.example.ecommerce.product.domain.product.dto.response.ProductSearchResponse;
+import com.example.ecommerce.product.domain.product.entity.ProductStatus;
+import com.example.ecommerce.product.domain.product.facet.ProductFacetCondition;
+import com.example.ecommerce.product.domain.product.ranking.ProductRankingType;
+import com.example.ecommerce.product.domain.product.search.ProductSearchCondition;
+import com.example.ecommerce.product.domain.product.service.ProductImportService;
 import com.example.ecommerce.product.domain.product.service.ProductService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.buffer.DataBuffer;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.math.BigDecimal;
 import java.util.List;
 
 @Slf4j
@@ -20,6 +38,8 @@ import java.util.List;
 public class ProductController {
 
     private final ProductService productService;
+    private final ProductImportService productImportService;
+    private final ResponseBodyCache responseBodyCache;
 
     @PostMapping
     @ResponseStatus(HttpStatus.CREATED)
@@ -32,29 +52,171 @@ public class ProductController {
                 .map(response -> ApiResponse.success(response, "상품이 등록되었습니다."));
     }
 
+    /**
+     * 상품 대량 등록 (CSV 또는 NDJSON 업로드, 진행 상황을 NDJSON으로 스트리밍)
+     */
+    @PostMapping(value = "/import", consumes = "text/csv", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<ProductImportProgress> importProductsFromCsv(
+            @RequestHeader("X-Seller-Id") Long sellerId,
+            @RequestBody Flux<DataBuffer> body
+    ) {
+        log.info("상품 대량 등록 요청: sellerId={}, format=CSV", sellerId);
+        return productImportService.importProducts(sellerId, ProductImportFormat.CSV, body);
+    }
+
+    @PostMapping(value = "/import", consumes = MediaType.APPLICATION_NDJSON_VALUE, produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<ProductImportProgress> importProductsFromNdjson(
+            @RequestHeader("X-Seller-Id") Long sellerId,
+            @RequestBody Flux<DataBuffer> body
+    ) {
+        log.info("상품 대량 등록 요청: sellerId={}, format=NDJSON", sellerId);
+        return productImportService.importProducts(sellerId, ProductImportFormat.NDJSON, body);
+    }
+
+    /**
+     * 상품 상세 (직렬화된 응답 캐시, If-None-Match 일치 시 304)
+     */
     @GetMapping("/{productId}")
-    public Mono<ApiResponse<ProductResponse>> getProduct(@PathVariable Long productId) {
-        return productService.getProduct(productId)
+    public Mono<Void> getProduct(@PathVariable Long productId, ServerWebExchange exchange) {
+        return responseBodyCache.write(exchange, ResponseBodyCache.productKey(productId),
+                        () -> productService.getProduct(productId).map(ApiResponse::success))
+                .doOnSuccess(ignored -> productService.countView(productId));
+    }
+
+    /**
+     * 판매 상태별 상품 목록 (cursor는 이전 응답의 nextCursor)
+     * - ACTIVE 외 상태는 X-Seller-Id 필수, 해당 판매자 상품만 반환
+     */
+    @GetMapping
+    public Mono<ApiResponse<PageResponse<ProductResponse>>> getProducts(
+            @RequestHeader(value = "X-Seller-Id", required = false) Long sellerId,
+            @RequestParam(defaultValue = "ACTIVE") ProductStatus status,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        return productService.getProductsByStatus(sellerId, status, cursor, size)
                 .map(ApiResponse::success);
     }
 
     @GetMapping("/category/{categoryId}")
-    public Mono<ApiResponse<List<ProductResponse>>> getProductsByCategory(
+    public Mono<Void> getProductsByCategory(
             @PathVariable Long categoryId,
+            @RequestParam(defaultValue = "true") boolean includeSubcategories,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            ServerWebExchange exchange
+    ) {
+        int pageSize = ProductService.pageSize(size);
+        String key = ResponseBodyCache.productPageKey("category", categoryId, includeSubcategories, cursor, pageSize);
+        return responseBodyCache.write(exchange, key,
+                () -> productService.getProductsByCategory(categoryId, includeSubcategories, cursor, pageSize)
+                        .map(ApiResponse::success));
+    }
+
+    @GetMapping("/search")
+    public Mono<ApiResponse<List<ProductResponse>>> searchProducts(
+            @RequestParam(required = false) String keyword,
+            @RequestParam(required = false) Long categoryId,
+            @RequestParam(required = false) BigDecimal minPrice,
+            @RequestParam(required = false) BigDecimal maxPrice,
+            @RequestParam(required = false) Boolean rocketDelivery,
             @RequestParam(defaultValue = "1") int page,
             @RequestParam(defaultValue = "20") int size
     ) {
-        return productService.getProductsByCategory(categoryId, page, size)
+        ProductSearchCondition condition = ProductSearchCondition.builder()
+                .keyword(keyword)
+                .categoryId(categoryId)
+                .minPrice(minPrice)
+                .maxPrice(maxPrice)
+                .rocketDelivery(rocketDelivery)
+                .page(page)
+                .size(size)
+                .build();
+        return productService.searchProducts(condition)
                 .collectList()
                 .map(ApiResponse::success);
     }
 
-    @GetMapping("/search")
-    public Mono<ApiResponse<List<ProductResponse>>> searchProducts(
-            @RequestParam String keyword
+    /**
+     * 목록 화면용 요약 (대표 이미지와 최저가만 포함)
+     */
+    @GetMapping("/category/{categoryId}/summary")
+    public Mono<Void> getProductSummariesByCategory(
+            @PathVariable Long categoryId,
+            @RequestParam(defaultValue = "true") boolean includeSubcategories,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            ServerWebExchange exchange
     ) {
-        return productService.searchProducts(keyword)
-                .collectList()
+        int pageSize = ProductService.pageSize(size);
+        String key = ResponseBodyCache.productPageKey("summary", categoryId, includeSubcategories, cursor, pageSize);
+        return responseBodyCache.write(exchange, key,
+                () -> productService.getProductSummariesByCategory(categoryId, includeSubcategories, cursor, pageSize)
+                        .map(ApiResponse::success));
+    }
+
+    /**
+     * 검색 인덱스 기반 검색 (관련도 순, 카테고리/가격/로켓배송 필터)
+     */
+    @GetMapping("/search/summary")
+    public Mono<ApiResponse<ProductSearchResponse>> searchProductSummaries(
+            @RequestParam(required = false) String keyword,
+            @RequestParam(required = false) Long categoryId,
+            @RequestParam(required = false) BigDecimal minPrice,
+            @RequestParam(required = false) BigDecimal maxPrice,
+            @RequestParam(required = false) Boolean rocketDelivery,
+            @RequestParam(defaultValue = "1") int page,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        ProductSearchCondition condition = ProductSearchCondition.builder()
+                .keyword(keyword)
+                .categoryId(categoryId)
+                .minPrice(minPrice)
+                .maxPrice(maxPrice)
+                .rocketDelivery(rocketDelivery)
+                .page(page)
+                .size(size)
+                .build();
+        return productService.searchProductSummaries(condition)
+                .map(ApiResponse::success);
+    }
+
+    /**
+     * 패싯 필터 목록 (로켓배송/로켓와우/가격대/할인율/평점, 같은 패싯은 여러 값 OR, cursor는 이전 응답의 nextCursor)
+     */
+    @GetMapping("/facets")
+    public Mono<ApiResponse<ProductFacetResponse>> filterProductSummaries(
+            @RequestParam(required = false) List<String> rocketDelivery,
+            @RequestParam(required = false) List<String> rocketWow,
+            @RequestParam(required = false) List<String> price,
+            @RequestParam(required = false) List<String> discount,
+            @RequestParam(required = false) List<String> rating,
+            @RequestParam(required = false) Long cursor,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        ProductFacetCondition condition = ProductFacetCondition.builder()
+                .rocketDelivery(rocketDelivery)
+                .rocketWow(rocketWow)
+                .price(price)
+                .discount(discount)
+                .rating(rating)
+                .cursor(cursor)
+                .size(size)
+                .build();
+        return productService.filterProductSummaries(condition)
+                .map(ApiResponse::success);
+    }
+
+    /**
+     * 인기 순위 (BEST_SELLER: 판매량, TRENDING: 급상승, categoryId가 있으면 하위 카테고리 포함 순위)
+     */
+    @GetMapping("/rankings")
+    public Mono<ApiResponse<ProductRankingResponse>> getRanking(
+            @RequestParam(defaultValue = "BEST_SELLER") ProductRankingType type,
+            @RequestParam(required = false) Long categoryId,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        return productService.getRanking(type, categoryId, size)
                 .map(ApiResponse::success);
     }
 
@@ -68,6 +230,17 @@ public class ProductController {
                 .map(response -> ApiResponse.success(response, "상품이 발행되었습니다."));
     }
 
+    @PutMapping("/{productId}/price")
+    public Mono<ApiResponse<ProductResponse>> updatePrice(
+            @RequestHeader("X-Seller-Id") Long sellerId,
+            @PathVariable Long productId,
+            @Valid @RequestBody ProductPriceUpdateRequest request
+    ) {
+        log.info("상품 가격 변경 요청: sellerId={}, productId={}", sellerId, productId);
+        return productService.updatePrice(productId, sellerId, request)
+                .map(response -> ApiResponse.success(response, "상품 가격이 변경되었습니다."));
+    }
+
     @DeleteMapping("/{productId}")
     @ResponseStatus(HttpStatus.NO_CONTENT)
     public Mono<Void> deleteProduct(
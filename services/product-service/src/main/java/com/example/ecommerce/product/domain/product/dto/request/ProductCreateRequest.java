@@ -15,6 +15,9 @@ public class ProductCreateRequest {
     @NotNull(message = "카테고리 ID는 필수입니다")
     private Long categoryId;
 
+    @Size(max = 100, message = "판매자 상품 코드는 100자 이하여야 합니다")
+    private String sellerProductCode;
+
     @NotBlank(message = "상품명은 필수입니다")
     @Size(max = 255, message = "상품명은 255자 이하여야 합니다")
     private String name;
@@ -33,6 +36,7 @@ public class ProductCreateRequest {
     private Boolean isRocketWow;
 
     @NotEmpty(message = "최소 1개의 옵션이 필요합니다")
+    @Size(max = 100, message = "옵션은 100개 이하여야 합니다")
     private List<ProductOptionRequest> options;
 
     private List<ProductImageRequest> images;
@@ -43,6 +47,7 @@ public class ProductCreateRequest {
     @AllArgsConstructor
     public static class ProductOptionRequest {
         @NotBlank(message = "옵션명은 필수입니다")
+        @Size(max = 100, message = "옵션명은 100자 이하여야 합니다")
         private String name;
         private BigDecimal additionalPrice;
         private Integer initialStock;
@@ -54,6 +59,7 @@ public class ProductCreateRequest {
     @AllArgsConstructor
     public static class ProductImageRequest {
         @NotBlank(message = "이미지 URL은 필수입니다")
+        @Size(max = 500, message = "이미지 URL은 500자 이하여야 합니다")
         private String imageUrl;
         private Integer displayOrder;
         private Boolean isMain;
@@ -0,0 +1,52 @@
+package com.example.ecommerce.product.domain.product.dto.request;
+
+import com.example.ecommerce.common.exception.BusinessException;
+import com.example.ecommerce.common.exception.ErrorCode;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+/**
+ * 상품 목록 커서 (마지막으로 내려준 상품의 created_at, id)
+ * - 클라이언트에는 Base64 문자열로만 노출
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class ProductCursor {
+
+    private static final String DELIMITER = "|";
+
+    private final LocalDateTime createdAt;
+    private final Long id;
+
+    public static ProductCursor of(LocalDateTime createdAt, Long id) {
+        return new ProductCursor(createdAt, id);
+    }
+
+    /**
+     * 커서 문자열 해석 (없으면 null - 첫 페이지)
+     */
+    public static ProductCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int delimiter = decoded.indexOf(DELIMITER);
+            return new ProductCursor(
+                    LocalDateTime.parse(decoded.substring(0, delimiter)),
+                    Long.parseLong(decoded.substring(delimiter + 1)));
+        } catch (RuntimeException e) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE);
+        }
+    }
+
+    public String encode() {
+        String raw = createdAt + DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,24 @@
+package com.example.ecommerce.product.domain.product.dto.request;
+
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.*;
+
+import java.math.BigDecimal;
+
+@Getter
+@Builder
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+public class ProductPriceUpdateRequest {
+
+    @NotNull(message = "기본 가격은 필수입니다")
+    @DecimalMin(value = "0", message = "가격은 0 이상이어야 합니다")
+    private BigDecimal basePrice;
+
+    @Min(value = 0, message = "할인율은 0 이상이어야 합니다")
+    @Max(value = 100, message = "할인율은 100 이하여야 합니다")
+    private Integer discountRate;
+}
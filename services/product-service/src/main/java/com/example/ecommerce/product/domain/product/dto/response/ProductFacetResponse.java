@@ -0,0 +1,21 @@
+package com.example.ecommerce.product.domain.product.dto.response;
+
+import lombok.*;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 패싯 필터 결과 (현재 페이지 요약 목록, 전체 건수, 패싯별 구간 건수)
+ */
+@Getter
+@Builder
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+public class ProductFacetResponse {
+
+    private List<ProductSummaryResponse> items;
+    private long totalCount;
+    private Map<String, Map<String, Long>> facets;
+    private Long nextCursor;
+}
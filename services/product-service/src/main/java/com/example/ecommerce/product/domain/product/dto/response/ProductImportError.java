@@ -0,0 +1,17 @@
+package com.example.ecommerce.product.domain.product.dto.response;
+
+import lombok.*;
+
+/**
+ * 대량 등록 실패 행 (파일 기준 줄 번호)
+ */
+@Getter
+@Builder
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+public class ProductImportError {
+
+    private long lineNumber;
+    private String sellerProductCode;
+    private String message;
+}
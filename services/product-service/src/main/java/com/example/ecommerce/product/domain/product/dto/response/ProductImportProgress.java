@@ -0,0 +1,39 @@
+package com.example.ecommerce.product.domain.product.dto.response;
+
+import lombok.*;
+
+import java.util.List;
+
+/**
+ * 대량 등록 진행 상황
+ * - 건수는 시작부터의 누적, errors는 이번 묶음에서 실패한 행만 포함 (응답 크기 제한)
+ */
+@Getter
+@Builder
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+public class ProductImportProgress {
+
+    private long processedRows;
+    private long importedProducts;
+    private long failedRows;
+    private List<ProductImportError> errors;
+
+    public static ProductImportProgress empty() {
+        return ProductImportProgress.builder()
+                .errors(List.of())
+                .build();
+    }
+
+    /**
+     * 누적 건수에 다음 묶음 결과를 더함 (errors는 다음 묶음 것으로 교체)
+     */
+    public ProductImportProgress accumulate(ProductImportProgress chunk) {
+        return ProductImportProgress.builder()
+                .processedRows(processedRows + chunk.processedRows)
+                .importedProducts(importedProducts + chunk.importedProducts)
+                .failedRows(failedRows + chunk.failedRows)
+                .errors(chunk.errors)
+                .build();
+    }
+}
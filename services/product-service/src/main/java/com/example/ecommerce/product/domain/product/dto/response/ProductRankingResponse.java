@@ -0,0 +1,21 @@
+package com.example.ecommerce.product.domain.product.dto.response;
+
+import com.example.ecommerce.product.domain.product.ranking.ProductRankingType;
+import lombok.*;
+
+import java.util.List;
+
+/**
+ * 인기 순위 (items는 순위 순, categoryId가 없으면 전체 순위)
+ */
+@Getter
+@Builder
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+public class ProductRankingResponse {
+
+    private ProductRankingType type;
+    private String typeName;
+    private Long categoryId;
+    private List<ProductSummaryResponse> items;
+}
@@ -44,7 +44,7 @@ public class ProductResponse {
                 .name(product.getName())
                 .description(product.getDescription())
                 .basePrice(product.getBasePrice())
-                .sellingPrice(product.getSellingPrice())
+                .sellingPrice(product.getSellingPrice().toBigDecimal())
                 .discountRate(product.getDiscountRate())
                 .status(product.getStatus())
                 .isRocketDelivery(product.getIsRocketDelivery())
@@ -64,7 +64,7 @@ public class ProductResponse {
                 .name(product.getName())
                 .description(product.getDescription())
                 .basePrice(product.getBasePrice())
-                .sellingPrice(product.getSellingPrice())
+                .sellingPrice(product.getSellingPrice().toBigDecimal())
                 .discountRate(product.getDiscountRate())
                 .status(product.getStatus())
                 .isRocketDelivery(product.getIsRocketDelivery())
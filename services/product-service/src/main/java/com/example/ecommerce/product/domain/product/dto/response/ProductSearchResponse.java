@@ -0,0 +1,20 @@
+package com.example.ecommerce.product.domain.product.dto.response;
+
+import lombok.*;
+
+import java.util.List;
+
+/**
+ * 상품 검색 결과 (관련도 순 요약 목록과 전체 건수)
+ */
+@Getter
+@Builder
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+public class ProductSearchResponse {
+
+    private List<ProductSummaryResponse> items;
+    private long totalHits;
+    private int page;
+    private int size;
+}
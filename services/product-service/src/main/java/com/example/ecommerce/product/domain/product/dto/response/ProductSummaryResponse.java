@@ -0,0 +1,31 @@
+package com.example.ecommerce.product.domain.product.dto.response;
+
+import lombok.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * 목록/검색용 상품 요약 (대표 이미지와 최저가만 포함)
+ */
+@Getter
+@Builder
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+public class ProductSummaryResponse {
+
+    private Long id;
+    private Long sellerId;
+    private Long categoryId;
+    private String name;
+    private BigDecimal basePrice;
+    private BigDecimal sellingPrice;
+    private BigDecimal lowestPrice;
+    private Integer discountRate;
+    private String mainImageUrl;
+    private Boolean isRocketDelivery;
+    private Boolean isRocketWow;
+    private Integer reviewCount;
+    private BigDecimal ratingAvg;
+    private LocalDateTime createdAt;
+}
@@ -1,6 +1,7 @@
 package com.example.ecommerce.product.domain.product.entity;
 
 import com.example.ecommerce.common.entity.BaseEntity;
+import com.example.ecommerce.common.money.Money;
 import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
@@ -26,6 +27,9 @@ public class Product extends BaseEntity {
     @Column("category_id")
     private Long categoryId;
 
+    @Column("seller_product_code")
+    private String sellerProductCode;
+
     @Column("name")
     private String name;
 
@@ -60,11 +64,12 @@ public class Product extends BaseEntity {
     private LocalDateTime deletedAt;
 
     @Builder
-    public Product(Long sellerId, Long categoryId, String name, String description,
+    public Product(Long sellerId, Long categoryId, String sellerProductCode, String name, String description,
                    BigDecimal basePrice, Integer discountRate, Boolean isRocketDelivery,
                    Boolean isRocketWow) {
         this.sellerId = sellerId;
         this.categoryId = categoryId;
+        this.sellerProductCode = sellerProductCode;
         this.name = name;
         this.description = description;
         this.basePrice = basePrice;
@@ -94,8 +99,9 @@ public class Product extends BaseEntity {
         return this;
     }
 
-    public Product incrementViewCount() {
-        this.viewCount++;
+    public Product changePrice(BigDecimal basePrice, Integer discountRate) {
+        this.basePrice = basePrice;
+        this.discountRate = discountRate != null ? discountRate : 0;
         return this;
     }
 
@@ -105,13 +111,10 @@ public class Product extends BaseEntity {
         return this;
     }
 
-    public BigDecimal getSellingPrice() {
-        if (discountRate == null || discountRate == 0) {
-            return basePrice;
-        }
-        BigDecimal discountAmount = basePrice.multiply(BigDecimal.valueOf(discountRate))
-                .divide(BigDecimal.valueOf(100));
-        return basePrice.subtract(discountAmount);
+    // 할인 후 판매가 (원 미만 절사)
+    public Money getSellingPrice() {
+        Money price = Money.of(basePrice);
+        return discountRate == null ? price : price.discount(discountRate);
     }
 
     public boolean isActive() {
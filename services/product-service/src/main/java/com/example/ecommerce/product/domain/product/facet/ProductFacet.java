@@ -0,0 +1,104 @@
+package com.example.ecommerce.product.domain.product.facet;
+
+import com.example.ecommerce.product.domain.product.entity.Product;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * 상품 목록 패싯과 구간
+ * - 상품은 패싯마다 정확히 한 구간에 속함
+ * - 가격은 할인 후 판매가, 평점은 소수점 이하 버림 (4점 이상 = 4, 5)
+ */
+public enum ProductFacet {
+
+    ROCKET_DELIVERY("rocketDelivery", "true", "false") {
+        @Override
+        int bucketOf(Product product) {
+            return Boolean.TRUE.equals(product.getIsRocketDelivery()) ? 0 : 1;
+        }
+
+        @Override
+        List<String> selected(ProductFacetCondition condition) {
+            return condition.getRocketDelivery();
+        }
+    },
+    ROCKET_WOW("rocketWow", "true", "false") {
+        @Override
+        int bucketOf(Product product) {
+            return Boolean.TRUE.equals(product.getIsRocketWow()) ? 0 : 1;
+        }
+
+        @Override
+        List<String> selected(ProductFacetCondition condition) {
+            return condition.getRocketWow();
+        }
+    },
+    PRICE("price", "0-10000", "10000-30000", "30000-50000", "50000-100000", "100000-") {
+        private final long[] bounds = {10_000L, 30_000L, 50_000L, 100_000L};
+
+        @Override
+        int bucketOf(Product product) {
+            return band(product.getSellingPrice().toWon(), bounds);
+        }
+
+        @Override
+        List<String> selected(ProductFacetCondition condition) {
+            return condition.getPrice();
+        }
+    },
+    DISCOUNT("discount", "0-10", "10-30", "30-50", "50-") {
+        private final long[] bounds = {10L, 30L, 50L};
+
+        @Override
+        int bucketOf(Product product) {
+            return band(product.getDiscountRate() != null ? product.getDiscountRate() : 0, bounds);
+        }
+
+        @Override
+        List<String> selected(ProductFacetCondition condition) {
+            return condition.getDiscount();
+        }
+    },
+    RATING("rating", "0", "1", "2", "3", "4", "5") {
+        @Override
+        int bucketOf(Product product) {
+            BigDecimal ratingAvg = product.getRatingAvg();
+            int rating = ratingAvg != null ? ratingAvg.intValue() : 0;
+            return Math.min(Math.max(rating, 0), 5);
+        }
+
+        @Override
+        List<String> selected(ProductFacetCondition condition) {
+            return condition.getRating();
+        }
+    };
+
+    private final String paramName;
+    private final List<String> buckets;
+
+    ProductFacet(String paramName, String... buckets) {
+        this.paramName = paramName;
+        this.buckets = List.of(buckets);
+    }
+
+    public String getParamName() {
+        return paramName;
+    }
+
+    public List<String> getBuckets() {
+        return buckets;
+    }
+
+    abstract int bucketOf(Product product);
+
+    abstract List<String> selected(ProductFacetCondition condition);
+
+    private static int band(long value, long[] bounds) {
+        int index = 0;
+        while (index < bounds.length && value >= bounds[index]) {
+            index++;
+        }
+        return index;
+    }
+}
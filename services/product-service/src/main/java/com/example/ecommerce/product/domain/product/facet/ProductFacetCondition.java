@@ -0,0 +1,24 @@
+package com.example.ecommerce.product.domain.product.facet;
+
+import lombok.*;
+
+import java.util.List;
+
+/**
+ * 패싯 필터 조건 (같은 패싯 안의 값은 OR, 패싯끼리는 AND, 비어 있으면 필터 없음)
+ * - cursor는 이전 응답의 nextCursor (상품 id 내림차순)
+ */
+@Getter
+@Builder
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+public class ProductFacetCondition {
+
+    private List<String> rocketDelivery;
+    private List<String> rocketWow;
+    private List<String> price;
+    private List<String> discount;
+    private List<String> rating;
+    private Long cursor;
+    private int size;
+}
@@ -0,0 +1,22 @@
+package com.example.ecommerce.product.domain.product.facet;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 패싯 필터 결과
+ * - productIds: 현재 페이지 상품 id (id 내림차순)
+ * - facetCounts: 패싯별 구간 건수 (해당 패싯 자신의 선택은 빼고 나머지 필터만 적용)
+ */
+@Getter
+@AllArgsConstructor
+public class ProductFacetHits {
+
+    private final List<Long> productIds;
+    private final long totalCount;
+    private final Map<String, Map<String, Long>> facetCounts;
+    private final Long nextCursor;
+}
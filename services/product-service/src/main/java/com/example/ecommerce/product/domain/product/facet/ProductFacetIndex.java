@@ -0,0 +1,205 @@
+package com.example.ecommerce.product.domain.product.facet;
+
+import com.example.ecommerce.common.exception.BusinessException;
+import com.example.ecommerce.common.exception.ErrorCode;
+import com.example.ecommerce.product.domain.product.entity.Product;
+import com.example.ecommerce.product.domain.product.entity.ProductStatus;
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 인스턴스 로컬 상품 패싯 인덱스 (RoaringBitmap, 메모리)
+ * - 판매중(ACTIVE) 상품 id를 패싯 구간별 압축 비트맵으로 보관 (상품 id는 int 범위)
+ * - 필터 결과와 패싯별 건수를 비트맵 AND/OR로 계산하고, 결과는 현재 페이지 id만 돌려줌
+ * - 갱신은 상품 단위(쓰기 락), 전체 재적재는 새 비트맵을 따로 만든 뒤 교체
+ */
+@Component
+public class ProductFacetIndex {
+
+    private static final int MAX_SIZE = 100;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private FacetBitmaps bitmaps = new FacetBitmaps();
+
+    /**
+     * 판매중이면 구간 반영(갱신), 아니면 인덱스에서 제거
+     */
+    public void index(Collection<Product> products) {
+        lock.writeLock().lock();
+        try {
+            products.forEach(bitmaps::put);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void delete(Long productId) {
+        lock.writeLock().lock();
+        try {
+            bitmaps.remove(Math.toIntExact(productId));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void replace(FacetBitmaps next) {
+        next.optimize();
+        lock.writeLock().lock();
+        try {
+            bitmaps = next;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public ProductFacetHits search(ProductFacetCondition condition) {
+        int size = Math.min(Math.max(condition.getSize(), 1), MAX_SIZE);
+        lock.readLock().lock();
+        try {
+            Map<ProductFacet, RoaringBitmap> selections = new EnumMap<>(ProductFacet.class);
+            for (ProductFacet facet : ProductFacet.values()) {
+                List<String> values = facet.selected(condition);
+                if (values != null && !values.isEmpty()) {
+                    selections.put(facet, bitmaps.union(facet, values));
+                }
+            }
+
+            RoaringBitmap matched = bitmaps.matching(selections, null);
+            Map<String, Map<String, Long>> facetCounts = new LinkedHashMap<>();
+            for (ProductFacet facet : ProductFacet.values()) {
+                RoaringBitmap base = selections.containsKey(facet) ? bitmaps.matching(selections, facet) : matched;
+                facetCounts.put(facet.getParamName(), bitmaps.counts(facet, base));
+            }
+
+            List<Long> productIds = new ArrayList<>(size);
+            long value = firstBelow(matched, condition.getCursor());
+            while (value >= 0 && productIds.size() < size) {
+                productIds.add(value);
+                value = value > 0 ? matched.previousValue((int) value - 1) : -1;
+            }
+            Long nextCursor = value >= 0 ? productIds.get(productIds.size() - 1) : null;
+            return new ProductFacetHits(productIds, matched.getLongCardinality(), facetCounts, nextCursor);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return bitmaps.active.getCardinality();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private long firstBelow(RoaringBitmap matched, Long cursor) {
+        if (cursor == null) {
+            return matched.previousValue(Integer.MAX_VALUE);
+        }
+        if (cursor <= 0) {
+            return -1;
+        }
+        return matched.previousValue((int) Math.min(cursor - 1, Integer.MAX_VALUE));
+    }
+
+    /**
+     * 패싯 비트맵 묶음 (락 밖에서 재적재용으로 새로 만들 수 있음, 자체로는 thread-safe 아님)
+     */
+    public static class FacetBitmaps {
+
+        private static final ProductFacet[] FACETS = ProductFacet.values();
+
+        private final RoaringBitmap active = new RoaringBitmap();
+        private final Map<ProductFacet, RoaringBitmap[]> buckets = new EnumMap<>(ProductFacet.class);
+        // 상품 id → 패싯별 구간 (갱신 시 이전 구간에서 빼기 위함)
+        private final Map<Integer, byte[]> assigned = new HashMap<>();
+
+        public FacetBitmaps() {
+            for (ProductFacet facet : FACETS) {
+                RoaringBitmap[] bitmaps = new RoaringBitmap[facet.getBuckets().size()];
+                for (int i = 0; i < bitmaps.length; i++) {
+                    bitmaps[i] = new RoaringBitmap();
+                }
+                buckets.put(facet, bitmaps);
+            }
+        }
+
+        public void put(Product product) {
+            int id = Math.toIntExact(product.getId());
+            remove(id);
+            if (product.getStatus() != ProductStatus.ACTIVE) {
+                return;
+            }
+            byte[] slots = new byte[FACETS.length];
+            for (ProductFacet facet : FACETS) {
+                int bucket = facet.bucketOf(product);
+                buckets.get(facet)[bucket].add(id);
+                slots[facet.ordinal()] = (byte) bucket;
+            }
+            active.add(id);
+            assigned.put(id, slots);
+        }
+
+        private void remove(int id) {
+            byte[] slots = assigned.remove(id);
+            if (slots == null) {
+                return;
+            }
+            active.remove(id);
+            for (ProductFacet facet : FACETS) {
+                buckets.get(facet)[slots[facet.ordinal()]].remove(id);
+            }
+        }
+
+        private RoaringBitmap union(ProductFacet facet, List<String> values) {
+            RoaringBitmap union = new RoaringBitmap();
+            for (String value : values) {
+                int bucket = facet.getBuckets().indexOf(value);
+                if (bucket < 0) {
+                    throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE);
+                }
+                union.or(buckets.get(facet)[bucket]);
+            }
+            return union;
+        }
+
+        // 판매중 상품 중 선택된 패싯을 모두 만족하는 id (excluded 패싯의 선택은 무시, active는 변경하지 않음)
+        private RoaringBitmap matching(Map<ProductFacet, RoaringBitmap> selections, ProductFacet excluded) {
+            RoaringBitmap result = active;
+            for (Map.Entry<ProductFacet, RoaringBitmap> selection : selections.entrySet()) {
+                if (selection.getKey() != excluded) {
+                    result = RoaringBitmap.and(result, selection.getValue());
+                }
+            }
+            return result;
+        }
+
+        private Map<String, Long> counts(ProductFacet facet, RoaringBitmap base) {
+            Map<String, Long> counts = new LinkedHashMap<>();
+            RoaringBitmap[] bitmaps = buckets.get(facet);
+            for (int i = 0; i < bitmaps.length; i++) {
+                counts.put(facet.getBuckets().get(i), (long) RoaringBitmap.andCardinality(base, bitmaps[i]));
+            }
+            return counts;
+        }
+
+        private void optimize() {
+            active.runOptimize();
+            buckets.values().forEach(bitmaps -> {
+                for (RoaringBitmap bitmap : bitmaps) {
+                    bitmap.runOptimize();
+                }
+            });
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package com.example.ecommerce.product.domain.product.facet;
+
+import com.example.ecommerce.product.domain.product.entity.ProductStatus;
+import com.example.ecommerce.product.domain.product.repository.ProductRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 패싯 인덱스 적재
+ * - 기동 시 판매중 상품 전체로 만들고, 이후 상품 이벤트마다 해당 상품만 다시 반영
+ * - 평점은 변경 이벤트가 없으므로 주기적으로 전체 재적재
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProductFacetIndexLoader {
+
+    private final ProductRepository productRepository;
+    private final ProductFacetIndex productFacetIndex;
+
+    private final AtomicBoolean rebuilding = new AtomicBoolean(false);
+    private final Set<Long> reindexedDuringRebuild = ConcurrentHashMap.newKeySet();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildOnStartup() {
+        rebuild().subscribe(
+                count -> log.info("상품 패싯 인덱스 생성 완료: count={}", count),
+                error -> log.error("상품 패싯 인덱스 생성 실패", error)
+        );
+    }
+
+    @Scheduled(cron = "${product.facet.rebuild-cron:0 0 4 * * *}")
+    public void rebuildPeriodically() {
+        rebuildOnStartup();
+    }
+
+    /**
+     * 새 비트맵을 따로 채운 뒤 교체 (재적재 중에도 기존 인덱스로 조회 가능)
+     * - 재적재 중 이벤트로 반영한 상품은 교체로 사라지므로 교체 후 다시 반영
+     * - 이미 실행 중이면 건너뜀
+     */
+    public Mono<Integer> rebuild() {
+        return Mono.defer(() -> {
+            if (!rebuilding.compareAndSet(false, true)) {
+                log.info("상품 패싯 인덱스 재적재가 이미 실행 중입니다");
+                return Mono.<Integer>empty();
+            }
+            reindexedDuringRebuild.clear();
+            return Mono.fromCallable(ProductFacetIndex.FacetBitmaps::new)
+                    .flatMap(next -> productRepository.findByStatus(ProductStatus.ACTIVE)
+                            .doOnNext(next::put)
+                            .then(Mono.fromRunnable(() -> productFacetIndex.replace(next))))
+                    .then(Mono.defer(() -> {
+                        rebuilding.set(false);
+                        List<Long> reindexed = List.copyOf(reindexedDuringRebuild);
+                        reindexedDuringRebuild.clear();
+                        return Flux.fromIterable(reindexed)
+                                .concatMap(this::reindex)
+                                .then();
+                    }))
+                    .then(Mono.fromCallable(productFacetIndex::size))
+                    .doFinally(signal -> rebuilding.set(false));
+        });
+    }
+
+    /**
+     * 상품 하나를 DB 기준으로 다시 반영 (없거나 판매중이 아니면 제거)
+     */
+    public Mono<Void> reindex(Long productId) {
+        return Mono.defer(() -> {
+                    if (rebuilding.get()) {
+                        reindexedDuringRebuild.add(productId);
+                    }
+                    return productRepository.findById(productId);
+                })
+                .doOnNext(product -> productFacetIndex.index(List.of(product)))
+                .switchIfEmpty(Mono.fromRunnable(() -> productFacetIndex.delete(productId))
+                        .then(Mono.empty()))
+                .then();
+    }
+}
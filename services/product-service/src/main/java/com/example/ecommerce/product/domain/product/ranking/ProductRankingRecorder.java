@@ -0,0 +1,69 @@
+package com.example.ecommerce.product.domain.product.ranking;
+
+import com.example.ecommerce.product.domain.category.dto.response.CategoryResponse;
+import com.example.ecommerce.product.domain.category.snapshot.CategorySnapshot;
+import com.example.ecommerce.product.domain.category.snapshot.CategorySnapshotService;
+import com.example.ecommerce.product.domain.product.entity.Product;
+import com.example.ecommerce.product.domain.product.repository.ProductRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 주문/주문 취소 수량을 인기 순위에 반영
+ * - 상품의 카테고리와 상위 카테고리는 카테고리 스냅샷에서 찾음 (주문 DB 조회 없음)
+ * - 같은 이벤트는 한 번만 반영 (반영 표시와 점수 증감을 한 스크립트로 실행해 일부만 반영되거나 표시만 남지 않음)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProductRankingRecorder {
+
+    private final ProductRepository productRepository;
+    private final CategorySnapshotService categorySnapshotService;
+    private final ProductRankingStore productRankingStore;
+
+    /**
+     * @param quantities 상품 id별 수량 (취소면 음수)
+     */
+    public Mono<Void> record(String eventId, Map<Long, Integer> quantities, LocalDateTime orderedAt) {
+        if (quantities.isEmpty()) {
+            return Mono.empty();
+        }
+        return categorySnapshotService.current()
+                .flatMap(snapshot -> productRepository.findAllById(quantities.keySet())
+                        .collectMap(Product::getId, product -> categoryPath(snapshot, product.getCategoryId())))
+                .flatMap(categoryIds -> {
+                    Map<Long, Integer> known = new HashMap<>(quantities);
+                    known.keySet().retainAll(categoryIds.keySet());
+                    if (known.isEmpty()) {
+                        return Mono.<Boolean>empty();
+                    }
+                    return productRankingStore.applyOnce(eventId, known, categoryIds, orderedAt);
+                })
+                .doOnNext(applied -> {
+                    if (!applied) {
+                        log.debug("이미 반영된 인기 순위 이벤트: eventId={}", eventId);
+                    }
+                })
+                .then();
+    }
+
+    // 상품 카테고리와 모든 상위 카테고리
+    private List<Long> categoryPath(CategorySnapshot snapshot, Long categoryId) {
+        if (categoryId == null) {
+            return List.of();
+        }
+        List<CategoryResponse> breadcrumb = snapshot.getBreadcrumb(categoryId);
+        if (breadcrumb.isEmpty()) {
+            return List.of(categoryId);
+        }
+        return breadcrumb.stream().map(CategoryResponse::getId).toList();
+    }
+}
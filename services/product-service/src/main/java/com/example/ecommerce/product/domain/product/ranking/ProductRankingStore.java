@@ -0,0 +1,158 @@
+package com.example.ecommerce.product.domain.product.ranking;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 인기 순위 Redis sorted set
+ * - 순위 종류별로 전체 순위 하나와 카테고리별 순위를 두고, 상품은 자기 카테고리와 모든 상위 카테고리에 집계
+ * - 주문 수량은 주문 시각 이후 감쇠분을 반영해 ZINCRBY, 주기적으로 전체 점수에 감쇠 비율을 곱함
+ * - 감쇠 비율은 마지막 감쇠 시각(GETSET)부터의 경과 시간으로 구하므로 여러 인스턴스가 실행해도 결과가 같음
+ * - 감쇠 시각 기록과 모든 순위 key 감쇠를 한 스크립트로 실행 (그 사이 반영된 점수가 두 번 감쇠되지 않음)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProductRankingStore {
+
+    private static final String KEY_PREFIX = "product_ranking:";
+    private static final String APPLIED_KEY_PREFIX = "product_ranking:applied:";
+    private static final Duration APPLIED_TTL = Duration.ofDays(1);
+
+    // 처음 반영하는 이벤트일 때만 점수 증감과 카테고리 key 등록을 한 번에 실행 (중간 실패로 일부만 반영되지 않음)
+    // KEYS: 반영 표시 key, 증감할 순위 key n개, 카테고리 key 목록 key들 / ARGV: TTL(초), n, (상품, 증감분) n쌍, 등록할 순위 key들
+    private static final RedisScript<Long> APPLY_ONCE_SCRIPT = RedisScript.of(
+            "if not redis.call('SET', KEYS[1], '1', 'NX', 'EX', ARGV[1]) then return 0 end " +
+            "local n = tonumber(ARGV[2]) " +
+            "for i = 1, n do redis.call('ZINCRBY', KEYS[1 + i], ARGV[2 + 2 * i], ARGV[1 + 2 * i]) end " +
+            "for i = n + 2, #KEYS do redis.call('SADD', KEYS[i], ARGV[1 + n + i]) end " +
+            "return 1",
+            Long.class
+    );
+
+    // 마지막 감쇠 시각을 갱신하고 경과 시간만큼 전체/카테고리 순위를 감쇠한 뒤 minScore 이하와 maxSize 초과분 제거
+    // 처음 실행이면 기준 시각만 기록하고 0 반환
+    // KEYS: 감쇠 시각 key, 전체 순위 key, 카테고리 key 목록 key / ARGV: 현재 시각(ms), 반감기(ms), minScore, maxSize
+    private static final RedisScript<Long> DECAY_SCRIPT = RedisScript.of(
+            "local decayedAt = redis.call('GETSET', KEYS[1], ARGV[1]) " +
+            "if not decayedAt then return 0 end " +
+            "local elapsed = tonumber(ARGV[1]) - tonumber(decayedAt) " +
+            "local factor = 1 " +
+            "if elapsed > 0 then factor = 0.5 ^ (elapsed / tonumber(ARGV[2])) end " +
+            "local keys = redis.call('SMEMBERS', KEYS[3]) " +
+            "table.insert(keys, 1, KEYS[2]) " +
+            "for _, key in ipairs(keys) do " +
+            "redis.call('ZUNIONSTORE', key, 1, key, 'WEIGHTS', tostring(factor)) " +
+            "redis.call('ZREMRANGEBYSCORE', key, '-inf', ARGV[3]) " +
+            "redis.call('ZREMRANGEBYRANK', key, 0, -(tonumber(ARGV[4]) + 1)) " +
+            "if redis.call('ZCARD', key) == 0 then redis.call('SREM', KEYS[3], key) end " +
+            "end " +
+            "return #keys",
+            Long.class
+    );
+
+    private final ReactiveStringRedisTemplate redisTemplate;
+
+    /**
+     * 이벤트의 상품 점수 증감을 한 번만 반영 (취소면 수량이 음수)
+     *
+     * @param quantities  상품 id별 수량
+     * @param categoryIds 상품 id별 카테고리와 모든 상위 카테고리
+     * @return 처음 반영한 이벤트면 true
+     */
+    public Mono<Boolean> applyOnce(String eventId, Map<Long, Integer> quantities,
+                                   Map<Long, List<Long>> categoryIds, LocalDateTime orderedAt) {
+        Duration elapsed = Duration.between(orderedAt, LocalDateTime.now());
+        List<String> scoreKeys = new ArrayList<>();
+        List<String> scoreArgs = new ArrayList<>();
+        List<String> registerKeys = new ArrayList<>();
+        List<String> registerArgs = new ArrayList<>();
+        for (ProductRankingType type : ProductRankingType.values()) {
+            Set<String> categoryKeys = new LinkedHashSet<>();
+            quantities.forEach((productId, quantity) -> {
+                String delta = String.valueOf(quantity * type.decayFactor(elapsed));
+                List<String> keys = new ArrayList<>();
+                keys.add(key(type, null));
+                categoryIds.getOrDefault(productId, List.of()).forEach(categoryId -> keys.add(key(type, categoryId)));
+                for (String key : keys) {
+                    scoreKeys.add(key);
+                    scoreArgs.add(String.valueOf(productId));
+                    scoreArgs.add(delta);
+                }
+                keys.stream().skip(1).forEach(categoryKeys::add);
+            });
+            categoryKeys.forEach(categoryKey -> {
+                registerKeys.add(categoryKeysKey(type));
+                registerArgs.add(categoryKey);
+            });
+        }
+
+        List<String> keys = new ArrayList<>();
+        keys.add(APPLIED_KEY_PREFIX + eventId);
+        keys.addAll(scoreKeys);
+        keys.addAll(registerKeys);
+        List<String> args = new ArrayList<>();
+        args.add(String.valueOf(APPLIED_TTL.toSeconds()));
+        args.add(String.valueOf(scoreKeys.size()));
+        args.addAll(scoreArgs);
+        args.addAll(registerArgs);
+        return redisTemplate.execute(APPLY_ONCE_SCRIPT, keys, args)
+                .next()
+                .map(applied -> applied == 1L);
+    }
+
+    /**
+     * 점수 높은 순 상품 id (categoryId가 null이면 전체 순위)
+     */
+    public Mono<List<Long>> top(ProductRankingType type, Long categoryId, int size) {
+        return redisTemplate.opsForZSet()
+                .reverseRange(key(type, categoryId), Range.closed(0L, size - 1L))
+                .map(Long::valueOf)
+                .collectList();
+    }
+
+    /**
+     * 마지막 감쇠 이후 경과 시간만큼 감쇠하고, minScore 이하와 maxSize 초과분을 제거
+     * - 처음 실행이면 기준 시각만 기록
+     *
+     * @return 감쇠한 순위 key 수
+     */
+    public Mono<Long> decay(ProductRankingType type, int maxSize, double minScore) {
+        List<String> keys = List.of(decayedAtKey(type), key(type, null), categoryKeysKey(type));
+        List<String> args = List.of(
+                String.valueOf(System.currentTimeMillis()),
+                String.valueOf(type.getHalfLife().toMillis()),
+                String.valueOf(minScore),
+                String.valueOf(maxSize));
+        return redisTemplate.execute(DECAY_SCRIPT, keys, args)
+                .next()
+                .defaultIfEmpty(0L);
+    }
+
+    private String key(ProductRankingType type, Long categoryId) {
+        return categoryId == null
+                ? KEY_PREFIX + type.getKey() + ":all"
+                : KEY_PREFIX + type.getKey() + ":category:" + categoryId;
+    }
+
+    private String categoryKeysKey(ProductRankingType type) {
+        return KEY_PREFIX + type.getKey() + ":category_keys";
+    }
+
+    private String decayedAtKey(ProductRankingType type) {
+        return KEY_PREFIX + type.getKey() + ":decayed_at";
+    }
+}
@@ -0,0 +1,31 @@
+package com.example.ecommerce.product.domain.product.ranking;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.time.Duration;
+
+/**
+ * 인기 순위 종류 (주문 수량을 반감기에 따라 감쇠시켜 누적)
+ */
+@Getter
+@RequiredArgsConstructor
+public enum ProductRankingType {
+
+    BEST_SELLER("best", "베스트셀러", Duration.ofDays(7)),
+    TRENDING("trending", "급상승", Duration.ofHours(6));
+
+    private final String key;
+    private final String description;
+    private final Duration halfLife;
+
+    /**
+     * elapsed 동안 감쇠한 뒤 남는 비율 (0 < factor <= 1)
+     */
+    public double decayFactor(Duration elapsed) {
+        if (elapsed.isNegative() || elapsed.isZero()) {
+            return 1.0;
+        }
+        return Math.pow(0.5, (double) elapsed.toMillis() / halfLife.toMillis());
+    }
+}
@@ -0,0 +1,157 @@
+package com.example.ecommerce.product.domain.product.repository;
+
+import com.example.ecommerce.product.domain.inventory.entity.Inventory;
+import com.example.ecommerce.product.domain.product.entity.Product;
+import com.example.ecommerce.product.domain.product.entity.ProductImage;
+import com.example.ecommerce.product.domain.product.entity.ProductOption;
+import lombok.RequiredArgsConstructor;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.StringJoiner;
+
+/**
+ * 상품 대량 등록용 multi-row INSERT
+ * - 생성된 상품 id는 (seller_id, seller_product_code)로, 옵션 id는 product_id + id 순서로 다시 조회
+ */
+@Repository
+@RequiredArgsConstructor
+public class ProductBulkRepository {
+
+    private final DatabaseClient databaseClient;
+
+    public Flux<String> findExistingCodes(Long sellerId, Collection<String> sellerProductCodes) {
+        return databaseClient.sql("SELECT seller_product_code FROM products " +
+                        "WHERE seller_id = :sellerId AND seller_product_code IN (:codes)")
+                .bind("sellerId", sellerId)
+                .bind("codes", sellerProductCodes)
+                .map(row -> row.get("seller_product_code", String.class))
+                .all();
+    }
+
+    public Mono<Map<String, Long>> findIdsByCodes(Long sellerId, Collection<String> sellerProductCodes) {
+        return databaseClient.sql("SELECT id, seller_product_code FROM products " +
+                        "WHERE seller_id = :sellerId AND seller_product_code IN (:codes)")
+                .bind("sellerId", sellerId)
+                .bind("codes", sellerProductCodes)
+                .map(row -> Map.entry(row.get("seller_product_code", String.class), row.get("id", Long.class)))
+                .all()
+                .collectMap(Map.Entry::getKey, Map.Entry::getValue);
+    }
+
+    /**
+     * 새로 등록한 상품들의 옵션 id (상품별로 INSERT 순서 = id 순서)
+     */
+    public Mono<Map<Long, Collection<Long>>> findOptionIdsByProductIdIn(Collection<Long> productIds) {
+        return databaseClient.sql("SELECT id, product_id FROM product_options " +
+                        "WHERE product_id IN (:productIds) ORDER BY product_id, id")
+                .bind("productIds", productIds)
+                .map(row -> Map.entry(row.get("product_id", Long.class), row.get("id", Long.class)))
+                .all()
+                .collectMultimap(Map.Entry::getKey, Map.Entry::getValue);
+    }
+
+    public Mono<Long> insertProducts(List<Product> products) {
+        if (products.isEmpty()) {
+            return Mono.just(0L);
+        }
+
+        StringJoiner values = new StringJoiner(", ");
+        for (int i = 0; i < products.size(); i++) {
+            values.add("(:sellerId" + i + ", :categoryId" + i + ", :code" + i + ", :name" + i +
+                    ", :description" + i + ", :basePrice" + i + ", :discountRate" + i + ", :status" + i +
+                    ", :rocketDelivery" + i + ", :rocketWow" + i + ")");
+        }
+        String sql = "INSERT INTO products (seller_id, category_id, seller_product_code, name, description, " +
+                "base_price, discount_rate, status, is_rocket_delivery, is_rocket_wow) VALUES " + values;
+
+        DatabaseClient.GenericExecuteSpec spec = databaseClient.sql(sql);
+        for (int i = 0; i < products.size(); i++) {
+            Product product = products.get(i);
+            spec = spec.bind("sellerId" + i, product.getSellerId())
+                    .bind("categoryId" + i, product.getCategoryId())
+                    .bind("code" + i, product.getSellerProductCode())
+                    .bind("name" + i, product.getName())
+                    .bind("basePrice" + i, product.getBasePrice())
+                    .bind("discountRate" + i, product.getDiscountRate())
+                    .bind("status" + i, product.getStatus().name())
+                    .bind("rocketDelivery" + i, product.getIsRocketDelivery())
+                    .bind("rocketWow" + i, product.getIsRocketWow());
+            spec = product.getDescription() != null
+                    ? spec.bind("description" + i, product.getDescription())
+                    : spec.bindNull("description" + i, String.class);
+        }
+        return spec.fetch().rowsUpdated();
+    }
+
+    public Mono<Long> insertOptions(List<ProductOption> options) {
+        if (options.isEmpty()) {
+            return Mono.just(0L);
+        }
+
+        StringJoiner values = new StringJoiner(", ");
+        for (int i = 0; i < options.size(); i++) {
+            values.add("(:productId" + i + ", :name" + i + ", :additionalPrice" + i + ")");
+        }
+        String sql = "INSERT INTO product_options (product_id, name, additional_price) VALUES " + values;
+
+        DatabaseClient.GenericExecuteSpec spec = databaseClient.sql(sql);
+        for (int i = 0; i < options.size(); i++) {
+            ProductOption option = options.get(i);
+            spec = spec.bind("productId" + i, option.getProductId())
+                    .bind("name" + i, option.getName())
+                    .bind("additionalPrice" + i, option.getAdditionalPrice() != null
+                            ? option.getAdditionalPrice() : BigDecimal.ZERO);
+        }
+        return spec.fetch().rowsUpdated();
+    }
+
+    public Mono<Long> insertInventories(List<Inventory> inventories) {
+        if (inventories.isEmpty()) {
+            return Mono.just(0L);
+        }
+
+        StringJoiner values = new StringJoiner(", ");
+        for (int i = 0; i < inventories.size(); i++) {
+            values.add("(:productOptionId" + i + ", :quantity" + i + ", :lowStockThreshold" + i + ")");
+        }
+        String sql = "INSERT INTO inventory (product_option_id, quantity, low_stock_threshold) VALUES " + values;
+
+        DatabaseClient.GenericExecuteSpec spec = databaseClient.sql(sql);
+        for (int i = 0; i < inventories.size(); i++) {
+            Inventory inventory = inventories.get(i);
+            spec = spec.bind("productOptionId" + i, inventory.getProductOptionId())
+                    .bind("quantity" + i, inventory.getQuantity())
+                    .bind("lowStockThreshold" + i, inventory.getLowStockThreshold());
+        }
+        return spec.fetch().rowsUpdated();
+    }
+
+    public Mono<Long> insertImages(List<ProductImage> images) {
+        if (images.isEmpty()) {
+            return Mono.just(0L);
+        }
+
+        StringJoiner values = new StringJoiner(", ");
+        for (int i = 0; i < images.size(); i++) {
+            values.add("(:productId" + i + ", :imageUrl" + i + ", :displayOrder" + i + ", :isMain" + i + ")");
+        }
+        String sql = "INSERT INTO product_images (product_id, image_url, display_order, is_main) VALUES " + values;
+
+        DatabaseClient.GenericExecuteSpec spec = databaseClient.sql(sql);
+        for (int i = 0; i < images.size(); i++) {
+            ProductImage image = images.get(i);
+            spec = spec.bind("productId" + i, image.getProductId())
+                    .bind("imageUrl" + i, image.getImageUrl())
+                    .bind("displayOrder" + i, image.getDisplayOrder())
+                    .bind("isMain" + i, image.getIsMain());
+        }
+        return spec.fetch().rowsUpdated();
+    }
+}
@@ -1,11 +1,15 @@
 package com.example.ecommerce.product.domain.product.repository;
 
 import com.example.ecommerce.product.domain.product.entity.ProductImage;
+import org.springframework.data.r2dbc.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.data.repository.reactive.ReactiveCrudRepository;
 import org.springframework.stereotype.Repository;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.Collection;
+
 @Repository
 public interface ProductImageRepository extends ReactiveCrudRepository<ProductImage, Long> {
 
@@ -14,4 +18,7 @@ public interface ProductImageRepository extends ReactiveCrudRepository<ProductIm
     Mono<ProductImage> findByProductIdAndIsMainTrue(Long productId);
 
     Mono<Void> deleteByProductId(Long productId);
+
+    @Query("SELECT * FROM product_images WHERE product_id IN (:productIds) ORDER BY product_id, display_order")
+    Flux<ProductImage> findByProductIdIn(@Param("productIds") Collection<Long> productIds);
 }
@@ -0,0 +1,101 @@
+package com.example.ecommerce.product.domain.product.repository;
+
+import com.example.ecommerce.common.money.Money;
+import com.example.ecommerce.product.domain.product.dto.request.ProductCursor;
+import com.example.ecommerce.product.domain.product.dto.response.ProductSummaryResponse;
+import com.example.ecommerce.product.domain.product.entity.Product;
+import io.r2dbc.spi.Readable;
+import lombok.RequiredArgsConstructor;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Collection;
+
+/**
+ * 목록/검색용 상품 요약 조회
+ * - 옵션/이미지 전체 대신 최저 옵션 추가금과 대표 이미지 한 장만 한 번의 쿼리로 조회
+ */
+@Repository
+@RequiredArgsConstructor
+public class ProductListingRepository {
+
+    private static final String SUMMARY_COLUMNS = "SELECT p.id, p.seller_id, p.category_id, p.name, p.base_price, " +
+            "p.discount_rate, p.is_rocket_delivery, p.is_rocket_wow, p.review_count, p.rating_avg, p.created_at, " +
+            "(SELECT MIN(o.additional_price) FROM product_options o " +
+            " WHERE o.product_id = p.id AND o.is_active = TRUE) AS min_additional_price, " +
+            "(SELECT i.image_url FROM product_images i " +
+            " WHERE i.product_id = p.id ORDER BY i.is_main DESC, i.display_order LIMIT 1) AS main_image_url " +
+            "FROM products p ";
+
+    private final DatabaseClient databaseClient;
+
+    /**
+     * 카테고리 목록 커서 페이징 ((created_at, id) 내림차순, 커서가 없으면 첫 페이지)
+     * - includeSubcategories면 클로저 테이블을 조인해 하위 카테고리 상품까지 포함
+     */
+    public Flux<ProductSummaryResponse> findByCategory(Long categoryId, boolean includeSubcategories,
+                                                       ProductCursor cursor, int limit) {
+        String categoryCondition = includeSubcategories
+                ? "JOIN category_closure cc ON cc.descendant_id = p.category_id WHERE cc.ancestor_id = :categoryId "
+                : "WHERE p.category_id = :categoryId ";
+        if (cursor == null) {
+            return databaseClient.sql(SUMMARY_COLUMNS + categoryCondition +
+                            "AND p.status = 'ACTIVE' " +
+                            "ORDER BY p.created_at DESC, p.id DESC LIMIT :limit")
+                    .bind("categoryId", categoryId)
+                    .bind("limit", limit)
+                    .map(this::toSummary)
+                    .all();
+        }
+        return databaseClient.sql(SUMMARY_COLUMNS + categoryCondition +
+                        "AND p.status = 'ACTIVE' " +
+                        "AND (p.created_at < :createdAt OR (p.created_at = :createdAt AND p.id < :id)) " +
+                        "ORDER BY p.created_at DESC, p.id DESC LIMIT :limit")
+                .bind("categoryId", categoryId)
+                .bind("createdAt", cursor.getCreatedAt())
+                .bind("id", cursor.getId())
+                .bind("limit", limit)
+                .map(this::toSummary)
+                .all();
+    }
+
+    /**
+     * 검색 인덱스가 찾은 상품 id로 요약 조회 (순서는 보장하지 않음)
+     */
+    public Flux<ProductSummaryResponse> findByIds(Collection<Long> productIds) {
+        return databaseClient.sql(SUMMARY_COLUMNS +
+                        "WHERE p.id IN (:productIds) AND p.status = 'ACTIVE'")
+                .bind("productIds", productIds)
+                .map(this::toSummary)
+                .all();
+    }
+
+    private ProductSummaryResponse toSummary(Readable row) {
+        Money sellingPrice = Product.builder()
+                .basePrice(row.get("base_price", BigDecimal.class))
+                .discountRate(row.get("discount_rate", Integer.class))
+                .build()
+                .getSellingPrice();
+        Money lowestPrice = sellingPrice.plus(Money.of(row.get("min_additional_price", BigDecimal.class)));
+
+        return ProductSummaryResponse.builder()
+                .id(row.get("id", Long.class))
+                .sellerId(row.get("seller_id", Long.class))
+                .categoryId(row.get("category_id", Long.class))
+                .name(row.get("name", String.class))
+                .basePrice(row.get("base_price", BigDecimal.class))
+                .sellingPrice(sellingPrice.toBigDecimal())
+                .lowestPrice(lowestPrice.toBigDecimal())
+                .discountRate(row.get("discount_rate", Integer.class))
+                .mainImageUrl(row.get("main_image_url", String.class))
+                .isRocketDelivery(row.get("is_rocket_delivery", Boolean.class))
+                .isRocketWow(row.get("is_rocket_wow", Boolean.class))
+                .reviewCount(row.get("review_count", Integer.class))
+                .ratingAvg(row.get("rating_avg", BigDecimal.class))
+                .createdAt(row.get("created_at", LocalDateTime.class))
+                .build();
+    }
+}
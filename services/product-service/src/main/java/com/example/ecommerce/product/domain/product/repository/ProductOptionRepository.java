@@ -1,11 +1,15 @@
 package com.example.ecommerce.product.domain.product.repository;
 
 import com.example.ecommerce.product.domain.product.entity.ProductOption;
+import org.springframework.data.r2dbc.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.data.repository.reactive.ReactiveCrudRepository;
 import org.springframework.stereotype.Repository;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.Collection;
+
 @Repository
 public interface ProductOptionRepository extends ReactiveCrudRepository<ProductOption, Long> {
 
@@ -14,4 +18,7 @@ public interface ProductOptionRepository extends ReactiveCrudRepository<ProductO
     Flux<ProductOption> findByProductIdAndIsActiveTrue(Long productId);
 
     Mono<Void> deleteByProductId(Long productId);
+
+    @Query("SELECT * FROM product_options WHERE product_id IN (:productIds) AND is_active = TRUE ORDER BY product_id, id")
+    Flux<ProductOption> findActiveByProductIdIn(@Param("productIds") Collection<Long> productIds);
 }
@@ -9,6 +9,8 @@ import org.springframework.stereotype.Repository;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.time.LocalDateTime;
+
 @Repository
 public interface ProductRepository extends ReactiveCrudRepository<Product, Long> {
 
@@ -18,19 +20,61 @@ public interface ProductRepository extends ReactiveCrudRepository<Product, Long>
 
     Flux<Product> findByStatus(ProductStatus status);
 
-    @Query("SELECT * FROM products WHERE status = :status ORDER BY created_at DESC LIMIT :limit OFFSET :offset")
-    Flux<Product> findByStatusWithPaging(@Param("status") ProductStatus status,
-                                          @Param("limit") int limit,
-                                          @Param("offset") int offset);
+    @Query("SELECT * FROM products WHERE status = :status ORDER BY created_at DESC, id DESC LIMIT :limit")
+    Flux<Product> findFirstPageByStatus(@Param("status") ProductStatus status,
+                                        @Param("limit") int limit);
+
+    @Query("SELECT * FROM products WHERE status = :status " +
+            "AND (created_at < :createdAt OR (created_at = :createdAt AND id < :id)) " +
+            "ORDER BY created_at DESC, id DESC LIMIT :limit")
+    Flux<Product> findNextPageByStatus(@Param("status") ProductStatus status,
+                                       @Param("createdAt") LocalDateTime createdAt,
+                                       @Param("id") Long id,
+                                       @Param("limit") int limit);
+
+    @Query("SELECT * FROM products WHERE seller_id = :sellerId AND status = :status " +
+            "ORDER BY created_at DESC, id DESC LIMIT :limit")
+    Flux<Product> findFirstPageBySellerIdAndStatus(@Param("sellerId") Long sellerId,
+                                                   @Param("status") ProductStatus status,
+                                                   @Param("limit") int limit);
 
-    @Query("SELECT * FROM products WHERE name LIKE CONCAT('%', :keyword, '%') AND status = 'ACTIVE'")
-    Flux<Product> searchByName(@Param("keyword") String keyword);
+    @Query("SELECT * FROM products WHERE seller_id = :sellerId AND status = :status " +
+            "AND (created_at < :createdAt OR (created_at = :createdAt AND id < :id)) " +
+            "ORDER BY created_at DESC, id DESC LIMIT :limit")
+    Flux<Product> findNextPageBySellerIdAndStatus(@Param("sellerId") Long sellerId,
+                                                  @Param("status") ProductStatus status,
+                                                  @Param("createdAt") LocalDateTime createdAt,
+                                                  @Param("id") Long id,
+                                                  @Param("limit") int limit);
 
     @Query("SELECT COUNT(*) FROM products WHERE status = :status")
     Mono<Long> countByStatus(@Param("status") ProductStatus status);
 
-    @Query("SELECT * FROM products WHERE category_id = :categoryId AND status = 'ACTIVE' ORDER BY created_at DESC LIMIT :limit OFFSET :offset")
-    Flux<Product> findByCategoryWithPaging(@Param("categoryId") Long categoryId,
-                                            @Param("limit") int limit,
-                                            @Param("offset") int offset);
+    @Query("SELECT * FROM products WHERE category_id = :categoryId AND status = 'ACTIVE' " +
+            "ORDER BY created_at DESC, id DESC LIMIT :limit")
+    Flux<Product> findFirstPageByCategory(@Param("categoryId") Long categoryId,
+                                          @Param("limit") int limit);
+
+    @Query("SELECT * FROM products WHERE category_id = :categoryId AND status = 'ACTIVE' " +
+            "AND (created_at < :createdAt OR (created_at = :createdAt AND id < :id)) " +
+            "ORDER BY created_at DESC, id DESC LIMIT :limit")
+    Flux<Product> findNextPageByCategory(@Param("categoryId") Long categoryId,
+                                         @Param("createdAt") LocalDateTime createdAt,
+                                         @Param("id") Long id,
+                                         @Param("limit") int limit);
+
+    @Query("SELECT p.* FROM products p JOIN category_closure cc ON cc.descendant_id = p.category_id " +
+            "WHERE cc.ancestor_id = :categoryId AND p.status = 'ACTIVE' " +
+            "ORDER BY p.created_at DESC, p.id DESC LIMIT :limit")
+    Flux<Product> findFirstPageInCategoryTree(@Param("categoryId") Long categoryId,
+                                              @Param("limit") int limit);
+
+    @Query("SELECT p.* FROM products p JOIN category_closure cc ON cc.descendant_id = p.category_id " +
+            "WHERE cc.ancestor_id = :categoryId AND p.status = 'ACTIVE' " +
+            "AND (p.created_at < :createdAt OR (p.created_at = :createdAt AND p.id < :id)) " +
+            "ORDER BY p.created_at DESC, p.id DESC LIMIT :limit")
+    Flux<Product> findNextPageInCategoryTree(@Param("categoryId") Long categoryId,
+                                             @Param("createdAt") LocalDateTime createdAt,
+                                             @Param("id") Long id,
+                                             @Param("limit") int limit);
 }
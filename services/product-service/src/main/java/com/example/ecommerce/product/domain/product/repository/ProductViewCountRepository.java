@@ -0,0 +1,47 @@
+package com.example.ecommerce.product.domain.product.repository;
+
+import io.r2dbc.spi.Result;
+import io.r2dbc.spi.Statement;
+import lombok.RequiredArgsConstructor;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 조회수 증가분 일괄 반영
+ * - 증가분 UPDATE 한 문장을 상품마다 바인딩해 배치 한 번으로 실행
+ * - id 순으로 실행해 동시 반영 시 잠금 순서를 맞춤
+ */
+@Repository
+@RequiredArgsConstructor
+public class ProductViewCountRepository {
+
+    private static final String ADD_VIEW_COUNT_SQL = "UPDATE products SET view_count = view_count + ? WHERE id = ?";
+
+    private final DatabaseClient databaseClient;
+
+    public Mono<Long> addViewCounts(Map<Long, Long> deltas) {
+        if (deltas.isEmpty()) {
+            return Mono.just(0L);
+        }
+        Map<Long, Long> ordered = new TreeMap<>(deltas);
+        return databaseClient.inConnectionMany(connection -> {
+                    Statement statement = connection.createStatement(ADD_VIEW_COUNT_SQL);
+                    boolean first = true;
+                    for (Map.Entry<Long, Long> entry : ordered.entrySet()) {
+                        if (!first) {
+                            statement.add();
+                        }
+                        statement.bind(0, entry.getValue()).bind(1, entry.getKey());
+                        first = false;
+                    }
+                    return Flux.from(statement.execute())
+                            .flatMap(Result::getRowsUpdated);
+                })
+                .reduce(0L, Long::sum);
+    }
+}
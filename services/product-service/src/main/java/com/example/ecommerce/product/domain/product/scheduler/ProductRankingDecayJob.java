@@ -0,0 +1,52 @@
+package com.example.ecommerce.product.domain.product.scheduler;
+
+import com.example.ecommerce.product.domain.product.ranking.ProductRankingStore;
+import com.example.ecommerce.product.domain.product.ranking.ProductRankingType;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 인기 순위 점수 감쇠
+ * - 순위 종류마다 마지막 감쇠 이후 경과 시간만큼 점수를 줄이고 작은 점수와 상위 max-size 밖 상품을 제거
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProductRankingDecayJob {
+
+    private final ProductRankingStore productRankingStore;
+    private final MeterRegistry meterRegistry;
+
+    private final AtomicBoolean running = new AtomicBoolean(false);
+
+    @Value("${product.ranking.max-size:1000}")
+    private int maxSize;
+
+    @Value("${product.ranking.min-score:0.01}")
+    private double minScore;
+
+    @Scheduled(fixedDelayString = "${product.ranking.decay-delay-ms:600000}")
+    public void decay() {
+        if (!running.compareAndSet(false, true)) {
+            log.warn("인기 순위 감쇠가 이미 실행 중입니다");
+            return;
+        }
+        Flux.fromArray(ProductRankingType.values())
+                .concatMap(type -> productRankingStore.decay(type, maxSize, minScore)
+                        .doOnNext(keys -> meterRegistry.counter("product.ranking.decay", "type", type.getKey())
+                                .increment(keys)))
+                .reduce(0L, Long::sum)
+                .doFinally(signal -> running.set(false))
+                .subscribe(
+                        keys -> log.debug("인기 순위 감쇠 완료: keys={}", keys),
+                        error -> log.error("인기 순위 감쇠 실패", error)
+                );
+    }
+}
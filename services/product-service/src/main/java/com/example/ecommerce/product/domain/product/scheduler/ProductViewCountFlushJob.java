@@ -0,0 +1,138 @@
+package com.example.ecommerce.product.domain.product.scheduler;
+
+import com.example.ecommerce.product.domain.product.repository.ProductViewCountRepository;
+import com.example.ecommerce.product.domain.product.view.ProductViewCountStore;
+import com.example.ecommerce.product.domain.product.view.ProductViewCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 상품 조회수 반영
+ * - Redis 합산을 쓰면 짧은 주기로 로컬 증가분을 Redis에 올리고, 긴 주기로 Redis 합계를 DB에 반영
+ * - Redis 합산을 쓰지 않으면 로컬 증가분을 바로 DB에 반영
+ * - DB에는 상품당 주기마다 UPDATE 한 번만 실행 (5분 주기면 하루 288회)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProductViewCountFlushJob {
+
+    private final ProductViewCounter productViewCounter;
+    private final ProductViewCountStore productViewCountStore;
+    private final ProductViewCountRepository productViewCountRepository;
+    private final MeterRegistry meterRegistry;
+
+    private static final Duration SHUTDOWN_TIMEOUT = Duration.ofSeconds(10);
+
+    private final AtomicBoolean running = new AtomicBoolean(false);
+
+    @Value("${product.view-count.redis-enabled:false}")
+    private boolean redisEnabled;
+
+    @Value("${product.view-count.batch-size:500}")
+    private int batchSize;
+
+    @Scheduled(fixedDelayString = "${product.view-count.push-delay-ms:10000}")
+    public void pushToRedis() {
+        if (!redisEnabled) {
+            return;
+        }
+        Map<Long, Long> deltas = productViewCounter.drain();
+        if (deltas.isEmpty()) {
+            return;
+        }
+        productViewCountStore.add(deltas)
+                .subscribe(
+                        null,
+                        error -> {
+                            log.warn("조회수 Redis 합산 실패, 다음 주기에 재시도: products={}", deltas.size(), error);
+                            productViewCounter.restore(deltas);
+                        }
+                );
+    }
+
+    @Scheduled(fixedDelayString = "${product.view-count.flush-delay-ms:300000}")
+    public void flushToDatabase() {
+        if (!running.compareAndSet(false, true)) {
+            log.warn("조회수 반영이 이미 실행 중입니다");
+            return;
+        }
+        Mono<Map<Long, Long>> deltasMono = redisEnabled
+                ? productViewCountStore.takeAll()
+                : Mono.fromSupplier(productViewCounter::drain);
+
+        deltasMono
+                .flatMap(this::flush)
+                .doFinally(signal -> running.set(false))
+                .subscribe(
+                        updated -> log.debug("조회수 반영 완료: products={}", updated),
+                        error -> log.error("조회수 반영 실패", error)
+                );
+    }
+
+    /**
+     * 종료 전 로컬 증가분 반영 (Redis 합산을 쓰면 Redis에 올려 다른 인스턴스가 DB에 반영)
+     */
+    @PreDestroy
+    void flushOnShutdown() {
+        Map<Long, Long> deltas = productViewCounter.drain();
+        if (deltas.isEmpty()) {
+            return;
+        }
+        Mono<Void> flushMono = redisEnabled
+                ? productViewCountStore.add(deltas)
+                : flush(deltas).then();
+        flushMono
+                .timeout(SHUTDOWN_TIMEOUT)
+                .onErrorResume(error -> {
+                    log.warn("종료 전 조회수 반영 실패: products={}", deltas.size(), error);
+                    return Mono.empty();
+                })
+                .block();
+    }
+
+    private Mono<Long> flush(Map<Long, Long> deltas) {
+        return Flux.fromIterable(deltas.entrySet())
+                .buffer(batchSize)
+                .concatMap(chunk -> {
+                    Map<Long, Long> chunkDeltas = toMap(chunk);
+                    return productViewCountRepository.addViewCounts(chunkDeltas)
+                            .doOnNext(updated -> meterRegistry.counter("product.view_count.flush", "result", "updated")
+                                    .increment(updated))
+                            .onErrorResume(error -> {
+                                log.error("조회수 반영 묶음 실패, 증가분 복원: products={}", chunkDeltas.size(), error);
+                                meterRegistry.counter("product.view_count.flush", "result", "failed")
+                                        .increment(chunkDeltas.size());
+                                return restore(chunkDeltas).thenReturn(0L);
+                            });
+                })
+                .reduce(0L, Long::sum);
+    }
+
+    private Mono<Void> restore(Map<Long, Long> deltas) {
+        if (redisEnabled) {
+            return productViewCountStore.add(deltas)
+                    .onErrorResume(error -> Mono.fromRunnable(() -> productViewCounter.restore(deltas)));
+        }
+        return Mono.fromRunnable(() -> productViewCounter.restore(deltas));
+    }
+
+    private Map<Long, Long> toMap(List<Map.Entry<Long, Long>> entries) {
+        Map<Long, Long> map = new LinkedHashMap<>();
+        entries.forEach(entry -> map.put(entry.getKey(), entry.getValue()));
+        return map;
+    }
+}
@@ -0,0 +1,29 @@
+package com.example.ecommerce.product.domain.product.search;
+
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.LowerCaseFilter;
+import org.apache.lucene.analysis.TokenStream;
+import org.apache.lucene.analysis.Tokenizer;
+import org.apache.lucene.analysis.ngram.NGramTokenizer;
+
+/**
+ * 상품명 n-gram 분석기 (1~2글자, 공백/기호 제외)
+ * - 형태소 사전 없이 한글 부분 일치를 지원 (예: "운동화" → 운, 동, 화, 운동, 동화)
+ */
+public class ProductNameAnalyzer extends Analyzer {
+
+    static final int MIN_GRAM = 1;
+    static final int MAX_GRAM = 2;
+
+    @Override
+    protected TokenStreamComponents createComponents(String fieldName) {
+        Tokenizer tokenizer = new NGramTokenizer(MIN_GRAM, MAX_GRAM) {
+            @Override
+            protected boolean isTokenChar(int chr) {
+                return Character.isLetterOrDigit(chr);
+            }
+        };
+        TokenStream stream = new LowerCaseFilter(tokenizer);
+        return new TokenStreamComponents(tokenizer, stream);
+    }
+}
@@ -0,0 +1,20 @@
+package com.example.ecommerce.product.domain.product.search;
+
+import lombok.*;
+
+import java.math.BigDecimal;
+
+@Getter
+@Builder
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+public class ProductSearchCondition {
+
+    private String keyword;
+    private Long categoryId;
+    private BigDecimal minPrice;
+    private BigDecimal maxPrice;
+    private Boolean rocketDelivery;
+    private int page;
+    private int size;
+}
@@ -0,0 +1,17 @@
+package com.example.ecommerce.product.domain.product.search;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 검색 결과 상품 id (관련도 순)와 전체 건수
+ */
+@Getter
+@AllArgsConstructor
+public class ProductSearchHits {
+
+    private final List<Long> productIds;
+    private final long totalHits;
+}
@@ -0,0 +1,257 @@
+package com.example.ecommerce.product.domain.product.search;
+
+import com.example.ecommerce.product.domain.product.entity.Product;
+import com.example.ecommerce.product.domain.product.entity.ProductStatus;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.LongPoint;
+import org.apache.lucene.document.NumericDocValuesField;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.LeafReader;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.index.StoredFields;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.BooleanClause;
+import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.MatchAllDocsQuery;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.SearcherManager;
+import org.apache.lucene.search.Sort;
+import org.apache.lucene.search.SortField;
+import org.apache.lucene.search.TermQuery;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.store.ByteBuffersDirectory;
+import org.apache.lucene.util.Bits;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * 인스턴스 로컬 상품 검색 인덱스 (Lucene, 메모리)
+ * - 판매중(ACTIVE) 상품만 색인하고 상품명은 n-gram으로 분석
+ * - 관련도(BM25) 순 정렬, 카테고리/가격/로켓배송 필터
+ * - 모든 메서드는 블로킹이므로 boundedElastic에서 호출
+ */
+@Slf4j
+@Component
+public class ProductSearchIndex {
+
+    private static final String ID = "id";
+    private static final String ID_SORT = "id_sort";
+    private static final String NAME = "name";
+    private static final String CATEGORY = "category_id";
+    private static final String PRICE = "price";
+    private static final String ROCKET = "rocket";
+
+    private static final Sort RELEVANCE = new Sort(SortField.FIELD_SCORE, new SortField(ID_SORT, SortField.Type.LONG, true));
+    private static final Sort LATEST = new Sort(new SortField(ID_SORT, SortField.Type.LONG, true));
+    private static final int MAX_PAGE_SIZE = 100;
+
+    @Value("${product.search.max-window:1000}")
+    private int maxWindow;
+
+    private ByteBuffersDirectory directory;
+    private IndexWriter writer;
+    private SearcherManager searcherManager;
+
+    @PostConstruct
+    void open() throws IOException {
+        directory = new ByteBuffersDirectory();
+        writer = new IndexWriter(directory, new IndexWriterConfig(new ProductNameAnalyzer()));
+        searcherManager = new SearcherManager(writer, null);
+    }
+
+    @PreDestroy
+    void close() throws IOException {
+        searcherManager.close();
+        writer.close();
+        directory.close();
+    }
+
+    /**
+     * 판매중이면 색인(갱신), 아니면 인덱스에서 제거
+     */
+    public void index(Collection<Product> products) {
+        try {
+            for (Product product : products) {
+                Term idTerm = new Term(ID, String.valueOf(product.getId()));
+                if (product.getStatus() == ProductStatus.ACTIVE) {
+                    writer.updateDocument(idTerm, toDocument(product));
+                } else {
+                    writer.deleteDocuments(idTerm);
+                }
+            }
+            searcherManager.maybeRefresh();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public void delete(Long productId) {
+        try {
+            writer.deleteDocuments(new Term(ID, String.valueOf(productId)));
+            searcherManager.maybeRefresh();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public void clear() {
+        try {
+            writer.deleteAll();
+            searcherManager.maybeRefresh();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * 주어진 상품 id에 없는 문서를 제거하고 제거한 수를 반환 (재적재 시 DB에서 사라진 상품 정리)
+     */
+    public int retainOnly(Set<Long> productIds) {
+        try {
+            searcherManager.maybeRefreshBlocking();
+            List<Term> stale = new ArrayList<>();
+            IndexSearcher searcher = searcherManager.acquire();
+            try {
+                for (LeafReaderContext leaf : searcher.getIndexReader().leaves()) {
+                    LeafReader reader = leaf.reader();
+                    Bits liveDocs = reader.getLiveDocs();
+                    StoredFields storedFields = reader.storedFields();
+                    for (int doc = 0; doc < reader.maxDoc(); doc++) {
+                        if (liveDocs != null && !liveDocs.get(doc)) {
+                            continue;
+                        }
+                        String id = storedFields.document(doc).get(ID);
+                        if (!productIds.contains(Long.valueOf(id))) {
+                            stale.add(new Term(ID, id));
+                        }
+                    }
+                }
+            } finally {
+                searcherManager.release(searcher);
+            }
+            if (!stale.isEmpty()) {
+                writer.deleteDocuments(stale.toArray(Term[]::new));
+                searcherManager.maybeRefresh();
+            }
+            return stale.size();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * size는 1 ~ MAX_PAGE_SIZE, 페이지는 maxWindow 안에서만 조회 (큰 page로 offset이 넘치지 않도록 long으로 계산)
+     * - 검색어에서 단어가 하나도 나오지 않으면(기호만 입력) 빈 결과
+     */
+    public ProductSearchHits search(ProductSearchCondition condition) {
+        List<String> terms = hasKeyword(condition) ? keywordTerms(condition.getKeyword()) : List.of();
+        if (hasKeyword(condition) && terms.isEmpty()) {
+            return new ProductSearchHits(List.of(), 0);
+        }
+        int size = Math.min(Math.max(condition.getSize(), 1), MAX_PAGE_SIZE);
+        long offset = (long) (Math.max(condition.getPage(), 1) - 1) * size;
+        int window = (int) Math.min(offset + size, maxWindow);
+        Query query = buildQuery(condition, terms);
+        Sort sort = hasKeyword(condition) ? RELEVANCE : LATEST;
+
+        try {
+            IndexSearcher searcher = searcherManager.acquire();
+            try {
+                long totalHits = searcher.count(query);
+                if (offset >= window) {
+                    return new ProductSearchHits(List.of(), totalHits);
+                }
+                TopDocs topDocs = searcher.search(query, window, sort, true);
+                StoredFields storedFields = searcher.storedFields();
+                List<Long> productIds = new ArrayList<>();
+                ScoreDoc[] scoreDocs = topDocs.scoreDocs;
+                for (int i = (int) offset; i < scoreDocs.length; i++) {
+                    productIds.add(Long.valueOf(storedFields.document(scoreDocs[i].doc).get(ID)));
+                }
+                return new ProductSearchHits(productIds, totalHits);
+            } finally {
+                searcherManager.release(searcher);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public int size() {
+        return writer.getDocStats().numDocs;
+    }
+
+    private Document toDocument(Product product) {
+        Document document = new Document();
+        document.add(new StringField(ID, String.valueOf(product.getId()), Field.Store.YES));
+        document.add(new NumericDocValuesField(ID_SORT, product.getId()));
+        document.add(new TextField(NAME, product.getName(), Field.Store.NO));
+        if (product.getCategoryId() != null) {
+            document.add(new LongPoint(CATEGORY, product.getCategoryId()));
+        }
+        document.add(new LongPoint(PRICE, product.getSellingPrice().toWon()));
+        document.add(new StringField(ROCKET, String.valueOf(Boolean.TRUE.equals(product.getIsRocketDelivery())), Field.Store.NO));
+        return document;
+    }
+
+    /**
+     * 검색어의 단어마다 bigram(한 글자 단어는 unigram)을 모두 포함해야 일치 - 부분 문자열 검색과 같은 결과
+     */
+    private Query buildQuery(ProductSearchCondition condition, List<String> terms) {
+        BooleanQuery.Builder builder = new BooleanQuery.Builder();
+        if (!terms.isEmpty()) {
+            for (String term : terms) {
+                builder.add(new TermQuery(new Term(NAME, term)), BooleanClause.Occur.MUST);
+            }
+        } else {
+            builder.add(new MatchAllDocsQuery(), BooleanClause.Occur.MUST);
+        }
+
+        if (condition.getCategoryId() != null) {
+            builder.add(LongPoint.newExactQuery(CATEGORY, condition.getCategoryId()), BooleanClause.Occur.FILTER);
+        }
+        if (condition.getMinPrice() != null || condition.getMaxPrice() != null) {
+            long min = condition.getMinPrice() != null ? condition.getMinPrice().longValue() : Long.MIN_VALUE;
+            long max = condition.getMaxPrice() != null ? condition.getMaxPrice().longValue() : Long.MAX_VALUE;
+            builder.add(LongPoint.newRangeQuery(PRICE, min, max), BooleanClause.Occur.FILTER);
+        }
+        if (Boolean.TRUE.equals(condition.getRocketDelivery())) {
+            builder.add(new TermQuery(new Term(ROCKET, "true")), BooleanClause.Occur.FILTER);
+        }
+        return builder.build();
+    }
+
+    private List<String> keywordTerms(String keyword) {
+        List<String> terms = new ArrayList<>();
+        for (String word : keyword.toLowerCase(Locale.ROOT).split("[^\\p{L}\\p{N}]+")) {
+            if (word.length() == 1) {
+                terms.add(word);
+            }
+            for (int i = 0; i + ProductNameAnalyzer.MAX_GRAM <= word.length(); i++) {
+                terms.add(word.substring(i, i + ProductNameAnalyzer.MAX_GRAM));
+            }
+        }
+        return terms;
+    }
+
+    private boolean hasKeyword(ProductSearchCondition condition) {
+        return condition.getKeyword() != null && !condition.getKeyword().isBlank();
+    }
+}
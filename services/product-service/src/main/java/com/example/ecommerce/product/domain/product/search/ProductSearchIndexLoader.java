@@ -0,0 +1,132 @@
+package com.example.ecommerce.product.domain.product.search;
+
+import com.example.ecommerce.product.domain.product.entity.Product;
+import com.example.ecommerce.product.domain.product.entity.ProductStatus;
+import com.example.ecommerce.product.domain.product.repository.ProductRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 검색 인덱스 적재
+ * - 기동 시와 주기적으로 판매중 상품 전체로 인덱스를 맞추고, 그 사이에는 상품 이벤트마다 해당 상품만 다시 색인
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProductSearchIndexLoader {
+
+    private final ProductRepository productRepository;
+    private final ProductSearchIndex productSearchIndex;
+
+    private final AtomicBoolean rebuilding = new AtomicBoolean(false);
+    private final AtomicBoolean rebuildRequested = new AtomicBoolean(false);
+    private final Set<Long> reindexedDuringRebuild = ConcurrentHashMap.newKeySet();
+
+    @Value("${product.search.rebuild-batch-size:500}")
+    private int batchSize;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildOnStartup() {
+        rebuildAndLog("기동");
+    }
+
+    /**
+     * 이벤트 유실(구독 시작 전 발행, 처리 실패)로 어긋난 인덱스를 주기적으로 DB에 맞춤
+     */
+    @Scheduled(
+            initialDelayString = "${product.search.reconcile-delay-ms:600000}",
+            fixedDelayString = "${product.search.reconcile-delay-ms:600000}"
+    )
+    public void reconcile() {
+        rebuildAndLog("주기");
+    }
+
+    public void rebuildAndLog(String trigger) {
+        rebuild().subscribe(
+                count -> log.info("상품 검색 인덱스 재적재 완료: trigger={}, count={}", trigger, count),
+                error -> log.error("상품 검색 인덱스 재적재 실패: trigger={}", trigger, error)
+        );
+    }
+
+    /**
+     * 판매중 상품으로 인덱스를 맞춤 (비우지 않고 갱신 후 DB에 없는 문서만 제거하므로 재적재 중에도 검색 가능)
+     * - 재적재 중 이벤트로 다시 색인된 상품은 더 최근 DB 값이므로 덮어쓰거나 제거하지 않음
+     * - 이미 실행 중이면 끝난 뒤 한 번 더 실행 (실행 중인 재적재의 DB 조회가 요청 시점보다 앞설 수 있음)
+     */
+    public Mono<Integer> rebuild() {
+        return Mono.defer(() -> {
+            if (!rebuilding.compareAndSet(false, true)) {
+                rebuildRequested.set(true);
+                log.info("상품 검색 인덱스 재적재가 이미 실행 중이어서 끝난 뒤 다시 실행합니다");
+                return Mono.<Integer>empty();
+            }
+            reindexedDuringRebuild.clear();
+            Set<Long> activeIds = ConcurrentHashMap.newKeySet();
+            return productRepository.findByStatus(ProductStatus.ACTIVE)
+                    .doOnNext(product -> activeIds.add(product.getId()))
+                    .buffer(batchSize)
+                    .publishOn(Schedulers.boundedElastic())
+                    .doOnNext(products -> productSearchIndex.index(withoutReindexed(products)))
+                    .then(Mono.fromCallable(() -> {
+                        activeIds.addAll(reindexedDuringRebuild);
+                        int removed = productSearchIndex.retainOnly(activeIds);
+                        if (removed > 0) {
+                            log.info("상품 검색 인덱스에서 판매중이 아닌 상품 제거: count={}", removed);
+                        }
+                        return productSearchIndex.size();
+                    }).subscribeOn(Schedulers.boundedElastic()))
+                    .doFinally(signal -> {
+                        rebuilding.set(false);
+                        if (rebuildRequested.getAndSet(false)) {
+                            rebuildAndLog("재요청");
+                        }
+                    });
+        });
+    }
+
+    /**
+     * 상품 하나를 DB 기준으로 다시 색인 (없거나 판매중이 아니면 제거)
+     */
+    public Mono<Void> reindex(Long productId) {
+        return productRepository.findById(productId)
+                .publishOn(Schedulers.boundedElastic())
+                .doOnNext(product -> {
+                    markReindexed(productId);
+                    productSearchIndex.index(List.of(product));
+                })
+                .switchIfEmpty(Mono.fromRunnable(() -> {
+                            markReindexed(productId);
+                            productSearchIndex.delete(productId);
+                        })
+                        .subscribeOn(Schedulers.boundedElastic())
+                        .then(Mono.empty()))
+                .then();
+    }
+
+    private void markReindexed(Long productId) {
+        if (rebuilding.get()) {
+            reindexedDuringRebuild.add(productId);
+        }
+    }
+
+    private List<Product> withoutReindexed(List<Product> products) {
+        if (reindexedDuringRebuild.isEmpty()) {
+            return products;
+        }
+        return products.stream()
+                .filter(product -> !reindexedDuringRebuild.contains(product.getId()))
+                .toList();
+    }
+}
@@ -0,0 +1,154 @@
+package com.example.ecommerce.product.domain.product.service;
+
+import com.example.ecommerce.product.domain.inventory.entity.Inventory;
+import com.example.ecommerce.product.domain.product.bulk.ProductImportRow;
+import com.example.ecommerce.product.domain.product.dto.request.ProductCreateRequest;
+import com.example.ecommerce.product.domain.product.dto.request.ProductCreateRequest.ProductOptionRequest;
+import com.example.ecommerce.product.domain.product.dto.response.ProductImportError;
+import com.example.ecommerce.product.domain.product.dto.response.ProductImportProgress;
+import com.example.ecommerce.product.domain.product.entity.Product;
+import com.example.ecommerce.product.domain.product.entity.ProductImage;
+import com.example.ecommerce.product.domain.product.entity.ProductOption;
+import com.example.ecommerce.product.domain.product.repository.ProductBulkRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 대량 등록 한 묶음을 한 트랜잭션으로 저장
+ * - 상품/옵션/재고/이미지를 테이블마다 multi-row INSERT 한 번씩 실행
+ * - 이미 등록된 코드나 묶음 안에서 중복된 코드의 행은 실패로 보고하고 나머지만 저장
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ProductImportBatchService {
+
+    private final ProductBulkRepository productBulkRepository;
+
+    @Transactional
+    public Mono<ProductImportProgress> importBatch(Long sellerId, List<ProductImportRow> rows) {
+        List<ProductImportError> errors = new ArrayList<>();
+        List<ProductImportRow> candidates = new ArrayList<>();
+        Set<String> codesInBatch = new HashSet<>();
+        for (ProductImportRow row : rows) {
+            if (!row.isValid()) {
+                errors.add(row.toError(row.getError()));
+            } else if (!codesInBatch.add(row.getSellerProductCode())) {
+                errors.add(row.toError("파일 안에서 중복된 판매자 상품 코드입니다"));
+            } else {
+                candidates.add(row);
+            }
+        }
+        if (candidates.isEmpty()) {
+            return Mono.just(result(rows.size(), 0, errors));
+        }
+
+        return productBulkRepository.findExistingCodes(sellerId, codesInBatch)
+                .collect(Collectors.toSet())
+                .flatMap(existingCodes -> {
+                    List<ProductImportRow> newRows = new ArrayList<>();
+                    for (ProductImportRow row : candidates) {
+                        if (existingCodes.contains(row.getSellerProductCode())) {
+                            errors.add(row.toError("이미 등록된 판매자 상품 코드입니다"));
+                        } else {
+                            newRows.add(row);
+                        }
+                    }
+                    if (newRows.isEmpty()) {
+                        return Mono.just(result(rows.size(), 0, errors));
+                    }
+                    return insert(sellerId, newRows)
+                            .thenReturn(result(rows.size(), newRows.size(), errors));
+                });
+    }
+
+    private Mono<Void> insert(Long sellerId, List<ProductImportRow> rows) {
+        List<Product> products = rows.stream()
+                .map(row -> toProduct(sellerId, row.getRequest()))
+                .toList();
+        List<String> codes = rows.stream().map(ProductImportRow::getSellerProductCode).toList();
+
+        return productBulkRepository.insertProducts(products)
+                .then(productBulkRepository.findIdsByCodes(sellerId, codes))
+                .flatMap(productIds -> {
+                    List<ProductOption> options = new ArrayList<>();
+                    List<ProductImage> images = new ArrayList<>();
+                    for (ProductImportRow row : rows) {
+                        Long productId = productIds.get(row.getSellerProductCode());
+                        row.getRequest().getOptions().forEach(option -> options.add(ProductOption.builder()
+                                .productId(productId)
+                                .name(option.getName())
+                                .additionalPrice(option.getAdditionalPrice())
+                                .build()));
+                        if (row.getRequest().getImages() != null) {
+                            row.getRequest().getImages().forEach(image -> images.add(ProductImage.builder()
+                                    .productId(productId)
+                                    .imageUrl(image.getImageUrl())
+                                    .displayOrder(image.getDisplayOrder())
+                                    .isMain(image.getIsMain())
+                                    .build()));
+                        }
+                    }
+                    return productBulkRepository.insertOptions(options)
+                            .then(productBulkRepository.findOptionIdsByProductIdIn(productIds.values()))
+                            .flatMap(optionIds -> productBulkRepository.insertInventories(
+                                    toInventories(rows, productIds, optionIds)))
+                            .then(productBulkRepository.insertImages(images));
+                })
+                .then();
+    }
+
+    /**
+     * 상품별 옵션 id(INSERT 순서)와 요청 옵션의 초기 재고를 순서대로 짝지음
+     */
+    private List<Inventory> toInventories(List<ProductImportRow> rows, Map<String, Long> productIds,
+                                          Map<Long, Collection<Long>> optionIds) {
+        List<Inventory> inventories = new ArrayList<>();
+        for (ProductImportRow row : rows) {
+            List<Long> ids = new ArrayList<>(optionIds.getOrDefault(productIds.get(row.getSellerProductCode()), List.of()));
+            List<ProductOptionRequest> requested = row.getRequest().getOptions();
+            for (int i = 0; i < ids.size() && i < requested.size(); i++) {
+                Integer initialStock = requested.get(i).getInitialStock();
+                inventories.add(Inventory.builder()
+                        .productOptionId(ids.get(i))
+                        .quantity(initialStock != null ? initialStock : 0)
+                        .build());
+            }
+        }
+        return inventories;
+    }
+
+    private Product toProduct(Long sellerId, ProductCreateRequest request) {
+        return Product.builder()
+                .sellerId(sellerId)
+                .categoryId(request.getCategoryId())
+                .sellerProductCode(request.getSellerProductCode())
+                .name(request.getName())
+                .description(request.getDescription())
+                .basePrice(request.getBasePrice())
+                .discountRate(request.getDiscountRate())
+                .isRocketDelivery(request.getIsRocketDelivery())
+                .isRocketWow(request.getIsRocketWow())
+                .build();
+    }
+
+    private ProductImportProgress result(int processed, int imported, List<ProductImportError> errors) {
+        return ProductImportProgress.builder()
+                .processedRows(processed)
+                .importedProducts(imported)
+                .failedRows(errors.size())
+                .errors(List.copyOf(errors))
+                .build();
+    }
+}
@@ -0,0 +1,121 @@
+package com.example.ecommerce.product.domain.product.service;
+
+import com.example.ecommerce.common.exception.BusinessException;
+import com.example.ecommerce.common.exception.ErrorCode;
+import com.example.ecommerce.product.domain.category.snapshot.CategorySnapshot;
+import com.example.ecommerce.product.domain.category.snapshot.CategorySnapshotService;
+import com.example.ecommerce.product.domain.product.bulk.ProductImportFormat;
+import com.example.ecommerce.product.domain.product.bulk.ProductImportParser;
+import com.example.ecommerce.product.domain.product.bulk.ProductImportRow;
+import com.example.ecommerce.product.domain.product.dto.response.ProductImportProgress;
+import com.example.ecommerce.product.domain.seller.entity.Seller;
+import com.example.ecommerce.product.domain.seller.repository.SellerRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.codec.StringDecoder;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+import reactor.util.function.Tuple2;
+import reactor.util.function.Tuples;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * 판매자 상품 대량 등록
+ * - 업로드 본문을 줄 단위로 흘려 읽고(파일 전체를 메모리에 올리지 않음) 행 파싱/검증은 병렬로 수행
+ * - 판매자는 시작 전에 한 번만 확인 (없거나 판매 불가면 본문을 읽지 않고 실패)
+ * - 검증된 행은 묶음 단위로 저장하고, 시작 시(0건)와 묶음마다 누적 진행 상황과 실패 행을 내려보냄
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ProductImportService {
+
+    private static final StringDecoder LINE_DECODER = StringDecoder.allMimeTypes();
+    private static final ResolvableType STRING_TYPE = ResolvableType.forClass(String.class);
+
+    private final ProductImportParser parser;
+    private final ProductImportBatchService batchService;
+    private final CategorySnapshotService categorySnapshotService;
+    private final SellerRepository sellerRepository;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${product.import.batch-size:200}")
+    private int batchSize;
+
+    @Value("${product.import.parallelism:4}")
+    private int parallelism;
+
+    public Flux<ProductImportProgress> importProducts(Long sellerId, ProductImportFormat format, Flux<DataBuffer> body) {
+        Flux<String> lines = LINE_DECODER.decode(body, STRING_TYPE, null, Map.of());
+        return validateSeller(sellerId)
+                .then(categorySnapshotService.current())
+                .flatMapMany(categories -> parseRows(format, lines, categories))
+                .buffer(batchSize)
+                .concatMap(rows -> importBatch(sellerId, rows), 1)
+                .scan(ProductImportProgress.empty(), ProductImportProgress::accumulate)
+                .doOnComplete(() -> log.info("상품 대량 등록 완료: sellerId={}, format={}", sellerId, format));
+    }
+
+    private Mono<Seller> validateSeller(Long sellerId) {
+        return sellerRepository.findById(sellerId)
+                .switchIfEmpty(Mono.error(new BusinessException(ErrorCode.SELLER_NOT_FOUND)))
+                .filter(Seller::canSellProducts)
+                .switchIfEmpty(Mono.error(new BusinessException(ErrorCode.SELLER_NOT_ACTIVE)));
+    }
+
+    private Flux<ProductImportRow> parseRows(ProductImportFormat format, Flux<String> lines, CategorySnapshot categories) {
+        Flux<Tuple2<Long, String>> numbered = lines
+                .index((index, line) -> Tuples.of(index + 1, line))
+                .filter(line -> !line.getT2().isBlank());
+
+        if (format == ProductImportFormat.NDJSON) {
+            return parseInParallel(numbered, line -> parser.parseJson(line.getT1(), line.getT2(), categories));
+        }
+        return numbered.switchOnFirst((first, rest) -> {
+            if (!first.hasValue()) {
+                return rest.thenMany(Flux.<ProductImportRow>empty());
+            }
+            Map<String, Integer> header = parser.parseCsvHeader(first.get().getT2());
+            return parseInParallel(rest.skip(1),
+                    line -> parser.parseCsv(header, line.getT1(), line.getT2(), categories));
+        });
+    }
+
+    /**
+     * 파싱/검증은 병렬로, 결과는 파일 순서대로 (동시에 처리하는 행 수를 제한해 메모리 사용량 고정)
+     */
+    private Flux<ProductImportRow> parseInParallel(Flux<Tuple2<Long, String>> lines,
+                                                   Function<Tuple2<Long, String>, ProductImportRow> parse) {
+        return lines.flatMapSequential(line -> Mono.fromCallable(() -> parse.apply(line))
+                        .subscribeOn(Schedulers.parallel()),
+                parallelism);
+    }
+
+    private Mono<ProductImportProgress> importBatch(Long sellerId, List<ProductImportRow> rows) {
+        return batchService.importBatch(sellerId, rows)
+                .onErrorResume(error -> {
+                    log.error("상품 대량 등록 묶음 저장 실패: sellerId={}, firstLine={}, size={}",
+                            sellerId, rows.get(0).getLineNumber(), rows.size(), error);
+                    return Mono.just(ProductImportProgress.builder()
+                            .processedRows(rows.size())
+                            .failedRows(rows.size())
+                            .errors(rows.stream()
+                                    .map(row -> row.toError(row.isValid() ? "저장 실패" : row.getError()))
+                                    .toList())
+                            .build());
+                })
+                .doOnNext(chunk -> {
+                    meterRegistry.counter("product.import", "result", "imported").increment(chunk.getImportedProducts());
+                    meterRegistry.counter("product.import", "result", "failed").increment(chunk.getFailedRows());
+                });
+    }
+}
@@ -2,43 +2,81 @@ package com.example.ecommerce.product.domain.product.service;
 
 import com.example.ecommerce.common.exception.BusinessException;
 import com.example.ecommerce.common.exception.ErrorCode;
+import com.example.ecommerce.common.kafka.Topics;
+import com.example.ecommerce.common.kafka.publisher.EventPublisher;
+import com.example.ecommerce.common.response.PageResponse;
+import com.example.ecommerce.common.webflux.transaction.AfterCommit;
+import com.example.ecommerce.events.product.ProductPriceChangedEvent;
+import com.example.ecommerce.events.product.ProductStatusChangedEvent;
 import com.example.ecommerce.product.domain.inventory.entity.Inventory;
 import com.example.ecommerce.product.domain.inventory.repository.InventoryRepository;
+import com.example.ecommerce.product.domain.product.cache.ProductCache;
 import com.example.ecommerce.product.domain.product.dto.request.ProductCreateRequest;
+import com.example.ecommerce.product.domain.product.dto.request.ProductCursor;
+import com.example.ecommerce.product.domain.product.dto.request.ProductPriceUpdateRequest;
+import com.example.ecommerce.product.domain.product.dto.response.ProductFacetResponse;
 import com.example.ecommerce.product.domain.product.dto.response.ProductImageResponse;
 import com.example.ecommerce.product.domain.product.dto.response.ProductOptionResponse;
+import com.example.ecommerce.product.domain.product.dto.response.ProductRankingResponse;
 import com.example.ecommerce.product.domain.product.dto.response.ProductResponse;
+import com.example.ecommerce.product.domain.product.dto.response.ProductSearchResponse;
+import com.example.ecommerce.product.domain.product.dto.response.ProductSummaryResponse;
 import com.example.ecommerce.product.domain.product.entity.Product;
 import com.example.ecommerce.product.domain.product.entity.ProductImage;
 import com.example.ecommerce.product.domain.product.entity.ProductOption;
 import com.example.ecommerce.product.domain.product.entity.ProductStatus;
+import com.example.ecommerce.product.domain.product.facet.ProductFacetCondition;
+import com.example.ecommerce.product.domain.product.facet.ProductFacetIndex;
+import com.example.ecommerce.product.domain.product.ranking.ProductRankingStore;
+import com.example.ecommerce.product.domain.product.ranking.ProductRankingType;
 import com.example.ecommerce.product.domain.product.repository.ProductImageRepository;
+import com.example.ecommerce.product.domain.product.repository.ProductListingRepository;
 import com.example.ecommerce.product.domain.product.repository.ProductOptionRepository;
 import com.example.ecommerce.product.domain.product.repository.ProductRepository;
+import com.example.ecommerce.product.domain.product.search.ProductSearchCondition;
+import com.example.ecommerce.product.domain.product.search.ProductSearchHits;
+import com.example.ecommerce.product.domain.product.search.ProductSearchIndex;
+import com.example.ecommerce.product.domain.product.view.ProductViewCounter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class ProductService {
 
+    private static final int MAX_RANKING_SIZE = 100;
+    private static final int MAX_PAGE_SIZE = 100;
+
     private final ProductRepository productRepository;
     private final ProductOptionRepository productOptionRepository;
     private final ProductImageRepository productImageRepository;
+    private final ProductListingRepository productListingRepository;
     private final InventoryRepository inventoryRepository;
+    private final EventPublisher eventPublisher;
+    private final ProductCache productCache;
+    private final ProductSearchIndex productSearchIndex;
+    private final ProductFacetIndex productFacetIndex;
+    private final ProductRankingStore productRankingStore;
+    private final ProductViewCounter productViewCounter;
 
     @Transactional
     public Mono<ProductResponse> createProduct(Long sellerId, ProductCreateRequest request) {
         Product product = Product.builder()
                 .sellerId(sellerId)
                 .categoryId(request.getCategoryId())
+                .sellerProductCode(request.getSellerProductCode())
                 .name(request.getName())
                 .description(request.getDescription())
                 .basePrice(request.getBasePrice())
@@ -91,20 +129,138 @@ public class ProductService {
     }
 
     public Mono<ProductResponse> getProduct(Long productId) {
-        return productRepository.findById(productId)
-                .switchIfEmpty(Mono.error(new BusinessException(ErrorCode.PRODUCT_NOT_FOUND)))
-                .flatMap(this::enrichProductResponse);
+        return productCache.get(productId, id -> productRepository.findById(id)
+                        .flatMap(this::enrichProductResponse))
+                .switchIfEmpty(Mono.error(new BusinessException(ErrorCode.PRODUCT_NOT_FOUND)));
+    }
+
+    /**
+     * 상품 상세 조회수 (메모리에 누적 후 주기적으로 반영, 응답 캐시 적중 시에도 집계)
+     */
+    public void countView(Long productId) {
+        productViewCounter.increment(productId);
+    }
+
+    /**
+     * 카테고리 상품 목록 (커서 페이징 - 깊은 페이지도 인덱스 범위 조회 한 번)
+     * - includeSubcategories면 클로저 테이블로 하위 카테고리 상품까지 한 쿼리로 조회
+     */
+    public Mono<PageResponse<ProductResponse>> getProductsByCategory(Long categoryId, boolean includeSubcategories,
+                                                                     String cursor, int requestedSize) {
+        int size = pageSize(requestedSize);
+        ProductCursor after = ProductCursor.decode(cursor);
+        Flux<Product> products;
+        if (includeSubcategories) {
+            products = after == null
+                    ? productRepository.findFirstPageInCategoryTree(categoryId, size + 1)
+                    : productRepository.findNextPageInCategoryTree(categoryId, after.getCreatedAt(), after.getId(), size + 1);
+        } else {
+            products = after == null
+                    ? productRepository.findFirstPageByCategory(categoryId, size + 1)
+                    : productRepository.findNextPageByCategory(categoryId, after.getCreatedAt(), after.getId(), size + 1);
+        }
+        return toProductPage(products, size, after == null);
+    }
+
+    /**
+     * 판매 상태별 상품 목록 (커서 페이징)
+     * - 판매중(ACTIVE)은 누구나 조회, 그 외 상태는 판매자 본인 상품만 조회
+     */
+    public Mono<PageResponse<ProductResponse>> getProductsByStatus(Long sellerId, ProductStatus status,
+                                                                   String cursor, int requestedSize) {
+        if (status != ProductStatus.ACTIVE && sellerId == null) {
+            return Mono.error(new BusinessException(ErrorCode.ACCESS_DENIED));
+        }
+        int size = pageSize(requestedSize);
+        ProductCursor after = ProductCursor.decode(cursor);
+        Flux<Product> products;
+        if (status == ProductStatus.ACTIVE) {
+            products = after == null
+                    ? productRepository.findFirstPageByStatus(status, size + 1)
+                    : productRepository.findNextPageByStatus(status, after.getCreatedAt(), after.getId(), size + 1);
+        } else {
+            products = after == null
+                    ? productRepository.findFirstPageBySellerIdAndStatus(sellerId, status, size + 1)
+                    : productRepository.findNextPageBySellerIdAndStatus(sellerId, status,
+                            after.getCreatedAt(), after.getId(), size + 1);
+        }
+        return toProductPage(products, size, after == null);
+    }
+
+    /**
+     * 검색 인덱스로 상품 id를 찾고 상세는 DB에서 채움 (관련도 순 유지)
+     */
+    public Flux<ProductResponse> searchProducts(ProductSearchCondition condition) {
+        return searchIndex(condition)
+                .flatMapMany(hits -> enrichProductResponses(productRepository.findAllById(hits.getProductIds())
+                        .collectMap(Product::getId)
+                        .flatMapIterable(byId -> orderByIds(hits.getProductIds(), byId))));
+    }
+
+    public Mono<PageResponse<ProductSummaryResponse>> getProductSummariesByCategory(Long categoryId, boolean includeSubcategories,
+                                                                                   String cursor, int requestedSize) {
+        int size = pageSize(requestedSize);
+        ProductCursor after = ProductCursor.decode(cursor);
+        return productListingRepository.findByCategory(categoryId, includeSubcategories, after, size + 1)
+                .collectList()
+                .map(rows -> toCursorPage(rows, size, after == null,
+                        row -> ProductCursor.of(row.getCreatedAt(), row.getId())));
+    }
+
+    public Mono<ProductSearchResponse> searchProductSummaries(ProductSearchCondition condition) {
+        return searchIndex(condition)
+                .flatMap(hits -> {
+                    Mono<List<ProductSummaryResponse>> itemsMono = hits.getProductIds().isEmpty()
+                            ? Mono.just(List.of())
+                            : productListingRepository.findByIds(hits.getProductIds())
+                                    .collectMap(ProductSummaryResponse::getId)
+                                    .map(byId -> orderByIds(hits.getProductIds(), byId));
+                    return itemsMono.map(items -> ProductSearchResponse.builder()
+                            .items(items)
+                            .totalHits(hits.getTotalHits())
+                            .page(condition.getPage())
+                            .size(condition.getSize())
+                            .build());
+                });
     }
 
-    public Flux<ProductResponse> getProductsByCategory(Long categoryId, int page, int size) {
-        int offset = (page - 1) * size;
-        return productRepository.findByCategoryWithPaging(categoryId, size, offset)
-                .flatMap(this::enrichProductResponse);
+    /**
+     * 패싯 필터 목록 (비트맵 인덱스로 현재 페이지 id와 패싯 건수를 구한 뒤 해당 id만 조회)
+     */
+    public Mono<ProductFacetResponse> filterProductSummaries(ProductFacetCondition condition) {
+        return Mono.fromCallable(() -> productFacetIndex.search(condition))
+                .flatMap(hits -> {
+                    Mono<List<ProductSummaryResponse>> itemsMono = hits.getProductIds().isEmpty()
+                            ? Mono.just(List.of())
+                            : productListingRepository.findByIds(hits.getProductIds())
+                                    .collectMap(ProductSummaryResponse::getId)
+                                    .map(byId -> orderByIds(hits.getProductIds(), byId));
+                    return itemsMono.map(items -> ProductFacetResponse.builder()
+                            .items(items)
+                            .totalCount(hits.getTotalCount())
+                            .facets(hits.getFacetCounts())
+                            .nextCursor(hits.getNextCursor())
+                            .build());
+                });
     }
 
-    public Flux<ProductResponse> searchProducts(String keyword) {
-        return productRepository.searchByName(keyword)
-                .flatMap(this::enrichProductResponse);
+    /**
+     * 인기 순위 (Redis sorted set의 상위 id만 조회, 판매중이 아닌 상품은 제외)
+     */
+    public Mono<ProductRankingResponse> getRanking(ProductRankingType type, Long categoryId, int size) {
+        int limit = Math.min(Math.max(size, 1), MAX_RANKING_SIZE);
+        return productRankingStore.top(type, categoryId, limit)
+                .flatMap(productIds -> productIds.isEmpty()
+                        ? Mono.just(List.<ProductSummaryResponse>of())
+                        : productListingRepository.findByIds(productIds)
+                                .collectMap(ProductSummaryResponse::getId)
+                                .map(byId -> orderByIds(productIds, byId)))
+                .map(items -> ProductRankingResponse.builder()
+                        .type(type)
+                        .typeName(type.getDescription())
+                        .categoryId(categoryId)
+                        .items(items)
+                        .build());
     }
 
     @Transactional
@@ -115,7 +271,10 @@ public class ProductService {
                     if (!product.getSellerId().equals(sellerId)) {
                         return Mono.error(new BusinessException(ErrorCode.ACCESS_DENIED));
                     }
-                    return productRepository.save(product.publish());
+                    ProductStatus previousStatus = product.getStatus();
+                    return productRepository.save(product.publish())
+                            .flatMap(this::evictCache)
+                            .flatMap(saved -> publishStatusChanged(saved, previousStatus));
                 })
                 .flatMap(this::enrichProductResponse)
                 .doOnSuccess(response -> log.info("상품 발행 완료: productId={}", productId));
@@ -132,12 +291,164 @@ public class ProductService {
                     if (product.isDeleted()) {
                         return Mono.error(new BusinessException(ErrorCode.PRODUCT_ALREADY_DELETED));
                     }
-                    return productRepository.save(product.delete());
+                    ProductStatus previousStatus = product.getStatus();
+                    return productRepository.save(product.delete())
+                            .flatMap(this::evictCache)
+                            .flatMap(saved -> publishStatusChanged(saved, previousStatus));
                 })
                 .doOnSuccess(product -> log.info("상품 삭제 완료: productId={}", productId))
                 .then();
     }
 
+    @Transactional
+    public Mono<ProductResponse> updatePrice(Long productId, Long sellerId, ProductPriceUpdateRequest request) {
+        return productRepository.findById(productId)
+                .switchIfEmpty(Mono.error(new BusinessException(ErrorCode.PRODUCT_NOT_FOUND)))
+                .flatMap(product -> {
+                    if (!product.getSellerId().equals(sellerId)) {
+                        return Mono.error(new BusinessException(ErrorCode.ACCESS_DENIED));
+                    }
+                    if (product.isDeleted()) {
+                        return Mono.error(new BusinessException(ErrorCode.PRODUCT_ALREADY_DELETED));
+                    }
+                    boolean changed = product.getBasePrice().compareTo(request.getBasePrice()) != 0
+                            || !product.getDiscountRate().equals(
+                                    request.getDiscountRate() != null ? request.getDiscountRate() : 0);
+                    if (!changed) {
+                        return Mono.just(product);
+                    }
+                    return productRepository.save(product.changePrice(request.getBasePrice(), request.getDiscountRate()))
+                            .flatMap(this::evictCache)
+                            .flatMap(this::publishPriceChanged);
+                })
+                .flatMap(this::enrichProductResponse)
+                .doOnSuccess(response -> log.info("상품 가격 변경 완료: productId={}, basePrice={}, discountRate={}",
+                        productId, response.getBasePrice(), response.getDiscountRate()));
+    }
+
+    /**
+     * 커서 목록 페이지 크기를 1 ~ MAX_PAGE_SIZE로 제한 (응답 캐시 키도 같은 값으로 만들도록 공개)
+     */
+    public static int pageSize(int size) {
+        return Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+    }
+
+    /**
+     * size + 1건을 조회해 다음 페이지 여부를 판단하고, 이번 페이지 상품만 옵션/이미지를 채움
+     */
+    private Mono<PageResponse<ProductResponse>> toProductPage(Flux<Product> products, int size, boolean first) {
+        return products.collectList()
+                .flatMap(rows -> {
+                    PageResponse<Product> page = toCursorPage(rows, size, first,
+                            product -> ProductCursor.of(product.getCreatedAt(), product.getId()));
+                    return enrichProductResponses(Flux.fromIterable(page.getContent()))
+                            .collectList()
+                            .map(content -> PageResponse.ofCursor(content, size, page.getNextCursor(), first));
+                });
+    }
+
+    private <T> PageResponse<T> toCursorPage(List<T> rows, int size, boolean first, Function<T, ProductCursor> cursorOf) {
+        if (size <= 0 || rows.size() <= size) {
+            return PageResponse.ofCursor(rows, size, null, first);
+        }
+        List<T> content = rows.subList(0, size);
+        return PageResponse.ofCursor(content, size, cursorOf.apply(content.get(size - 1)).encode(), first);
+    }
+
+    private Mono<ProductSearchHits> searchIndex(ProductSearchCondition condition) {
+        return Mono.fromCallable(() -> productSearchIndex.search(condition))
+                .subscribeOn(Schedulers.boundedElastic());
+    }
+
+    /**
+     * 검색 결과 순서대로 정렬 (그 사이 판매 중지된 상품은 제외)
+     */
+    private <T> List<T> orderByIds(List<Long> productIds, Map<Long, T> byId) {
+        return productIds.stream()
+                .map(byId::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    /**
+     * 변경한 인스턴스는 커밋 후 비우고, 다른 인스턴스는 상품 이벤트를 받아 비움
+     * - 커밋 전에 비우면 그 사이 조회가 커밋 전 상품으로 다시 채움
+     */
+    private Mono<Product> evictCache(Product product) {
+        return AfterCommit.run("상품 캐시 삭제", () -> productCache.evict(product.getId()))
+                .thenReturn(product);
+    }
+
+    /**
+     * 커밋 후 가격 변경 이벤트 발행 (장바구니 가격 동기화용)
+     * - 커밋 전에 발행하면 롤백된 가격이 장바구니/캐시/검색 인덱스에 반영되거나, 소비자가 변경 전 DB를 읽을 수 있음
+     */
+    private Mono<Product> publishPriceChanged(Product product) {
+        return findOptionIds(product.getId())
+                .map(optionIds -> ProductPriceChangedEvent.of(
+                        product.getId(), product.getBasePrice(), product.getDiscountRate(), optionIds))
+                .flatMap(event -> AfterCommit.run("상품 가격 변경 발행",
+                        () -> eventPublisher.publish(Topics.PRODUCT_EVENTS, event)))
+                .thenReturn(product);
+    }
+
+    /**
+     * 커밋 후 판매 상태 변경 이벤트 발행
+     */
+    private Mono<Product> publishStatusChanged(Product product, ProductStatus previousStatus) {
+        if (previousStatus == product.getStatus()) {
+            return Mono.just(product);
+        }
+        return findOptionIds(product.getId())
+                .map(optionIds -> ProductStatusChangedEvent.of(
+                        product.getId(),
+                        previousStatus.name(),
+                        product.getStatus().name(),
+                        product.getStatus().canSell(),
+                        optionIds))
+                .flatMap(event -> AfterCommit.run("상품 판매 상태 변경 발행",
+                        () -> eventPublisher.publish(Topics.PRODUCT_EVENTS, event)))
+                .thenReturn(product);
+    }
+
+    private Mono<List<Long>> findOptionIds(Long productId) {
+        return productOptionRepository.findByProductId(productId)
+                .map(ProductOption::getId)
+                .collectList();
+    }
+
+    /**
+     * 상품 목록의 옵션/이미지를 product_id IN 조회 두 번으로 채움 (상품 순서 유지)
+     */
+    private Flux<ProductResponse> enrichProductResponses(Flux<Product> products) {
+        return products.collectList()
+                .flatMapMany(productList -> {
+                    if (productList.isEmpty()) {
+                        return Flux.empty();
+                    }
+                    List<Long> productIds = productList.stream().map(Product::getId).toList();
+
+                    Mono<Map<Long, Collection<ProductOption>>> optionsMono = productOptionRepository
+                            .findActiveByProductIdIn(productIds)
+                            .collectMultimap(ProductOption::getProductId);
+                    Mono<Map<Long, Collection<ProductImage>>> imagesMono = productImageRepository
+                            .findByProductIdIn(productIds)
+                            .collectMultimap(ProductImage::getProductId);
+
+                    return Mono.zip(optionsMono, imagesMono)
+                            .flatMapIterable(tuple -> productList.stream()
+                                    .map(product -> ProductResponse.from(
+                                            product,
+                                            tuple.getT1().getOrDefault(product.getId(), List.of()).stream()
+                                                    .map(ProductOptionResponse::from)
+                                                    .toList(),
+                                            tuple.getT2().getOrDefault(product.getId(), List.of()).stream()
+                                                    .map(ProductImageResponse::from)
+                                                    .toList()))
+                                    .toList());
+                });
+    }
+
     private Mono<ProductResponse> enrichProductResponse(Product product) {
         Mono<List<ProductOptionResponse>> optionsMono = productOptionRepository
                 .findByProductIdAndIsActiveTrue(product.getId())
@@ -0,0 +1,50 @@
+package com.example.ecommerce.product.domain.product.view;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 여러 인스턴스의 조회수 증가분을 Redis 해시 하나에 합산
+ * - 각 인스턴스는 HINCRBY로 증가분만 더하고, DB 반영은 해시를 RENAME으로 가져간 인스턴스 하나만 수행
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProductViewCountStore {
+
+    private static final String KEY = "product_view_count";
+    private static final String FLUSHING_KEY_PREFIX = "product_view_count:flushing:";
+
+    private final ReactiveStringRedisTemplate redisTemplate;
+
+    public Mono<Void> add(Map<Long, Long> deltas) {
+        return Flux.fromIterable(deltas.entrySet())
+                .flatMap(entry -> redisTemplate.opsForHash()
+                        .increment(KEY, String.valueOf(entry.getKey()), entry.getValue()))
+                .then();
+    }
+
+    /**
+     * 합산된 증가분 전체를 가져오고 비움 (다른 인스턴스가 먼저 가져갔으면 빈 Map)
+     */
+    public Mono<Map<Long, Long>> takeAll() {
+        String flushingKey = FLUSHING_KEY_PREFIX + UUID.randomUUID();
+        return redisTemplate.rename(KEY, flushingKey)
+                .onErrorResume(error -> Mono.just(false))
+                .flatMap(renamed -> {
+                    if (!renamed) {
+                        return Mono.just(Map.<Long, Long>of());
+                    }
+                    return redisTemplate.<String, String>opsForHash().entries(flushingKey)
+                            .collectMap(entry -> Long.valueOf(entry.getKey()), entry -> Long.valueOf(entry.getValue()))
+                            .flatMap(deltas -> redisTemplate.delete(flushingKey).thenReturn(deltas));
+                });
+    }
+}
@@ -0,0 +1,50 @@
+package com.example.ecommerce.product.domain.product.view;
+
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 인스턴스 로컬 상품 조회수 카운터
+ * - 상품마다 LongAdder(내부적으로 셀 분산)로 누적해 조회마다 DB를 쓰지 않음
+ * - 주기적으로 drain한 증가분만 DB(또는 Redis)에 반영하므로 조회수는 근사치
+ */
+@Component
+public class ProductViewCounter {
+
+    private final ConcurrentHashMap<Long, LongAdder> counters = new ConcurrentHashMap<>();
+
+    public void increment(Long productId) {
+        counters.computeIfAbsent(productId, id -> new LongAdder()).increment();
+    }
+
+    /**
+     * 누적분을 꺼내고 카운터를 제거
+     * - 먼저 맵에서 떼어낸 뒤 합계를 읽어, 이후 조회는 새 카운터에 쌓이고 0 확인과 제거 사이 증가분이 사라지지 않음
+     */
+    public Map<Long, Long> drain() {
+        Map<Long, Long> deltas = new HashMap<>();
+        for (Long productId : counters.keySet()) {
+            LongAdder adder = counters.remove(productId);
+            if (adder == null) {
+                continue;
+            }
+            long delta = adder.sumThenReset();
+            if (delta > 0) {
+                deltas.put(productId, delta);
+            }
+        }
+        return deltas;
+    }
+
+    /**
+     * 반영에 실패한 증가분을 되돌림 (다음 주기에 다시 반영)
+     */
+    public void restore(Map<Long, Long> deltas) {
+        deltas.forEach((productId, delta) ->
+                counters.computeIfAbsent(productId, id -> new LongAdder()).add(delta));
+    }
+}
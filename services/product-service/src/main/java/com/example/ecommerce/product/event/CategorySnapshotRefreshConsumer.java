@@ -0,0 +1,41 @@
+package com.example.ecommerce.product.event;
+
+import com.example.ecommerce.events.category.CategoryChangedEvent;
+import com.example.ecommerce.product.cache.ResponseBodyCache;
+import com.example.ecommerce.product.domain.category.snapshot.CategorySnapshotService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * 카테고리 변경 이벤트로 카테고리 스냅샷 교체 후 응답 본문 캐시 무효화
+ * - 스냅샷이 인스턴스마다 있으므로 고유 groupId로 브로드캐스트 구독
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CategorySnapshotRefreshConsumer {
+
+    private final CategorySnapshotService categorySnapshotService;
+    private final ResponseBodyCache responseBodyCache;
+
+    @KafkaListener(
+            topics = "category-events",
+            groupId = "product-category-#{T(java.util.UUID).randomUUID()}",
+            properties = "auto.offset.reset=latest"
+    )
+    public void handleCategoryEvent(ConsumerRecord<String, Object> record) {
+        if (!(record.value() instanceof CategoryChangedEvent event)) {
+            return;
+        }
+        categorySnapshotService.refresh()
+                .doOnSuccess(snapshot -> responseBodyCache.evictCategories())
+                .subscribe(
+                        snapshot -> log.debug("카테고리 스냅샷 교체: categoryId={}, version={}",
+                                event.getCategoryId(), snapshot.getVersion()),
+                        error -> log.error("카테고리 스냅샷 교체 실패: categoryId={}", event.getCategoryId(), error)
+                );
+    }
+}
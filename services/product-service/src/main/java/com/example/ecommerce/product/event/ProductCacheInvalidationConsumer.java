@@ -0,0 +1,55 @@
+package com.example.ecommerce.product.event;
+
+import com.example.ecommerce.events.product.ProductPriceChangedEvent;
+import com.example.ecommerce.events.product.ProductStatusChangedEvent;
+import com.example.ecommerce.product.cache.ResponseBodyCache;
+import com.example.ecommerce.product.domain.product.cache.ProductCache;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * 상품 변경 이벤트로 상품 상세 캐시와 응답 본문 캐시 무효화
+ * - 인스턴스마다 고유 groupId로 구독해 모든 인스턴스가 같은 이벤트를 받음 (브로드캐스트)
+ * - 이미 시작된 이후의 이벤트만 필요하므로 latest부터 읽음
+ * - 응답 본문 캐시는 상세 캐시를 비운 뒤에 비워 이전 상세로 다시 채워지지 않게 함 (상세 캐시 삭제가 실패해도 비움)
+ * - 이벤트는 변경 트랜잭션 커밋 후에 발행되므로 한 번만 비움
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProductCacheInvalidationConsumer {
+
+    private final ProductCache productCache;
+    private final ResponseBodyCache responseBodyCache;
+
+    @KafkaListener(
+            topics = "product-events",
+            groupId = "product-cache-#{T(java.util.UUID).randomUUID()}",
+            properties = "auto.offset.reset=latest"
+    )
+    public void handleProductEvent(ConsumerRecord<String, Object> record) {
+        Object event = record.value();
+
+        Long productId = null;
+        if (event instanceof ProductPriceChangedEvent priceChanged) {
+            productId = priceChanged.getProductId();
+        } else if (event instanceof ProductStatusChangedEvent statusChanged) {
+            productId = statusChanged.getProductId();
+        }
+        if (productId == null) {
+            return;
+        }
+
+        Long evictedId = productId;
+        productCache.evict(evictedId)
+                .doFinally(signal -> responseBodyCache.evictProduct(evictedId))
+                .subscribe(
+                        null,
+                        error -> log.error("상품 캐시 무효화 실패: productId={}", evictedId, error),
+                        () -> log.debug("상품 캐시 무효화: productId={}", evictedId)
+                );
+    }
+}
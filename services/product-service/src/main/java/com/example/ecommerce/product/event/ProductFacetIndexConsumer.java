@@ -0,0 +1,49 @@
+package com.example.ecommerce.product.event;
+
+import com.example.ecommerce.events.product.ProductPriceChangedEvent;
+import com.example.ecommerce.events.product.ProductStatusChangedEvent;
+import com.example.ecommerce.product.domain.product.facet.ProductFacetIndexLoader;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * 상품 변경 이벤트로 패싯 인덱스 갱신
+ * - 인덱스가 인스턴스마다 있으므로 고유 groupId로 브로드캐스트 구독
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProductFacetIndexConsumer {
+
+    private final ProductFacetIndexLoader productFacetIndexLoader;
+
+    @KafkaListener(
+            topics = "product-events",
+            groupId = "product-facet-#{T(java.util.UUID).randomUUID()}",
+            properties = "auto.offset.reset=latest"
+    )
+    public void handleProductEvent(ConsumerRecord<String, Object> record) {
+        Object event = record.value();
+
+        Long productId = null;
+        if (event instanceof ProductPriceChangedEvent priceChanged) {
+            productId = priceChanged.getProductId();
+        } else if (event instanceof ProductStatusChangedEvent statusChanged) {
+            productId = statusChanged.getProductId();
+        }
+        if (productId == null) {
+            return;
+        }
+
+        Long indexedId = productId;
+        productFacetIndexLoader.reindex(indexedId)
+                .subscribe(
+                        null,
+                        error -> log.error("상품 패싯 인덱스 갱신 실패: productId={}", indexedId, error),
+                        () -> log.debug("상품 패싯 인덱스 갱신: productId={}", indexedId)
+                );
+    }
+}
@@ -0,0 +1,64 @@
+package com.example.ecommerce.product.event;
+
+import com.example.ecommerce.events.order.OrderCancelledEvent;
+import com.example.ecommerce.events.order.OrderCreatedEvent;
+import com.example.ecommerce.product.domain.product.ranking.ProductRankingRecorder;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 주문 생성/취소 이벤트로 인기 순위 갱신
+ * - 순위는 Redis에 하나뿐이므로 공용 groupId로 구독해 이벤트마다 한 인스턴스만 반영
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProductRankingConsumer {
+
+    private final ProductRankingRecorder productRankingRecorder;
+
+    @KafkaListener(topics = "order-events", groupId = "product-ranking-group")
+    public void handleOrderEvent(ConsumerRecord<String, Object> record) {
+        Object event = record.value();
+
+        String eventId;
+        Long orderId;
+        LocalDateTime orderedAt;
+        Map<Long, Integer> quantities = new HashMap<>();
+        if (event instanceof OrderCreatedEvent created) {
+            eventId = created.getEventId();
+            orderId = created.getOrderId();
+            orderedAt = created.getOccurredAt();
+            if (created.getItems() != null) {
+                created.getItems().forEach(item -> addQuantity(quantities, item.getProductId(), item.getQuantity()));
+            }
+        } else if (event instanceof OrderCancelledEvent cancelled) {
+            eventId = cancelled.getEventId();
+            orderId = cancelled.getOrderId();
+            orderedAt = cancelled.getOrderedAt() != null ? cancelled.getOrderedAt() : cancelled.getOccurredAt();
+            if (cancelled.getItems() != null) {
+                cancelled.getItems().forEach(item -> addQuantity(quantities, item.getProductId(), -item.getQuantity()));
+            }
+        } else {
+            return;
+        }
+
+        // 반영이 끝날 때까지 기다려 실패하면 컨테이너가 재시도 (eventId 기준으로 한 번만 반영되므로 재시도해도 안전)
+        productRankingRecorder.record(eventId, quantities, orderedAt).block();
+        log.debug("인기 순위 반영: orderId={}, products={}", orderId, quantities.size());
+    }
+
+    // 상품 id가 없는 이전 형식 이벤트 항목은 건너뜀
+    private void addQuantity(Map<Long, Integer> quantities, Long productId, int quantity) {
+        if (productId != null) {
+            quantities.merge(productId, quantity, Integer::sum);
+        }
+    }
+}
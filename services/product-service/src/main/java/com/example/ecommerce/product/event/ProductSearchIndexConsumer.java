@@ -0,0 +1,59 @@
+package com.example.ecommerce.product.event;
+
+import com.example.ecommerce.events.product.ProductPriceChangedEvent;
+import com.example.ecommerce.events.product.ProductStatusChangedEvent;
+import com.example.ecommerce.product.domain.product.search.ProductSearchIndexLoader;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.TopicPartition;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.listener.ConsumerSeekAware;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * 상품 변경 이벤트로 검색 인덱스 갱신
+ * - 인덱스가 인스턴스마다 있으므로 캐시 무효화와 같이 고유 groupId로 브로드캐스트 구독
+ * - latest부터 읽으므로 파티션 할당 전에 발행된 이벤트는 받지 못함 → 할당될 때마다 DB 기준으로 다시 맞춤
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProductSearchIndexConsumer implements ConsumerSeekAware {
+
+    private final ProductSearchIndexLoader productSearchIndexLoader;
+
+    @Override
+    public void onPartitionsAssigned(Map<TopicPartition, Long> assignments, ConsumerSeekCallback callback) {
+        productSearchIndexLoader.rebuildAndLog("파티션 할당");
+    }
+
+    @KafkaListener(
+            topics = "product-events",
+            groupId = "product-search-#{T(java.util.UUID).randomUUID()}",
+            properties = "auto.offset.reset=latest"
+    )
+    public void handleProductEvent(ConsumerRecord<String, Object> record) {
+        Object event = record.value();
+
+        Long productId = null;
+        if (event instanceof ProductPriceChangedEvent priceChanged) {
+            productId = priceChanged.getProductId();
+        } else if (event instanceof ProductStatusChangedEvent statusChanged) {
+            productId = statusChanged.getProductId();
+        }
+        if (productId == null) {
+            return;
+        }
+
+        Long indexedId = productId;
+        productSearchIndexLoader.reindex(indexedId)
+                .subscribe(
+                        null,
+                        error -> log.error("상품 검색 인덱스 갱신 실패: productId={}", indexedId, error),
+                        () -> log.debug("상품 검색 인덱스 갱신: productId={}", indexedId)
+                );
+    }
+}
@@ -0,0 +1,7 @@
+-- 커서 페이징 (created_at, id) 정렬용 복합 인덱스
+CREATE INDEX idx_product_category_created ON products (category_id, status, created_at, id);
+CREATE INDEX idx_product_status_created ON products (status, created_at, id);
+
+-- 위 인덱스의 선두 컬럼과 겹치는 단일 인덱스 제거 (category_id FK는 새 인덱스가 대신함)
+DROP INDEX idx_product_category ON products;
+DROP INDEX idx_product_status ON products;
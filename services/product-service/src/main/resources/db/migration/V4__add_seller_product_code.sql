@@ -0,0 +1,6 @@
+-- 판매자 상품 코드 (대량 등록 시 행 식별/중복 방지, 판매자별 유일)
+ALTER TABLE products ADD COLUMN seller_product_code VARCHAR(100) AFTER category_id;
+CREATE UNIQUE INDEX uk_product_seller_code ON products (seller_id, seller_product_code);
+
+-- seller_id 단일 인덱스는 위 인덱스의 선두 컬럼과 겹치므로 제거 (seller_id FK는 새 인덱스가 대신함)
+DROP INDEX idx_product_seller ON products;
@@ -0,0 +1,9 @@
+-- 주문별 재고 예약 해제 기록
+-- 주문 서비스가 일괄 해제를 재시도해도 같은 주문/옵션의 예약을 두 번 해제하지 않도록 함
+CREATE TABLE inventory_releases (
+    order_id BIGINT NOT NULL,
+    product_option_id BIGINT NOT NULL,
+    quantity INT NOT NULL,
+    released_at DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    PRIMARY KEY (order_id, product_option_id)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
@@ -0,0 +1,5 @@
+-- 판매자별 상태 목록 커서 페이징용 복합 인덱스
+CREATE INDEX idx_product_seller_status_created ON products (seller_id, status, created_at, id);
+
+-- 선두 컬럼이 겹치는 단일 인덱스 제거 (seller_id FK는 새 인덱스가 대신함)
+DROP INDEX idx_product_seller ON products;